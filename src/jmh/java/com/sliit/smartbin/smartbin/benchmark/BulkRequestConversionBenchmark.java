@@ -0,0 +1,50 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.dto.BulkRequestDTO;
+import com.sliit.smartbin.smartbin.model.BulkRequest;
+import com.sliit.smartbin.smartbin.service.impl.BulkRequestServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of a page of bulk requests, as done by every bulk request listing
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkRequestConversionBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private BulkRequestServiceImpl service;
+    private List<BulkRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // convertToDTO touches no collaborators, so the injected fields can stay empty
+        service = new BulkRequestServiceImpl();
+        requests = SyntheticData.bulkRequests(size, SyntheticData.users(Math.max(1, size / 10), 7), 42);
+    }
+
+    @Benchmark
+    public List<BulkRequestDTO> convertToDTO() {
+        return requests.stream().map(service::convertToDTO).toList();
+    }
+}
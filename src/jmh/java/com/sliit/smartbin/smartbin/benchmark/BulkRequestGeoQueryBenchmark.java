@@ -0,0 +1,134 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.util.GeoHash;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Radius search over bulk requests on an embedded H2 database: the old acos
+ * full-scan predicate against the geohash range prefilter plus an exact Haversine
+ * check, as in BulkRequestRepositoryImpl.findCandidatesInGeohashCells. Both
+ * select ids only, so the entity load they share is left out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkRequestGeoQueryBenchmark {
+
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE bulk_requests (id BIGINT AUTO_INCREMENT PRIMARY KEY, latitude DOUBLE, " +
+        "longitude DOUBLE, geohash VARCHAR(" + GeoHash.STORED_PRECISION + "), created_at TIMESTAMP)";
+
+    private static final String CREATE_INDEX_SQL =
+        "CREATE INDEX idx_bulk_requests_geohash ON bulk_requests (geohash)";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO bulk_requests (latitude, longitude, geohash, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String ACOS_SCAN_SQL = "SELECT id FROM bulk_requests WHERE " +
+        "6371 * acos(cos(radians(?)) * cos(radians(latitude)) * cos(radians(longitude) - radians(?)) + " +
+        "sin(radians(?)) * sin(radians(latitude))) <= ? ORDER BY created_at DESC";
+
+    private static final String CANDIDATE_SQL =
+        "SELECT id, latitude, longitude FROM bulk_requests WHERE geohash BETWEEN ? AND ?";
+
+    private static final double RADIUS_KM = 2.0;
+    private static final int CENTRES = 256;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private JdbcTemplate jdbcTemplate;
+    private double[][] centres;
+    private int nextCentre;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:geo-benchmark-" + size + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.execute(CREATE_INDEX_SQL);
+
+        // Requests spread over the whole island (~3 degrees square)
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double lat = 6.0 + random.nextDouble() * 3.0;
+            double lng = 79.7 + random.nextDouble() * 2.0;
+            batch.add(new Object[] {lat, lng, GeoHash.encode(lat, lng, GeoHash.STORED_PRECISION), now});
+            if (batch.size() == 5_000) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+
+        // A different centre per invocation so the database cannot reuse an earlier result
+        Random centreRandom = new Random(7);
+        centres = new double[CENTRES][];
+        for (int i = 0; i < CENTRES; i++) {
+            centres[i] = new double[] {6.5 + centreRandom.nextDouble() * 2.0, 80.0 + centreRandom.nextDouble() * 1.4};
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Benchmark
+    public List<Long> acosFullScan() {
+        double[] centre = nextCentre();
+        return jdbcTemplate.queryForList(ACOS_SCAN_SQL, Long.class,
+                                         centre[0], centre[1], centre[0], RADIUS_KM);
+    }
+
+    @Benchmark
+    public List<Long> geohashPrefilter() {
+        double[] centre = nextCentre();
+        double lat = centre[0];
+        double lng = centre[1];
+        int precision = GeoHash.precisionForRadius(lat, RADIUS_KM);
+        List<Long> hits = new ArrayList<>();
+        for (String[] range : GeoHash.mergedRanges(GeoHash.coveringCells(lat, lng, precision))) {
+            jdbcTemplate.query(CANDIDATE_SQL, rs -> {
+                if (GeoUtils.haversineKm(lat, lng, rs.getDouble("latitude"), rs.getDouble("longitude")) <= RADIUS_KM) {
+                    hits.add(rs.getLong("id"));
+                }
+            }, range[0], range[1]);
+        }
+        return hits;
+    }
+
+    private double[] nextCentre() {
+        double[] centre = centres[nextCentre];
+        nextCentre = (nextCentre + 1) % CENTRES;
+        return centre;
+    }
+}
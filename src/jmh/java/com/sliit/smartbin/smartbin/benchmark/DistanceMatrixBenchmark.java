@@ -0,0 +1,135 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The old per-pair Haversine route statistics against DistanceMatrix. Each variant
+ * computes a nearest-neighbour order plus its total distance, which is what
+ * RouteServiceImpl.optimizeRoute did before the matrix. Add -prof gc to jmh.args
+ * for allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DistanceMatrixBenchmark {
+
+    @Param({"50", "500", "2000"})
+    private int size;
+
+    private List<Bin> bins;
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bins = SyntheticData.bins(size, 42);
+        latitudes = new double[size];
+        longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = bins.get(i).getLatitude();
+            longitudes[i] = bins.get(i).getLongitude();
+        }
+    }
+
+    @Benchmark
+    public double perPairHaversine() {
+        return legacyTotalDistance(bins);
+    }
+
+    @Benchmark
+    public double matrix() {
+        return nearestNeighbourLength(DistanceMatrix.fromCoordinates(latitudes, longitudes, false));
+    }
+
+    @Benchmark
+    public double matrixParallel() {
+        return nearestNeighbourLength(DistanceMatrix.fromCoordinates(latitudes, longitudes, true));
+    }
+
+    private static double nearestNeighbourLength(DistanceMatrix matrix) {
+        int n = matrix.size();
+        int[] tour = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        for (int step = 1; step < n; step++) {
+            int current = tour[step - 1];
+            int nearest = -1;
+            double nearestDistance = Double.MAX_VALUE;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate] && matrix.distance(current, candidate) < nearestDistance) {
+                    nearest = candidate;
+                    nearestDistance = matrix.distance(current, candidate);
+                }
+            }
+            visited[nearest] = true;
+            tour[step] = nearest;
+        }
+        return matrix.pathLength(tour);
+    }
+
+    // ---- The pre-DistanceMatrix RouteServiceImpl code path, kept verbatim for comparison ----
+
+    private static double legacyTotalDistance(List<Bin> bins) {
+        List<Long> order = new ArrayList<>();
+        List<Bin> remaining = new ArrayList<>(bins);
+        Bin current = remaining.remove(0);
+        order.add(current.getId());
+        while (!remaining.isEmpty()) {
+            Bin nearest = remaining.get(0);
+            double minDistance = legacyDistance(current, nearest);
+            for (Bin candidate : remaining) {
+                double distance = legacyDistance(current, candidate);
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    nearest = candidate;
+                }
+            }
+            order.add(nearest.getId());
+            remaining.remove(nearest);
+            current = nearest;
+        }
+
+        double total = 0.0;
+        for (int i = 0; i < order.size() - 1; i++) {
+            Long fromId = order.get(i);
+            Long toId = order.get(i + 1);
+            Bin from = bins.stream().filter(bin -> bin.getId().equals(fromId)).findFirst().orElse(null);
+            Bin to = bins.stream().filter(bin -> bin.getId().equals(toId)).findFirst().orElse(null);
+            total += legacyDistance(from, to);
+        }
+        return total;
+    }
+
+    private static double legacyDistance(Bin bin1, Bin bin2) {
+        final double EARTH_RADIUS_KM = 6371.0;
+        double lat1Rad = Math.toRadians(bin1.getLatitude());
+        double lat2Rad = Math.toRadians(bin2.getLatitude());
+        double deltaLat = Math.toRadians(bin2.getLatitude() - bin1.getLatitude());
+        double deltaLon = Math.toRadians(bin2.getLongitude() - bin1.getLongitude());
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
+                   Math.cos(lat1Rad) * Math.cos(lat2Rad) *
+                   Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_KM * c;
+    }
+}
@@ -0,0 +1,74 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.dto.LocationDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distance from one point to every location in a dataset: LocationDTO.distanceTo
+ * against the shared GeoUtils.haversineKm on unboxed coordinates
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeoBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private LocationDTO origin;
+    private LocationDTO[] locations;
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        origin = new LocationDTO(6.9271, 79.8612);
+        List<Bin> bins = SyntheticData.bins(size, 42);
+        locations = new LocationDTO[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            Bin bin = bins.get(i);
+            locations[i] = new LocationDTO(bin.getLatitude(), bin.getLongitude());
+            latitudes[i] = bin.getLatitude();
+            longitudes[i] = bin.getLongitude();
+        }
+    }
+
+    @Benchmark
+    public double locationDtoDistanceTo() {
+        double total = 0.0;
+        for (LocationDTO location : locations) {
+            total += origin.distanceTo(location);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double geoUtilsHaversine() {
+        double total = 0.0;
+        for (int i = 0; i < latitudes.length; i++) {
+            total += GeoUtils.haversineKm(6.9271, 79.8612, latitudes[i], longitudes[i]);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,126 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.dto.ReportDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinFillRollupRepository;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRollupRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRepository;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.impl.ReportServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Java-side cost of ReportServiceImpl. Repositories are stubbed: list queries return
+ * synthetic lists, and the grouped bin/user/collection queries return rows aggregated
+ * from them up front, as the database would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReportBenchmark {
+
+    @Param({"1000", "50000"})
+    private int size;
+
+    private ReportServiceImpl reportService;
+    private ReportDTO reportDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Bin> bins = SyntheticData.bins(size, 42);
+        List<User> users = SyntheticData.users(Math.max(10, size / 100), 7);
+        List<Collection> collections = SyntheticData.collections(size, bins, users, 11);
+
+        BinRepository binRepository = mock(BinRepository.class);
+        CollectionRepository collectionRepository = mock(CollectionRepository.class);
+        RouteRepository routeRepository = mock(RouteRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        CollectionRollupRepository collectionRollupRepository = mock(CollectionRollupRepository.class);
+        when(binRepository.findAll()).thenReturn(bins);
+        when(binRepository.count()).thenReturn((long) bins.size());
+        when(binRepository.summarizeByStatus()).thenReturn(statusSummary(bins));
+        when(collectionRepository.findAll()).thenReturn(collections);
+        when(collectionRepository.count()).thenReturn((long) collections.size());
+        when(collectionRollupRepository.countByTypeAndStatus(any(), any(), any())).thenReturn(typeStatusCounts(collections));
+        when(collectionRepository.findLatestCompletedCreatedAt()).thenReturn(LocalDateTime.now().minusHours(2));
+        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.count()).thenReturn((long) users.size());
+        when(userRepository.countByRole()).thenReturn(roleCounts(users));
+        when(routeRepository.findByCollector(any())).thenReturn(List.of());
+
+        reportService = new ReportServiceImpl(binRepository, collectionRepository, routeRepository, userRepository,
+            collectionRollupRepository, mock(BinFillRollupRepository.class));
+        reportDTO = new ReportDTO();
+    }
+
+    private static List<BinRepository.BinStatusSummary> statusSummary(List<Bin> bins) {
+        Map<Bin.BinStatus, List<Bin>> byStatus = bins.stream().collect(Collectors.groupingBy(Bin::getStatus));
+        return byStatus.entrySet().stream().map(entry -> (BinRepository.BinStatusSummary) new BinRepository.BinStatusSummary() {
+            public Bin.BinStatus getStatus() { return entry.getKey(); }
+            public Long getBinCount() { return (long) entry.getValue().size(); }
+            public Long getAlertedCount() { return entry.getValue().stream().filter(Bin::getAlertFlag).count(); }
+            public Long getFillLevelSum() { return entry.getValue().stream().mapToLong(Bin::getFillLevel).sum(); }
+        }).toList();
+    }
+
+    private static List<CollectionRepository.TypeStatusCount> typeStatusCounts(List<Collection> collections) {
+        Map<List<Object>, Long> counts = collections.stream().collect(Collectors.groupingBy(
+            c -> List.of(c.getCollectionType(), c.getStatus()), Collectors.counting()));
+        return counts.entrySet().stream().map(entry -> (CollectionRepository.TypeStatusCount) new CollectionRepository.TypeStatusCount() {
+            public Collection.CollectionType getCollectionType() { return (Collection.CollectionType) entry.getKey().get(0); }
+            public Collection.CollectionStatus getStatus() { return (Collection.CollectionStatus) entry.getKey().get(1); }
+            public Long getCollectionCount() { return entry.getValue(); }
+        }).toList();
+    }
+
+    private static List<UserRepository.RoleCount> roleCounts(List<User> users) {
+        Map<User.UserRole, Long> byRole = users.stream().collect(Collectors.groupingBy(User::getRole, Collectors.counting()));
+        return byRole.entrySet().stream().map(entry -> (UserRepository.RoleCount) new UserRepository.RoleCount() {
+            public User.UserRole getRole() { return entry.getKey(); }
+            public Long getUserCount() { return entry.getValue(); }
+        }).toList();
+    }
+
+    @Benchmark
+    public Map<String, Object> collectionReport() {
+        return reportService.generateCollectionReport(reportDTO);
+    }
+
+    @Benchmark
+    public Map<String, Object> binStatusReport() {
+        return reportService.generateBinStatusReport(reportDTO);
+    }
+
+    @Benchmark
+    public Map<String, Object> systemOverviewReport() {
+        return reportService.generateSystemOverviewReport();
+    }
+}
@@ -0,0 +1,65 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route construction hot paths: the distance matrix, the nearest-neighbour seed
+ * and the full local search, as used by RouteServiceImpl.optimizeRoute.
+ * Exact solving is disabled so every size exercises the heuristics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+    @Param({"50", "200", "1000"})
+    private int size;
+
+    private List<Bin> bins;
+    private DistanceMatrix distances;
+    private RouteOptimizationPipeline pipeline;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bins = SyntheticData.bins(size, 42);
+        distances = DistanceMatrix.forBins(bins);
+        pipeline = new RouteOptimizationPipeline(60_000, 0);
+    }
+
+    @Benchmark
+    public DistanceMatrix distanceMatrix() {
+        return DistanceMatrix.forBins(bins);
+    }
+
+    @Benchmark
+    public OptimizedTour nearestNeighbour() {
+        return pipeline.optimize(distances, RouteOptimizerType.NEAREST_NEIGHBOR);
+    }
+
+    @Benchmark
+    public OptimizedTour localSearch() {
+        return pipeline.optimize(distances, RouteOptimizerType.LOCAL_SEARCH);
+    }
+}
@@ -0,0 +1,117 @@
+package com.sliit.smartbin.smartbin.benchmark;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.BulkCategory;
+import com.sliit.smartbin.smartbin.model.BulkRequest;
+import com.sliit.smartbin.smartbin.model.BulkRequestStatus;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.PaymentStatus;
+import com.sliit.smartbin.smartbin.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded datasets around Colombo for the benchmarks, so every run measures the same input
+ */
+final class SyntheticData {
+
+    private static final double BASE_LAT = 6.85;
+    private static final double BASE_LNG = 79.85;
+    private static final double SPAN_DEGREES = 0.15;
+
+    private SyntheticData() {
+    }
+
+    static List<Bin> bins(int count, long seed) {
+        Random random = new Random(seed);
+        Bin.BinStatus[] statuses = Bin.BinStatus.values();
+        Bin.BinType[] types = Bin.BinType.values();
+        List<Bin> bins = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Bin bin = new Bin();
+            bin.setId((long) i + 1);
+            bin.setQrCode("QR-BENCH-" + i);
+            bin.setLocation("Benchmark location " + i);
+            bin.setLatitude(BASE_LAT + random.nextDouble() * SPAN_DEGREES);
+            bin.setLongitude(BASE_LNG + random.nextDouble() * SPAN_DEGREES);
+            bin.setBinType(types[random.nextInt(types.length)]);
+            bin.setStatus(statuses[random.nextInt(statuses.length)]);
+            bin.setFillLevel(random.nextInt(101));
+            bin.setAlertFlag(random.nextInt(10) == 0);
+            bin.setLastEmptied(LocalDateTime.now().minusHours(random.nextInt(96)));
+            bins.add(bin);
+        }
+        return bins;
+    }
+
+    static List<User> users(int count, long seed) {
+        Random random = new Random(seed);
+        User.UserRole[] roles = User.UserRole.values();
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId((long) i + 1);
+            user.setName("Benchmark User " + i);
+            user.setEmail("benchmark" + i + "@smartbin.com");
+            user.setRole(roles[random.nextInt(roles.length)]);
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Collection> collections(int count, List<Bin> bins, List<User> collectors, long seed) {
+        Random random = new Random(seed);
+        Collection.CollectionType[] types = Collection.CollectionType.values();
+        Collection.CollectionStatus[] statuses = Collection.CollectionStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<Collection> collections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Collection collection = new Collection();
+            collection.setId((long) i + 1);
+            collection.setBin(bins.get(random.nextInt(bins.size())));
+            collection.setCollector(collectors.get(random.nextInt(collectors.size())));
+            collection.setCollectionType(types[random.nextInt(types.length)]);
+            collection.setStatus(statuses[random.nextInt(statuses.length)]);
+            collection.setWasteLevel(random.nextInt(101));
+            collection.setCollectionDate(now.minusMinutes(random.nextInt(60 * 24 * 60)));
+            collection.setCreatedAt(collection.getCollectionDate());
+            collections.add(collection);
+        }
+        return collections;
+    }
+
+    static List<BulkRequest> bulkRequests(int count, List<User> residents, long seed) {
+        Random random = new Random(seed);
+        BulkRequestStatus[] statuses = BulkRequestStatus.values();
+        BulkCategory[] categories = BulkCategory.values();
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BulkRequest request = new BulkRequest();
+            request.setId((long) i + 1);
+            request.setRequestId("BR-BENCH-" + i);
+            request.setUser(residents.get(random.nextInt(residents.size())));
+            request.setCategory(categories[random.nextInt(categories.length)]);
+            request.setDescription("Benchmark pickup " + i);
+            request.setStreetAddress(i + " Galle Road");
+            request.setCity("Colombo");
+            request.setZipCode("00300");
+            request.setLatitude(BASE_LAT + random.nextDouble() * SPAN_DEGREES);
+            request.setLongitude(BASE_LNG + random.nextDouble() * SPAN_DEGREES);
+            request.setBasePrice(3500.0);
+            request.setProcessingFee(500.0);
+            request.setTaxAmount(200.0);
+            request.setTotalAmount(4200.0);
+            request.setStatus(statuses[random.nextInt(statuses.length)]);
+            request.setPaymentStatus(PaymentStatus.COMPLETED);
+            request.setPhotoUrls(List.of("/uploads/bench-" + i + ".jpg"));
+            request.setCreatedAt(now.minusHours(random.nextInt(24 * 30)));
+            request.setUpdatedAt(request.getCreatedAt());
+            requests.add(request);
+        }
+        return requests;
+    }
+}
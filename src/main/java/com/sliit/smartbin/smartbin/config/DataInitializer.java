@@ -2,12 +2,14 @@ package com.sliit.smartbin.smartbin.config;
 
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.Depot;
 import com.sliit.smartbin.smartbin.model.Route;
 import com.sliit.smartbin.smartbin.model.RouteBin;
 import com.sliit.smartbin.smartbin.model.User;
 import com.sliit.smartbin.smartbin.repository.BinRepository;
 import com.sliit.smartbin.smartbin.repository.BulkRequestRepository;
 import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.DepotRepository;
 import com.sliit.smartbin.smartbin.repository.RecyclingTransactionRepository;
 import com.sliit.smartbin.smartbin.repository.RouteBinRepository;
 import com.sliit.smartbin.smartbin.repository.RouteRepository;
@@ -16,6 +18,7 @@ import com.sliit.smartbin.smartbin.repository.WasteDisposalRepository;
 import com.sliit.smartbin.smartbin.repository.BinAssignmentRepository;
 import com.sliit.smartbin.smartbin.repository.RegionAssignmentRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
+@Profile("!synthetic")
 public class DataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
@@ -36,6 +40,7 @@ public class DataInitializer implements CommandLineRunner {
     private final BinAssignmentRepository binAssignmentRepository;
     private final BulkRequestRepository bulkRequestRepository;
     private final RegionAssignmentRepository regionAssignmentRepository;
+    private final DepotRepository depotRepository;
 
 
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
@@ -49,7 +54,8 @@ public class DataInitializer implements CommandLineRunner {
                            WasteDisposalRepository wasteDisposalRepository,
                            BinAssignmentRepository binAssignmentRepository,
                            BulkRequestRepository bulkRequestRepository,
-                           RegionAssignmentRepository regionAssignmentRepository) {
+                           RegionAssignmentRepository regionAssignmentRepository,
+                           DepotRepository depotRepository) {
 
         this.userRepository = userRepository;
         this.binRepository = binRepository;
@@ -61,6 +67,7 @@ public class DataInitializer implements CommandLineRunner {
         this.binAssignmentRepository = binAssignmentRepository;
         this.bulkRequestRepository = bulkRequestRepository;
         this.regionAssignmentRepository = regionAssignmentRepository;
+        this.depotRepository = depotRepository;
     }
 
     @Override
@@ -74,6 +81,7 @@ public class DataInitializer implements CommandLineRunner {
         routeBinRepository.deleteAll();
         collectionRepository.deleteAll();
         routeRepository.deleteAll();
+        depotRepository.deleteAll(); // After routes (routes reference depots)
         
         // Delete new waste management tables
         wasteDisposalRepository.deleteAll();
@@ -187,6 +195,9 @@ public class DataInitializer implements CommandLineRunner {
             User.UserRole.AUTHORITY
         );
 
+        // Create sample depots
+        createSampleDepots();
+        
         // Create sample bins
         createSampleBins();
         
@@ -231,6 +242,27 @@ public class DataInitializer implements CommandLineRunner {
         System.out.println("✓ Created " + role + " user: " + name + " (" + email + ")");
     }
     
+    private void createSampleDepots() {
+        System.out.println("Creating sample depots...");
+        
+        createDepot("Colombo Municipal Yard", Depot.DepotType.YARD, "Bloemendhal Road, Colombo 13", 6.9520, 79.8660);
+        createDepot("Kelaniya Transfer Station", Depot.DepotType.TRANSFER_STATION, "Kelaniya", 6.9553, 79.9220);
+        createDepot("Karadiyana Disposal Site", Depot.DepotType.DISPOSAL_SITE, "Karadiyana, Piliyandala", 6.8155, 79.9004);
+    }
+    
+    private void createDepot(String name, Depot.DepotType type, String address, Double latitude, Double longitude) {
+        Depot depot = new Depot();
+        depot.setName(name);
+        depot.setType(type);
+        depot.setAddress(address);
+        depot.setLatitude(latitude);
+        depot.setLongitude(longitude);
+        depot.setActive(true);
+        
+        depotRepository.save(depot);
+        System.out.println("✓ Created " + type + " depot: " + name);
+    }
+    
     private void createSampleBins() {
         System.out.println("Creating sample bins...");
         
@@ -1,5 +1,7 @@
 package com.sliit.smartbin.smartbin.config;
 
+import com.sliit.smartbin.smartbin.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -27,8 +29,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${smartbin.security.hash-threads:0}") int hashThreads,
+                                           @Value("${smartbin.security.max-pending-hashes:64}") int maxPendingHashes) {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, maxPendingHashes);
     }
 }
 
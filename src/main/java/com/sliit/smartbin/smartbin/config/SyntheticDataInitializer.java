@@ -0,0 +1,64 @@
+package com.sliit.smartbin.smartbin.config;
+
+import com.sliit.smartbin.smartbin.service.RollupService;
+import com.sliit.smartbin.smartbin.service.synthetic.SyntheticCityConfig;
+import com.sliit.smartbin.smartbin.service.synthetic.SyntheticCityGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the database with a generated city instead of the hand-written demo data.
+ * Enable with --spring.profiles.active=synthetic and size it with smartbin.synthetic.*.
+ * A dataset with the same seed is only written once.
+ */
+@Component
+@Profile("synthetic")
+public class SyntheticDataInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataInitializer.class);
+
+    private final SyntheticCityGenerator generator;
+    private final SyntheticCityConfig config;
+    private final RollupService rollupService;
+
+    public SyntheticDataInitializer(JdbcTemplate jdbcTemplate,
+                                    RollupService rollupService,
+                                    @Value("${smartbin.synthetic.seed:42}") long seed,
+                                    @Value("${smartbin.synthetic.bins:10000}") int bins,
+                                    @Value("${smartbin.synthetic.collectors:0}") int collectors,
+                                    @Value("${smartbin.synthetic.residents:0}") int residents,
+                                    @Value("${smartbin.synthetic.bulk-requests:-1}") int bulkRequests,
+                                    @Value("${smartbin.synthetic.collections:-1}") int collections,
+                                    @Value("${smartbin.synthetic.routes:-1}") int routes,
+                                    @Value("${smartbin.synthetic.bins-per-route:25}") int binsPerRoute,
+                                    @Value("${smartbin.synthetic.batch-size:1000}") int batchSize) {
+        this.generator = new SyntheticCityGenerator(jdbcTemplate);
+        this.rollupService = rollupService;
+        // Counts left at their defaults scale with the number of bins
+        SyntheticCityConfig scaled = SyntheticCityConfig.ofSize(seed, bins);
+        this.config = new SyntheticCityConfig(seed, null, bins,
+            collectors > 0 ? collectors : scaled.collectors(),
+            residents > 0 ? residents : scaled.residents(),
+            bulkRequests >= 0 ? bulkRequests : scaled.bulkRequests(),
+            collections >= 0 ? collections : scaled.collections(),
+            routes >= 0 ? routes : scaled.routes(),
+            binsPerRoute, batchSize, null);
+    }
+
+    @Override
+    public void run(String... args) {
+        if (generator.exists(config)) {
+            logger.info("Synthetic city '{}' already present, skipping generation", config.prefix());
+            return;
+        }
+        generator.generate(config);
+        // The generator writes around the services, so rebuild the rollups it touched
+        rollupService.reconcile(config.referenceTime().minusDays(SyntheticCityGenerator.HISTORY_DAYS),
+                                config.referenceTime());
+    }
+}
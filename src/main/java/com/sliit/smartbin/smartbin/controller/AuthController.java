@@ -11,10 +11,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @Controller
 public class AuthController {
 
+    private static final String LOGIN_BUSY_MESSAGE = "Too many login attempts right now, please try again shortly.";
+
     private final UserService userService;
 
     public AuthController(UserService userService) {
@@ -63,7 +66,13 @@ public class AuthController {
 
     @PostMapping("/resident/login")
     public String residentLogin(@ModelAttribute LoginDTO loginDTO, HttpSession session, RedirectAttributes redirectAttributes) {
-        Optional<User> user = userService.loginUser(loginDTO, User.UserRole.RESIDENT);
+        Optional<User> user;
+        try {
+            user = userService.loginUser(loginDTO, User.UserRole.RESIDENT);
+        } catch (RejectedExecutionException e) {
+            redirectAttributes.addFlashAttribute("error", LOGIN_BUSY_MESSAGE);
+            return "redirect:/resident/login";
+        }
         
         if (user.isPresent()) {
             session.setAttribute("user", user.get());
@@ -86,7 +95,13 @@ public class AuthController {
 
     @PostMapping("/collector/login")
     public String collectorLogin(@ModelAttribute LoginDTO loginDTO, HttpSession session, RedirectAttributes redirectAttributes) {
-        Optional<User> user = userService.loginUser(loginDTO, User.UserRole.COLLECTOR);
+        Optional<User> user;
+        try {
+            user = userService.loginUser(loginDTO, User.UserRole.COLLECTOR);
+        } catch (RejectedExecutionException e) {
+            redirectAttributes.addFlashAttribute("error", LOGIN_BUSY_MESSAGE);
+            return "redirect:/collector/login";
+        }
         
         if (user.isPresent()) {
             session.setAttribute("user", user.get());
@@ -109,7 +124,13 @@ public class AuthController {
 
     @PostMapping("/authority/login")
     public String authorityLogin(@ModelAttribute LoginDTO loginDTO, HttpSession session, RedirectAttributes redirectAttributes) {
-        Optional<User> user = userService.loginUser(loginDTO, User.UserRole.AUTHORITY);
+        Optional<User> user;
+        try {
+            user = userService.loginUser(loginDTO, User.UserRole.AUTHORITY);
+        } catch (RejectedExecutionException e) {
+            redirectAttributes.addFlashAttribute("error", LOGIN_BUSY_MESSAGE);
+            return "redirect:/authority/login";
+        }
         
         if (user.isPresent()) {
             session.setAttribute("user", user.get());
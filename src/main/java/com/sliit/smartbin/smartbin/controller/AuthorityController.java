@@ -2,10 +2,14 @@ package com.sliit.smartbin.smartbin.controller;
 
 import com.sliit.smartbin.smartbin.dto.ReportDTO;
 import com.sliit.smartbin.smartbin.dto.BulkRequestDTO;
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.dto.DepotDTO;
 import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
 import com.sliit.smartbin.smartbin.model.Route;
 import com.sliit.smartbin.smartbin.model.User;
 import com.sliit.smartbin.smartbin.model.BulkRequestStatus;
+import com.sliit.smartbin.smartbin.service.AnalyticsService;
 import com.sliit.smartbin.smartbin.service.BinService;
 import com.sliit.smartbin.smartbin.service.ReportService;
 import com.sliit.smartbin.smartbin.service.RouteService;
@@ -15,9 +19,21 @@ import com.sliit.smartbin.smartbin.service.BinAssignmentService;
 import com.sliit.smartbin.smartbin.service.CollectionService;
 import com.sliit.smartbin.smartbin.service.BulkRequestService;
 import com.sliit.smartbin.smartbin.service.BulkRequestPdfService;
+import com.sliit.smartbin.smartbin.service.CollectorRosterService;
+import com.sliit.smartbin.smartbin.service.CollectorWorkloadService;
+import com.sliit.smartbin.smartbin.service.DepotService;
+import com.sliit.smartbin.smartbin.service.RouteOptimizationJobService;
+import com.sliit.smartbin.smartbin.service.routing.FleetDispatchResult;
+import com.sliit.smartbin.smartbin.service.routing.MultiStartStats;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationJob;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import com.sliit.smartbin.smartbin.service.routing.TourType;
+import com.sliit.smartbin.smartbin.service.routing.VehicleLimits;
 import com.sliit.smartbin.smartbin.model.BinAssignment;
 import com.sliit.smartbin.smartbin.model.RegionAssignment;
 import com.sliit.smartbin.smartbin.repository.RegionAssignmentRepository;
+import com.sliit.smartbin.smartbin.util.RequestValues;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -38,6 +54,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.HashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * SOLID PRINCIPLES APPLIED IN AUTHORITY CONTROLLER
@@ -70,6 +87,11 @@ public class AuthorityController {
     private final BulkRequestService bulkRequestService;
     private final BulkRequestPdfService bulkRequestPdfService;
     private final RegionAssignmentRepository regionAssignmentRepository;
+    private final RouteOptimizationJobService routeOptimizationJobService;
+    private final DepotService depotService;
+    private final AnalyticsService analyticsService;
+    private final CollectorRosterService collectorRosterService;
+    private final CollectorWorkloadService collectorWorkloadService;
 
     // DIP: Constructor injection for loose coupling and easy testing/mocking
     public AuthorityController(BinService binService,
@@ -81,7 +103,12 @@ public class AuthorityController {
                                CollectionService collectionService,
                                BulkRequestService bulkRequestService,
                                BulkRequestPdfService bulkRequestPdfService,
-                               RegionAssignmentRepository regionAssignmentRepository) {
+                               RegionAssignmentRepository regionAssignmentRepository,
+                               RouteOptimizationJobService routeOptimizationJobService,
+                               DepotService depotService,
+                               AnalyticsService analyticsService,
+                               CollectorRosterService collectorRosterService,
+                               CollectorWorkloadService collectorWorkloadService) {
         this.binService = binService;
         this.routeService = routeService;
         this.reportService = reportService;
@@ -92,6 +119,11 @@ public class AuthorityController {
         this.bulkRequestService = bulkRequestService;
         this.bulkRequestPdfService = bulkRequestPdfService;
         this.regionAssignmentRepository = regionAssignmentRepository;
+        this.routeOptimizationJobService = routeOptimizationJobService;
+        this.depotService = depotService;
+        this.analyticsService = analyticsService;
+        this.collectorRosterService = collectorRosterService;
+        this.collectorWorkloadService = collectorWorkloadService;
     }
 
     @GetMapping("/dashboard")
@@ -124,8 +156,7 @@ public class AuthorityController {
         model.addAttribute("fullBins", fullBins);
         
         // Get available collectors
-        List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
-        model.addAttribute("collectors", collectors);
+        model.addAttribute("collectors", collectorRosterService.getCollectors());
         
         return "authority/dashboard";
     }
@@ -152,23 +183,12 @@ public class AuthorityController {
         }
         
         // Get all bins that need collection (full, overdue, or alerted bins)
-        List<Bin> allBins = binService.findAllBins();
-        List<Bin> fullBins = new ArrayList<>();
-        
-        // Filter bins that need collection: FULL, OVERDUE, or have alerts
-        for (Bin bin : allBins) {
-            if (bin.getStatus() == Bin.BinStatus.FULL || 
-                bin.getStatus() == Bin.BinStatus.OVERDUE || 
-                bin.getAlertFlag()) {
-                fullBins.add(bin);
-            }
-        }
+        List<Bin> fullBins = findBinsNeedingCollection();
         
         model.addAttribute("fullBins", fullBins);
         
         // Get available collectors
-        List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
-        model.addAttribute("collectors", collectors);
+        model.addAttribute("collectors", collectorRosterService.getCollectors());
         
         model.addAttribute("user", user);
         
@@ -248,6 +268,77 @@ public class AuthorityController {
         }
     }
 
+    @PostMapping("/api/dispatch/fleet")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> apiFleetDispatch(@RequestBody(required = false) Map<String, Object> request,
+                                                               HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Map<String, Object> body = request != null ? request : new HashMap<>();
+        
+        try {
+            // Default to every bin needing collection and every collector
+            List<Long> binIds = body.get("binIds") != null
+                ? RequestValues.toLongList(body.get("binIds"))
+                : findBinsNeedingCollection().stream().map(Bin::getId).toList();
+            
+            List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
+            if (body.get("collectorIds") != null) {
+                List<Long> collectorIds = RequestValues.toLongList(body.get("collectorIds"));
+                collectors = collectors.stream().filter(c -> collectorIds.contains(c.getId())).toList();
+            }
+            
+            if (binIds.isEmpty() || collectors.isEmpty()) {
+                Map<String, Object> errorResponse = new HashMap<>();
+                errorResponse.put("success", false);
+                errorResponse.put("message", binIds.isEmpty() ? "No bins need collection" : "No collectors available");
+                return ResponseEntity.badRequest().body(errorResponse);
+            }
+            
+            Integer capacity = body.get("capacity") != null ? Integer.valueOf(body.get("capacity").toString()) : null;
+            Integer shiftMinutes = body.get("shiftMinutes") != null ? Integer.valueOf(body.get("shiftMinutes").toString()) : null;
+            RouteOptimizerType optimizer = RouteOptimizerType.fromString(
+                body.get("optimizer") != null ? body.get("optimizer").toString() : null);
+            
+            FleetDispatchResult result = routeService.dispatchFleet(binIds, collectors, user, capacity, shiftMinutes,
+                                                                    parseCollectorLimits(body.get("collectorLimits")),
+                                                                    optimizer, parseTourOptions(body));
+            
+            List<Map<String, Object>> routes = new ArrayList<>();
+            for (Route route : result.routes()) {
+                notificationService.sendRouteNotification(route.getCollector(), route);
+                
+                Map<String, Object> routeInfo = new HashMap<>();
+                routeInfo.put("routeId", route.getId());
+                routeInfo.put("routeName", route.getRouteName());
+                routeInfo.put("collectorId", route.getCollector().getId());
+                routeInfo.put("collectorName", route.getCollector().getName());
+                routeInfo.put("estimatedDuration", route.getEstimatedDurationMinutes());
+                routeInfo.put("totalDistance", route.getTotalDistanceKm());
+                routes.add(routeInfo);
+            }
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Dispatched " + routes.size() + " routes");
+            response.put("routes", routes);
+            response.put("unassignedBinIds", result.unassignedBinIds());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Failed to dispatch fleet: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @GetMapping("/routes")
     public String manageRoutes(HttpSession session, Model model) {
         User user = validateAuthorityUser(session);
@@ -270,16 +361,11 @@ public class AuthorityController {
         }
         
         // Get all collectors
-        List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
-        
-        // Ensure collectors is never null
-        if (collectors == null) {
-            collectors = new java.util.ArrayList<>();
-        }
+        List<CollectorSummaryDTO> collectors = collectorRosterService.getCollectors();
         
         System.out.println("=== MANAGE COLLECTORS DEBUG ===");
         System.out.println("Total collectors found: " + collectors.size());
-        for (User collector : collectors) {
+        for (CollectorSummaryDTO collector : collectors) {
             System.out.println("  - " + collector.getName() + " (" + collector.getEmail() + ") ID: " + collector.getId());
         }
         System.out.println("================================");
@@ -299,121 +385,7 @@ public class AuthorityController {
         }
         
         try {
-            System.out.println("=== API: Getting collectors ===");
-            List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
-            
-            if (collectors == null) {
-                collectors = new ArrayList<>();
-            }
-            
-            System.out.println("API: Found " + collectors.size() + " collectors");
-            List<Map<String, Object>> collectorData = new ArrayList<>();
-            
-            for (User collector : collectors) {
-                System.out.println("API: Processing collector " + collector.getName());
-                Map<String, Object> collectorInfo = new HashMap<>();
-                collectorInfo.put("id", collector.getId());
-                collectorInfo.put("name", collector.getName());
-                collectorInfo.put("email", collector.getEmail());
-                collectorInfo.put("phone", collector.getPhone());
-                collectorInfo.put("region", collector.getRegion() != null ? collector.getRegion() : "No region assigned");
-                
-                // Get all routes for this collector
-                List<Route> allRoutes = routeService.findRoutesByCollector(collector);
-                List<Route> activeRoutes = routeService.findActiveRoutesByCollector(collector);
-                
-                // Get assigned routes
-                List<Route> assignedRoutes = allRoutes.stream()
-                    .filter(r -> r.getStatus() == Route.RouteStatus.ASSIGNED)
-                    .collect(java.util.stream.Collectors.toList());
-                
-                // Get in-progress routes
-                List<Route> inProgressRoutes = allRoutes.stream()
-                    .filter(r -> r.getStatus() == Route.RouteStatus.IN_PROGRESS)
-                    .collect(java.util.stream.Collectors.toList());
-                
-                // Get today's completed routes
-                LocalDate today = LocalDate.now();
-                List<Route> todayCompletedRoutes = allRoutes.stream()
-                    .filter(r -> r.getStatus() == Route.RouteStatus.COMPLETED 
-                        && r.getCompletedDate() != null
-                        && r.getCompletedDate().toLocalDate().equals(today))
-                    .collect(java.util.stream.Collectors.toList());
-                
-                // Get real today's collections count
-                long todayCollections = collectionService.findCollectionsByCollectorAndDateRange(
-                    collector, 
-                    today.atStartOfDay(), 
-                    today.plusDays(1).atStartOfDay()
-                ).size();
-                
-                // Calculate real completion rate
-                long completedRoutes = allRoutes.stream()
-                    .filter(r -> r.getStatus() == Route.RouteStatus.COMPLETED)
-                    .count();
-                double completionRate = allRoutes.isEmpty() ? 0 : 
-                    ((double) completedRoutes / allRoutes.size()) * 100;
-                
-                collectorInfo.put("activeRoutes", activeRoutes.size());
-                collectorInfo.put("assignedRoutes", assignedRoutes.size());
-                collectorInfo.put("inProgressRoutes", inProgressRoutes.size());
-                collectorInfo.put("todayCompletedRoutes", todayCompletedRoutes.size());
-                collectorInfo.put("todayCollections", todayCollections);
-                collectorInfo.put("completionRate", Math.round(completionRate));
-                
-                // Add detailed route information
-                List<Map<String, Object>> routeDetails = new ArrayList<>();
-                for (Route route : assignedRoutes) {
-                    Map<String, Object> routeInfo = new HashMap<>();
-                    routeInfo.put("id", route.getId());
-                    routeInfo.put("name", route.getRouteName());
-                    routeInfo.put("status", route.getStatus().name());
-                    routeInfo.put("assignedDate", route.getAssignedDate().toString());
-                    routeInfo.put("binCount", route.getRouteBins() != null ? route.getRouteBins().size() : 0);
-                    routeInfo.put("distance", route.getTotalDistanceKm());
-                    routeInfo.put("duration", route.getEstimatedDurationMinutes());
-                    routeDetails.add(routeInfo);
-                }
-                
-                for (Route route : inProgressRoutes) {
-                    Map<String, Object> routeInfo = new HashMap<>();
-                    routeInfo.put("id", route.getId());
-                    routeInfo.put("name", route.getRouteName());
-                    routeInfo.put("status", route.getStatus().name());
-                    routeInfo.put("startedDate", route.getStartedDate() != null ? route.getStartedDate().toString() : null);
-                    routeInfo.put("binCount", route.getRouteBins() != null ? route.getRouteBins().size() : 0);
-                    routeInfo.put("distance", route.getTotalDistanceKm());
-                    routeInfo.put("duration", route.getEstimatedDurationMinutes());
-                    routeDetails.add(routeInfo);
-                }
-                
-                collectorInfo.put("routes", routeDetails);
-                
-                // Determine status based on active routes
-                if (activeRoutes.isEmpty()) {
-                    collectorInfo.put("status", "available");
-                } else if (inProgressRoutes.size() > 0) {
-                    collectorInfo.put("status", "on-route");
-                } else {
-                    collectorInfo.put("status", "busy");
-                }
-                
-                // Add current activity description
-                if (inProgressRoutes.size() > 0) {
-                    Route currentRoute = inProgressRoutes.get(0);
-                    collectorInfo.put("currentActivity", "On route: " + currentRoute.getRouteName());
-                } else if (assignedRoutes.size() > 0) {
-                    collectorInfo.put("currentActivity", assignedRoutes.size() + " route(s) assigned");
-                } else {
-                    collectorInfo.put("currentActivity", "Available for assignment");
-                }
-                
-                // Add performance rating (0-5 stars based on completion rate)
-                double performanceRating = (completionRate / 100.0) * 5;
-                collectorInfo.put("performanceRating", Math.round(performanceRating * 10) / 10.0);
-                
-                collectorData.add(collectorInfo);
-            }
+            List<Map<String, Object>> collectorData = collectorWorkloadService.getCollectorWorkloads();
             
             System.out.println("API: Successfully processed " + collectorData.size() + " collectors");
             return ResponseEntity.ok(collectorData);
@@ -438,46 +410,7 @@ public class AuthorityController {
         }
         
         try {
-            Map<String, Object> analytics = new HashMap<>();
-            
-            // Collection trends (last 7 hours)
-            List<Integer> collectionTrends = new ArrayList<>();
-            for (int i = 6; i >= 0; i--) {
-                // Mock data - in real app, this would query actual collection data
-                collectionTrends.add((int) (Math.random() * 20 + 10));
-            }
-            analytics.put("collectionTrends", collectionTrends);
-            
-            // Collector performance
-            List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
-            List<String> collectorLabels = new ArrayList<>();
-            List<Integer> collectorData = new ArrayList<>();
-            
-            for (User collector : collectors) {
-                collectorLabels.add(collector.getName().split(" ")[0] + " " + 
-                    collector.getName().split(" ")[1].charAt(0) + ".");
-                collectorData.add((int) (Math.random() * 15 + 5)); // Mock daily collections
-            }
-            
-            Map<String, Object> collectorPerformance = new HashMap<>();
-            collectorPerformance.put("labels", collectorLabels);
-            collectorPerformance.put("data", collectorData);
-            analytics.put("collectorPerformance", collectorPerformance);
-            
-            // Bin status distribution
-            List<Integer> binStatus = new ArrayList<>();
-            binStatus.add(45); // Empty
-            binStatus.add(30); // Partial
-            binStatus.add(20); // Full
-            binStatus.add(5);  // Overdue
-            analytics.put("binStatus", binStatus);
-            
-            // Route efficiency (last 7 days)
-            List<Integer> routeEfficiency = new ArrayList<>();
-            for (int i = 0; i < 7; i++) {
-                routeEfficiency.add((int) (Math.random() * 20 + 75)); // 75-95% efficiency
-            }
-            analytics.put("routeEfficiency", routeEfficiency);
+            Map<String, Object> analytics = analyticsService.getAnalytics();
             
             return ResponseEntity.ok(analytics);
         } catch (Exception e) {
@@ -676,82 +609,187 @@ public class AuthorityController {
         }
     }
     
+    /**
+     * Older clients' entry point. Solving a large route can outlast a proxy timeout, so this
+     * no longer solves inline: it starts the same background job as /api/optimize-route/jobs
+     * and answers 202 with the job id to poll.
+     */
     @PostMapping("/api/optimize-route")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> optimizeRoute(@RequestBody Map<String, Object> request,
                                                              HttpSession session) {
+        return submitOptimizationJob(request, session);
+    }
+    
+    @PostMapping("/api/optimize-route/jobs")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> submitOptimizationJob(@RequestBody Map<String, Object> request,
+                                                                     HttpSession session) {
         User user = validateAuthorityUser(session);
         if (user == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
+        Map<String, Object> response = new HashMap<>();
         try {
-            @SuppressWarnings("unchecked")
-            List<Object> binIdsObj = (List<Object>) request.get("binIds");
-            List<Long> binIds = new ArrayList<>();
-            for (Object binIdObj : binIdsObj) {
-                if (binIdObj instanceof Integer) {
-                    binIds.add(((Integer) binIdObj).longValue());
-                } else if (binIdObj instanceof Long) {
-                    binIds.add((Long) binIdObj);
-                } else {
-                    binIds.add(Long.valueOf(binIdObj.toString()));
-                }
+            List<Long> binIds = request.get("binIds") != null ? RequestValues.toLongList(request.get("binIds")) : List.of();
+            if (binIds.isEmpty() || request.get("collectorId") == null) {
+                response.put("success", false);
+                response.put("message", "binIds and collectorId are required");
+                return ResponseEntity.badRequest().body(response);
             }
-            Long collectorId = Long.valueOf(request.get("collectorId").toString());
             
-            if (binIds == null || binIds.isEmpty()) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "No bins selected for route optimization");
-                return ResponseEntity.badRequest().body(errorResponse);
-            }
+            RouteOptimizerType optimizer = RouteOptimizerType.fromString(
+                request.get("optimizer") != null ? request.get("optimizer").toString() : null);
+            User collector = userService.findById(Long.valueOf(request.get("collectorId").toString()))
+                .orElseThrow(() -> new IllegalArgumentException("Collector not found"));
             
-            User collector = userService.findById(collectorId)
-                .orElseThrow(() -> new RuntimeException("Collector not found"));
-            
-            // Optimize route using TSP algorithm
-            Route route = routeService.optimizeRoute(binIds, collector, user);
+            OptimizationJob job = routeOptimizationJobService.submit(binIds, collector, user, optimizer,
+                                                                     parseTourOptions(request));
             
-            // Send notification to collector
-            notificationService.sendRouteNotification(collector, route);
-            
-            // Prepare response with route details
-            Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "Route optimized and assigned successfully!");
-            response.put("routeId", route.getId());
-            response.put("routeName", route.getRouteName());
-            response.put("estimatedDuration", route.getEstimatedDurationMinutes());
-            response.put("totalDistance", route.getTotalDistanceKm());
-            response.put("numBins", binIds.size());
-            
-            // Add optimized route coordinates for map visualization
-            List<Map<String, Object>> routeCoordinates = new ArrayList<>();
-            for (Long binId : binIds) {
-                Optional<Bin> binOpt = binService.findById(binId);
-                if (binOpt.isPresent()) {
-                    Bin bin = binOpt.get();
-                    Map<String, Object> coord = new HashMap<>();
-                    coord.put("id", bin.getId());
-                    coord.put("lat", bin.getLatitude());
-                    coord.put("lng", bin.getLongitude());
-                    coord.put("qrCode", bin.getQrCode());
-                    coord.put("location", bin.getLocation());
-                    routeCoordinates.add(coord);
-                }
-            }
-            response.put("routeCoordinates", routeCoordinates);
-            
-            return ResponseEntity.ok(response);
+            response.put("message", "Route optimization started");
+            response.put("jobId", job.getId());
+            response.put("statusUrl", "/authority/api/optimize-route/jobs/" + job.getId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (RejectedExecutionException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(response);
         } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
             response.put("success", false);
-            response.put("message", "Failed to optimize route: " + e.getMessage());
+            response.put("message", "Failed to start route optimization: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
     
+    @GetMapping("/api/optimize-route/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getOptimizationJob(@PathVariable String jobId,
+                                                                  HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        return routeOptimizationJobService.findJob(jobId)
+            .map(job -> ResponseEntity.ok(optimizationJobData(job)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
+    @DeleteMapping("/api/optimize-route/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> cancelOptimizationJob(@PathVariable String jobId,
+                                                                     HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        Optional<OptimizationJob> job = routeOptimizationJobService.findJob(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        Map<String, Object> response = optimizationJobData(job.get());
+        if (!routeOptimizationJobService.cancel(jobId)) {
+            response.put("success", false);
+            response.put("message", "Job has already finished or is saving its route");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.put("success", true);
+        response.put("message", "Cancellation requested");
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Add restart count and result spread for multi-start runs
+     */
+    private void putMultiStart(Map<String, Object> data, MultiStartStats stats) {
+        if (stats == null) {
+            return;
+        }
+        Map<String, Object> spread = new HashMap<>();
+        spread.put("bestDistance", stats.bestKm());
+        spread.put("worstDistance", stats.worstKm());
+        spread.put("meanDistance", stats.meanKm());
+        spread.put("stdDev", stats.stdDevKm());
+        data.put("restarts", stats.restarts());
+        data.put("restartSpread", spread);
+    }
+
+    private Map<String, Object> optimizationJobData(OptimizationJob job) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobId", job.getId());
+        data.put("status", job.getStatus().name());
+        data.put("optimizer", job.getOptimizer().name());
+        data.put("numBins", job.getBinCount());
+        data.put("progress", job.getProgress());
+        data.put("initialDistance", job.getInitialDistanceKm());
+        data.put("bestDistance", job.getBestDistanceKm());
+        data.put("routeId", job.getRouteId());
+        data.put("estimatedDuration", job.getEstimatedDurationMinutes());
+        putMultiStart(data, job.getMultiStart());
+        data.put("error", job.getError());
+        data.put("submittedAt", job.getSubmittedAt());
+        data.put("finishedAt", job.getFinishedAt());
+        return data;
+    }
+    
+    @GetMapping("/api/depots")
+    @ResponseBody
+    public ResponseEntity<List<Map<String, Object>>> getDepots(HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        return ResponseEntity.ok(depotService.findActiveDepots().stream().map(this::depotData).toList());
+    }
+    
+    @PostMapping("/api/depots")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> createDepot(@RequestBody DepotDTO depotDTO,
+                                                           HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Depot depot = depotService.createDepot(depotDTO);
+            response.put("success", true);
+            response.put("message", "Depot created successfully");
+            response.put("depot", depotData(depot));
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    private Map<String, Object> depotData(Depot depot) {
+        if (depot == null) {
+            return null;
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", depot.getId());
+        data.put("name", depot.getName());
+        data.put("type", depot.getType().name());
+        data.put("address", depot.getAddress());
+        data.put("lat", depot.getLatitude());
+        data.put("lng", depot.getLongitude());
+        return data;
+    }
+    
     @GetMapping("/api/route/{id}")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getRouteDetails(@PathVariable Long id,
@@ -783,6 +821,46 @@ public class AuthorityController {
         }
     }
     
+    /**
+     * Re-sequence the pending stops of a live route after adding, skipping or completing bins
+     */
+    @PostMapping("/api/route/{id}/repair")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> repairRoute(@PathVariable Long id,
+                                                           @RequestBody Map<String, Object> request,
+                                                           HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        try {
+            Route route = routeService.repairRoute(id,
+                request.get("addBinIds") != null ? RequestValues.toLongList(request.get("addBinIds")) : List.of(),
+                request.get("skipBinIds") != null ? RequestValues.toLongList(request.get("skipBinIds")) : List.of(),
+                request.get("completedBinIds") != null ? RequestValues.toLongList(request.get("completedBinIds")) : List.of());
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "Route updated successfully");
+            response.put("routeId", route.getId());
+            response.put("status", route.getStatus().name());
+            response.put("estimatedDuration", route.getEstimatedDurationMinutes());
+            response.put("totalDistance", route.getTotalDistanceKm());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Failed to update route: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
     @PostMapping("/api/reports/generate")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> generateReportData(@RequestBody Map<String, Object> request,
@@ -799,6 +877,7 @@ public class AuthorityController {
             
             ReportDTO reportDTO = new ReportDTO();
             reportDTO.setReportType(reportType);
+            applyDateRange(reportDTO, dateRange);
             
             Map<String, Object> reportData;
             
@@ -826,6 +905,10 @@ public class AuthorityController {
             reportData.put("generatedBy", user.getName());
             
             return ResponseEntity.ok(reportData);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("error", "Failed to generate report: " + e.getMessage());
@@ -833,6 +916,74 @@ public class AuthorityController {
         }
     }
 
+    /**
+     * Turn the report form's date range (today, week, month) into a start date;
+     * anything else keeps the service's default window
+     */
+    private static void applyDateRange(ReportDTO reportDTO, String dateRange) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startDate = switch (dateRange == null ? "" : dateRange) {
+            case "today" -> now.toLocalDate().atStartOfDay();
+            case "week" -> now.minusDays(7);
+            case "month" -> now.minusDays(30);
+            default -> null;
+        };
+        if (startDate != null) {
+            reportDTO.setStartDate(startDate);
+            reportDTO.setEndDate(now);
+        }
+    }
+
+    // Bins that need collection: FULL, OVERDUE, or have alerts
+    private List<Bin> findBinsNeedingCollection() {
+        List<Bin> bins = new ArrayList<>();
+        for (Bin bin : binService.findAllBins()) {
+            if (bin.getStatus() == Bin.BinStatus.FULL || 
+                bin.getStatus() == Bin.BinStatus.OVERDUE || 
+                Boolean.TRUE.equals(bin.getAlertFlag())) {
+                bins.add(bin);
+            }
+        }
+        return bins;
+    }
+    
+    /**
+     * Read startDepotId, tourType and endDepotId from a route request
+     */
+    private static TourOptions parseTourOptions(Map<String, Object> request) {
+        Object startDepotId = request.get("startDepotId");
+        Object endDepotId = request.get("endDepotId");
+        return new TourOptions(
+            startDepotId != null ? Long.valueOf(startDepotId.toString()) : null,
+            TourType.fromString(request.get("tourType") != null ? request.get("tourType").toString() : null),
+            endDepotId != null ? Long.valueOf(endDepotId.toString()) : null);
+    }
+    
+    /**
+     * Read per-collector overrides such as {"12": {"capacity": 20, "shiftMinutes": 300}};
+     * a missing value keeps the fleet default
+     */
+    private static Map<Long, VehicleLimits> parseCollectorLimits(Object value) {
+        if (value == null) {
+            return Map.of();
+        }
+        if (!(value instanceof Map<?, ?> entries)) {
+            throw new IllegalArgumentException("collectorLimits must map collector ids to limits");
+        }
+        Map<Long, VehicleLimits> limits = new HashMap<>();
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            if (!(entry.getValue() instanceof Map<?, ?> override)) {
+                throw new IllegalArgumentException("Limits for collector " + entry.getKey() + " must be an object");
+            }
+            Object capacity = override.get("capacity");
+            Object shiftMinutes = override.get("shiftMinutes");
+            limits.put(Long.valueOf(entry.getKey().toString()), new VehicleLimits(
+                capacity != null ? Integer.valueOf(capacity.toString()) : null,
+                shiftMinutes != null ? Integer.valueOf(shiftMinutes.toString()) : null));
+        }
+        return limits;
+    }
+
     // Helper method to validate authority user (Single Responsibility Principle)
     private User validateAuthorityUser(HttpSession session) {
         User user = (User) session.getAttribute("user");
@@ -1197,8 +1348,7 @@ public class AuthorityController {
         model.addAttribute("scheduledBulkRequests", scheduledCount);
         
         // Get available collectors
-        List<User> collectors = userService.findByRole(User.UserRole.COLLECTOR);
-        model.addAttribute("collectors", collectors);
+        model.addAttribute("collectors", collectorRosterService.getCollectors());
         
         return "authority/bulk-requests";
     }
@@ -1218,6 +1368,24 @@ public class AuthorityController {
         return ResponseEntity.ok(requests);
     }
     
+    /**
+     * Get open pickups nearest to a point, e.g. a collector's current position (AJAX)
+     */
+    @GetMapping("/api/bulk-requests/nearest")
+    @ResponseBody
+    public ResponseEntity<List<BulkRequestDTO>> getNearestPendingPickups(@RequestParam Double latitude,
+                                                                          @RequestParam Double longitude,
+                                                                          @RequestParam(defaultValue = "10") Integer limit,
+                                                                          HttpSession session) {
+        User user = validateAuthorityUser(session);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        List<BulkRequestDTO> requests = bulkRequestService.getNearestPendingPickups(latitude, longitude, limit);
+        return ResponseEntity.ok(requests);
+    }
+    
     /**
      * SRP: Method only handles HTTP request/response, assignment logic in service
      * DIP: Depends on BulkRequestService interface for assignment processing
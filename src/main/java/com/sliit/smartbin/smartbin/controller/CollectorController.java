@@ -8,22 +8,29 @@ import com.sliit.smartbin.smartbin.model.RouteBin;
 import com.sliit.smartbin.smartbin.model.User;
 import com.sliit.smartbin.smartbin.service.BinService;
 import com.sliit.smartbin.smartbin.service.CollectionService;
+import com.sliit.smartbin.smartbin.service.LiveUpdateService;
 import com.sliit.smartbin.smartbin.service.RouteService;
 import com.sliit.smartbin.smartbin.repository.RouteBinRepository;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdate;
+import com.sliit.smartbin.smartbin.util.RequestValues;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.ArrayList;
 import java.util.Optional;
 
 @Controller
@@ -34,15 +41,18 @@ public class CollectorController {
     private final CollectionService collectionService;
     private final BinService binService;
     private final RouteBinRepository routeBinRepository;
+    private final LiveUpdateService liveUpdateService;
 
     public CollectorController(RouteService routeService,
                                CollectionService collectionService,
                                BinService binService,
-                               RouteBinRepository routeBinRepository) {
+                               RouteBinRepository routeBinRepository,
+                               LiveUpdateService liveUpdateService) {
         this.routeService = routeService;
         this.collectionService = collectionService;
         this.binService = binService;
         this.routeBinRepository = routeBinRepository;
+        this.liveUpdateService = liveUpdateService;
     }
 
     @GetMapping("/dashboard")
@@ -353,95 +363,56 @@ public class CollectorController {
 
     @GetMapping("/api/live-updates")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getLiveUpdates(HttpSession session) {
+    public ResponseEntity<List<LiveUpdate>> getLiveUpdates(HttpSession session) {
         User user = (User) session.getAttribute("user");
         if (user == null || user.getRole() != User.UserRole.COLLECTOR) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
         try {
-            List<Map<String, Object>> updates = new ArrayList<>();
-            
-            // Get recent route assignments
-            List<Route> recentRoutes = routeService.findRoutesByCollector(user);
-            for (Route route : recentRoutes) {
-                if (route.getAssignedDate() != null && 
-                    route.getAssignedDate().isAfter(LocalDateTime.now().minusHours(24))) {
-                    
-                    Map<String, Object> update = new HashMap<>();
-                    update.put("type", "route");
-                    update.put("title", "New Route Assigned");
-                    update.put("message", "Route " + route.getRouteName() + " has been assigned to you");
-                    update.put("timestamp", route.getAssignedDate());
-                    updates.add(update);
-                }
-            }
-            
-            // Get recent collections
-            List<Collection> recentCollections = collectionService.findCollectionsByCollector(user);
-            for (Collection collection : recentCollections) {
-                if (collection.getCollectionDate() != null && 
-                    collection.getCollectionDate().isAfter(LocalDateTime.now().minusHours(24))) {
-                    
-                    Map<String, Object> update = new HashMap<>();
-                    update.put("type", "completion");
-                    update.put("title", "Collection Completed");
-                    update.put("message", "Successfully collected from bin " + collection.getBin().getQrCode());
-                    update.put("timestamp", collection.getCollectionDate());
-                    updates.add(update);
-                }
-            }
-            
-            // Sort by timestamp (newest first)
-            updates.sort((a, b) -> {
-                LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-                LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-                return timeB.compareTo(timeA);
-            });
-            
-            return ResponseEntity.ok(updates);
+            // Served from the replay buffer, newest first
+            return ResponseEntity.ok(liveUpdateService.getRecentUpdates(user.getId()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    @GetMapping(value = "/api/live-updates/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> streamLiveUpdates(HttpSession session,
+                                                        @RequestHeader(value = "Last-Event-ID", required = false)
+                                                        String lastEventId) {
+        User user = (User) session.getAttribute("user");
+        if (user == null || user.getRole() != User.UserRole.COLLECTOR) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        Long resumeFrom = null;
+        if (lastEventId != null) {
+            try {
+                resumeFrom = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                // Unknown id: the stream starts over with a reset
+            }
+        }
+        return ResponseEntity.ok(liveUpdateService.subscribe(user.getId(), resumeFrom));
+    }
+
+    /**
+     * Route assignments and bin alerts from the live update buffer, newest first
+     */
     @GetMapping("/api/notifications")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getNotifications(HttpSession session) {
+    public ResponseEntity<List<LiveUpdate>> getNotifications(HttpSession session) {
         User user = (User) session.getAttribute("user");
         if (user == null || user.getRole() != User.UserRole.COLLECTOR) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
         try {
-            List<Map<String, Object>> notifications = new ArrayList<>();
-            
-            // Check for new route assignments
-            List<Route> assignedRoutes = routeService.findAssignedRoutesByCollector(user);
-            for (Route route : assignedRoutes) {
-                Map<String, Object> notification = new HashMap<>();
-                notification.put("type", "route");
-                notification.put("title", "New Route Assignment");
-                notification.put("message", "You have been assigned route: " + route.getRouteName());
-                notification.put("timestamp", LocalDateTime.now());
-                notification.put("seen", false);
-                notifications.add(notification);
-            }
-            
-            // Check for overdue bins in collector's region
-            List<Bin> overdueBins = binService.findOverdueBins();
-            for (Bin bin : overdueBins) {
-                if (bin.getLocation() != null && bin.getLocation().contains(user.getRegion())) {
-                    Map<String, Object> notification = new HashMap<>();
-                    notification.put("type", "alert");
-                    notification.put("title", "Overdue Bin Alert");
-                    notification.put("message", "Bin " + bin.getQrCode() + " is overdue for collection");
-                    notification.put("timestamp", LocalDateTime.now());
-                    notification.put("seen", false);
-                    notifications.add(notification);
-                }
-            }
-            
+            List<LiveUpdate> notifications = liveUpdateService.getRecentUpdates(user.getId()).stream()
+                .filter(update -> "route".equals(update.type()) || "alert".equals(update.type()))
+                .toList();
             return ResponseEntity.ok(notifications);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -450,85 +421,73 @@ public class CollectorController {
 
     @GetMapping("/api/route-status")
     @ResponseBody
-    public ResponseEntity<List<Map<String, Object>>> getRouteStatus(HttpSession session) {
+    public ResponseEntity<List<Map<String, Object>>> getRouteStatus(HttpSession session, WebRequest webRequest) {
         User user = (User) session.getAttribute("user");
         if (user == null || user.getRole() != User.UserRole.COLLECTOR) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
         
         try {
-            List<Route> routes = routeService.findRoutesByCollector(user);
-            List<Map<String, Object>> routeStatuses = new ArrayList<>();
-            
-            for (Route route : routes) {
-                Map<String, Object> routeData = new HashMap<>();
-                routeData.put("id", route.getId());
-                routeData.put("status", route.getStatus().name());
-                routeData.put("routeName", route.getRouteName());
-                
-                // Add route bins with details
-                List<RouteBin> routeBins = route.getRouteBins();
-                if (routeBins != null && !routeBins.isEmpty()) {
-                    List<Map<String, Object>> binsData = new ArrayList<>();
-                    
-                    for (int i = 0; i < routeBins.size(); i++) {
-                        RouteBin routeBin = routeBins.get(i);
-                        Map<String, Object> binData = new HashMap<>();
-                        
-                        binData.put("sequenceOrder", routeBin.getSequenceOrder());
-                        binData.put("qrCode", routeBin.getBin().getQrCode());
-                        binData.put("location", routeBin.getBin().getLocation());
-                        binData.put("status", routeBin.getBin().getStatus().name());
-                        binData.put("fillLevel", routeBin.getBin().getFillLevel());
-                        binData.put("binType", routeBin.getBin().getBinType().name());
-                        
-                        // Calculate distance to next bin (mock calculation)
-                        if (i < routeBins.size() - 1) {
-                            double distance = calculateDistance(
-                                routeBin.getBin().getLatitude(), routeBin.getBin().getLongitude(),
-                                routeBins.get(i + 1).getBin().getLatitude(), routeBins.get(i + 1).getBin().getLongitude()
-                            );
-                            binData.put("distanceToNext", Math.round(distance * 10.0) / 10.0); // Round to 1 decimal
-                        } else {
-                            binData.put("distanceToNext", 0.0);
-                        }
-                        
-                        binsData.add(binData);
-                    }
-                    
-                    routeData.put("routeBins", binsData);
-                    routeData.put("totalBins", routeBins.size());
-                    
-                    // Calculate progress for in-progress routes
-                    if (route.getStatus() == Route.RouteStatus.IN_PROGRESS) {
-                        long completedBins = routeBins.stream()
-                            .mapToLong(rb -> rb.getStatus() == RouteBin.CollectionStatus.COMPLETED ? 1 : 0)
-                            .sum();
-                        
-                        double progressPercent = (double) completedBins / routeBins.size() * 100;
-                        routeData.put("progressPercent", progressPercent);
-                        routeData.put("completedBins", completedBins);
-                    }
-                    
-                    // Calculate duration
-                    if (route.getStartedDate() != null) {
-                        long durationMinutes = java.time.Duration.between(
-                            route.getStartedDate(), 
-                            LocalDateTime.now()
-                        ).toMinutes();
-                        routeData.put("duration", durationMinutes);
-                    }
-                }
-                
-                routeStatuses.add(routeData);
+            // Answer an unchanged poll from the version key alone, before the joined stop query runs
+            String version = routeService.getRouteStatusVersion(user.getId());
+            String etag = "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
             }
             
-            return ResponseEntity.ok(routeStatuses);
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(routeService.getRouteStatuses(user.getId()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Report skipped or completed stops and re-sequence the rest of the collector's route
+     */
+    @PostMapping("/api/route/{id}/repair")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> repairRoute(@PathVariable Long id,
+                                                           @RequestBody Map<String, Object> request,
+                                                           HttpSession session) {
+        User user = (User) session.getAttribute("user");
+        if (user == null || user.getRole() != User.UserRole.COLLECTOR) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Optional<Route> existing = routeService.findById(id);
+            if (existing.isEmpty() || !existing.get().isAssignedTo(user)) {
+                return ResponseEntity.notFound().build();
+            }
+            
+            // Collectors report progress; adding bins stays with the authority
+            Route route = routeService.repairRoute(id, List.of(),
+                request.get("skipBinIds") != null ? RequestValues.toLongList(request.get("skipBinIds")) : List.of(),
+                request.get("completedBinIds") != null ? RequestValues.toLongList(request.get("completedBinIds")) : List.of());
+            
+            response.put("success", true);
+            response.put("routeId", route.getId());
+            response.put("estimatedDuration", route.getEstimatedDurationMinutes());
+            response.put("totalDistance", route.getTotalDistanceKm());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "Failed to update route: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     @GetMapping("/performance")
     public String viewPerformance(HttpSession session, Model model) {
         User user = (User) session.getAttribute("user");
@@ -552,16 +511,4 @@ public class CollectorController {
         
         return "collector/performance";
     }
-
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // Radius of the earth in km
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c; // Distance in km
-    }
 }
-
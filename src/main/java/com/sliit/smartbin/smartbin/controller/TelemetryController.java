@@ -0,0 +1,50 @@
+package com.sliit.smartbin.smartbin.controller;
+
+import com.sliit.smartbin.smartbin.dto.FillLevelIngestResultDTO;
+import com.sliit.smartbin.smartbin.dto.FillLevelReadingDTO;
+import com.sliit.smartbin.smartbin.service.TelemetryIngestionService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Machine-to-machine endpoints used by bin sensors and gateways.
+ * Sensors report in batches so one request covers many bins.
+ */
+@Controller
+@RequestMapping("/api/telemetry")
+public class TelemetryController {
+
+    private final TelemetryIngestionService telemetryIngestionService;
+
+    public TelemetryController(TelemetryIngestionService telemetryIngestionService) {
+        this.telemetryIngestionService = telemetryIngestionService;
+    }
+
+    @PostMapping("/fill-levels")
+    @ResponseBody
+    public ResponseEntity<Object> ingestFillLevels(@RequestBody List<FillLevelReadingDTO> readings) {
+        try {
+            FillLevelIngestResultDTO result = telemetryIngestionService.ingestFillLevels(readings);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "Failed to ingest telemetry: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+}
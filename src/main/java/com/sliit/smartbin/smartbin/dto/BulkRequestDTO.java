@@ -47,6 +47,9 @@ public class BulkRequestDTO {
     private LocalDateTime updatedAt;
     private List<String> photoUrls;
     
+    // Only populated by proximity lookups
+    private Double distanceKm;
+    
     // Constructors
     public BulkRequestDTO() {}
     
@@ -301,6 +304,14 @@ public class BulkRequestDTO {
         this.photoUrls = photoUrls;
     }
     
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+    
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+    
     @Override
     public String toString() {
         return "BulkRequestDTO{" +
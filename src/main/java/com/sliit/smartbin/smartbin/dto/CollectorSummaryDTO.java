@@ -0,0 +1,16 @@
+package com.sliit.smartbin.smartbin.dto;
+
+import lombok.Value;
+
+/**
+ * Read-only view of a collector for pickers and listings, without the password
+ * or any lazy associations. Immutable, so cached instances can be shared.
+ */
+@Value
+public class CollectorSummaryDTO {
+    Long id;
+    String name;
+    String email;
+    String phone;
+    String region;
+}
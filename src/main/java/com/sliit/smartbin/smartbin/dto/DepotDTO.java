@@ -0,0 +1,19 @@
+package com.sliit.smartbin.smartbin.dto;
+
+import com.sliit.smartbin.smartbin.model.Depot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepotDTO {
+    private Long id;
+    private String name;
+    private Depot.DepotType type;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+    private Boolean active;
+}
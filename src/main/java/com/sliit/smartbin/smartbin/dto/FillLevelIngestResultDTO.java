@@ -0,0 +1,33 @@
+package com.sliit.smartbin.smartbin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a telemetry batch, with one entry per submitted reading
+ * in the same order as the request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FillLevelIngestResultDTO {
+    private int received;
+    private int accepted;
+    private int rejected;
+    private List<ItemResult> results = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private Long binId;
+        private String qrCode;
+        private boolean accepted;
+        private String reason;
+    }
+}
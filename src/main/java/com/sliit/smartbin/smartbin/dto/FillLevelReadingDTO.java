@@ -0,0 +1,21 @@
+package com.sliit.smartbin.smartbin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single sensor reading in a telemetry batch.
+ * A reading identifies its bin either by database id or by QR code.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FillLevelReadingDTO {
+    private Long binId;
+    private String qrCode;
+    private Integer fillLevel;
+    private LocalDateTime observedAt;
+}
@@ -0,0 +1,20 @@
+package com.sliit.smartbin.smartbin.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by NotificationService when a bin needs attention
+ * @param binId Bin the alert is about
+ * @param qrCode Bin QR code
+ * @param location Bin location, which collectors are matched against by region
+ * @param fillLevel Fill level in percent, or null
+ * @param overdue Whether the bin is overdue for collection rather than just full
+ * @param raisedAt Alert time
+ */
+public record BinAlertEvent(Long binId,
+                            String qrCode,
+                            String location,
+                            Integer fillLevel,
+                            boolean overdue,
+                            LocalDateTime raisedAt) {
+}
@@ -0,0 +1,35 @@
+package com.sliit.smartbin.smartbin.event;
+
+import com.sliit.smartbin.smartbin.model.Collection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by CollectionService when a collection is created, changes status or is deleted
+ * @param collectionId Collection that changed
+ * @param collectorId Collector it is assigned to
+ * @param previousStatus Status before the change, or null for a new collection
+ * @param status Status after the change, or null for a deleted collection
+ * @param collectionDate Collection date (when it was scheduled)
+ * @param completionDate When it was last completed, which is what completion counts are bucketed by;
+ *                       kept after it leaves COMPLETED, null if it never completed
+ * @param binQrCode QR code of the collected bin, or null if the bin is unknown
+ */
+public record CollectionStatusChangedEvent(Long collectionId,
+                                           Long collectorId,
+                                           Collection.CollectionStatus previousStatus,
+                                           Collection.CollectionStatus status,
+                                           LocalDateTime collectionDate,
+                                           LocalDateTime completionDate,
+                                           String binQrCode) {
+
+    public boolean becameCompleted() {
+        return status == Collection.CollectionStatus.COMPLETED
+            && previousStatus != Collection.CollectionStatus.COMPLETED;
+    }
+
+    public boolean leftCompleted() {
+        return previousStatus == Collection.CollectionStatus.COMPLETED
+            && status != Collection.CollectionStatus.COMPLETED;
+    }
+}
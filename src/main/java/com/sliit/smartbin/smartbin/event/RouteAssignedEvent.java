@@ -0,0 +1,16 @@
+package com.sliit.smartbin.smartbin.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by RouteService when a route is created for a collector in ASSIGNED status
+ * @param routeId Assigned route
+ * @param collectorId Collector it is assigned to
+ * @param routeName Route name as shown to the collector
+ * @param assignedAt Assignment time
+ */
+public record RouteAssignedEvent(Long routeId,
+                                 Long collectorId,
+                                 String routeName,
+                                 LocalDateTime assignedAt) {
+}
@@ -0,0 +1,25 @@
+package com.sliit.smartbin.smartbin.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by RouteService the first time a route is completed
+ * @param routeId Completed route
+ * @param collectorId Collector who drove it
+ * @param estimatedMinutes Planned duration, or null
+ * @param actualMinutes Measured duration, or null if the route was never started
+ * @param completedAt Completion time
+ */
+public record RouteCompletedEvent(Long routeId,
+                                  Long collectorId,
+                                  Integer estimatedMinutes,
+                                  Integer actualMinutes,
+                                  LocalDateTime completedAt) {
+
+    /**
+     * Whether both durations are known, so the route counts towards efficiency
+     */
+    public boolean isTimed() {
+        return estimatedMinutes != null && actualMinutes != null;
+    }
+}
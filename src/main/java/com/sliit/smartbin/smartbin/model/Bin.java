@@ -53,6 +53,10 @@ public class Bin {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // When the sensor observed the fill level last applied by telemetry ingestion
+    @Column(name = "last_reading_at")
+    private LocalDateTime lastReadingAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -103,13 +107,23 @@ public class Bin {
      * Determine bin status based on fill level
      */
     public void updateStatusBasedOnFillLevel() {
+        this.status = statusForFillLevel(fillLevel);
+    }
+    
+    /**
+     * Status derivation shared by entity updates and set-based writers
+     * (e.g. telemetry batches) that never load the Bin entity
+     * 
+     * @param fillLevel Fill percentage 0-100
+     * @return Status the bin should have at that fill level
+     */
+    public static BinStatus statusForFillLevel(int fillLevel) {
         if (fillLevel >= 90) {
-            this.status = BinStatus.FULL;
+            return BinStatus.FULL;
         } else if (fillLevel >= 50) {
-            this.status = BinStatus.PARTIAL;
-        } else {
-            this.status = BinStatus.EMPTY;
+            return BinStatus.PARTIAL;
         }
+        return BinStatus.EMPTY;
     }
     
     /**
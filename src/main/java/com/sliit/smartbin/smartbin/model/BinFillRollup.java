@@ -0,0 +1,49 @@
+package com.sliit.smartbin.smartbin.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fill-level samples per hour or day and bin type, from sensors, the simulation and manual updates
+ */
+@Entity
+@Table(name = "bin_fill_rollups", uniqueConstraints = @UniqueConstraint(
+    name = "uk_bin_fill_rollups_bucket",
+    columnNames = {"granularity", "bucket_start", "bin_type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BinFillRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "bin_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Bin.BinType binType;
+    
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+    
+    @Column(name = "fill_level_sum", nullable = false)
+    private Long fillLevelSum;
+    
+    @Column(name = "max_fill_level", nullable = false)
+    private Integer maxFillLevel;
+    
+    // Samples at or above the FULL threshold
+    @Column(name = "full_sample_count", nullable = false)
+    private Long fullSampleCount;
+}
@@ -1,11 +1,14 @@
 package com.sliit.smartbin.smartbin.model;
 
+import com.sliit.smartbin.smartbin.util.GeoHash;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "bulk_requests")
+@Table(name = "bulk_requests", indexes = {
+    @Index(name = "idx_bulk_requests_geohash", columnList = "geohash")
+})
 public class BulkRequest {
     
     @Id
@@ -41,6 +44,10 @@ public class BulkRequest {
     @Column(name = "longitude")
     private Double longitude;
     
+    // Derived from latitude/longitude on every persist/update; used for indexed proximity lookups
+    @Column(name = "geohash", length = GeoHash.STORED_PRECISION)
+    private String geohash;
+    
     @Column(name = "estimated_weight")
     private Double estimatedWeight;
     
@@ -126,10 +133,23 @@ public class BulkRequest {
         this.totalAmount = this.basePrice + this.processingFee + this.taxAmount;
     }
     
+    // Keep geohash in step with the coordinates on insert
+    @PrePersist
+    public void prePersist() {
+        updateGeohash();
+    }
+    
     // Update timestamp before persisting
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        updateGeohash();
+    }
+    
+    private void updateGeohash() {
+        this.geohash = (latitude != null && longitude != null)
+            ? GeoHash.encode(latitude, longitude, GeoHash.STORED_PRECISION)
+            : null;
     }
     
     // Getters and Setters
@@ -213,6 +233,14 @@ public class BulkRequest {
         this.longitude = longitude;
     }
     
+    public String getGeohash() {
+        return geohash;
+    }
+    
+    public void setGeohash(String geohash) {
+        this.geohash = geohash;
+    }
+    
     public Double getEstimatedWeight() {
         return estimatedWeight;
     }
@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "collections")
+@Table(name = "collections", indexes = {
+    @Index(name = "idx_collections_date_type_status", columnList = "collection_date, collection_type, status"),
+    @Index(name = "idx_collections_completion_date", columnList = "completion_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
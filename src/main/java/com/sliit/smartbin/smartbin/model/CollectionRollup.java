@@ -0,0 +1,57 @@
+package com.sliit.smartbin.smartbin.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of collections per hour or day, keyed by collector, region, bin type,
+ * collection type and status. Bucketed on collection_date.
+ */
+@Entity
+@Table(name = "collection_rollups", uniqueConstraints = @UniqueConstraint(
+    name = "uk_collection_rollups_bucket",
+    columnNames = {"granularity", "bucket_start", "collector_id", "region", "bin_type", "collection_type", "status"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "collector_id", nullable = false)
+    private Long collectorId;
+    
+    @Column(nullable = false)
+    private String region;
+    
+    @Column(name = "bin_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Bin.BinType binType;
+    
+    @Column(name = "collection_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Collection.CollectionType collectionType;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Collection.CollectionStatus status;
+    
+    @Column(name = "collection_count", nullable = false)
+    private Long collectionCount;
+    
+    @Column(name = "waste_level_sum", nullable = false)
+    private Long wasteLevelSum;
+}
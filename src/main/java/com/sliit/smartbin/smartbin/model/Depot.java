@@ -0,0 +1,71 @@
+package com.sliit.smartbin.smartbin.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A fixed site collection trucks leave from or unload at
+ */
+@Entity
+@Table(name = "depots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Depot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DepotType type;
+    
+    private String address;
+    
+    @Column(nullable = false)
+    private Double latitude;
+    
+    @Column(nullable = false)
+    private Double longitude;
+    
+    @Column(nullable = false)
+    private Boolean active = true;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    public enum DepotType {
+        YARD,              // Where trucks are parked and start their shift
+        TRANSFER_STATION,  // Where loads are consolidated before disposal
+        DISPOSAL_SITE      // Landfill or processing plant
+    }
+    
+    /**
+     * Whether trucks can unload here at the end of a route
+     */
+    public boolean acceptsWaste() {
+        return type == DepotType.TRANSFER_STATION || type == DepotType.DISPOSAL_SITE;
+    }
+}
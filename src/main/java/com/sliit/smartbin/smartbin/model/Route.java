@@ -34,6 +34,16 @@ public class Route {
     @Enumerated(EnumType.STRING)
     private RouteStatus status;
     
+    // Where the truck leaves from; null for routes planned without a depot
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "start_depot_id")
+    private Depot startDepot;
+    
+    // Where the truck finishes: the start depot, a disposal site, or null for an open route
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "end_depot_id")
+    private Depot endDepot;
+    
     @Column(name = "assigned_date")
     private LocalDateTime assignedDate;
     
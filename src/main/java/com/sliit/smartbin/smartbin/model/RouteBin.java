@@ -36,6 +36,13 @@ public class RouteBin {
     @Column(name = "visited_date")
     private LocalDateTime visitedDate;
     
+    /**
+     * Straight-line distance to the next stop in sequence, 0 for the last one;
+     * written with the stops so route status reads do not recompute it
+     */
+    @Column(name = "distance_to_next_km")
+    private Double distanceToNextKm;
+    
     @Column(name = "notes")
     private String notes;
     
@@ -0,0 +1,54 @@
+package com.sliit.smartbin.smartbin.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Completed routes per hour or day, keyed by collector and region. Bucketed on completed_date.
+ */
+@Entity
+@Table(name = "route_rollups", uniqueConstraints = @UniqueConstraint(
+    name = "uk_route_rollups_bucket",
+    columnNames = {"granularity", "bucket_start", "collector_id", "region"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(name = "collector_id", nullable = false)
+    private Long collectorId;
+    
+    @Column(nullable = false)
+    private String region;
+    
+    @Column(name = "route_count", nullable = false)
+    private Long routeCount;
+    
+    // Durations only count routes that have both an estimate and an actual time
+    @Column(name = "timed_route_count", nullable = false)
+    private Long timedRouteCount;
+    
+    @Column(name = "estimated_minutes_sum", nullable = false)
+    private Long estimatedMinutesSum;
+    
+    @Column(name = "actual_minutes_sum", nullable = false)
+    private Long actualMinutesSum;
+    
+    @Column(name = "distance_km_sum", nullable = false)
+    private Double distanceKmSum;
+}
@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_role", columnList = "role"),
+    @Index(name = "idx_users_region", columnList = "region")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,36 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.BinFillRollup;
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads over bin_fill_rollups; rows are written by RollupService with JDBC.
+ * All ranges are [from, to) on bucket_start.
+ */
+@Repository
+public interface BinFillRollupRepository extends JpaRepository<BinFillRollup, Long> {
+    
+    @Query("SELECT f.bucketStart AS bucketStart, SUM(f.sampleCount) AS sampleCount, " +
+           "SUM(f.fillLevelSum) AS fillLevelSum FROM BinFillRollup f " +
+           "WHERE f.granularity = :granularity AND f.bucketStart >= :from AND f.bucketStart < :to " +
+           "GROUP BY f.bucketStart")
+    List<FillBucketTotals> sumByBucket(@Param("granularity") RollupGranularity granularity,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+    
+    /**
+     * Fill-level samples across bin types for one bucket
+     */
+    interface FillBucketTotals {
+        LocalDateTime getBucketStart();
+        Long getSampleCount();
+        Long getFillLevelSum();
+    }
+}
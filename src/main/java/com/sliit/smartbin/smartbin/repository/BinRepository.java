@@ -30,5 +30,38 @@ public interface BinRepository extends JpaRepository<Bin, Long> {
     
     @Query("SELECT b FROM Bin b WHERE b.fillLevel > :threshold")
     List<Bin> findBinsWithHighFillLevel(@Param("threshold") Integer threshold);
-}
+    
+    @Query("SELECT b.id AS id, b.qrCode AS qrCode, b.binType AS binType FROM Bin b WHERE b.id IN :ids")
+    List<BinKey> findKeysByIdIn(@Param("ids") List<Long> ids);
+    
+    @Query("SELECT b.id AS id, b.qrCode AS qrCode, b.binType AS binType FROM Bin b WHERE b.qrCode IN :qrCodes")
+    List<BinKey> findKeysByQrCodeIn(@Param("qrCodes") List<String> qrCodes);
+    
+    /**
+     * Bin count, alerted count and fill-level sum per status, in one grouped scan
+     */
+    @Query("SELECT b.status AS status, COUNT(b) AS binCount, " +
+           "SUM(CASE WHEN b.alertFlag = true THEN 1 ELSE 0 END) AS alertedCount, " +
+           "SUM(b.fillLevel) AS fillLevelSum FROM Bin b GROUP BY b.status")
+    List<BinStatusSummary> summarizeByStatus();
+    
+    /**
+     * Lightweight id/QR code pair used to resolve sensor readings
+     * without loading full Bin entities
+     */
+    interface BinKey {
+        Long getId();
+        String getQrCode();
+        Bin.BinType getBinType();
+    }
 
+    /**
+     * One row of summarizeByStatus
+     */
+    interface BinStatusSummary {
+        Bin.BinStatus getStatus();
+        Long getBinCount();
+        Long getAlertedCount();
+        Long getFillLevelSum();
+    }
+}
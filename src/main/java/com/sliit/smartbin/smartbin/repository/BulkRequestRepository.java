@@ -10,11 +10,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BulkRequestRepository extends JpaRepository<BulkRequest, Long> {
+public interface BulkRequestRepository extends JpaRepository<BulkRequest, Long>, BulkRequestRepositoryCustom {
     
     // Find by request ID
     Optional<BulkRequest> findByRequestId(String requestId);
@@ -67,13 +68,7 @@ public interface BulkRequestRepository extends JpaRepository<BulkRequest, Long>
     @Query("SELECT br FROM BulkRequest br WHERE br.paymentStatus = 'PENDING' AND br.createdAt < :expiryDate")
     List<BulkRequest> findExpiredPaymentRequests(@Param("expiryDate") LocalDateTime expiryDate);
     
-    // Find requests by location (within radius)
-    @Query("SELECT br FROM BulkRequest br WHERE " +
-           "6371 * acos(cos(radians(:lat)) * cos(radians(br.latitude)) * " +
-           "cos(radians(br.longitude) - radians(:lng)) + " +
-           "sin(radians(:lat)) * sin(radians(br.latitude))) <= :radius " +
-           "ORDER BY br.createdAt DESC")
-    List<BulkRequest> findRequestsByLocation(@Param("lat") double latitude, 
-                                           @Param("lng") double longitude, 
-                                           @Param("radius") double radiusKm);
+    // Load refined geo-query hits together with their user
+    @Query("SELECT br FROM BulkRequest br JOIN FETCH br.user WHERE br.id IN :ids")
+    List<BulkRequest> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
 }
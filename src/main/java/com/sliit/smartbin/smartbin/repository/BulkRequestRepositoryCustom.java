@@ -0,0 +1,41 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.BulkRequestStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queries on BulkRequest that need a dynamically built predicate
+ */
+public interface BulkRequestRepositoryCustom {
+
+    /**
+     * Find the coordinates of requests whose geohash starts with any of the given prefixes.
+     * Each run of adjacent prefixes becomes one indexed BETWEEN range, and the lookup
+     * reads three columns instead of hydrating entities.
+     * @param geohashPrefixes Cell prefixes; empty means every request with coordinates
+     * @param statuses Statuses to include; null or empty means any status
+     * @return Id and coordinates of each matching request
+     */
+    List<GeoCandidate> findCandidatesInGeohashCells(List<String> geohashPrefixes, List<BulkRequestStatus> statuses);
+
+    /**
+     * Id and coordinates of requests that have coordinates but no geohash yet, lowest ids first
+     * @param limit Maximum number of requests to return
+     */
+    List<GeoCandidate> findCandidatesMissingGeohash(int limit);
+
+    /**
+     * Set only the geohash column of the given requests in one JDBC batch. Entity callbacks
+     * do not run, so updatedAt is left as it was.
+     * @param geohashById Geohash to store, keyed by request id
+     */
+    void updateGeohashes(Map<Long, String> geohashById);
+
+    /**
+     * Id and coordinates of a bulk request, used for distance refinement before loading the entity
+     */
+    record GeoCandidate(Long id, Double latitude, Double longitude) {
+    }
+}
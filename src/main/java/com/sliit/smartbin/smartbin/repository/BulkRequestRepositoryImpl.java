@@ -0,0 +1,89 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.BulkRequestStatus;
+import com.sliit.smartbin.smartbin.util.GeoHash;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Data fragment implementation for BulkRequestRepositoryCustom
+ */
+public class BulkRequestRepositoryImpl implements BulkRequestRepositoryCustom {
+
+    private static final String CANDIDATE_SELECT =
+        "SELECT br.id, br.latitude, br.longitude FROM BulkRequest br WHERE ";
+
+    private static final String UPDATE_GEOHASH_SQL = "UPDATE bulk_requests SET geohash = ? WHERE id = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BulkRequestRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<GeoCandidate> findCandidatesInGeohashCells(List<String> geohashPrefixes,
+                                                           List<BulkRequestStatus> statuses) {
+        boolean filterStatus = statuses != null && !statuses.isEmpty();
+        String statusClause = filterStatus ? " AND br.status IN :statuses" : "";
+        List<String[]> ranges = geohashPrefixes == null ? List.of() : GeoHash.mergedRanges(geohashPrefixes);
+
+        // One UNION ALL branch per range: planners serve a single BETWEEN from the index,
+        // while an OR of several ranges often falls back to a table scan
+        StringBuilder jpql = new StringBuilder();
+        if (ranges.isEmpty()) {
+            jpql.append(CANDIDATE_SELECT).append("br.geohash IS NOT NULL").append(statusClause);
+        } else {
+            for (int i = 0; i < ranges.size(); i++) {
+                if (i > 0) {
+                    jpql.append(" UNION ALL ");
+                }
+                jpql.append(CANDIDATE_SELECT)
+                    .append("br.geohash BETWEEN :lo").append(i).append(" AND :hi").append(i)
+                    .append(statusClause);
+            }
+        }
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        for (int i = 0; i < ranges.size(); i++) {
+            query.setParameter("lo" + i, ranges.get(i)[0]);
+            query.setParameter("hi" + i, ranges.get(i)[1]);
+        }
+        if (filterStatus) {
+            query.setParameter("statuses", statuses);
+        }
+        return query.getResultList().stream()
+            .map(row -> new GeoCandidate((Long) row[0], (Double) row[1], (Double) row[2]))
+            .toList();
+    }
+
+    @Override
+    public List<GeoCandidate> findCandidatesMissingGeohash(int limit) {
+        return entityManager.createQuery("SELECT br.id, br.latitude, br.longitude FROM BulkRequest br " +
+                                         "WHERE br.geohash IS NULL AND br.latitude IS NOT NULL " +
+                                         "AND br.longitude IS NOT NULL ORDER BY br.id", Object[].class)
+            .setMaxResults(limit)
+            .getResultList().stream()
+            .map(row -> new GeoCandidate((Long) row[0], (Double) row[1], (Double) row[2]))
+            .toList();
+    }
+
+    @Override
+    public void updateGeohashes(Map<Long, String> geohashById) {
+        if (geohashById.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(geohashById.size());
+        geohashById.forEach((id, geohash) -> batchArgs.add(new Object[] {geohash, id}));
+        jdbcTemplate.batchUpdate(UPDATE_GEOHASH_SQL, batchArgs);
+    }
+}
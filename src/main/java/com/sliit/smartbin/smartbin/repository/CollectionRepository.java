@@ -29,5 +29,83 @@ public interface CollectionRepository extends JpaRepository<Collection, Long> {
     
     @Query("SELECT c FROM Collection c WHERE c.status = 'ASSIGNED' AND c.collector = :collector")
     List<Collection> findAssignedCollectionsByCollector(@Param("collector") User collector);
+    
+    /**
+     * Collection totals and completions for every collector with collections
+     */
+    @Query("SELECT c.collector.id AS collectorId, COUNT(c) AS totalCount, " +
+           "SUM(CASE WHEN c.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedCount " +
+           "FROM Collection c GROUP BY c.collector.id")
+    List<CollectorCollectionStats> summarizeByCollector();
+    
+    /**
+     * Collections per collector with a collection date in [start, end]
+     */
+    @Query("SELECT c.collector.id AS collectorId, COUNT(c) AS total FROM Collection c " +
+           "WHERE c.collectionDate BETWEEN :start AND :end GROUP BY c.collector.id")
+    List<CollectorCount> countByCollectorBetween(@Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+    
+    /**
+     * Completed collections of one collector completed after the given time, oldest first
+     */
+    @Query("SELECT c.id AS id, b.qrCode AS binQrCode, c.completionDate AS completionDate " +
+           "FROM Collection c JOIN c.bin b WHERE c.collector.id = :collectorId AND c.status = 'COMPLETED' " +
+           "AND c.completionDate > :since ORDER BY c.completionDate")
+    List<CompletedCollection> findCompletedSince(@Param("collectorId") Long collectorId,
+                                                 @Param("since") LocalDateTime since);
+    
+    /**
+     * Collector and completion time of every collection completed in [start, end)
+     */
+    @Query("SELECT c.collector.id AS collectorId, c.completionDate AS completionDate FROM Collection c " +
+           "WHERE c.status = 'COMPLETED' AND c.completionDate >= :start AND c.completionDate < :end")
+    List<CompletionTime> findCompletionsBetween(@Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end);
+    
+    @Query("SELECT MAX(c.createdAt) FROM Collection c WHERE c.status = 'COMPLETED'")
+    LocalDateTime findLatestCompletedCreatedAt();
+    
+    /**
+     * Collection count for one type and status
+     */
+    interface TypeStatusCount {
+        Collection.CollectionType getCollectionType();
+        Collection.CollectionStatus getStatus();
+        Long getCollectionCount();
+    }
+    
+    /**
+     * One row of summarizeByCollector
+     */
+    interface CollectorCollectionStats {
+        Long getCollectorId();
+        Long getTotalCount();
+        Long getCompletedCount();
+    }
+    
+    /**
+     * One row of findCompletedSince
+     */
+    interface CompletedCollection {
+        Long getId();
+        String getBinQrCode();
+        LocalDateTime getCompletionDate();
+    }
+    
+    /**
+     * One row of findCompletionsBetween
+     */
+    interface CompletionTime {
+        Long getCollectorId();
+        LocalDateTime getCompletionDate();
+    }
+    
+    /**
+     * One row of countByCollectorBetween
+     */
+    interface CollectorCount {
+        Long getCollectorId();
+        Long getTotal();
+    }
 }
-
@@ -0,0 +1,26 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.CollectionRollup;
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads over collection_rollups; rows are written by RollupService with JDBC.
+ * All ranges are [from, to) on bucket_start.
+ */
+@Repository
+public interface CollectionRollupRepository extends JpaRepository<CollectionRollup, Long> {
+    
+    @Query("SELECT r.collectionType AS collectionType, r.status AS status, SUM(r.collectionCount) AS collectionCount " +
+           "FROM CollectionRollup r WHERE r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.collectionType, r.status")
+    List<CollectionRepository.TypeStatusCount> countByTypeAndStatus(@Param("granularity") RollupGranularity granularity,
+                                                                    @Param("from") LocalDateTime from,
+                                                                    @Param("to") LocalDateTime to);
+}
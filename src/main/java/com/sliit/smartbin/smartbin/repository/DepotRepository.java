@@ -0,0 +1,16 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.Depot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DepotRepository extends JpaRepository<Depot, Long> {
+    
+    List<Depot> findByActiveTrue();
+    
+    List<Depot> findByTypeInAndActiveTrue(Collection<Depot.DepotType> types);
+}
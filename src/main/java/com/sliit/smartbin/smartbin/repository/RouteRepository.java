@@ -1,14 +1,19 @@
 package com.sliit.smartbin.smartbin.repository;
 
+import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.RouteBin;
 import com.sliit.smartbin.smartbin.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RouteRepository extends JpaRepository<Route, Long> {
@@ -19,6 +24,14 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
     
     List<Route> findByStatus(Route.RouteStatus status);
     
+    /**
+     * Load a route and hold its row lock until the transaction ends, so writers
+     * that read and then rewrite its stops run one after the other
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Route r WHERE r.id = :id")
+    Optional<Route> findByIdForUpdate(@Param("id") Long id);
+    
     @Query("SELECT r FROM Route r WHERE r.collector = :collector AND r.assignedDate BETWEEN :startDate AND :endDate")
     List<Route> findByCollectorAndDateRange(@Param("collector") User collector, 
                                           @Param("startDate") LocalDateTime startDate, 
@@ -29,5 +42,147 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
     
     @Query("SELECT r FROM Route r WHERE r.status = 'IN_PROGRESS' AND r.collector = :collector")
     List<Route> findActiveRoutesByCollector(@Param("collector") User collector);
+    
+    /**
+     * Route totals, completions and average durations for every collector with routes
+     */
+    @Query("SELECT r.collector.id AS collectorId, COUNT(r) AS totalCount, " +
+           "SUM(CASE WHEN r.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedCount, " +
+           "AVG(r.actualDurationMinutes) AS avgActualDuration, " +
+           "AVG(r.estimatedDurationMinutes) AS avgEstimatedDuration " +
+           "FROM Route r GROUP BY r.collector.id")
+    List<CollectorRouteStats> summarizeByCollector();
+    
+    /**
+     * Route counts by status for every collector with routes; completedToday counts
+     * completions in [dayStart, dayEnd)
+     */
+    @Query("SELECT r.collector.id AS collectorId, COUNT(r) AS totalCount, " +
+           "SUM(CASE WHEN r.status = 'ASSIGNED' THEN 1 ELSE 0 END) AS assignedCount, " +
+           "SUM(CASE WHEN r.status = 'IN_PROGRESS' THEN 1 ELSE 0 END) AS inProgressCount, " +
+           "SUM(CASE WHEN r.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedCount, " +
+           "SUM(CASE WHEN r.status = 'COMPLETED' AND r.completedDate >= :dayStart AND r.completedDate < :dayEnd " +
+           "THEN 1 ELSE 0 END) AS completedTodayCount " +
+           "FROM Route r GROUP BY r.collector.id")
+    List<CollectorWorkload> summarizeWorkloadByCollector(@Param("dayStart") LocalDateTime dayStart,
+                                                         @Param("dayEnd") LocalDateTime dayEnd);
+    
+    /**
+     * Assigned and in-progress routes with their bin counts, ordered by id
+     */
+    @Query("SELECT r.id AS id, r.collector.id AS collectorId, r.routeName AS routeName, r.status AS status, " +
+           "r.assignedDate AS assignedDate, r.startedDate AS startedDate, r.totalDistanceKm AS totalDistanceKm, " +
+           "r.estimatedDurationMinutes AS estimatedDurationMinutes, COUNT(rb) AS binCount " +
+           "FROM Route r LEFT JOIN r.routeBins rb WHERE r.status = 'ASSIGNED' OR r.status = 'IN_PROGRESS' " +
+           "GROUP BY r.id, r.collector.id, r.routeName, r.status, r.assignedDate, r.startedDate, " +
+           "r.totalDistanceKm, r.estimatedDurationMinutes ORDER BY r.id")
+    List<OpenRouteSummary> findOpenRouteSummaries();
+    
+    /**
+     * Every route of one collector with its stops and their bins, one row per stop
+     * (one row with null stop fields for a route without stops), by route id and
+     * stop sequence
+     */
+    @Query("SELECT r.id AS routeId, r.routeName AS routeName, r.status AS routeStatus, r.startedDate AS startedDate, " +
+           "rb.sequenceOrder AS sequenceOrder, rb.status AS stopStatus, rb.distanceToNextKm AS distanceToNextKm, " +
+           "b.qrCode AS qrCode, b.location AS location, b.status AS binStatus, b.fillLevel AS fillLevel, " +
+           "b.binType AS binType, b.latitude AS latitude, b.longitude AS longitude " +
+           "FROM Route r LEFT JOIN r.routeBins rb LEFT JOIN rb.bin b " +
+           "WHERE r.collector.id = :collectorId ORDER BY r.id, rb.sequenceOrder")
+    List<RouteStopRow> findStopRowsByCollector(@Param("collectorId") Long collectorId);
+    
+    /**
+     * One row of findStopRowsByCollector
+     */
+    interface RouteStopRow {
+        Long getRouteId();
+        String getRouteName();
+        Route.RouteStatus getRouteStatus();
+        LocalDateTime getStartedDate();
+        Integer getSequenceOrder();
+        RouteBin.CollectionStatus getStopStatus();
+        Double getDistanceToNextKm();
+        String getQrCode();
+        String getLocation();
+        Bin.BinStatus getBinStatus();
+        Integer getFillLevel();
+        Bin.BinType getBinType();
+        Double getLatitude();
+        Double getLongitude();
+    }
+    
+    /**
+     * Row counts and latest write times behind findStopRowsByCollector; they change
+     * whenever any route, stop or bin in its result does
+     */
+    @Query("SELECT COUNT(DISTINCT r) AS routeCount, COUNT(rb) AS stopCount, MAX(r.updatedAt) AS routeUpdatedAt, " +
+           "MAX(rb.updatedAt) AS stopUpdatedAt, MAX(b.updatedAt) AS binUpdatedAt " +
+           "FROM Route r LEFT JOIN r.routeBins rb LEFT JOIN rb.bin b WHERE r.collector.id = :collectorId")
+    RouteStatusVersion findStatusVersionByCollector(@Param("collectorId") Long collectorId);
+    
+    /**
+     * Result of findStatusVersionByCollector
+     */
+    interface RouteStatusVersion {
+        Long getRouteCount();
+        Long getStopCount();
+        LocalDateTime getRouteUpdatedAt();
+        LocalDateTime getStopUpdatedAt();
+        LocalDateTime getBinUpdatedAt();
+    }
+    
+    /**
+     * Routes assigned to one collector after the given time, oldest first
+     */
+    @Query("SELECT r.id AS id, r.routeName AS routeName, r.assignedDate AS assignedDate FROM Route r " +
+           "WHERE r.collector.id = :collectorId AND r.assignedDate > :since ORDER BY r.assignedDate")
+    List<RouteAssignment> findAssignmentsSince(@Param("collectorId") Long collectorId,
+                                               @Param("since") LocalDateTime since);
+    
+    /**
+     * One row of findAssignmentsSince
+     */
+    interface RouteAssignment {
+        Long getId();
+        String getRouteName();
+        LocalDateTime getAssignedDate();
+    }
+    
+    /**
+     * One row of summarizeWorkloadByCollector
+     */
+    interface CollectorWorkload {
+        Long getCollectorId();
+        Long getTotalCount();
+        Long getAssignedCount();
+        Long getInProgressCount();
+        Long getCompletedCount();
+        Long getCompletedTodayCount();
+    }
+    
+    /**
+     * One row of findOpenRouteSummaries
+     */
+    interface OpenRouteSummary {
+        Long getId();
+        Long getCollectorId();
+        String getRouteName();
+        Route.RouteStatus getStatus();
+        LocalDateTime getAssignedDate();
+        LocalDateTime getStartedDate();
+        Double getTotalDistanceKm();
+        Integer getEstimatedDurationMinutes();
+        Long getBinCount();
+    }
+    
+    /**
+     * One row of summarizeByCollector; averages are null when no route has the duration set
+     */
+    interface CollectorRouteStats {
+        Long getCollectorId();
+        Long getTotalCount();
+        Long getCompletedCount();
+        Double getAvgActualDuration();
+        Double getAvgEstimatedDuration();
+    }
 }
-
@@ -0,0 +1,39 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+import com.sliit.smartbin.smartbin.model.RouteRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads over route_rollups; rows are written by RollupService with JDBC.
+ * All ranges are [from, to) on bucket_start.
+ */
+@Repository
+public interface RouteRollupRepository extends JpaRepository<RouteRollup, Long> {
+    
+    @Query("SELECT r.bucketStart AS bucketStart, SUM(r.routeCount) AS routeCount, " +
+           "SUM(r.timedRouteCount) AS timedRouteCount, SUM(r.estimatedMinutesSum) AS estimatedMinutesSum, " +
+           "SUM(r.actualMinutesSum) AS actualMinutesSum FROM RouteRollup r " +
+           "WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "GROUP BY r.bucketStart")
+    List<RouteBucketTotals> sumByBucket(@Param("granularity") RollupGranularity granularity,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+    
+    /**
+     * Completed-route totals for one bucket
+     */
+    interface RouteBucketTotals {
+        LocalDateTime getBucketStart();
+        Long getRouteCount();
+        Long getTimedRouteCount();
+        Long getEstimatedMinutesSum();
+        Long getActualMinutesSum();
+    }
+}
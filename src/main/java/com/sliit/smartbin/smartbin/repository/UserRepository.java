@@ -2,8 +2,11 @@ package com.sliit.smartbin.smartbin.repository;
 
 import com.sliit.smartbin.smartbin.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +14,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndRole(String email, User.UserRole role);
     boolean existsByEmail(String email);
+    List<User> findByRole(User.UserRole role);
+    List<User> findByRegion(String region);
+
+    @Query("SELECT u.id AS id, u.name AS name FROM User u WHERE u.role = :role")
+    List<UserName> findNamesByRole(@Param("role") User.UserRole role);
+
+    @Query("SELECT u.id AS id, u.name AS name, u.email AS email, u.phone AS phone, u.region AS region " +
+           "FROM User u WHERE u.role = :role ORDER BY u.name")
+    List<UserSummary> findSummariesByRole(@Param("role") User.UserRole role);
+
+    @Query("SELECT u.role AS role, COUNT(u) AS userCount FROM User u GROUP BY u.role")
+    List<RoleCount> countByRole();
+
+    /**
+     * Id and display name, without loading the rest of the user
+     */
+    interface UserName {
+        Long getId();
+        String getName();
+    }
+
+    /**
+     * Contact details and region, without the password or associations
+     */
+    interface UserSummary {
+        Long getId();
+        String getName();
+        String getEmail();
+        String getPhone();
+        String getRegion();
+    }
+
+    /**
+     * One row of countByRole
+     */
+    interface RoleCount {
+        User.UserRole getRole();
+        Long getUserCount();
+    }
 }
 
@@ -0,0 +1,79 @@
+package com.sliit.smartbin.smartbin.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a slow PasswordEncoder (BCrypt) on its own fixed pool.
+ *
+ * At most threads hashes run at once, and at most maxPending calls may be running
+ * or queued. Callers beyond that get a RejectedExecutionException straight away,
+ * so a burst of logins is turned away instead of tying up every request thread
+ * on CPU-bound hashing.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Semaphore admissions;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int maxPending) {
+        if (threads <= 0 || maxPending <= 0) {
+            throw new IllegalArgumentException("Password hashing threads and pending limit must be positive");
+        }
+        this.delegate = delegate;
+        this.admissions = new Semaphore(maxPending);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        if (!admissions.tryAcquire()) {
+            throw new RejectedExecutionException("Too many password checks in progress, please retry shortly");
+        }
+        try {
+            return executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password check failed", e.getCause());
+        } finally {
+            admissions.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
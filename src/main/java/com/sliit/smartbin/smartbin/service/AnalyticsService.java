@@ -0,0 +1,37 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.event.RouteCompletedEvent;
+
+import java.util.Map;
+
+/**
+ * Live dashboard analytics kept in memory as time-bucketed counters.
+ *
+ * Counters are seeded from the rollup tables at startup and then follow the
+ * collection and route events, so serving the analytics never touches
+ * collection or route history.
+ */
+public interface AnalyticsService {
+
+    /**
+     * Analytics for the authority dashboard
+     * @return collectionTrends, collectorPerformance (labels and data), binStatus and routeEfficiency
+     */
+    Map<String, Object> getAnalytics();
+
+    /**
+     * Count a collection entering or leaving COMPLETED
+     */
+    void onCollectionStatusChanged(CollectionStatusChangedEvent event);
+
+    /**
+     * Count a completed route towards its day's efficiency
+     */
+    void onRouteCompleted(RouteCompletedEvent event);
+
+    /**
+     * Reset all counters and load them from the rollup tables
+     */
+    void seed();
+}
@@ -16,6 +16,7 @@ public interface BinService {
     List<Bin> findAlertedBins();
     List<Bin> findOverdueBins();
     List<Bin> findNearbyBins(Double latitude, Double longitude, Double radiusKm);
+    List<Bin> findNearestBins(Double latitude, Double longitude, int limit);
     Bin updateBinStatus(Long binId, Bin.BinStatus status, Integer fillLevel);
     Bin updateBinFillLevel(Long binId, Integer fillLevel);
     void deleteBin(Long id);
@@ -111,4 +111,10 @@ public interface BulkRequestService {
     
     // Schedule and notify pickup
     BulkRequestDTO scheduleAndNotifyPickup(Long requestId, LocalDateTime scheduledDate, Long collectorId);
+    
+    // Get requests within a radius, nearest first (geohash prefilter + exact distance)
+    List<BulkRequestDTO> getRequestsNearLocation(double latitude, double longitude, double radiusKm);
+    
+    // Get the open pickups (paid, assigned or scheduled) closest to a point
+    List<BulkRequestDTO> getNearestPendingPickups(double latitude, double longitude, int limit);
 }
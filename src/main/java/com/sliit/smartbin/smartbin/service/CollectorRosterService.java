@@ -0,0 +1,26 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+
+import java.util.List;
+
+/**
+ * Cached list of all collectors, for pages and endpoints that only need their
+ * names, contact details and regions.
+ *
+ * The roster is loaded with one role-indexed query and kept until a user is
+ * saved, registered or deleted through UserService, or until it expires.
+ */
+public interface CollectorRosterService {
+
+    /**
+     * All collectors ordered by name
+     * @return Unmodifiable list of collector summaries
+     */
+    List<CollectorSummaryDTO> getCollectors();
+
+    /**
+     * Drop the cached roster once the current transaction commits (or now, outside one)
+     */
+    void invalidate();
+}
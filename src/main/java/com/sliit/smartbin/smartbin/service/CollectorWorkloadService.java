@@ -0,0 +1,21 @@
+package com.sliit.smartbin.smartbin.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-collector workload for the authority collectors API: route counts by
+ * status, today's completions and collections, completion rate, and the open
+ * routes each collector holds.
+ *
+ * The whole list is built from the collector roster and three grouped queries,
+ * however many collectors there are, and reused for a few seconds.
+ */
+public interface CollectorWorkloadService {
+
+    /**
+     * Workload of every collector, in roster order
+     * @return One map per collector, shaped for the /authority/api/collectors response
+     */
+    List<Map<String, Object>> getCollectorWorkloads();
+}
@@ -0,0 +1,27 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.DepotDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DepotService {
+    Depot createDepot(DepotDTO depotDTO);
+    Optional<Depot> findById(Long id);
+    List<Depot> findActiveDepots();
+
+    /**
+     * Turn a route request's depot choices into the anchors the optimizer keeps fixed.
+     * Missing depot ids are filled with the active yard or disposal site nearest the
+     * bins' centroid; with no yards configured the route has no start depot.
+     * @param options Requested depots and tour type
+     * @param bins Bins on the route, used to pick the nearest depots
+     * @return Start and end anchors
+     * @throws IllegalArgumentException for unknown, inactive or unsuitable depots
+     */
+    RouteEnds resolveEnds(TourOptions options, List<Bin> bins);
+}
@@ -2,57 +2,147 @@ package com.sliit.smartbin.smartbin.service;
 
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.repository.BinRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for dynamic bin data updates
  * Updates bin fill levels and statuses every 30 seconds
+ * 
+ * Each tick walks the bins table in id-ordered chunks (keyset paging) and
+ * writes every chunk back as one JDBC batch, so neither the persistence
+ * context nor the heap ever holds the whole table. Tick duration and rows
+ * updated are published to Actuator under smartbin.bins.simulation.*.
  */
 @Service
 public class DynamicDataService {
 
-    @Autowired
-    private BinRepository binRepository;
+    private static final Logger logger = LoggerFactory.getLogger(DynamicDataService.class);
+
+    private static final String SELECT_CHUNK_SQL =
+        "SELECT id, fill_level, last_emptied, bin_type FROM bins WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_BIN_SQL =
+        "UPDATE bins SET fill_level = ?, status = ?, alert_flag = ?, updated_at = ? WHERE id = ?";
+
+    private final BinRepository binRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RollupService rollupService;
+    private final int chunkSize;
+
+    private final Timer tickTimer;
+    private final Counter rowsUpdatedCounter;
+    private final AtomicLong lastTickRows = new AtomicLong();
 
     private final Random random = new Random();
 
+    public DynamicDataService(BinRepository binRepository,
+                              JdbcTemplate jdbcTemplate,
+                              RollupService rollupService,
+                              MeterRegistry meterRegistry,
+                              @Value("${smartbin.simulation.chunk-size:1000}") int chunkSize) {
+        this.binRepository = binRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupService = rollupService;
+        this.chunkSize = chunkSize;
+        this.tickTimer = Timer.builder("smartbin.bins.simulation.tick")
+            .description("Duration of one simulated fill-level update tick")
+            .register(meterRegistry);
+        this.rowsUpdatedCounter = Counter.builder("smartbin.bins.simulation.rows.updated")
+            .description("Bin rows written by the fill-level simulation")
+            .register(meterRegistry);
+        meterRegistry.gauge("smartbin.bins.simulation.rows.last.tick", lastTickRows);
+    }
+
     /**
      * Update bin data every 30 seconds
      * This simulates real-time bin monitoring
      */
     @Scheduled(fixedRate = 30000) // 30 seconds
     public void updateBinData() {
-        List<Bin> bins = binRepository.findAll();
-        
-        if (bins.isEmpty()) {
-            System.out.println("No bins found in database. Initializing sample data...");
+        if (binRepository.count() == 0) {
+            logger.info("No bins found in database. Initializing sample data...");
             initializeSampleData();
             return;
         }
 
-        System.out.println("Updating " + bins.size() + " bins with dynamic data...");
-        
-        for (Bin bin : bins) {
-            updateBinFillLevel(bin);
-            updateBinStatus(bin);
-            binRepository.save(bin);
+        long started = System.nanoTime();
+        long updated = 0;
+        long lastId = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        while (true) {
+            List<BinFillRow> chunk = jdbcTemplate.query(SELECT_CHUNK_SQL,
+                (rs, rowNum) -> {
+                    Timestamp lastEmptied = rs.getTimestamp("last_emptied");
+                    String binType = rs.getString("bin_type");
+                    return new BinFillRow(
+                        rs.getLong("id"),
+                        rs.getInt("fill_level"),
+                        lastEmptied != null ? lastEmptied.toLocalDateTime() : null,
+                        binType != null ? Bin.BinType.valueOf(binType) : Bin.BinType.STANDARD);
+                },
+                lastId, chunkSize);
+
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+            Timestamp updatedAt = Timestamp.valueOf(now);
+            int[] newFills = new int[chunk.size()];
+            for (int i = 0; i < chunk.size(); i++) {
+                BinFillRow row = chunk.get(i);
+                int newFill = nextFillLevel(row.fillLevel());
+                newFills[i] = newFill;
+                Bin.BinStatus status = statusFor(newFill, row.lastEmptied(), now);
+                batchArgs.add(new Object[] {
+                    newFill,
+                    status.name(),
+                    alertFor(newFill, status),
+                    updatedAt,
+                    row.id()
+                });
+            }
+            jdbcTemplate.batchUpdate(UPDATE_BIN_SQL, batchArgs);
+            for (int i = 0; i < chunk.size(); i++) {
+                rollupService.fillLevelObserved(chunk.get(i).binType(), newFills[i], now);
+            }
+
+            updated += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).id();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
         }
-        
-        System.out.println("✓ Updated " + bins.size() + " bins at " + LocalDateTime.now());
+
+        long elapsedNanos = System.nanoTime() - started;
+        tickTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        rowsUpdatedCounter.increment(updated);
+        lastTickRows.set(updated);
+
+        logger.debug("Updated {} bins in {} ms", updated, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
     }
 
     /**
-     * Update bin fill level with realistic changes
+     * Next simulated fill level with realistic changes
      */
-    private void updateBinFillLevel(Bin bin) {
-        int currentFill = bin.getFillLevel();
-        
+    private int nextFillLevel(int currentFill) {
         // More realistic changes: smaller increments
         int change;
         if (currentFill < 20) {
@@ -66,40 +156,39 @@ public class DynamicDataService {
             change = random.nextInt(11) - 5; // -5 to +5
         }
         
-        int newFill = Math.max(0, Math.min(100, currentFill + change));
-        bin.setFillLevel(newFill);
+        return Math.max(0, Math.min(100, currentFill + change));
     }
 
     /**
-     * Update bin status based on fill level and last emptied time
+     * Bin status based on fill level and last emptied time
      */
-    private void updateBinStatus(Bin bin) {
-        int fillLevel = bin.getFillLevel();
-        LocalDateTime lastEmptied = bin.getLastEmptied();
-        long hoursSinceEmptied = java.time.Duration.between(lastEmptied, LocalDateTime.now()).toHours();
-
+    private Bin.BinStatus statusFor(int fillLevel, LocalDateTime lastEmptied, LocalDateTime now) {
         if (fillLevel >= 90) {
-            if (hoursSinceEmptied > 48) {
-                bin.setStatus(Bin.BinStatus.OVERDUE);
-                bin.setAlertFlag(true);
-            } else {
-                bin.setStatus(Bin.BinStatus.FULL);
-                bin.setAlertFlag(fillLevel >= 95);
-            }
+            boolean overdue = lastEmptied != null
+                && java.time.Duration.between(lastEmptied, now).toHours() > 48;
+            return overdue ? Bin.BinStatus.OVERDUE : Bin.BinStatus.FULL;
         } else if (fillLevel >= 60) {
-            bin.setStatus(Bin.BinStatus.PARTIAL);
-            bin.setAlertFlag(false);
-        } else {
-            bin.setStatus(Bin.BinStatus.EMPTY);
-            bin.setAlertFlag(false);
+            return Bin.BinStatus.PARTIAL;
         }
+        return Bin.BinStatus.EMPTY;
+    }
+
+    private boolean alertFor(int fillLevel, Bin.BinStatus status) {
+        return switch (status) {
+            case OVERDUE -> true;
+            case FULL -> fillLevel >= 95;
+            default -> false;
+        };
+    }
+
+    private record BinFillRow(long id, int fillLevel, LocalDateTime lastEmptied, Bin.BinType binType) {
     }
 
     /**
      * Initialize sample data if database is empty
      */
     private void initializeSampleData() {
-        System.out.println("Creating all 32 sample bins for dynamic updates...");
+        logger.info("Creating all 32 sample bins for dynamic updates...");
         
         // Colombo area bins - North District
         createSampleBin("QR001", "Colombo Fort Station", 6.9344, 79.8428, Bin.BinType.STANDARD, 85);
@@ -145,7 +234,7 @@ public class DynamicDataService {
         createSampleBin("QR031", "Galle Bus Stand", 6.0560, 80.2200, Bin.BinType.STANDARD, 91);
         createSampleBin("QR032", "Hikkaduwa", 6.1400, 80.1000, Bin.BinType.RECYCLING, 22);
         
-        System.out.println("✓ Created all 32 sample bins for dynamic updates");
+        logger.info("Created all 32 sample bins for dynamic updates");
     }
 
     private void createSampleBin(String qrCode, String location, Double latitude, Double longitude, 
@@ -0,0 +1,52 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.event.BinAlertEvent;
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.event.RouteAssignedEvent;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * Push channel for the collector dashboard's live updates: route assignments,
+ * completed collections and bin alerts in the collector's region.
+ *
+ * Each collector has a bounded in-memory replay buffer, filled once from the
+ * last day of routes and collections and then only by events, so connected
+ * collectors who receive nothing cost no queries.
+ */
+public interface LiveUpdateService {
+
+    /**
+     * Open a Server-Sent Events stream for a collector. A stream resuming from
+     * lastEventId gets the updates it missed; otherwise, or if those are no
+     * longer buffered, it gets a "reset" event and the whole buffer. A "ready"
+     * event follows the replay.
+     * @param collectorId Collector to stream to
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     */
+    SseEmitter subscribe(Long collectorId, Long lastEventId);
+
+    /**
+     * Buffered updates for a collector, newest first
+     */
+    List<LiveUpdate> getRecentUpdates(Long collectorId);
+
+    void onRouteAssigned(RouteAssignedEvent event);
+
+    /**
+     * Push a collection that has just been completed
+     */
+    void onCollectionStatusChanged(CollectionStatusChangedEvent event);
+
+    /**
+     * Push a bin alert to every collector whose region appears in the bin's location
+     */
+    void onBinAlert(BinAlertEvent event);
+
+    /**
+     * Send a comment to every open stream so dead connections are noticed and dropped
+     */
+    void heartbeat();
+}
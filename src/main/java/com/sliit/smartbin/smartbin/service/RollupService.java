@@ -0,0 +1,59 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.Route;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintains the hourly and daily rollup tables (collection_rollups, route_rollups,
+ * bin_fill_rollups) that reports and analytics read instead of raw history.
+ *
+ * Record methods are cheap in-memory increments, applied once the surrounding
+ * transaction commits and written to the database in periodic batches. A nightly
+ * reconciliation rebuilds recent days of collection and route rollups from the raw
+ * tables, which also corrects rows written around the services (bulk imports,
+ * synthetic data).
+ */
+public interface RollupService {
+
+    /**
+     * Count a new collection, or move an existing one between statuses
+     * @param collection Collection after the change; its bin and collector must be loadable
+     * @param previousStatus Status before the change, or null for a new collection
+     */
+    void collectionChanged(Collection collection, Collection.CollectionStatus previousStatus);
+
+    /**
+     * Remove a deleted collection from its bucket
+     * @param collection Collection being deleted
+     */
+    void collectionRemoved(Collection collection);
+
+    /**
+     * Count a completed route with its durations and distance
+     * @param route Route with status COMPLETED and a completed date
+     */
+    void routeCompleted(Route route);
+
+    /**
+     * Add one fill-level sample
+     * @param binType Type of the sampled bin
+     * @param fillLevel Fill percentage 0-100
+     * @param observedAt When the level was observed
+     */
+    void fillLevelObserved(Bin.BinType binType, int fillLevel, LocalDateTime observedAt);
+
+    /**
+     * Write all pending increments to the rollup tables
+     */
+    void flush();
+
+    /**
+     * Rebuild collection and route rollups for whole days from the raw tables
+     * @param from Start of the window; widened to the start of its day
+     * @param to End of the window; widened to the end of its day
+     */
+    void reconcile(LocalDateTime from, LocalDateTime to);
+}
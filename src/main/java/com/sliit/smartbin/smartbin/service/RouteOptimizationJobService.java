@@ -0,0 +1,42 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationJob;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs route optimizations in the background so HTTP requests return immediately
+ */
+public interface RouteOptimizationJobService {
+
+    /**
+     * Queue an optimization; the Route and its stops are saved only when it completes
+     * @param binIds Bins to route
+     * @param collector Collector who will receive the route
+     * @param authority Authority requesting it
+     * @param optimizer Optimizer to run
+     * @param tourOptions Depots the route starts and ends at
+     * @return The queued job
+     * @throws java.util.concurrent.RejectedExecutionException when too many jobs are already pending
+     */
+    OptimizationJob submit(List<Long> binIds, User collector, User authority, RouteOptimizerType optimizer,
+                           TourOptions tourOptions);
+
+    /**
+     * Look up a job by id
+     * @param jobId Job ID
+     * @return The job while it is running or retained after finishing
+     */
+    Optional<OptimizationJob> findJob(String jobId);
+
+    /**
+     * Request cancellation
+     * @param jobId Job ID
+     * @return true if the job will stop without saving a route
+     */
+    boolean cancel(String jobId);
+}
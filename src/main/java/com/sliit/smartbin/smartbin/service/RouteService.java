@@ -1,11 +1,19 @@
 package com.sliit.smartbin.smartbin.service;
 
 import com.sliit.smartbin.smartbin.dto.RouteDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.Route;
 import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.service.routing.FleetDispatchResult;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import com.sliit.smartbin.smartbin.service.routing.VehicleLimits;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface RouteService {
@@ -17,11 +25,25 @@ public interface RouteService {
     List<Route> findRoutesByCollectorAndDateRange(User collector, LocalDateTime startDate, LocalDateTime endDate);
     List<Route> findAssignedRoutesByCollector(User collector);
     List<Route> findActiveRoutesByCollector(User collector);
+    List<Map<String, Object>> getRouteStatuses(Long collectorId);
+    
+    /**
+     * Cheap key that changes whenever getRouteStatuses(collectorId) would return
+     * something different, for conditional requests
+     */
+    String getRouteStatusVersion(Long collectorId);
     Route updateRouteStatus(Long routeId, Route.RouteStatus status);
     Route startRoute(Long routeId);
     Route completeRoute(Long routeId);
     void deleteRoute(Long id);
     Route optimizeRoute(List<Long> binIds, User collector, User authority);
+    Route optimizeRoute(List<Long> binIds, User collector, User authority, RouteOptimizerType optimizer);
+    Route saveOptimizedRoute(List<Bin> orderedBins, RouteEnds ends, OptimizedTour tour, User collector, User authority);
+    Route repairRoute(Long routeId, List<Long> addBinIds, List<Long> skipBinIds, List<Long> completedBinIds);
     Route assignRouteToCollector(List<Long> binIds, User collector, User authority);
+    FleetDispatchResult dispatchFleet(List<Long> binIds, List<User> collectors, User authority,
+                                      Integer capacityPerCollector, Integer shiftMinutes,
+                                      Map<Long, VehicleLimits> collectorLimits, RouteOptimizerType optimizer,
+                                      TourOptions tourOptions);
 }
 
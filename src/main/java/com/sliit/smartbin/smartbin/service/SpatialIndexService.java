@@ -0,0 +1,54 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+
+import java.util.List;
+
+/**
+ * In-memory spatial index over bin coordinates.
+ * Answers radius and k-nearest queries without a database round trip.
+ * Returned bins are read-only snapshots; load the entity before modifying it.
+ */
+public interface SpatialIndexService {
+
+    /**
+     * Whether the index has been built and can serve queries
+     * @return true once the initial load has completed
+     */
+    boolean isReady();
+
+    /**
+     * Find bins within a true great-circle radius, nearest first
+     * @param latitude Centre latitude
+     * @param longitude Centre longitude
+     * @param radiusKm Radius in kilometres
+     * @return Bins within the radius ordered by distance
+     */
+    List<Bin> findWithinRadius(double latitude, double longitude, double radiusKm);
+
+    /**
+     * Find the k bins closest to a point, nearest first
+     * @param latitude Centre latitude
+     * @param longitude Centre longitude
+     * @param k Maximum number of bins to return
+     * @return Up to k bins ordered by distance
+     */
+    List<Bin> findNearest(double latitude, double longitude, int k);
+
+    /**
+     * Add or move a bin in the index (applied after the surrounding transaction commits)
+     * @param bin Bin to index
+     */
+    void index(Bin bin);
+
+    /**
+     * Remove a bin from the index (applied after the surrounding transaction commits)
+     * @param binId Bin ID
+     */
+    void remove(Long binId);
+
+    /**
+     * Reload the whole index from the database
+     */
+    void rebuild();
+}
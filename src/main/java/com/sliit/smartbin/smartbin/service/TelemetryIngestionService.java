@@ -0,0 +1,19 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.FillLevelIngestResultDTO;
+import com.sliit.smartbin.smartbin.dto.FillLevelReadingDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for bulk sensor telemetry ingestion
+ */
+public interface TelemetryIngestionService {
+    
+    /**
+     * Validate, de-duplicate and apply a batch of fill-level readings
+     * @param readings Readings in the order they were submitted
+     * @return Per-reading accept/reject results plus totals
+     */
+    FillLevelIngestResultDTO ingestFillLevels(List<FillLevelReadingDTO> readings);
+}
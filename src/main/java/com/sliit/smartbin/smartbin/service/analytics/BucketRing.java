@@ -0,0 +1,84 @@
+package com.sliit.smartbin.smartbin.service.analytics;
+
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of counters, one per hour or day. Each slot remembers which
+ * bucket it holds, so a slot is reset when time wraps around to it and reads
+ * never see a stale bucket. Memory and read cost depend only on the ring size.
+ */
+public class BucketRing {
+
+    private final RollupGranularity granularity;
+    private final long[] buckets;
+    private final long[] values;
+
+    public BucketRing(RollupGranularity granularity, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Ring size must be at least 1");
+        }
+        this.granularity = granularity;
+        this.buckets = new long[size];
+        this.values = new long[size];
+        Arrays.fill(buckets, Long.MIN_VALUE);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Add to the bucket containing the given time. Times older than the bucket
+     * now occupying that slot have fallen out of the ring and are dropped.
+     */
+    public synchronized void add(LocalDateTime at, long delta) {
+        long bucket = bucketOf(at);
+        int slot = slotOf(bucket);
+        if (buckets[slot] == bucket) {
+            values[slot] += delta;
+        } else if (buckets[slot] < bucket) {
+            buckets[slot] = bucket;
+            values[slot] = delta;
+        }
+    }
+
+    /**
+     * Value of the bucket containing the given time, or 0 if it is not in the ring
+     */
+    public synchronized long get(LocalDateTime at) {
+        long bucket = bucketOf(at);
+        int slot = slotOf(bucket);
+        return buckets[slot] == bucket ? values[slot] : 0L;
+    }
+
+    /**
+     * The last count buckets up to and including the one containing now, oldest first
+     */
+    public synchronized long[] last(int count, LocalDateTime now) {
+        if (count > values.length) {
+            throw new IllegalArgumentException("Ring only holds " + values.length + " buckets");
+        }
+        long current = bucketOf(now);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            long bucket = current - (count - 1 - i);
+            int slot = slotOf(bucket);
+            result[i] = buckets[slot] == bucket ? values[slot] : 0L;
+        }
+        return result;
+    }
+
+    private long bucketOf(LocalDateTime at) {
+        return granularity == RollupGranularity.DAY
+            ? at.toLocalDate().toEpochDay()
+            : at.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private int slotOf(long bucket) {
+        return (int) Math.floorMod(bucket, (long) values.length);
+    }
+}
@@ -0,0 +1,199 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.event.RouteCompletedEvent;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRollupRepository;
+import com.sliit.smartbin.smartbin.service.AnalyticsService;
+import com.sliit.smartbin.smartbin.service.CollectorRosterService;
+import com.sliit.smartbin.smartbin.service.analytics.BucketRing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ring-buffer implementation of AnalyticsService.
+ *
+ * Collections completed are counted per hour and per collector per day of their
+ * completion time, and route estimated and actual minutes per day. Events are applied after their
+ * transaction commits. The bin status split comes from one grouped query.
+ */
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    static final int TREND_HOURS = 7;
+    static final int EFFICIENCY_DAYS = 7;
+
+    /**
+     * Hours kept beyond the ones shown, so late events for recent hours still land
+     */
+    private static final int HOURS_KEPT = 24;
+
+    private static final List<Bin.BinStatus> BIN_STATUS_ORDER =
+        List.of(Bin.BinStatus.EMPTY, Bin.BinStatus.PARTIAL, Bin.BinStatus.FULL, Bin.BinStatus.OVERDUE);
+
+    private final CollectionRepository collectionRepository;
+    private final RouteRollupRepository routeRollupRepository;
+    private final BinRepository binRepository;
+    private final CollectorRosterService collectorRosterService;
+
+    private volatile Counters counters = new Counters();
+
+    public AnalyticsServiceImpl(CollectionRepository collectionRepository,
+                                RouteRollupRepository routeRollupRepository,
+                                BinRepository binRepository,
+                                CollectorRosterService collectorRosterService) {
+        this.collectionRepository = collectionRepository;
+        this.routeRollupRepository = routeRollupRepository;
+        this.binRepository = binRepository;
+        this.collectorRosterService = collectorRosterService;
+    }
+
+    @Override
+    public Map<String, Object> getAnalytics() {
+        Counters current = counters;
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> analytics = new HashMap<>();
+
+        List<Integer> collectionTrends = new ArrayList<>();
+        for (long completed : current.completedPerHour.last(TREND_HOURS, now)) {
+            collectionTrends.add((int) completed);
+        }
+        analytics.put("collectionTrends", collectionTrends);
+
+        List<String> collectorLabels = new ArrayList<>();
+        List<Integer> collectorData = new ArrayList<>();
+        for (CollectorSummaryDTO collector : collectorRosterService.getCollectors()) {
+            BucketRing today = current.completedTodayByCollector.get(collector.getId());
+            collectorLabels.add(shortName(collector.getName()));
+            collectorData.add(today != null ? (int) today.get(now) : 0);
+        }
+        Map<String, Object> collectorPerformance = new HashMap<>();
+        collectorPerformance.put("labels", collectorLabels);
+        collectorPerformance.put("data", collectorData);
+        analytics.put("collectorPerformance", collectorPerformance);
+
+        Map<Bin.BinStatus, Long> binsByStatus = new EnumMap<>(Bin.BinStatus.class);
+        long totalBins = 0;
+        for (BinRepository.BinStatusSummary row : binRepository.summarizeByStatus()) {
+            binsByStatus.put(row.getStatus(), row.getBinCount());
+            totalBins += row.getBinCount();
+        }
+        List<Integer> binStatus = new ArrayList<>();
+        for (Bin.BinStatus status : BIN_STATUS_ORDER) {
+            long count = binsByStatus.getOrDefault(status, 0L);
+            binStatus.add(totalBins > 0 ? (int) Math.round(count * 100.0 / totalBins) : 0);
+        }
+        analytics.put("binStatus", binStatus);
+
+        // Estimated over actual minutes, capped at 100%
+        long[] estimated = current.estimatedMinutesPerDay.last(EFFICIENCY_DAYS, now);
+        long[] actual = current.actualMinutesPerDay.last(EFFICIENCY_DAYS, now);
+        List<Integer> routeEfficiency = new ArrayList<>();
+        for (int i = 0; i < EFFICIENCY_DAYS; i++) {
+            routeEfficiency.add(actual[i] > 0 ? (int) Math.min(100, Math.round(estimated[i] * 100.0 / actual[i])) : 0);
+        }
+        analytics.put("routeEfficiency", routeEfficiency);
+
+        return analytics;
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCollectionStatusChanged(CollectionStatusChangedEvent event) {
+        if (event.completionDate() == null) {
+            return;
+        }
+        long delta = event.becameCompleted() ? 1 : event.leftCompleted() ? -1 : 0;
+        if (delta == 0) {
+            return;
+        }
+        Counters current = counters;
+        current.completedPerHour.add(event.completionDate(), delta);
+        current.completedTodayByCollector
+            .computeIfAbsent(event.collectorId(), id -> new BucketRing(RollupGranularity.DAY, 1))
+            .add(event.completionDate(), delta);
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteCompleted(RouteCompletedEvent event) {
+        if (event.completedAt() == null || !event.isTimed()) {
+            return;
+        }
+        Counters current = counters;
+        current.estimatedMinutesPerDay.add(event.completedAt(), event.estimatedMinutes());
+        current.actualMinutesPerDay.add(event.completedAt(), event.actualMinutes());
+    }
+
+    /**
+     * Runs after the rollup backfill, so a fresh database is seeded from complete route
+     * rollups. Completions are read by completion_date, since collection rollups are
+     * keyed on the collection date.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime currentHour = RollupGranularity.HOUR.bucketStart(now);
+        LocalDateTime today = RollupGranularity.DAY.bucketStart(now);
+        Counters seeded = new Counters();
+
+        // The hour window always reaches back past midnight, so it covers today as well
+        for (CollectionRepository.CompletionTime row : collectionRepository.findCompletionsBetween(
+                currentHour.minusHours(HOURS_KEPT - 1), currentHour.plusHours(1))) {
+            seeded.completedPerHour.add(row.getCompletionDate(), 1);
+            if (!row.getCompletionDate().isBefore(today)) {
+                seeded.completedTodayByCollector
+                    .computeIfAbsent(row.getCollectorId(), id -> new BucketRing(RollupGranularity.DAY, 1))
+                    .add(row.getCompletionDate(), 1);
+            }
+        }
+        for (RouteRollupRepository.RouteBucketTotals row : routeRollupRepository.sumByBucket(
+                RollupGranularity.DAY, today.minusDays(EFFICIENCY_DAYS - 1), today.plusDays(1))) {
+            seeded.estimatedMinutesPerDay.add(row.getBucketStart(), row.getEstimatedMinutesSum());
+            seeded.actualMinutesPerDay.add(row.getBucketStart(), row.getActualMinutesSum());
+        }
+
+        counters = seeded;
+        logger.info("Seeded analytics counters for {} collectors", seeded.completedTodayByCollector.size());
+    }
+
+    /**
+     * "Jane Perera" becomes "Jane P."; single names are kept as they are
+     */
+    private static String shortName(String name) {
+        String[] parts = name.trim().split("\\s+");
+        return parts.length > 1 ? parts[0] + " " + parts[1].charAt(0) + "." : parts[0];
+    }
+
+    /**
+     * One generation of counters; seeding swaps in a whole new set
+     */
+    private static final class Counters {
+        private final BucketRing completedPerHour = new BucketRing(RollupGranularity.HOUR, HOURS_KEPT);
+        private final Map<Long, BucketRing> completedTodayByCollector = new ConcurrentHashMap<>();
+        private final BucketRing estimatedMinutesPerDay = new BucketRing(RollupGranularity.DAY, EFFICIENCY_DAYS);
+        private final BucketRing actualMinutesPerDay = new BucketRing(RollupGranularity.DAY, EFFICIENCY_DAYS);
+    }
+}
@@ -4,10 +4,14 @@ import com.sliit.smartbin.smartbin.dto.BinDTO;
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.repository.BinRepository;
 import com.sliit.smartbin.smartbin.service.BinService;
+import com.sliit.smartbin.smartbin.service.RollupService;
+import com.sliit.smartbin.smartbin.service.SpatialIndexService;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +19,19 @@ import java.util.Optional;
 @Transactional
 public class BinServiceImpl implements BinService {
 
+    // Nearest-bin fallback: first search radius, doubled until enough bins are found
+    private static final double NEAREST_FALLBACK_START_KM = 1.0;
+    private static final double NEAREST_FALLBACK_MAX_KM = 512.0;
+
     private final BinRepository binRepository;
+    private final SpatialIndexService spatialIndexService;
+    private final RollupService rollupService;
 
-    public BinServiceImpl(BinRepository binRepository) {
+    public BinServiceImpl(BinRepository binRepository, SpatialIndexService spatialIndexService,
+                          RollupService rollupService) {
         this.binRepository = binRepository;
+        this.spatialIndexService = spatialIndexService;
+        this.rollupService = rollupService;
     }
 
     @Override
@@ -33,7 +46,9 @@ public class BinServiceImpl implements BinService {
         bin.setFillLevel(binDTO.getFillLevel() != null ? binDTO.getFillLevel() : 0);
         bin.setAlertFlag(false);
         
-        return binRepository.save(bin);
+        Bin savedBin = binRepository.save(bin);
+        spatialIndexService.index(savedBin);
+        return savedBin;
     }
 
     @Override
@@ -82,14 +97,55 @@ public class BinServiceImpl implements BinService {
     @Override
     @Transactional(readOnly = true)
     public List<Bin> findNearbyBins(Double latitude, Double longitude, Double radiusKm) {
-        // Simple bounding box calculation (for production, use proper geospatial queries)
+        if (spatialIndexService.isReady()) {
+            return spatialIndexService.findWithinRadius(latitude, longitude, radiusKm);
+        }
+        
+        return findInRadius(latitude, longitude, radiusKm);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Bin> findNearestBins(Double latitude, Double longitude, int limit) {
+        if (spatialIndexService.isReady()) {
+            return spatialIndexService.findNearest(latitude, longitude, limit);
+        }
+        
+        if (limit <= 0) {
+            return List.of();
+        }
+        
+        // Index not built yet: widen a radius search until it holds enough bins. Every bin
+        // outside the radius is farther than every bin inside it, so the closest of those are
+        // the true nearest.
+        List<Bin> found = List.of();
+        for (double radiusKm = NEAREST_FALLBACK_START_KM; radiusKm <= NEAREST_FALLBACK_MAX_KM; radiusKm *= 2) {
+            found = findInRadius(latitude, longitude, radiusKm);
+            if (found.size() >= limit) {
+                break;
+            }
+        }
+        return found.stream()
+            .sorted(Comparator.comparingDouble(
+                bin -> GeoUtils.haversineKm(latitude, longitude, bin.getLatitude(), bin.getLongitude())))
+            .limit(limit)
+            .toList();
+    }
+    
+    /**
+     * Bounding box query, then trim the box corners to a true radius
+     */
+    private List<Bin> findInRadius(double latitude, double longitude, double radiusKm) {
         double latRange = radiusKm / 111.0; // Approximate km per degree latitude
         double lngRange = radiusKm / (111.0 * Math.cos(Math.toRadians(latitude)));
         
         return binRepository.findBinsInArea(
             latitude - latRange, latitude + latRange,
             longitude - lngRange, longitude + lngRange
-        );
+        ).stream()
+            .filter(bin -> bin.getLatitude() != null && bin.getLongitude() != null)
+            .filter(bin -> GeoUtils.haversineKm(latitude, longitude, bin.getLatitude(), bin.getLongitude()) <= radiusKm)
+            .toList();
     }
 
     @Override
@@ -108,7 +164,12 @@ public class BinServiceImpl implements BinService {
             bin.setAlertFlag(false);
         }
         
-        return binRepository.save(bin);
+        Bin savedBin = binRepository.save(bin);
+        spatialIndexService.index(savedBin);
+        if (fillLevel != null) {
+            rollupService.fillLevelObserved(savedBin.getBinType(), fillLevel, LocalDateTime.now());
+        }
+        return savedBin;
     }
 
     @Override
@@ -117,22 +178,18 @@ public class BinServiceImpl implements BinService {
             .orElseThrow(() -> new RuntimeException("Bin not found with id: " + binId));
         
         bin.setFillLevel(fillLevel);
+        bin.updateStatusBasedOnFillLevel();
         
-        // Update status based on fill level
-        if (fillLevel >= 90) {
-            bin.setStatus(Bin.BinStatus.FULL);
-        } else if (fillLevel >= 50) {
-            bin.setStatus(Bin.BinStatus.PARTIAL);
-        } else {
-            bin.setStatus(Bin.BinStatus.EMPTY);
-        }
-        
-        return binRepository.save(bin);
+        Bin savedBin = binRepository.save(bin);
+        spatialIndexService.index(savedBin);
+        rollupService.fillLevelObserved(savedBin.getBinType(), fillLevel, LocalDateTime.now());
+        return savedBin;
     }
 
     @Override
     public void deleteBin(Long id) {
         binRepository.deleteById(id);
+        spatialIndexService.remove(id);
     }
 
     @Override
@@ -150,7 +207,7 @@ public class BinServiceImpl implements BinService {
         for (Bin bin : overdueBins) {
             bin.setAlertFlag(true);
             bin.setStatus(Bin.BinStatus.OVERDUE);
-            binRepository.save(bin);
+            spatialIndexService.index(binRepository.save(bin));
         }
     }
 }
@@ -3,16 +3,25 @@ package com.sliit.smartbin.smartbin.service.impl;
 import com.sliit.smartbin.smartbin.dto.BulkRequestDTO;
 import com.sliit.smartbin.smartbin.model.*;
 import com.sliit.smartbin.smartbin.repository.BulkRequestRepository;
+import com.sliit.smartbin.smartbin.repository.BulkRequestRepositoryCustom;
 import com.sliit.smartbin.smartbin.repository.UserRepository;
 import com.sliit.smartbin.smartbin.service.BulkRequestService;
 import com.sliit.smartbin.smartbin.service.NotificationService;
+import com.sliit.smartbin.smartbin.util.GeoHash;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +57,19 @@ public class BulkRequestServiceImpl implements BulkRequestService {
     private static final double PROCESSING_FEE = 500.0; // LKR 500
     private static final double TAX_RATE = 0.05; // 5% GST
     
+    // Pickups still waiting for a collector to arrive
+    private static final List<BulkRequestStatus> OPEN_PICKUP_STATUSES = List.of(
+        BulkRequestStatus.PAYMENT_COMPLETED,
+        BulkRequestStatus.COLLECTOR_ASSIGNED,
+        BulkRequestStatus.SCHEDULED
+    );
+    
+    // Finest geohash precision tried first by k-nearest (cells of roughly 1.2 km x 0.6 km)
+    private static final int NEAREST_START_PRECISION = 6;
+    
+    // Requests given a geohash per statement batch by the startup backfill
+    private static final int GEOHASH_BACKFILL_BATCH_SIZE = 1000;
+    
     @Override
     public BulkRequestDTO createBulkRequest(BulkRequestDTO bulkRequestDTO, User user) {
         validateBulkRequest(bulkRequestDTO);
@@ -495,4 +517,94 @@ public class BulkRequestServiceImpl implements BulkRequestService {
         
         return convertToDTO(updatedRequest);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<BulkRequestDTO> getRequestsNearLocation(double latitude, double longitude, double radiusKm) {
+        int precision = GeoHash.precisionForRadius(latitude, radiusKm);
+        List<String> cells = precision > 0
+            ? GeoHash.coveringCells(latitude, longitude, precision)
+            : List.of();
+        
+        List<RankedCandidate> hits = rankByDistance(
+                bulkRequestRepository.findCandidatesInGeohashCells(cells, null), latitude, longitude)
+                .stream()
+                .filter(hit -> hit.distanceKm() <= radiusKm)
+                .collect(Collectors.toList());
+        return loadRanked(hits);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<BulkRequestDTO> getNearestPendingPickups(double latitude, double longitude, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        
+        // Widen the 3x3 cell block until it provably contains the k nearest pickups
+        for (int precision = NEAREST_START_PRECISION; precision >= 0; precision--) {
+            List<String> cells = precision > 0
+                ? GeoHash.coveringCells(latitude, longitude, precision)
+                : List.of();
+            List<RankedCandidate> ranked = rankByDistance(
+                    bulkRequestRepository.findCandidatesInGeohashCells(cells, OPEN_PICKUP_STATUSES), latitude, longitude);
+            
+            double coveredKm = GeoHash.coveredRadiusKm(latitude, precision);
+            long provablyNearest = ranked.stream()
+                    .filter(hit -> hit.distanceKm() <= coveredKm)
+                    .count();
+            if (provablyNearest >= limit || precision == 0) {
+                return loadRanked(ranked.stream().limit(limit).collect(Collectors.toList()));
+            }
+        }
+        return List.of();
+    }
+    
+    // Fill in geohashes for requests created before the column existed, a batch of ids at a time,
+    // writing only the geohash column so their updatedAt is left alone
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillGeohashes() {
+        List<BulkRequestRepositoryCustom.GeoCandidate> missing;
+        do {
+            missing = bulkRequestRepository.findCandidatesMissingGeohash(GEOHASH_BACKFILL_BATCH_SIZE);
+            Map<Long, String> geohashById = new LinkedHashMap<>();
+            for (BulkRequestRepositoryCustom.GeoCandidate request : missing) {
+                geohashById.put(request.id(),
+                        GeoHash.encode(request.latitude(), request.longitude(), GeoHash.STORED_PRECISION));
+            }
+            bulkRequestRepository.updateGeohashes(geohashById);
+        } while (missing.size() == GEOHASH_BACKFILL_BATCH_SIZE);
+    }
+    
+    private List<RankedCandidate> rankByDistance(List<BulkRequestRepositoryCustom.GeoCandidate> candidates,
+                                                 double latitude, double longitude) {
+        return candidates.stream()
+                .map(c -> new RankedCandidate(c.id(),
+                        GeoUtils.haversineKm(latitude, longitude, c.latitude(), c.longitude())))
+                .sorted(Comparator.comparingDouble(RankedCandidate::distanceKm))
+                .collect(Collectors.toList());
+    }
+    
+    // Fetch only the refined hits and return them in distance order
+    private List<BulkRequestDTO> loadRanked(List<RankedCandidate> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BulkRequest> byId = bulkRequestRepository.findAllWithUserByIdIn(
+                hits.stream().map(RankedCandidate::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(BulkRequest::getId, Function.identity()));
+        
+        return hits.stream()
+                .filter(hit -> byId.containsKey(hit.id()))
+                .map(hit -> {
+                    BulkRequestDTO dto = convertToDTO(byId.get(hit.id()));
+                    dto.setDistanceKm(hit.distanceKm());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+    
+    private record RankedCandidate(Long id, double distanceKm) {
+    }
 }
@@ -1,6 +1,7 @@
 package com.sliit.smartbin.smartbin.service.impl;
 
 import com.sliit.smartbin.smartbin.dto.CollectionDTO;
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.Collection;
 import com.sliit.smartbin.smartbin.model.User;
@@ -8,6 +9,8 @@ import com.sliit.smartbin.smartbin.repository.BinRepository;
 import com.sliit.smartbin.smartbin.repository.CollectionRepository;
 import com.sliit.smartbin.smartbin.repository.UserRepository;
 import com.sliit.smartbin.smartbin.service.CollectionService;
+import com.sliit.smartbin.smartbin.service.RollupService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +25,19 @@ public class CollectionServiceImpl implements CollectionService {
     private final CollectionRepository collectionRepository;
     private final BinRepository binRepository;
     private final UserRepository userRepository;
+    private final RollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CollectionServiceImpl(CollectionRepository collectionRepository, 
                                 BinRepository binRepository, 
-                                UserRepository userRepository) {
+                                UserRepository userRepository,
+                                RollupService rollupService,
+                                ApplicationEventPublisher eventPublisher) {
         this.collectionRepository = collectionRepository;
         this.binRepository = binRepository;
         this.userRepository = userRepository;
+        this.rollupService = rollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -50,7 +59,10 @@ public class CollectionServiceImpl implements CollectionService {
         collection.setCollectionDate(collectionDTO.getCollectionDate() != null ? collectionDTO.getCollectionDate() : LocalDateTime.now());
         collection.setNotes(collectionDTO.getNotes());
         
-        return collectionRepository.save(collection);
+        Collection savedCollection = collectionRepository.save(collection);
+        rollupService.collectionChanged(savedCollection, null);
+        publishStatusChange(savedCollection, null, savedCollection.getStatus());
+        return savedCollection;
     }
 
     @Override
@@ -88,6 +100,7 @@ public class CollectionServiceImpl implements CollectionService {
         Collection collection = collectionRepository.findById(collectionId)
             .orElseThrow(() -> new RuntimeException("Collection not found with id: " + collectionId));
         
+        Collection.CollectionStatus previousStatus = collection.getStatus();
         collection.setStatus(status);
         
         if (status == Collection.CollectionStatus.COMPLETED) {
@@ -100,9 +113,13 @@ public class CollectionServiceImpl implements CollectionService {
             bin.setLastEmptied(LocalDateTime.now());
             bin.setAlertFlag(false);
             binRepository.save(bin);
+            rollupService.fillLevelObserved(bin.getBinType(), 0, bin.getLastEmptied());
         }
         
-        return collectionRepository.save(collection);
+        Collection savedCollection = collectionRepository.save(collection);
+        rollupService.collectionChanged(savedCollection, previousStatus);
+        publishStatusChange(savedCollection, previousStatus, savedCollection.getStatus());
+        return savedCollection;
     }
 
     @Override
@@ -110,6 +127,7 @@ public class CollectionServiceImpl implements CollectionService {
         Collection collection = collectionRepository.findById(collectionId)
             .orElseThrow(() -> new RuntimeException("Collection not found with id: " + collectionId));
         
+        Collection.CollectionStatus previousStatus = collection.getStatus();
         collection.setStatus(Collection.CollectionStatus.COMPLETED);
         collection.setCompletionDate(LocalDateTime.now());
         collection.setNotes(notes);
@@ -121,13 +139,31 @@ public class CollectionServiceImpl implements CollectionService {
         bin.setLastEmptied(LocalDateTime.now());
         bin.setAlertFlag(false);
         binRepository.save(bin);
+        rollupService.fillLevelObserved(bin.getBinType(), 0, bin.getLastEmptied());
         
-        return collectionRepository.save(collection);
+        Collection savedCollection = collectionRepository.save(collection);
+        rollupService.collectionChanged(savedCollection, previousStatus);
+        publishStatusChange(savedCollection, previousStatus, savedCollection.getStatus());
+        return savedCollection;
     }
 
     @Override
     public void deleteCollection(Long id) {
-        collectionRepository.deleteById(id);
+        collectionRepository.findById(id).ifPresent(collection -> {
+            rollupService.collectionRemoved(collection);
+            publishStatusChange(collection, collection.getStatus(), null);
+            collectionRepository.delete(collection);
+        });
+    }
+
+    private void publishStatusChange(Collection collection, Collection.CollectionStatus previousStatus,
+                                     Collection.CollectionStatus status) {
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(new CollectionStatusChangedEvent(collection.getId(),
+                collection.getCollector().getId(), previousStatus, status, collection.getCollectionDate(),
+                collection.getCompletionDate(),
+                collection.getBin() != null ? collection.getBin().getQrCode() : null));
+        }
     }
 
     @Override
@@ -154,7 +190,10 @@ public class CollectionServiceImpl implements CollectionService {
         collection.setStatus(Collection.CollectionStatus.ASSIGNED);
         collection.setCollectionDate(LocalDateTime.now());
         
-        return collectionRepository.save(collection);
+        Collection savedCollection = collectionRepository.save(collection);
+        rollupService.collectionChanged(savedCollection, null);
+        publishStatusChange(savedCollection, null, savedCollection.getStatus());
+        return savedCollection;
     }
 }
 
@@ -0,0 +1,67 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.CollectorRosterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process roster cache. Every invalidation bumps a generation counter, and a
+ * cached roster is only served while its generation is current, so a load that
+ * raced with an invalidation is never kept.
+ */
+@Service
+public class CollectorRosterServiceImpl implements CollectorRosterService {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Roster cached;
+
+    public CollectorRosterServiceImpl(UserRepository userRepository,
+                                      @Value("${smartbin.roster.ttl-ms:60000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public List<CollectorSummaryDTO> getCollectors() {
+        Roster roster = cached;
+        if (roster != null && roster.generation() == generation.get()
+                && System.currentTimeMillis() - roster.loadedAt() < ttlMillis) {
+            return roster.collectors();
+        }
+
+        long loadingGeneration = generation.get();
+        List<CollectorSummaryDTO> collectors = userRepository.findSummariesByRole(User.UserRole.COLLECTOR).stream()
+            .map(row -> new CollectorSummaryDTO(row.getId(), row.getName(), row.getEmail(), row.getPhone(),
+                                                row.getRegion()))
+            .toList();
+        cached = new Roster(collectors, loadingGeneration, System.currentTimeMillis());
+        return collectors;
+    }
+
+    @Override
+    public void invalidate() {
+        generation.incrementAndGet();
+        // Again after commit, in case another request reloaded the uncommitted state in between
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private record Roster(List<CollectorSummaryDTO> collectors, long generation, long loadedAt) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRepository;
+import com.sliit.smartbin.smartbin.service.CollectorRosterService;
+import com.sliit.smartbin.smartbin.service.CollectorWorkloadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grouped-query implementation of CollectorWorkloadService. Route counts,
+ * open routes with their bin counts, and today's collections are each one
+ * query; the result is kept for a short TTL since the page polls it.
+ */
+@Service
+public class CollectorWorkloadServiceImpl implements CollectorWorkloadService {
+
+    private final RouteRepository routeRepository;
+    private final CollectionRepository collectionRepository;
+    private final CollectorRosterService collectorRosterService;
+    private final long ttlMillis;
+    private volatile Snapshot cached;
+
+    public CollectorWorkloadServiceImpl(RouteRepository routeRepository,
+                                        CollectionRepository collectionRepository,
+                                        CollectorRosterService collectorRosterService,
+                                        @Value("${smartbin.collectors.workload-ttl-ms:5000}") long ttlMillis) {
+        this.routeRepository = routeRepository;
+        this.collectionRepository = collectionRepository;
+        this.collectorRosterService = collectorRosterService;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCollectorWorkloads() {
+        Snapshot snapshot = cached;
+        if (snapshot != null && System.currentTimeMillis() - snapshot.loadedAt() < ttlMillis) {
+            return snapshot.workloads();
+        }
+
+        List<Map<String, Object>> workloads = load();
+        cached = new Snapshot(workloads, System.currentTimeMillis());
+        return workloads;
+    }
+
+    private List<Map<String, Object>> load() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime dayStart = today.atStartOfDay();
+        LocalDateTime dayEnd = today.plusDays(1).atStartOfDay();
+
+        Map<Long, RouteRepository.CollectorWorkload> routeCounts = new HashMap<>();
+        for (RouteRepository.CollectorWorkload row : routeRepository.summarizeWorkloadByCollector(dayStart, dayEnd)) {
+            routeCounts.put(row.getCollectorId(), row);
+        }
+        Map<Long, List<RouteRepository.OpenRouteSummary>> openRoutes = new HashMap<>();
+        for (RouteRepository.OpenRouteSummary row : routeRepository.findOpenRouteSummaries()) {
+            openRoutes.computeIfAbsent(row.getCollectorId(), id -> new ArrayList<>()).add(row);
+        }
+        Map<Long, Long> todayCollections = new HashMap<>();
+        for (CollectionRepository.CollectorCount row : collectionRepository.countByCollectorBetween(dayStart, dayEnd)) {
+            todayCollections.put(row.getCollectorId(), row.getTotal());
+        }
+
+        List<Map<String, Object>> workloads = new ArrayList<>();
+        for (CollectorSummaryDTO collector : collectorRosterService.getCollectors()) {
+            workloads.add(toWorkload(collector, routeCounts.get(collector.getId()),
+                                     openRoutes.getOrDefault(collector.getId(), List.of()),
+                                     todayCollections.getOrDefault(collector.getId(), 0L)));
+        }
+        return List.copyOf(workloads);
+    }
+
+    private static Map<String, Object> toWorkload(CollectorSummaryDTO collector,
+                                                  RouteRepository.CollectorWorkload counts,
+                                                  List<RouteRepository.OpenRouteSummary> routes,
+                                                  long todayCollections) {
+        long totalRoutes = counts != null ? counts.getTotalCount() : 0;
+        int assignedRoutes = counts != null ? counts.getAssignedCount().intValue() : 0;
+        int inProgressRoutes = counts != null ? counts.getInProgressCount().intValue() : 0;
+        long completedRoutes = counts != null ? counts.getCompletedCount() : 0;
+        int todayCompletedRoutes = counts != null ? counts.getCompletedTodayCount().intValue() : 0;
+        double completionRate = totalRoutes == 0 ? 0 : ((double) completedRoutes / totalRoutes) * 100;
+
+        Map<String, Object> workload = new HashMap<>();
+        workload.put("id", collector.getId());
+        workload.put("name", collector.getName());
+        workload.put("email", collector.getEmail());
+        workload.put("phone", collector.getPhone());
+        workload.put("region", collector.getRegion() != null ? collector.getRegion() : "No region assigned");
+
+        // Active means in progress, as in RouteService.findActiveRoutesByCollector
+        workload.put("activeRoutes", inProgressRoutes);
+        workload.put("assignedRoutes", assignedRoutes);
+        workload.put("inProgressRoutes", inProgressRoutes);
+        workload.put("todayCompletedRoutes", todayCompletedRoutes);
+        workload.put("todayCollections", todayCollections);
+        workload.put("completionRate", Math.round(completionRate));
+
+        // Assigned routes first, then in-progress ones
+        List<Map<String, Object>> routeDetails = new ArrayList<>();
+        for (RouteRepository.OpenRouteSummary route : routes) {
+            if (route.getStatus() == Route.RouteStatus.ASSIGNED) {
+                routeDetails.add(toRouteDetail(route));
+            }
+        }
+        String currentRouteName = null;
+        for (RouteRepository.OpenRouteSummary route : routes) {
+            if (route.getStatus() == Route.RouteStatus.IN_PROGRESS) {
+                routeDetails.add(toRouteDetail(route));
+                if (currentRouteName == null) {
+                    currentRouteName = route.getRouteName();
+                }
+            }
+        }
+        workload.put("routes", routeDetails);
+
+        workload.put("status", inProgressRoutes > 0 ? "on-route" : "available");
+        if (currentRouteName != null) {
+            workload.put("currentActivity", "On route: " + currentRouteName);
+        } else if (assignedRoutes > 0) {
+            workload.put("currentActivity", assignedRoutes + " route(s) assigned");
+        } else {
+            workload.put("currentActivity", "Available for assignment");
+        }
+
+        // 0-5 stars based on completion rate
+        double performanceRating = (completionRate / 100.0) * 5;
+        workload.put("performanceRating", Math.round(performanceRating * 10) / 10.0);
+        return workload;
+    }
+
+    private static Map<String, Object> toRouteDetail(RouteRepository.OpenRouteSummary route) {
+        Map<String, Object> routeInfo = new HashMap<>();
+        routeInfo.put("id", route.getId());
+        routeInfo.put("name", route.getRouteName());
+        routeInfo.put("status", route.getStatus().name());
+        if (route.getStatus() == Route.RouteStatus.ASSIGNED) {
+            routeInfo.put("assignedDate", route.getAssignedDate() != null ? route.getAssignedDate().toString() : null);
+        } else {
+            routeInfo.put("startedDate", route.getStartedDate() != null ? route.getStartedDate().toString() : null);
+        }
+        routeInfo.put("binCount", route.getBinCount().intValue());
+        routeInfo.put("distance", route.getTotalDistanceKm());
+        routeInfo.put("duration", route.getEstimatedDurationMinutes());
+        return routeInfo;
+    }
+
+    private record Snapshot(List<Map<String, Object>> workloads, long loadedAt) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.dto.DepotDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.repository.DepotRepository;
+import com.sliit.smartbin.smartbin.service.DepotService;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import com.sliit.smartbin.smartbin.service.routing.TourType;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional
+public class DepotServiceImpl implements DepotService {
+
+    private final DepotRepository depotRepository;
+
+    public DepotServiceImpl(DepotRepository depotRepository) {
+        this.depotRepository = depotRepository;
+    }
+
+    @Override
+    public Depot createDepot(DepotDTO depotDTO) {
+        if (depotDTO.getName() == null || depotDTO.getName().isBlank()) {
+            throw new IllegalArgumentException("Depot name is required");
+        }
+        if (depotDTO.getType() == null) {
+            throw new IllegalArgumentException("Depot type is required");
+        }
+        if (depotDTO.getLatitude() == null || depotDTO.getLongitude() == null) {
+            throw new IllegalArgumentException("Depot coordinates are required");
+        }
+        
+        Depot depot = new Depot();
+        depot.setName(depotDTO.getName());
+        depot.setType(depotDTO.getType());
+        depot.setAddress(depotDTO.getAddress());
+        depot.setLatitude(depotDTO.getLatitude());
+        depot.setLongitude(depotDTO.getLongitude());
+        depot.setActive(depotDTO.getActive() == null || depotDTO.getActive());
+        return depotRepository.save(depot);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Depot> findById(Long id) {
+        return depotRepository.findById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Depot> findActiveDepots() {
+        return depotRepository.findByActiveTrue();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RouteEnds resolveEnds(TourOptions options, List<Bin> bins) {
+        if (options.endDepotId() != null && options.tourType() != TourType.TO_DISPOSAL) {
+            throw new IllegalArgumentException("An end depot can only be chosen for TO_DISPOSAL tours");
+        }
+        
+        double[] centroid = centroid(bins);
+        Depot start = options.startDepotId() != null
+            ? requireActive(options.startDepotId())
+            : nearest(depotRepository.findByTypeInAndActiveTrue(EnumSet.of(Depot.DepotType.YARD)), centroid);
+        
+        Depot end = switch (options.tourType()) {
+            case CLOSED -> start;
+            case OPEN -> null;
+            case TO_DISPOSAL -> {
+                Depot site = options.endDepotId() != null
+                    ? requireActive(options.endDepotId())
+                    : nearest(depotRepository.findByTypeInAndActiveTrue(
+                          EnumSet.of(Depot.DepotType.TRANSFER_STATION, Depot.DepotType.DISPOSAL_SITE)), centroid);
+                if (site == null) {
+                    throw new IllegalArgumentException("No active transfer station or disposal site is configured");
+                }
+                if (!site.acceptsWaste()) {
+                    throw new IllegalArgumentException("Depot " + site.getName() + " does not accept waste");
+                }
+                yield site;
+            }
+        };
+        return new RouteEnds(start, end);
+    }
+
+    private Depot requireActive(Long depotId) {
+        Depot depot = depotRepository.findById(depotId)
+            .orElseThrow(() -> new IllegalArgumentException("Depot not found with id: " + depotId));
+        if (!Boolean.TRUE.equals(depot.getActive())) {
+            throw new IllegalArgumentException("Depot " + depot.getName() + " is not active");
+        }
+        return depot;
+    }
+
+    private static Depot nearest(List<Depot> depots, double[] centroid) {
+        if (centroid == null) {
+            return depots.isEmpty() ? null : depots.get(0);
+        }
+        return depots.stream()
+            .min(Comparator.comparingDouble(depot ->
+                GeoUtils.haversineKm(centroid[0], centroid[1], depot.getLatitude(), depot.getLongitude())))
+            .orElse(null);
+    }
+
+    private static double[] centroid(List<Bin> bins) {
+        List<Bin> located = bins.stream()
+            .filter(bin -> bin.getLatitude() != null && bin.getLongitude() != null)
+            .toList();
+        if (located.isEmpty()) {
+            return null;
+        }
+        return new double[] {
+            located.stream().mapToDouble(Bin::getLatitude).average().orElse(0),
+            located.stream().mapToDouble(Bin::getLongitude).average().orElse(0)
+        };
+    }
+}
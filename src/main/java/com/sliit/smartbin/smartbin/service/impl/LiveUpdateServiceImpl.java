@@ -0,0 +1,284 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.event.BinAlertEvent;
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.event.RouteAssignedEvent;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRepository;
+import com.sliit.smartbin.smartbin.service.CollectorRosterService;
+import com.sliit.smartbin.smartbin.service.LiveUpdateService;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdate;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdateBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process implementation of LiveUpdateService. Events are applied after
+ * their transaction commits; each collector's buffer and open streams sit in a
+ * channel, and registering a stream and replaying to it happen under the
+ * channel lock, so a stream never misses or repeats an update.
+ */
+@Service
+public class LiveUpdateServiceImpl implements LiveUpdateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateServiceImpl.class);
+
+    private final RouteRepository routeRepository;
+    private final CollectionRepository collectionRepository;
+    private final CollectorRosterService collectorRosterService;
+    private final int replaySize;
+    private final Duration replayWindow;
+    private final long streamTimeoutMillis;
+    private final int maxStreamsPerCollector;
+
+    private final AtomicLong lastIssuedId = new AtomicLong();
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public LiveUpdateServiceImpl(RouteRepository routeRepository,
+                                 CollectionRepository collectionRepository,
+                                 CollectorRosterService collectorRosterService,
+                                 @Value("${smartbin.live-updates.replay-size:50}") int replaySize,
+                                 @Value("${smartbin.live-updates.replay-hours:24}") long replayHours,
+                                 @Value("${smartbin.live-updates.stream-timeout-ms:1800000}") long streamTimeoutMillis,
+                                 @Value("${smartbin.live-updates.max-streams-per-collector:4}") int maxStreamsPerCollector) {
+        this.routeRepository = routeRepository;
+        this.collectionRepository = collectionRepository;
+        this.collectorRosterService = collectorRosterService;
+        this.replaySize = replaySize;
+        this.replayWindow = Duration.ofHours(replayHours);
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.maxStreamsPerCollector = maxStreamsPerCollector;
+    }
+
+    @Override
+    public SseEmitter subscribe(Long collectorId, Long lastEventId) {
+        Channel channel = seededChannel(collectorId);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        SseEmitter displaced = null;
+
+        synchronized (channel) {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<List<LiveUpdate>> missed = lastEventId != null
+                ? channel.buffer.since(lastEventId, lastIssuedId.get(), now)
+                : Optional.empty();
+            try {
+                if (missed.isPresent()) {
+                    for (LiveUpdate update : missed.get()) {
+                        emitter.send(toEvent(update));
+                    }
+                } else {
+                    emitter.send(SseEmitter.event().name("reset").data(""));
+                    for (LiveUpdate update : channel.buffer.all(now)) {
+                        emitter.send(toEvent(update));
+                    }
+                }
+                emitter.send(SseEmitter.event().name("ready").data(""));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            channel.emitters.add(emitter);
+            if (channel.emitters.size() > maxStreamsPerCollector) {
+                displaced = channel.emitters.remove(0);
+            }
+        }
+
+        emitter.onCompletion(() -> channel.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> channel.remove(emitter));
+        if (displaced != null) {
+            displaced.complete();
+        }
+        return emitter;
+    }
+
+    @Override
+    public List<LiveUpdate> getRecentUpdates(Long collectorId) {
+        Channel channel = seededChannel(collectorId);
+        List<LiveUpdate> updates;
+        synchronized (channel) {
+            updates = channel.buffer.all(LocalDateTime.now());
+        }
+        return updates.reversed();
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRouteAssigned(RouteAssignedEvent event) {
+        if (event.collectorId() == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        publish(event.collectorId(), routeAssigned(event.routeId(), event.routeName(),
+            event.assignedAt() != null ? event.assignedAt() : now, now));
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCollectionStatusChanged(CollectionStatusChangedEvent event) {
+        if (!event.becameCompleted() || event.collectorId() == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        publish(event.collectorId(), collectionCompleted(event.collectionId(), event.binQrCode(),
+            event.completionDate() != null ? event.completionDate() : now, now));
+    }
+
+    @Override
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBinAlert(BinAlertEvent event) {
+        if (event.location() == null) {
+            return;
+        }
+        String message = event.overdue()
+            ? "Bin " + event.qrCode() + " is overdue for collection"
+            : "Bin " + event.qrCode() + " is " + (event.fillLevel() != null ? event.fillLevel() + "% " : "") + "full";
+        LiveUpdate alert = new LiveUpdate(0, "alert:" + event.binId() + ":" + event.raisedAt(), "alert",
+            event.overdue() ? "Overdue Bin Alert" : "Bin Alert", message, event.raisedAt(), LocalDateTime.now());
+        for (CollectorSummaryDTO collector : collectorRosterService.getCollectors()) {
+            if (collector.getRegion() != null && event.location().contains(collector.getRegion())) {
+                publish(collector.getId(), alert);
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${smartbin.live-updates.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (SseEmitter emitter : channel.openStreams()) {
+                send(channel, emitter, SseEmitter.event().comment("keep-alive"));
+            }
+        }
+    }
+
+    private void publish(Long collectorId, LiveUpdate update) {
+        Channel channel = channels.computeIfAbsent(collectorId, id -> new Channel(replaySize, replayWindow));
+        LiveUpdate buffered;
+        List<SseEmitter> streams;
+        synchronized (channel) {
+            if (channel.buffer.contains(update.key())) {
+                return;
+            }
+            buffered = update.withId(lastIssuedId.incrementAndGet());
+            channel.buffer.add(buffered);
+            streams = List.copyOf(channel.emitters);
+        }
+        for (SseEmitter emitter : streams) {
+            send(channel, emitter, toEvent(buffered));
+        }
+    }
+
+    /**
+     * The collector's channel, filled from the last day of routes and collections
+     * the first time a stream or the feed asks for it
+     */
+    private Channel seededChannel(Long collectorId) {
+        Channel channel = channels.computeIfAbsent(collectorId, id -> new Channel(replaySize, replayWindow));
+        if (channel.seeded) {
+            return channel;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(replayWindow);
+        List<LiveUpdate> history = new ArrayList<>();
+        // History counts as published when it happened, but never later than now
+        for (RouteRepository.RouteAssignment row : routeRepository.findAssignmentsSince(collectorId, since)) {
+            history.add(routeAssigned(row.getId(), row.getRouteName(), row.getAssignedDate(),
+                                      earliest(row.getAssignedDate(), now)));
+        }
+        for (CollectionRepository.CompletedCollection row : collectionRepository.findCompletedSince(collectorId, since)) {
+            history.add(collectionCompleted(row.getId(), row.getBinQrCode(), row.getCompletionDate(),
+                                            earliest(row.getCompletionDate(), now)));
+        }
+
+        synchronized (channel) {
+            if (!channel.seeded) {
+                // No stream has read this buffer yet, so its entries can be renumbered in time order
+                List<LiveUpdate> merged = channel.buffer.all(LocalDateTime.now());
+                for (LiveUpdate update : history) {
+                    if (!channel.buffer.contains(update.key())) {
+                        merged.add(update);
+                    }
+                }
+                merged.sort(Comparator.comparing(LiveUpdate::timestamp));
+                channel.buffer.clear();
+                for (LiveUpdate update : merged) {
+                    channel.buffer.add(update.withId(lastIssuedId.incrementAndGet()));
+                }
+                channel.seeded = true;
+                logger.debug("Seeded live updates for collector {} with {} entries", collectorId, merged.size());
+            }
+        }
+        return channel;
+    }
+
+    private static LiveUpdate routeAssigned(Long routeId, String routeName, LocalDateTime assignedAt,
+                                            LocalDateTime publishedAt) {
+        return new LiveUpdate(0, "route:" + routeId, "route", "New Route Assigned",
+            "Route " + routeName + " has been assigned to you", assignedAt, publishedAt);
+    }
+
+    private static LiveUpdate collectionCompleted(Long collectionId, String binQrCode, LocalDateTime collectedAt,
+                                                  LocalDateTime publishedAt) {
+        return new LiveUpdate(0, "completion:" + collectionId, "completion", "Collection Completed",
+            "Successfully collected from bin " + binQrCode, collectedAt, publishedAt);
+    }
+
+    private static LocalDateTime earliest(LocalDateTime time, LocalDateTime now) {
+        return time != null && time.isBefore(now) ? time : now;
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(LiveUpdate update) {
+        return SseEmitter.event().id(String.valueOf(update.id())).name(update.type())
+            .data(update, MediaType.APPLICATION_JSON);
+    }
+
+    private static void send(Channel channel, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the container completes the emitter
+            channel.remove(emitter);
+        }
+    }
+
+    /**
+     * One collector's replay buffer and open streams
+     */
+    private static final class Channel {
+        private final LiveUpdateBuffer buffer;
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private volatile boolean seeded;
+
+        private Channel(int replaySize, Duration replayWindow) {
+            this.buffer = new LiveUpdateBuffer(replaySize, replayWindow);
+        }
+
+        private synchronized List<SseEmitter> openStreams() {
+            return List.copyOf(emitters);
+        }
+
+        private synchronized void remove(SseEmitter emitter) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sliit.smartbin.smartbin.service.impl;
 
+import com.sliit.smartbin.smartbin.event.BinAlertEvent;
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.BulkRequest;
 import com.sliit.smartbin.smartbin.model.Route;
@@ -7,6 +8,7 @@ import com.sliit.smartbin.smartbin.model.User;
 import com.sliit.smartbin.smartbin.service.NotificationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -26,6 +28,12 @@ public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    public NotificationServiceImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
     @Override
     public void sendRouteNotification(User collector, Route route) {
         try {
@@ -86,6 +94,7 @@ public class NotificationServiceImpl implements NotificationService {
             
             // Send to relevant authorities and collectors
             logNotification("BIN_ALERT", "authority@smartbin.com", message);
+            publishBinAlert(bin, false);
             
         } catch (Exception e) {
             logger.error("Failed to send bin alert notification for bin {}: {}", 
@@ -123,6 +132,7 @@ public class NotificationServiceImpl implements NotificationService {
             logger.warn("Overdue bin notification: {}", message);
             
             logNotification("OVERDUE_BIN", "authority@smartbin.com", message);
+            publishBinAlert(bin, true);
             
         } catch (Exception e) {
             logger.error("Failed to send overdue bin notification for bin {}: {}", 
@@ -306,4 +316,12 @@ public class NotificationServiceImpl implements NotificationService {
         // 4. Send email notification
         // 5. Update WebSocket connections for real-time updates
     }
+
+    /**
+     * Hand the alert to the collectors' live update streams
+     */
+    private void publishBinAlert(Bin bin, boolean overdue) {
+        eventPublisher.publishEvent(new BinAlertEvent(bin.getId(), bin.getQrCode(), bin.getLocation(),
+                                                      bin.getFillLevel(), overdue, LocalDateTime.now()));
+    }
 }
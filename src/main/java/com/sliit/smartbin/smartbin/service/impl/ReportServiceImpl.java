@@ -3,10 +3,12 @@ package com.sliit.smartbin.smartbin.service.impl;
 import com.sliit.smartbin.smartbin.dto.ReportDTO;
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.Collection;
-import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
 import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinFillRollupRepository;
 import com.sliit.smartbin.smartbin.repository.BinRepository;
 import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRollupRepository;
 import com.sliit.smartbin.smartbin.repository.RouteRepository;
 import com.sliit.smartbin.smartbin.repository.UserRepository;
 import com.sliit.smartbin.smartbin.service.ReportService;
@@ -14,6 +16,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,15 +30,21 @@ public class ReportServiceImpl implements ReportService {
     private final CollectionRepository collectionRepository;
     private final RouteRepository routeRepository;
     private final UserRepository userRepository;
+    private final CollectionRollupRepository collectionRollupRepository;
+    private final BinFillRollupRepository binFillRollupRepository;
 
     public ReportServiceImpl(BinRepository binRepository, 
                            CollectionRepository collectionRepository,
                            RouteRepository routeRepository,
-                           UserRepository userRepository) {
+                           UserRepository userRepository,
+                           CollectionRollupRepository collectionRollupRepository,
+                           BinFillRollupRepository binFillRollupRepository) {
         this.binRepository = binRepository;
         this.collectionRepository = collectionRepository;
         this.routeRepository = routeRepository;
         this.userRepository = userRepository;
+        this.collectionRollupRepository = collectionRollupRepository;
+        this.binFillRollupRepository = binFillRollupRepository;
     }
 
     @Override
@@ -44,24 +54,24 @@ public class ReportServiceImpl implements ReportService {
         LocalDateTime startDate = reportDTO.getStartDate() != null ? reportDTO.getStartDate() : LocalDateTime.now().minusDays(30);
         LocalDateTime endDate = reportDTO.getEndDate() != null ? reportDTO.getEndDate() : LocalDateTime.now();
         
-        List<Collection> collections = collectionRepository.findAll();
-        
-        long totalCollections = collections.size();
-        long completedCollections = collections.stream()
-            .filter(c -> c.getStatus() == Collection.CollectionStatus.COMPLETED)
-            .count();
-        
-        long standardCollections = collections.stream()
-            .filter(c -> c.getCollectionType() == Collection.CollectionType.STANDARD)
-            .count();
-        
-        long recyclingCollections = collections.stream()
-            .filter(c -> c.getCollectionType() == Collection.CollectionType.RECYCLING)
-            .count();
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Report start date must not be after the end date");
+        }
         
-        long bulkCollections = collections.stream()
-            .filter(c -> c.getCollectionType() == Collection.CollectionType.BULK)
-            .count();
+        // Read from the rollups, so the cost tracks the number of days and not the number of collections
+        Map<Collection.CollectionType, Long> byType = new EnumMap<>(Collection.CollectionType.class);
+        long totalCollections = 0;
+        long completedCollections = 0;
+        for (CollectionRepository.TypeStatusCount row : collectionCounts(startDate, endDate)) {
+            byType.merge(row.getCollectionType(), row.getCollectionCount(), Long::sum);
+            totalCollections += row.getCollectionCount();
+            if (row.getStatus() == Collection.CollectionStatus.COMPLETED) {
+                completedCollections += row.getCollectionCount();
+            }
+        }
+        long standardCollections = byType.getOrDefault(Collection.CollectionType.STANDARD, 0L);
+        long recyclingCollections = byType.getOrDefault(Collection.CollectionType.RECYCLING, 0L);
+        long bulkCollections = byType.getOrDefault(Collection.CollectionType.BULK, 0L);
         
         report.put("reportType", "Collection Report");
         report.put("period", startDate + " to " + endDate);
@@ -80,28 +90,23 @@ public class ReportServiceImpl implements ReportService {
     public Map<String, Object> generatePerformanceReport(ReportDTO reportDTO) {
         Map<String, Object> report = new HashMap<>();
         
-        List<User> collectors = userRepository.findAll().stream()
-            .filter(user -> user.getRole() == User.UserRole.COLLECTOR)
-            .toList();
+        CollectorTotals totals = collectorTotals();
         
         Map<String, Object> collectorPerformance = new HashMap<>();
         
-        for (User collector : collectors) {
+        for (UserRepository.UserName collector : totals.collectors()) {
             Map<String, Object> performance = new HashMap<>();
             
-            List<Collection> collections = collectionRepository.findByCollector(collector);
-            Long completedCount = collectionRepository.countCompletedCollectionsByCollector(collector);
-            
-            List<Route> routes = routeRepository.findByCollector(collector);
-            long completedRoutes = routes.stream()
-                .filter(r -> r.getStatus() == Route.RouteStatus.COMPLETED)
-                .count();
+            CollectionRepository.CollectorCollectionStats collections = totals.collections().get(collector.getId());
+            RouteRepository.CollectorRouteStats routes = totals.routes().get(collector.getId());
+            int totalCollections = collections != null ? collections.getTotalCount().intValue() : 0;
+            long completedCount = collections != null ? collections.getCompletedCount() : 0L;
             
-            performance.put("totalCollections", collections.size());
+            performance.put("totalCollections", totalCollections);
             performance.put("completedCollections", completedCount);
-            performance.put("completionRate", collections.size() > 0 ? (double) completedCount / collections.size() * 100 : 0);
-            performance.put("totalRoutes", routes.size());
-            performance.put("completedRoutes", completedRoutes);
+            performance.put("completionRate", totalCollections > 0 ? (double) completedCount / totalCollections * 100 : 0.0);
+            performance.put("totalRoutes", routes != null ? routes.getTotalCount().intValue() : 0);
+            performance.put("completedRoutes", routes != null ? routes.getCompletedCount() : 0L);
             
             collectorPerformance.put(collector.getName(), performance);
         }
@@ -117,42 +122,17 @@ public class ReportServiceImpl implements ReportService {
     public Map<String, Object> generateBinStatusReport(ReportDTO reportDTO) {
         Map<String, Object> report = new HashMap<>();
         
-        List<Bin> allBins = binRepository.findAll();
-        
-        long emptyBins = allBins.stream()
-            .filter(b -> b.getStatus() == Bin.BinStatus.EMPTY)
-            .count();
-        
-        long partialBins = allBins.stream()
-            .filter(b -> b.getStatus() == Bin.BinStatus.PARTIAL)
-            .count();
-        
-        long fullBins = allBins.stream()
-            .filter(b -> b.getStatus() == Bin.BinStatus.FULL)
-            .count();
-        
-        long overdueBins = allBins.stream()
-            .filter(b -> b.getStatus() == Bin.BinStatus.OVERDUE)
-            .count();
-        
-        long alertedBins = allBins.stream()
-            .filter(Bin::getAlertFlag)
-            .count();
-        
-        // Calculate average fill level
-        double averageFillLevel = allBins.stream()
-            .mapToInt(Bin::getFillLevel)
-            .average()
-            .orElse(0.0);
+        BinTotals totals = binTotals();
         
         report.put("reportType", "Bin Status Report");
-        report.put("totalBins", allBins.size());
-        report.put("emptyBins", emptyBins);
-        report.put("partialBins", partialBins);
-        report.put("fullBins", fullBins);
-        report.put("overdueBins", overdueBins);
-        report.put("alertedBins", alertedBins);
-        report.put("averageFillLevel", Math.round(averageFillLevel));
+        report.put("totalBins", (int) totals.total());
+        report.put("emptyBins", totals.count(Bin.BinStatus.EMPTY));
+        report.put("partialBins", totals.count(Bin.BinStatus.PARTIAL));
+        report.put("fullBins", totals.count(Bin.BinStatus.FULL));
+        report.put("overdueBins", totals.count(Bin.BinStatus.OVERDUE));
+        report.put("alertedBins", totals.alerted());
+        report.put("averageFillLevel", Math.round(totals.averageFillLevel()));
+        report.put("averageFillTrend", dailyAverageFill(7));
         report.put("generatedAt", LocalDateTime.now());
         
         return report;
@@ -178,35 +158,26 @@ public class ReportServiceImpl implements ReportService {
     public Map<String, Object> generateCollectorEfficiencyReport(ReportDTO reportDTO) {
         Map<String, Object> report = new HashMap<>();
         
-        List<User> collectors = userRepository.findAll().stream()
-            .filter(user -> user.getRole() == User.UserRole.COLLECTOR)
-            .toList();
+        CollectorTotals totals = collectorTotals();
         
         Map<String, Object> efficiencyData = new HashMap<>();
         
-        for (User collector : collectors) {
+        for (UserRepository.UserName collector : totals.collectors()) {
             Map<String, Object> efficiency = new HashMap<>();
             
-            List<Route> routes = routeRepository.findByCollector(collector);
-            List<Collection> collections = collectionRepository.findByCollector(collector);
-            
-            double avgRouteDuration = routes.stream()
-                .filter(r -> r.getActualDurationMinutes() != null)
-                .mapToInt(Route::getActualDurationMinutes)
-                .average()
-                .orElse(0.0);
+            RouteRepository.CollectorRouteStats routes = totals.routes().get(collector.getId());
+            CollectionRepository.CollectorCollectionStats collections = totals.collections().get(collector.getId());
             
-            double avgEstimatedDuration = routes.stream()
-                .filter(r -> r.getEstimatedDurationMinutes() != null)
-                .mapToInt(Route::getEstimatedDurationMinutes)
-                .average()
-                .orElse(0.0);
+            double avgRouteDuration = routes != null && routes.getAvgActualDuration() != null
+                ? routes.getAvgActualDuration() : 0.0;
+            double avgEstimatedDuration = routes != null && routes.getAvgEstimatedDuration() != null
+                ? routes.getAvgEstimatedDuration() : 0.0;
             
             double efficiencyScore = avgEstimatedDuration > 0 ? 
                 (avgEstimatedDuration - avgRouteDuration) / avgEstimatedDuration * 100 : 0;
             
-            efficiency.put("totalRoutes", routes.size());
-            efficiency.put("totalCollections", collections.size());
+            efficiency.put("totalRoutes", routes != null ? routes.getTotalCount().intValue() : 0);
+            efficiency.put("totalCollections", collections != null ? collections.getTotalCount().intValue() : 0);
             efficiency.put("avgRouteDuration", avgRouteDuration);
             efficiency.put("avgEstimatedDuration", avgEstimatedDuration);
             efficiency.put("efficiencyScore", efficiencyScore);
@@ -225,41 +196,27 @@ public class ReportServiceImpl implements ReportService {
     public Map<String, Object> generateSystemOverviewReport() {
         Map<String, Object> report = new HashMap<>();
         
-        long totalBins = binRepository.count();
+        BinTotals binTotals = binTotals();
+        long totalBins = binTotals.total();
         long totalCollections = collectionRepository.count();
         long totalRoutes = routeRepository.count();
-        long totalUsers = userRepository.count();
-        
-        long activeCollectors = userRepository.findAll().stream()
-            .filter(user -> user.getRole() == User.UserRole.COLLECTOR)
-            .count();
-        
-        long activeAuthorities = userRepository.findAll().stream()
-            .filter(user -> user.getRole() == User.UserRole.AUTHORITY)
-            .count();
         
-        long activeResidents = userRepository.findAll().stream()
-            .filter(user -> user.getRole() == User.UserRole.RESIDENT)
-            .count();
+        Map<User.UserRole, Long> usersByRole = new EnumMap<>(User.UserRole.class);
+        for (UserRepository.RoleCount row : userRepository.countByRole()) {
+            usersByRole.put(row.getRole(), row.getUserCount());
+        }
+        long totalUsers = usersByRole.values().stream().mapToLong(Long::longValue).sum();
+        long activeCollectors = usersByRole.getOrDefault(User.UserRole.COLLECTOR, 0L);
+        long activeAuthorities = usersByRole.getOrDefault(User.UserRole.AUTHORITY, 0L);
+        long activeResidents = usersByRole.getOrDefault(User.UserRole.RESIDENT, 0L);
         
-        // Calculate average fill level
-        List<Bin> allBins = binRepository.findAll();
-        double averageFillLevel = allBins.stream()
-            .mapToInt(Bin::getFillLevel)
-            .average()
-            .orElse(0.0);
+        double averageFillLevel = binTotals.averageFillLevel();
         
         // Get last collection time
-        String lastCollectionTime = collectionRepository.findAll().stream()
-            .filter(c -> c.getStatus() == Collection.CollectionStatus.COMPLETED)
-            .max((c1, c2) -> c1.getCreatedAt().compareTo(c2.getCreatedAt()))
-            .map(c -> {
-                LocalDateTime now = LocalDateTime.now();
-                LocalDateTime collectionTime = c.getCreatedAt();
-                long hoursAgo = java.time.Duration.between(collectionTime, now).toHours();
-                return hoursAgo + "h ago";
-            })
-            .orElse("No collections");
+        LocalDateTime lastCollection = collectionRepository.findLatestCompletedCreatedAt();
+        String lastCollectionTime = lastCollection != null
+            ? java.time.Duration.between(lastCollection, LocalDateTime.now()).toHours() + "h ago"
+            : "No collections";
         
         report.put("reportType", "System Overview Report");
         report.put("totalBins", totalBins);
@@ -275,5 +232,96 @@ public class ReportServiceImpl implements ReportService {
         
         return report;
     }
-}
 
+    /**
+     * Collection counts for [startDate, endDate] from the rollups: whole days from daily rows,
+     * the partial days at either end from hourly rows. Precision is one hour.
+     */
+    private List<CollectionRepository.TypeStatusCount> collectionCounts(LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime from = RollupGranularity.HOUR.bucketStart(startDate);
+        LocalDateTime to = RollupGranularity.HOUR.bucketStart(endDate).plusHours(1);
+        LocalDateTime firstWholeDay = RollupGranularity.DAY.bucketStart(from);
+        if (firstWholeDay.isBefore(from)) {
+            firstWholeDay = firstWholeDay.plusDays(1);
+        }
+        LocalDateTime endOfWholeDays = RollupGranularity.DAY.bucketStart(to);
+        
+        List<CollectionRepository.TypeStatusCount> rows = new ArrayList<>();
+        if (firstWholeDay.isBefore(endOfWholeDays)) {
+            rows.addAll(collectionRollupRepository.countByTypeAndStatus(RollupGranularity.HOUR, from, firstWholeDay));
+            rows.addAll(collectionRollupRepository.countByTypeAndStatus(RollupGranularity.DAY, firstWholeDay, endOfWholeDays));
+            rows.addAll(collectionRollupRepository.countByTypeAndStatus(RollupGranularity.HOUR, endOfWholeDays, to));
+        } else {
+            rows.addAll(collectionRollupRepository.countByTypeAndStatus(RollupGranularity.HOUR, from, to));
+        }
+        return rows;
+    }
+
+    /**
+     * Average sampled fill level for each of the last days, oldest first; null for days without samples
+     */
+    private List<Long> dailyAverageFill(int days) {
+        LocalDateTime today = RollupGranularity.DAY.bucketStart(LocalDateTime.now());
+        LocalDateTime firstDay = today.minusDays(days - 1);
+        Map<LocalDateTime, BinFillRollupRepository.FillBucketTotals> byDay = new HashMap<>();
+        for (BinFillRollupRepository.FillBucketTotals row : binFillRollupRepository.sumByBucket(
+                RollupGranularity.DAY, firstDay, today.plusDays(1))) {
+            byDay.put(row.getBucketStart(), row);
+        }
+        List<Long> trend = new ArrayList<>();
+        for (LocalDateTime day = firstDay; !day.isAfter(today); day = day.plusDays(1)) {
+            BinFillRollupRepository.FillBucketTotals row = byDay.get(day);
+            trend.add(row != null && row.getSampleCount() > 0
+                ? Math.round((double) row.getFillLevelSum() / row.getSampleCount()) : null);
+        }
+        return trend;
+    }
+
+    /**
+     * Per-collector collection and route totals from three queries, however many collectors there are
+     */
+    private CollectorTotals collectorTotals() {
+        Map<Long, CollectionRepository.CollectorCollectionStats> collections = new HashMap<>();
+        for (CollectionRepository.CollectorCollectionStats row : collectionRepository.summarizeByCollector()) {
+            collections.put(row.getCollectorId(), row);
+        }
+        Map<Long, RouteRepository.CollectorRouteStats> routes = new HashMap<>();
+        for (RouteRepository.CollectorRouteStats row : routeRepository.summarizeByCollector()) {
+            routes.put(row.getCollectorId(), row);
+        }
+        return new CollectorTotals(userRepository.findNamesByRole(User.UserRole.COLLECTOR), collections, routes);
+    }
+
+    private record CollectorTotals(List<UserRepository.UserName> collectors,
+                                   Map<Long, CollectionRepository.CollectorCollectionStats> collections,
+                                   Map<Long, RouteRepository.CollectorRouteStats> routes) {
+    }
+
+    /**
+     * Bin counts and fill level from one grouped query instead of loading every bin
+     */
+    private BinTotals binTotals() {
+        Map<Bin.BinStatus, Long> byStatus = new EnumMap<>(Bin.BinStatus.class);
+        long total = 0;
+        long alerted = 0;
+        long fillLevelSum = 0;
+        for (BinRepository.BinStatusSummary row : binRepository.summarizeByStatus()) {
+            byStatus.put(row.getStatus(), row.getBinCount());
+            total += row.getBinCount();
+            alerted += row.getAlertedCount() != null ? row.getAlertedCount() : 0;
+            fillLevelSum += row.getFillLevelSum() != null ? row.getFillLevelSum() : 0;
+        }
+        return new BinTotals(byStatus, total, alerted, fillLevelSum);
+    }
+
+    private record BinTotals(Map<Bin.BinStatus, Long> byStatus, long total, long alerted, long fillLevelSum) {
+
+        long count(Bin.BinStatus status) {
+            return byStatus.getOrDefault(status, 0L);
+        }
+
+        double averageFillLevel() {
+            return total > 0 ? (double) fillLevelSum / total : 0.0;
+        }
+    }
+}
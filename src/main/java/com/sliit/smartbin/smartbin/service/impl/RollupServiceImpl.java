@@ -0,0 +1,458 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.service.RollupService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Write-behind implementation of RollupService.
+ *
+ * Increments are merged per bucket key in memory, so a burst of events touching
+ * the same hour costs one row update. Every flush writes all pending keys as one
+ * UPDATE batch per table, then one INSERT batch for keys that had no row yet.
+ * Only the flusher and the reconciler write rollups, and they share a lock, so
+ * the update-then-insert sequence never races within one instance.
+ */
+@Service
+public class RollupServiceImpl implements RollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupServiceImpl.class);
+
+    static final String UNASSIGNED_REGION = "UNASSIGNED";
+
+    private static final RollupGranularity[] GRANULARITIES = RollupGranularity.values();
+
+    private static final String SELECT_COLLECTIONS_SQL =
+        "SELECT c.collection_date, c.collector_id, u.region, b.bin_type, c.collection_type, c.status, c.waste_level " +
+        "FROM collections c JOIN users u ON u.id = c.collector_id JOIN bins b ON b.id = c.bin_id " +
+        "WHERE c.collection_date >= ? AND c.collection_date < ?";
+
+    private static final String SELECT_ROUTES_SQL =
+        "SELECT r.completed_date, r.collector_id, u.region, r.estimated_duration, r.actual_duration, r.total_distance " +
+        "FROM routes r JOIN users u ON u.id = r.collector_id " +
+        "WHERE r.status = 'COMPLETED' AND r.completed_date >= ? AND r.completed_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileDays;
+
+    private final RollupTable<CollectionKey, CollectionDelta> collections;
+    private final RollupTable<RouteKey, RouteDelta> routes;
+    private final RollupTable<FillKey, FillDelta> fills;
+
+    public RollupServiceImpl(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${smartbin.rollup.reconcile-days:2}") int reconcileDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileDays = reconcileDays;
+
+        this.collections = new RollupTable<>("collection_rollups",
+            "UPDATE collection_rollups SET collection_count = collection_count + ?, waste_level_sum = waste_level_sum + ? " +
+            "WHERE granularity = ? AND bucket_start = ? AND collector_id = ? AND region = ? AND bin_type = ? " +
+            "AND collection_type = ? AND status = ?",
+            "INSERT INTO collection_rollups (granularity, bucket_start, collector_id, region, bin_type, collection_type, " +
+            "status, collection_count, waste_level_sum) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            key -> new Object[] {key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.collectorId(),
+                                 key.region(), key.binType().name(), key.collectionType().name(), key.status().name()},
+            delta -> new Object[] {delta.count(), delta.wasteLevelSum()},
+            CollectionKey::bucketStart, CollectionDelta::plus);
+
+        this.routes = new RollupTable<>("route_rollups",
+            "UPDATE route_rollups SET route_count = route_count + ?, timed_route_count = timed_route_count + ?, " +
+            "estimated_minutes_sum = estimated_minutes_sum + ?, actual_minutes_sum = actual_minutes_sum + ?, " +
+            "distance_km_sum = distance_km_sum + ? " +
+            "WHERE granularity = ? AND bucket_start = ? AND collector_id = ? AND region = ?",
+            "INSERT INTO route_rollups (granularity, bucket_start, collector_id, region, route_count, timed_route_count, " +
+            "estimated_minutes_sum, actual_minutes_sum, distance_km_sum) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            key -> new Object[] {key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.collectorId(),
+                                 key.region()},
+            delta -> new Object[] {delta.routes(), delta.timedRoutes(), delta.estimatedMinutes(),
+                                   delta.actualMinutes(), delta.distanceKm()},
+            RouteKey::bucketStart, RouteDelta::plus);
+
+        this.fills = new RollupTable<>("bin_fill_rollups",
+            "UPDATE bin_fill_rollups SET sample_count = sample_count + ?, fill_level_sum = fill_level_sum + ?, " +
+            "max_fill_level = GREATEST(max_fill_level, ?), full_sample_count = full_sample_count + ? " +
+            "WHERE granularity = ? AND bucket_start = ? AND bin_type = ?",
+            "INSERT INTO bin_fill_rollups (granularity, bucket_start, bin_type, sample_count, fill_level_sum, " +
+            "max_fill_level, full_sample_count) VALUES (?, ?, ?, ?, ?, ?, ?)",
+            key -> new Object[] {key.granularity().name(), Timestamp.valueOf(key.bucketStart()), key.binType().name()},
+            delta -> new Object[] {delta.samples(), delta.fillLevelSum(), delta.maxFillLevel(), delta.fullSamples()},
+            FillKey::bucketStart, FillDelta::plus);
+    }
+
+    @Override
+    public void collectionChanged(Collection collection, Collection.CollectionStatus previousStatus) {
+        Collection.CollectionStatus status = collection.getStatus();
+        if (collection.getCollectionDate() == null || status == previousStatus) {
+            return;
+        }
+        CollectionDims dims = dimsOf(collection);
+        long wasteLevel = collection.getWasteLevel() != null ? collection.getWasteLevel() : 0;
+        afterCommit(() -> {
+            if (previousStatus != null) {
+                addCollection(dims, previousStatus, new CollectionDelta(-1, -wasteLevel));
+            }
+            addCollection(dims, status, new CollectionDelta(1, wasteLevel));
+        });
+    }
+
+    @Override
+    public void collectionRemoved(Collection collection) {
+        if (collection.getCollectionDate() == null) {
+            return;
+        }
+        CollectionDims dims = dimsOf(collection);
+        Collection.CollectionStatus status = collection.getStatus();
+        long wasteLevel = collection.getWasteLevel() != null ? collection.getWasteLevel() : 0;
+        afterCommit(() -> addCollection(dims, status, new CollectionDelta(-1, -wasteLevel)));
+    }
+
+    @Override
+    public void routeCompleted(Route route) {
+        if (route.getCompletedDate() == null) {
+            return;
+        }
+        RouteDelta delta = routeDelta(route.getEstimatedDurationMinutes(), route.getActualDurationMinutes(),
+                                      route.getTotalDistanceKm());
+        LocalDateTime completed = route.getCompletedDate();
+        Long collectorId = route.getCollector().getId();
+        String region = regionOf(route.getCollector().getRegion());
+        afterCommit(() -> {
+            for (RollupGranularity granularity : GRANULARITIES) {
+                routes.add(new RouteKey(granularity, granularity.bucketStart(completed), collectorId, region), delta);
+            }
+        });
+    }
+
+    /**
+     * Applied immediately rather than after commit: a sample is an observation,
+     * and the telemetry and simulation writers issue thousands per batch.
+     */
+    @Override
+    public void fillLevelObserved(Bin.BinType binType, int fillLevel, LocalDateTime observedAt) {
+        FillDelta delta = new FillDelta(1, fillLevel, fillLevel,
+            Bin.statusForFillLevel(fillLevel) == Bin.BinStatus.FULL ? 1 : 0);
+        for (RollupGranularity granularity : GRANULARITIES) {
+            fills.add(new FillKey(granularity, granularity.bucketStart(observedAt), binType), delta);
+        }
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${smartbin.rollup.flush-ms:5000}")
+    public synchronized void flush() {
+        int written = collections.flush() + routes.flush() + fills.flush();
+        if (written > 0) {
+            logger.debug("Flushed {} rollup buckets", written);
+        }
+    }
+
+    @Override
+    public synchronized void reconcile(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = RollupGranularity.DAY.bucketStart(from);
+        LocalDateTime end = RollupGranularity.DAY.bucketStart(to);
+        if (!end.equals(to)) {
+            end = RollupGranularity.DAY.next(end);
+        }
+        long started = System.currentTimeMillis();
+        flush();
+
+        // A delta recorded before a snapshot query starts belongs to a commit that query
+        // already sees, so drop the table's pending deltas for the window right before it;
+        // anything recorded from then on is kept and flushed on top of the rebuilt rows
+        Map<CollectionKey, CollectionDelta> collectionRows = new HashMap<>();
+        collections.discard(start, end);
+        jdbcTemplate.query(SELECT_COLLECTIONS_SQL, rs -> {
+            CollectionDims dims = new CollectionDims(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2),
+                regionOf(rs.getString(3)), Bin.BinType.valueOf(rs.getString(4)),
+                Collection.CollectionType.valueOf(rs.getString(5)));
+            CollectionDelta delta = new CollectionDelta(1, rs.getLong(7));
+            for (RollupGranularity granularity : GRANULARITIES) {
+                collectionRows.merge(dims.key(granularity, Collection.CollectionStatus.valueOf(rs.getString(6))),
+                                     delta, CollectionDelta::plus);
+            }
+        }, Timestamp.valueOf(start), Timestamp.valueOf(end));
+
+        Map<RouteKey, RouteDelta> routeRows = new HashMap<>();
+        routes.discard(start, end);
+        jdbcTemplate.query(SELECT_ROUTES_SQL, rs -> {
+            LocalDateTime completed = rs.getTimestamp(1).toLocalDateTime();
+            String region = regionOf(rs.getString(3));
+            RouteDelta delta = routeDelta(rs.getObject(4, Integer.class), rs.getObject(5, Integer.class),
+                                          rs.getObject(6, Double.class));
+            for (RollupGranularity granularity : GRANULARITIES) {
+                routeRows.merge(new RouteKey(granularity, granularity.bucketStart(completed), rs.getLong(2), region),
+                                delta, RouteDelta::plus);
+            }
+        }, Timestamp.valueOf(start), Timestamp.valueOf(end));
+
+        Timestamp startAt = Timestamp.valueOf(start);
+        Timestamp endAt = Timestamp.valueOf(end);
+        transactionTemplate.executeWithoutResult(status -> {
+            collections.replace(collectionRows, startAt, endAt);
+            routes.replace(routeRows, startAt, endAt);
+        });
+        logger.info("Reconciled rollups for {} to {}: {} collection and {} route buckets in {} ms",
+                    start.toLocalDate(), end.toLocalDate(), collectionRows.size(), routeRows.size(),
+                    System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Nightly rebuild of the last few days, catching anything the live path missed
+     */
+    @Scheduled(cron = "${smartbin.rollup.reconcile-cron:0 30 2 * * *}")
+    public void reconcileRecentDays() {
+        LocalDateTime now = LocalDateTime.now();
+        reconcile(now.minusDays(reconcileDays), now);
+    }
+
+    /**
+     * First start with empty rollups: build them from the whole history
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void backfillIfEmpty() {
+        Long existing = jdbcTemplate.queryForObject(
+            "SELECT (SELECT COUNT(*) FROM collection_rollups) + (SELECT COUNT(*) FROM route_rollups)", Long.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        Timestamp firstCollection = jdbcTemplate.queryForObject(
+            "SELECT MIN(collection_date) FROM collections", Timestamp.class);
+        Timestamp firstRoute = jdbcTemplate.queryForObject(
+            "SELECT MIN(completed_date) FROM routes WHERE status = 'COMPLETED'", Timestamp.class);
+        if (firstCollection == null && firstRoute == null) {
+            return;
+        }
+        LocalDateTime from = firstCollection == null ? firstRoute.toLocalDateTime()
+            : firstRoute == null ? firstCollection.toLocalDateTime()
+            : (firstCollection.before(firstRoute) ? firstCollection : firstRoute).toLocalDateTime();
+        reconcile(from, LocalDateTime.now());
+    }
+
+    private void addCollection(CollectionDims dims, Collection.CollectionStatus status, CollectionDelta delta) {
+        for (RollupGranularity granularity : GRANULARITIES) {
+            collections.add(dims.key(granularity, status), delta);
+        }
+    }
+
+    private static CollectionDims dimsOf(Collection collection) {
+        return new CollectionDims(collection.getCollectionDate(), collection.getCollector().getId(),
+            regionOf(collection.getCollector().getRegion()), collection.getBin().getBinType(),
+            collection.getCollectionType());
+    }
+
+    private static RouteDelta routeDelta(Integer estimatedMinutes, Integer actualMinutes, Double distanceKm) {
+        boolean timed = estimatedMinutes != null && actualMinutes != null;
+        return new RouteDelta(1, timed ? 1 : 0, timed ? estimatedMinutes : 0, timed ? actualMinutes : 0,
+                              distanceKm != null ? distanceKm : 0.0);
+    }
+
+    private static String regionOf(String region) {
+        return region == null || region.isBlank() ? UNASSIGNED_REGION : region;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static Object[] concat(Object[] first, Object[] second) {
+        Object[] all = new Object[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+
+    /**
+     * Pending increments for one rollup table and the SQL to apply them
+     */
+    private final class RollupTable<K, V> {
+        private final String table;
+        private final String updateSql;
+        private final String insertSql;
+        private final Function<K, Object[]> keyColumns;
+        private final Function<V, Object[]> valueColumns;
+        private final Function<K, LocalDateTime> bucketStart;
+        private final BinaryOperator<V> combine;
+        private final Map<K, V> pending = new ConcurrentHashMap<>();
+
+        private RollupTable(String table, String updateSql, String insertSql, Function<K, Object[]> keyColumns,
+                            Function<V, Object[]> valueColumns, Function<K, LocalDateTime> bucketStart,
+                            BinaryOperator<V> combine) {
+            this.table = table;
+            this.updateSql = updateSql;
+            this.insertSql = insertSql;
+            this.keyColumns = keyColumns;
+            this.valueColumns = valueColumns;
+            this.bucketStart = bucketStart;
+            this.combine = combine;
+        }
+
+        private void add(K key, V delta) {
+            pending.merge(key, delta, combine);
+        }
+
+        /**
+         * Write and clear pending increments; on a database error they stay pending for the next flush
+         */
+        private int flush() {
+            List<K> keys = new ArrayList<>();
+            List<V> deltas = new ArrayList<>();
+            for (K key : pending.keySet()) {
+                V delta = pending.remove(key);
+                if (delta != null) {
+                    keys.add(key);
+                    deltas.add(delta);
+                }
+            }
+            if (keys.isEmpty()) {
+                return 0;
+            }
+
+            int[] updated;
+            List<Object[]> updateArgs = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                updateArgs.add(concat(valueColumns.apply(deltas.get(i)), keyColumns.apply(keys.get(i))));
+            }
+            try {
+                updated = jdbcTemplate.batchUpdate(updateSql, updateArgs);
+            } catch (DataAccessException e) {
+                logger.warn("Could not update {}, keeping {} buckets pending: {}", table, keys.size(), e.getMessage());
+                for (int i = 0; i < keys.size(); i++) {
+                    add(keys.get(i), deltas.get(i));
+                }
+                return 0;
+            }
+
+            List<Integer> missing = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                int count = i < updated.length ? updated[i] : 0;
+                if (count == 0) {
+                    missing.add(i);
+                }
+            }
+            if (!missing.isEmpty()) {
+                List<Object[]> insertArgs = new ArrayList<>(missing.size());
+                for (int i : missing) {
+                    insertArgs.add(concat(keyColumns.apply(keys.get(i)), valueColumns.apply(deltas.get(i))));
+                }
+                try {
+                    jdbcTemplate.batchUpdate(insertSql, insertArgs);
+                } catch (DataAccessException e) {
+                    // Typically another instance inserted the row first; the next flush updates it
+                    logger.warn("Could not insert into {}, keeping {} buckets pending: {}",
+                                table, missing.size(), e.getMessage());
+                    for (int i : missing) {
+                        add(keys.get(i), deltas.get(i));
+                    }
+                }
+            }
+            return keys.size();
+        }
+
+        /**
+         * Drop pending increments for buckets in [start, end), which a reconcile is about to rebuild
+         */
+        private void discard(LocalDateTime start, LocalDateTime end) {
+            pending.keySet().removeIf(key -> {
+                LocalDateTime bucket = bucketStart.apply(key);
+                return !bucket.isBefore(start) && bucket.isBefore(end);
+            });
+        }
+
+        /**
+         * Replace every row in [start, end) with the given rows, inside the caller's transaction
+         */
+        private void replace(Map<K, V> rows, Timestamp start, Timestamp end) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE bucket_start >= ? AND bucket_start < ?", start, end);
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<Object[]> insertArgs = new ArrayList<>(rows.size());
+            rows.forEach((key, delta) -> insertArgs.add(concat(keyColumns.apply(key), valueColumns.apply(delta))));
+            jdbcTemplate.batchUpdate(insertSql, insertArgs);
+        }
+    }
+
+    private record CollectionDims(LocalDateTime collectionDate, Long collectorId, String region,
+                                  Bin.BinType binType, Collection.CollectionType collectionType) {
+
+        CollectionKey key(RollupGranularity granularity, Collection.CollectionStatus status) {
+            return new CollectionKey(granularity, granularity.bucketStart(collectionDate), collectorId, region,
+                                     binType, collectionType, status);
+        }
+    }
+
+    private record CollectionKey(RollupGranularity granularity, LocalDateTime bucketStart, Long collectorId,
+                                 String region, Bin.BinType binType, Collection.CollectionType collectionType,
+                                 Collection.CollectionStatus status) {
+    }
+
+    private record CollectionDelta(long count, long wasteLevelSum) {
+        CollectionDelta plus(CollectionDelta other) {
+            return new CollectionDelta(count + other.count, wasteLevelSum + other.wasteLevelSum);
+        }
+    }
+
+    private record RouteKey(RollupGranularity granularity, LocalDateTime bucketStart, Long collectorId,
+                            String region) {
+    }
+
+    private record RouteDelta(long routes, long timedRoutes, long estimatedMinutes, long actualMinutes,
+                              double distanceKm) {
+        RouteDelta plus(RouteDelta other) {
+            return new RouteDelta(routes + other.routes, timedRoutes + other.timedRoutes,
+                                  estimatedMinutes + other.estimatedMinutes, actualMinutes + other.actualMinutes,
+                                  distanceKm + other.distanceKm);
+        }
+    }
+
+    private record FillKey(RollupGranularity granularity, LocalDateTime bucketStart, Bin.BinType binType) {
+    }
+
+    private record FillDelta(long samples, long fillLevelSum, int maxFillLevel, long fullSamples) {
+        FillDelta plus(FillDelta other) {
+            return new FillDelta(samples + other.samples, fillLevelSum + other.fillLevelSum,
+                                 Math.max(maxFillLevel, other.maxFillLevel), fullSamples + other.fullSamples);
+        }
+    }
+}
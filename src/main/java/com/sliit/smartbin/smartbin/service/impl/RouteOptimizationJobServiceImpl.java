@@ -0,0 +1,212 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.service.DepotService;
+import com.sliit.smartbin.smartbin.service.NotificationService;
+import com.sliit.smartbin.smartbin.service.RouteOptimizationJobService;
+import com.sliit.smartbin.smartbin.service.RouteService;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationJob;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationListener;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background route optimization.
+ *
+ * Each job runs on a virtual thread that loads bins and saves the result,
+ * while the solver itself runs on a fixed pool sized for CPU work; MULTI_START
+ * restarts share that pool rather than adding threads of their own. A
+ * semaphore caps jobs in flight so a burst of requests queues boundedly
+ * instead of piling up threads. Nothing is written until the solver has
+ * finished and the job has not been cancelled; the Route and its stops are
+ * then saved in one transaction by RouteService.saveOptimizedRoute.
+ */
+@Service
+public class RouteOptimizationJobServiceImpl implements RouteOptimizationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RouteOptimizationJobServiceImpl.class);
+
+    private final BinRepository binRepository;
+    private final RouteService routeService;
+    private final NotificationService notificationService;
+    private final DepotService depotService;
+    private final RouteOptimizationPipeline optimizationPipeline;
+
+    private final ExecutorService ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService cpuExecutor;
+    private final Semaphore admissions;
+    private final long retentionMinutes;
+    private final Map<String, OptimizationJob> jobs = new ConcurrentHashMap<>();
+
+    public RouteOptimizationJobServiceImpl(BinRepository binRepository,
+                                           RouteService routeService,
+                                           NotificationService notificationService,
+                                           DepotService depotService,
+                                           RouteOptimizationPipeline optimizationPipeline,
+                                           @Value("${smartbin.routing.jobs.cpu-threads:0}") int cpuThreads,
+                                           @Value("${smartbin.routing.jobs.max-pending:32}") int maxPending,
+                                           @Value("${smartbin.routing.jobs.retention-minutes:60}") long retentionMinutes) {
+        if (maxPending <= 0) {
+            throw new IllegalArgumentException("Maximum pending optimization jobs must be positive");
+        }
+        this.binRepository = binRepository;
+        this.routeService = routeService;
+        this.notificationService = notificationService;
+        this.depotService = depotService;
+        this.optimizationPipeline = optimizationPipeline;
+        this.admissions = new Semaphore(maxPending);
+        this.retentionMinutes = retentionMinutes;
+
+        int threads = cpuThreads > 0 ? cpuThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.cpuExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "route-optimizer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public OptimizationJob submit(List<Long> binIds, User collector, User authority, RouteOptimizerType optimizer,
+                                  TourOptions tourOptions) {
+        if (!admissions.tryAcquire()) {
+            throw new RejectedExecutionException("Too many route optimizations in progress, please retry shortly");
+        }
+
+        OptimizationJob job = new OptimizationJob(UUID.randomUUID().toString(), optimizer, binIds.size());
+        jobs.put(job.getId(), job);
+        try {
+            ioExecutor.execute(() -> {
+                try {
+                    run(job, List.copyOf(binIds), tourOptions, collector, authority);
+                } finally {
+                    admissions.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admissions.release();
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    @Override
+    public Optional<OptimizationJob> findJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @Override
+    public boolean cancel(String jobId) {
+        OptimizationJob job = jobs.get(jobId);
+        return job != null && job.cancel();
+    }
+
+    private void run(OptimizationJob job, List<Long> binIds, TourOptions tourOptions, User collector, User authority) {
+        try {
+            if (job.isCancelRequested()) {
+                job.markCancelled();
+                return;
+            }
+
+            List<Bin> bins = binRepository.findAllById(binIds);
+            if (bins.isEmpty()) {
+                job.markFailed("No bins found for the provided IDs");
+                return;
+            }
+            RouteEnds ends = depotService.resolveEnds(tourOptions, bins);
+            DistanceMatrix distances = DistanceMatrix.forRoute(ends, bins);
+
+            job.markRunning();
+            OptimizationListener listener = new OptimizationListener() {
+                @Override
+                public void onProgress(double fraction, double bestDistanceKm) {
+                    job.updateProgress(fraction, bestDistanceKm);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return job.isCancelRequested();
+                }
+            };
+            OptimizedTour tour = cpuExecutor.submit(() ->
+                optimizationPipeline.optimize(distances, job.getOptimizer(), listener, cpuExecutor)).get();
+
+            if (!job.beginCommit()) {
+                job.markCancelled();
+                return;
+            }
+
+            List<Bin> orderedBins = new ArrayList<>(bins.size());
+            for (int index : distances.stopOrder(tour.order())) {
+                orderedBins.add(bins.get(index));
+            }
+            Route route = routeService.saveOptimizedRoute(orderedBins, ends, tour, collector, authority);
+            job.markCompleted(route.getId(), route.getEstimatedDurationMinutes(), tour);
+
+            notifyCollector(collector, route);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.markFailed("Optimization was interrupted");
+        } catch (ExecutionException e) {
+            logger.warn("Route optimization job {} failed", job.getId(), e.getCause());
+            job.markFailed(e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Route optimization job {} failed", job.getId(), e);
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    private void notifyCollector(User collector, Route route) {
+        try {
+            notificationService.sendRouteNotification(collector, route);
+        } catch (RuntimeException e) {
+            // The route is already committed; a failed notification must not fail the job
+            logger.warn("Failed to notify collector {} about route {}", collector.getId(), route.getId(), e);
+        }
+    }
+
+    /**
+     * Forget finished jobs once they have been retained long enough to be polled
+     */
+    @Scheduled(fixedDelayString = "${smartbin.routing.jobs.cleanup-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.getStatus().isFinished()
+            && job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(OptimizationJob::cancel);
+        ioExecutor.shutdown();
+        cpuExecutor.shutdown();
+    }
+}
@@ -1,40 +1,104 @@
 package com.sliit.smartbin.smartbin.service.impl;
 
 import com.sliit.smartbin.smartbin.dto.RouteDTO;
+import com.sliit.smartbin.smartbin.event.RouteAssignedEvent;
+import com.sliit.smartbin.smartbin.event.RouteCompletedEvent;
 import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
 import com.sliit.smartbin.smartbin.model.Route;
 import com.sliit.smartbin.smartbin.model.RouteBin;
 import com.sliit.smartbin.smartbin.model.User;
 import com.sliit.smartbin.smartbin.repository.BinRepository;
-import com.sliit.smartbin.smartbin.repository.RouteBinRepository;
 import com.sliit.smartbin.smartbin.repository.RouteRepository;
 import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.DepotService;
+import com.sliit.smartbin.smartbin.service.RollupService;
 import com.sliit.smartbin.smartbin.service.RouteService;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.FleetDispatchResult;
+import com.sliit.smartbin.smartbin.service.routing.FleetPlan;
+import com.sliit.smartbin.smartbin.service.routing.FleetRoutePlanner;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteDurationEstimator;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.RouteRepairPlanner;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import com.sliit.smartbin.smartbin.service.routing.VehicleLimits;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class RouteServiceImpl implements RouteService {
 
+    private static final String INSERT_ROUTE_BIN_SQL =
+        "INSERT INTO route_bins (route_id, bin_id, sequence_order, status, distance_to_next_km, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ROUTE_STOPS_SQL =
+        "SELECT rb.id, rb.bin_id, rb.sequence_order, rb.status, rb.visited_date, rb.distance_to_next_km, " +
+        "b.latitude, b.longitude " +
+        "FROM route_bins rb JOIN bins b ON b.id = rb.bin_id WHERE rb.route_id = ? ORDER BY rb.sequence_order";
+
+    private static final String UPDATE_ROUTE_STOP_SQL =
+        "UPDATE route_bins SET status = ?, sequence_order = ?, visited_date = ?, distance_to_next_km = ?, " +
+        "updated_at = ? WHERE id = ?";
+
     private final RouteRepository routeRepository;
-    private final RouteBinRepository routeBinRepository;
     private final BinRepository binRepository;
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DepotService depotService;
+    private final RouteOptimizationPipeline optimizationPipeline;
+    private final FleetRoutePlanner fleetRoutePlanner;
+    private final RouteRepairPlanner routeRepairPlanner;
+    private final RollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultCapacityPerCollector;
+    private final int defaultShiftMinutes;
 
     public RouteServiceImpl(RouteRepository routeRepository, 
-                          RouteBinRepository routeBinRepository,
                           BinRepository binRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          JdbcTemplate jdbcTemplate,
+                          DepotService depotService,
+                          RouteOptimizationPipeline optimizationPipeline,
+                          FleetRoutePlanner fleetRoutePlanner,
+                          RouteRepairPlanner routeRepairPlanner,
+                          RollupService rollupService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${smartbin.dispatch.capacity-per-collector:40}") int defaultCapacityPerCollector,
+                          @Value("${smartbin.dispatch.shift-minutes:480}") int defaultShiftMinutes) {
         this.routeRepository = routeRepository;
-        this.routeBinRepository = routeBinRepository;
         this.binRepository = binRepository;
         this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.depotService = depotService;
+        this.optimizationPipeline = optimizationPipeline;
+        this.fleetRoutePlanner = fleetRoutePlanner;
+        this.routeRepairPlanner = routeRepairPlanner;
+        this.rollupService = rollupService;
+        this.eventPublisher = eventPublisher;
+        this.defaultCapacityPerCollector = defaultCapacityPerCollector;
+        this.defaultShiftMinutes = defaultShiftMinutes;
     }
 
     @Override
@@ -60,8 +124,9 @@ public class RouteServiceImpl implements RouteService {
         
         // Add bins to route if provided
         if (routeDTO.getBinIds() != null && !routeDTO.getBinIds().isEmpty()) {
-            addBinsToRoute(savedRoute.getId(), routeDTO.getBinIds());
+            addBinsToRoute(savedRoute.getId(), loadBinsInOrder(routeDTO.getBinIds()));
         }
+        publishAssigned(savedRoute);
         
         return savedRoute;
     }
@@ -108,6 +173,81 @@ public class RouteServiceImpl implements RouteService {
         return routeRepository.findActiveRoutesByCollector(collector);
     }
 
+    /**
+     * Status of every route of a collector, built from one joined query. Stops come
+     * in sequence order with their stored distance to the next stop; stops written
+     * before distances were stored fall back to computing it from the bins.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getRouteStatuses(Long collectorId) {
+        Map<Long, List<RouteRepository.RouteStopRow>> rowsByRoute = new LinkedHashMap<>();
+        for (RouteRepository.RouteStopRow row : routeRepository.findStopRowsByCollector(collectorId)) {
+            rowsByRoute.computeIfAbsent(row.getRouteId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<Map<String, Object>> routeStatuses = new ArrayList<>(rowsByRoute.size());
+        for (List<RouteRepository.RouteStopRow> rows : rowsByRoute.values()) {
+            RouteRepository.RouteStopRow route = rows.get(0);
+            Map<String, Object> routeData = new LinkedHashMap<>();
+            routeData.put("id", route.getRouteId());
+            routeData.put("status", route.getRouteStatus().name());
+            routeData.put("routeName", route.getRouteName());
+
+            List<RouteRepository.RouteStopRow> stops = rows.stream().filter(row -> row.getSequenceOrder() != null).toList();
+            if (!stops.isEmpty()) {
+                List<Map<String, Object>> binsData = new ArrayList<>(stops.size());
+                long completedBins = 0;
+                for (int i = 0; i < stops.size(); i++) {
+                    RouteRepository.RouteStopRow stop = stops.get(i);
+                    Double distanceToNext = stop.getDistanceToNextKm();
+                    if (distanceToNext == null) {
+                        distanceToNext = i + 1 < stops.size()
+                            ? distanceKm(stop.getLatitude(), stop.getLongitude(),
+                                         stops.get(i + 1).getLatitude(), stops.get(i + 1).getLongitude())
+                            : 0.0;
+                    }
+
+                    Map<String, Object> binData = new LinkedHashMap<>();
+                    binData.put("sequenceOrder", stop.getSequenceOrder());
+                    binData.put("qrCode", stop.getQrCode());
+                    binData.put("location", stop.getLocation());
+                    binData.put("status", stop.getBinStatus().name());
+                    binData.put("fillLevel", stop.getFillLevel());
+                    binData.put("binType", stop.getBinType().name());
+                    binData.put("distanceToNext", distanceToNext != null ? Math.round(distanceToNext * 10.0) / 10.0 : 0.0);
+                    binsData.add(binData);
+
+                    if (stop.getStopStatus() == RouteBin.CollectionStatus.COMPLETED) {
+                        completedBins++;
+                    }
+                }
+
+                routeData.put("routeBins", binsData);
+                routeData.put("totalBins", stops.size());
+                if (route.getRouteStatus() == Route.RouteStatus.IN_PROGRESS) {
+                    routeData.put("progressPercent", (double) completedBins / stops.size() * 100);
+                    routeData.put("completedBins", completedBins);
+                }
+                if (route.getStartedDate() != null) {
+                    // The client derives the elapsed time, so the payload only changes when the data does
+                    routeData.put("startedDate", route.getStartedDate().truncatedTo(ChronoUnit.SECONDS));
+                }
+            }
+
+            routeStatuses.add(routeData);
+        }
+        return routeStatuses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getRouteStatusVersion(Long collectorId) {
+        RouteRepository.RouteStatusVersion version = routeRepository.findStatusVersionByCollector(collectorId);
+        return version.getRouteCount() + ":" + version.getStopCount() + ":" + version.getRouteUpdatedAt()
+            + ":" + version.getStopUpdatedAt() + ":" + version.getBinUpdatedAt();
+    }
+
     @Override
     public Route updateRouteStatus(Long routeId, Route.RouteStatus status) {
         Route route = routeRepository.findById(routeId)
@@ -138,6 +278,7 @@ public class RouteServiceImpl implements RouteService {
         Route route = routeRepository.findById(routeId)
             .orElseThrow(() -> new RuntimeException("Route not found with id: " + routeId));
         
+        boolean alreadyCompleted = route.getStatus() == Route.RouteStatus.COMPLETED;
         route.setStatus(Route.RouteStatus.COMPLETED);
         route.setCompletedDate(LocalDateTime.now());
         
@@ -147,7 +288,14 @@ public class RouteServiceImpl implements RouteService {
             route.setActualDurationMinutes((int) durationMinutes);
         }
         
-        return routeRepository.save(route);
+        Route savedRoute = routeRepository.save(route);
+        if (!alreadyCompleted) {
+            rollupService.routeCompleted(savedRoute);
+            eventPublisher.publishEvent(new RouteCompletedEvent(savedRoute.getId(), savedRoute.getCollector().getId(),
+                savedRoute.getEstimatedDurationMinutes(), savedRoute.getActualDurationMinutes(),
+                savedRoute.getCompletedDate()));
+        }
+        return savedRoute;
     }
 
     @Override
@@ -157,6 +305,11 @@ public class RouteServiceImpl implements RouteService {
 
     @Override
     public Route optimizeRoute(List<Long> binIds, User collector, User authority) {
+        return optimizeRoute(binIds, collector, authority, RouteOptimizerType.DEFAULT);
+    }
+
+    @Override
+    public Route optimizeRoute(List<Long> binIds, User collector, User authority, RouteOptimizerType optimizer) {
         // Retrieve bin locations from database
         List<Bin> bins = binRepository.findAllById(binIds);
         
@@ -164,12 +317,24 @@ public class RouteServiceImpl implements RouteService {
             throw new RuntimeException("No bins found for the provided IDs");
         }
         
-        // Optimize route using Nearest Neighbor algorithm (simplified TSP)
-        List<Long> optimizedBinIds = optimizeRouteUsingNearestNeighbor(bins);
+        // Depots are fixed anchors; the optimizer only orders the bins between them
+        RouteEnds ends = depotService.resolveEnds(TourOptions.DEFAULT, bins);
+        DistanceMatrix distances = DistanceMatrix.forRoute(ends, bins);
+        OptimizedTour tour = optimizationPipeline.optimize(distances, optimizer);
+        List<Bin> optimizedBins = new ArrayList<>(bins.size());
+        for (int index : distances.stopOrder(tour.order())) {
+            optimizedBins.add(bins.get(index));
+        }
         
-        // Calculate route statistics
-        double totalDistance = calculateTotalDistance(bins, optimizedBinIds);
-        int estimatedDuration = calculateEstimatedDuration(bins.size(), totalDistance);
+        return saveOptimizedRoute(optimizedBins, ends, tour, collector, authority);
+    }
+    
+    @Override
+    public Route saveOptimizedRoute(List<Bin> orderedBins, RouteEnds ends, OptimizedTour tour,
+                                    User collector, User authority) {
+        // Calculate route statistics; the tour length already includes the depot legs
+        double totalDistance = Math.round(tour.finalDistanceKm() * 100.0) / 100.0;
+        int estimatedDuration = RouteDurationEstimator.estimateMinutes(orderedBins.size(), totalDistance);
         
         // Create optimized route
         Route route = new Route();
@@ -179,155 +344,390 @@ public class RouteServiceImpl implements RouteService {
         route.setAuthority(authority);
         route.setStatus(Route.RouteStatus.ASSIGNED);
         route.setAssignedDate(LocalDateTime.now());
+        route.setStartDepot(ends.start());
+        route.setEndDepot(ends.end());
         route.setEstimatedDurationMinutes(estimatedDuration);
         route.setTotalDistanceKm(totalDistance);
-        route.setNotes("Route optimized using Nearest Neighbor algorithm");
+        route.setNotes(ends.describe(orderedBins.size()) + ". " + tour.describe());
         
         Route savedRoute = routeRepository.save(route);
         
         // Add bins to route in optimized order
-        addBinsToRoute(savedRoute.getId(), optimizedBinIds);
+        addBinsToRoute(savedRoute.getId(), orderedBins);
+        publishAssigned(savedRoute);
         
         return savedRoute;
     }
     
-    /**
-     * Optimize route using Nearest Neighbor algorithm
-     * This is a greedy algorithm that provides a reasonably good solution for TSP
-     */
-    private List<Long> optimizeRouteUsingNearestNeighbor(List<Bin> bins) {
+    @Override
+    public Route assignRouteToCollector(List<Long> binIds, User collector, User authority) {
+        return optimizeRoute(binIds, collector, authority);
+    }
+
+    @Override
+    public FleetDispatchResult dispatchFleet(List<Long> binIds, List<User> collectors, User authority,
+                                             Integer capacityPerCollector, Integer shiftMinutes,
+                                             Map<Long, VehicleLimits> collectorLimits,
+                                             RouteOptimizerType optimizer, TourOptions tourOptions) {
+        List<Bin> found = binRepository.findAllById(binIds);
+        if (found.isEmpty()) {
+            throw new RuntimeException("No bins found for the provided IDs");
+        }
+        
+        // Bins without coordinates cannot be routed; report them with the leftovers
+        List<Bin> bins = new ArrayList<>();
+        List<Long> unassignedBinIds = new ArrayList<>();
+        for (Bin bin : found) {
+            if (bin.getLatitude() != null && bin.getLongitude() != null) {
+                bins.add(bin);
+            } else {
+                unassignedBinIds.add(bin.getId());
+            }
+        }
         if (bins.isEmpty()) {
-            return new ArrayList<>();
+            return new FleetDispatchResult(List.of(), unassignedBinIds);
         }
         
-        List<Long> optimizedRoute = new ArrayList<>();
-        List<Bin> remainingBins = new ArrayList<>(bins);
+        VehicleLimits fleetDefaults = new VehicleLimits(
+            capacityPerCollector != null ? capacityPerCollector : defaultCapacityPerCollector,
+            shiftMinutes != null ? shiftMinutes : defaultShiftMinutes);
+        List<VehicleLimits> vehicles = new ArrayList<>(collectors.size());
+        for (User collector : collectors) {
+            VehicleLimits override = collectorLimits != null ? collectorLimits.get(collector.getId()) : null;
+            vehicles.add(override != null ? override.orElse(fleetDefaults) : fleetDefaults);
+        }
         
-        // Start with the first bin (or you could start with depot/office location)
-        Bin currentBin = remainingBins.get(0);
-        optimizedRoute.add(currentBin.getId());
-        remainingBins.remove(0);
+        RouteEnds ends = depotService.resolveEnds(tourOptions, bins);
+        FleetPlan plan = fleetRoutePlanner.plan(bins, ends, vehicles, optimizer);
+        String timestamp = LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         
-        // Repeatedly add the nearest unvisited bin
-        while (!remainingBins.isEmpty()) {
-            Bin nearestBin = findNearestBin(currentBin, remainingBins);
-            optimizedRoute.add(nearestBin.getId());
-            remainingBins.remove(nearestBin);
-            currentBin = nearestBin;
+        // One route per collector that received bins, all in this transaction
+        List<Route> routes = new ArrayList<>();
+        for (FleetPlan.VehicleRoute planned : plan.routes()) {
+            User collector = collectors.get(planned.vehicle());
+            double totalDistance = Math.round(planned.distanceKm() * 100.0) / 100.0;
+            
+            Route route = new Route();
+            route.setRouteName("Fleet Route " + (routes.size() + 1) + " - " + collector.getName() + " - " + timestamp);
+            route.setCollector(collector);
+            route.setAuthority(authority);
+            route.setStatus(Route.RouteStatus.ASSIGNED);
+            route.setAssignedDate(LocalDateTime.now());
+            route.setStartDepot(ends.start());
+            route.setEndDepot(ends.end());
+            route.setEstimatedDurationMinutes(planned.estimatedMinutes());
+            route.setTotalDistanceKm(totalDistance);
+            route.setNotes("Fleet dispatch (" + planned.stops().size() + " of " + bins.size() + " bins). " + planned.notes());
+            
+            Route savedRoute = routeRepository.save(route);
+            addBinsToRoute(savedRoute.getId(), planned.stops());
+            publishAssigned(savedRoute);
+            routes.add(savedRoute);
         }
         
-        return optimizedRoute;
+        plan.unassigned().forEach(bin -> unassignedBinIds.add(bin.getId()));
+        return new FleetDispatchResult(routes, unassignedBinIds);
     }
-    
-    /**
-     * Find the nearest bin to the current bin using Haversine formula
-     */
-    private Bin findNearestBin(Bin current, List<Bin> candidates) {
-        Bin nearest = candidates.get(0);
-        double minDistance = calculateDistance(current, nearest);
-        
-        for (Bin candidate : candidates) {
-            double distance = calculateDistance(current, candidate);
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = candidate;
+
+    @Override
+    public Route repairRoute(Long routeId, List<Long> addBinIds, List<Long> skipBinIds, List<Long> completedBinIds) {
+        // Locked so a concurrent repair of the same route waits instead of interleaving its stop updates
+        Route route = routeRepository.findByIdForUpdate(routeId)
+            .orElseThrow(() -> new RuntimeException("Route not found with id: " + routeId));
+        if (route.getStatus() != Route.RouteStatus.ASSIGNED && route.getStatus() != Route.RouteStatus.IN_PROGRESS) {
+            throw new IllegalArgumentException("Only assigned or in-progress routes can be repaired");
+        }
+        
+        // One joined read of every stop with its coordinates; no RouteBin entities are loaded
+        List<RouteStop> stops = jdbcTemplate.query(SELECT_ROUTE_STOPS_SQL, (rs, rowNum) -> new RouteStop(
+            rs.getLong("id"), rs.getLong("bin_id"), rs.getInt("sequence_order"),
+            RouteBin.CollectionStatus.valueOf(rs.getString("status")), rs.getTimestamp("visited_date"),
+            rs.getObject("distance_to_next_km", Double.class), rs.getDouble("latitude"), rs.getDouble("longitude")),
+            routeId);
+        Map<Long, RouteStop> openStops = new HashMap<>();
+        for (RouteStop stop : stops) {
+            if (stop.isOpen()) {
+                openStops.put(stop.binId, stop);
             }
         }
         
-        return nearest;
-    }
-    
-    /**
-     * Calculate distance between two bins using Haversine formula
-     */
-    private double calculateDistance(Bin bin1, Bin bin2) {
-        final double EARTH_RADIUS_KM = 6371.0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        RouteStop current = currentPosition(stops);
+        for (Long binId : distinct(completedBinIds)) {
+            current = closeStop(openStops, binId, RouteBin.CollectionStatus.COMPLETED);
+            current.visitedDate = now;
+        }
+        for (Long binId : distinct(skipBinIds)) {
+            closeStop(openStops, binId, RouteBin.CollectionStatus.SKIPPED);
+        }
         
-        double lat1Rad = Math.toRadians(bin1.getLatitude());
-        double lat2Rad = Math.toRadians(bin2.getLatitude());
-        double deltaLat = Math.toRadians(bin2.getLatitude() - bin1.getLatitude());
-        double deltaLon = Math.toRadians(bin2.getLongitude() - bin1.getLongitude());
+        // Bins already waiting on the route are left where they are
+        List<Long> newBinIds = distinct(addBinIds).stream().filter(id -> !openStops.containsKey(id)).toList();
+        List<Bin> added = newBinIds.isEmpty() ? List.of() : loadBinsInOrder(newBinIds);
+        for (Bin bin : added) {
+            if (bin.getLatitude() == null || bin.getLongitude() == null) {
+                throw new IllegalArgumentException("Bin " + bin.getId() + " has no coordinates");
+            }
+        }
+        List<RouteStop> pending = stops.stream()
+            .filter(stop -> stop.status == RouteBin.CollectionStatus.PENDING)
+            .toList();
+        
+        // Only pending stops move: the start anchor is where the collector is now
+        double[] start = current != null ? new double[] {current.latitude, current.longitude}
+                       : route.getStartDepot() != null ? coordinates(route.getStartDepot()) : null;
+        double[] end = route.getEndDepot() != null ? coordinates(route.getEndDepot()) : null;
+        int offset = start != null ? 1 : 0;
+        int n = offset + pending.size() + added.size() + (end != null ? 1 : 0);
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        if (start != null) {
+            latitudes[0] = start[0];
+            longitudes[0] = start[1];
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            latitudes[offset + i] = pending.get(i).latitude;
+            longitudes[offset + i] = pending.get(i).longitude;
+        }
+        for (int i = 0; i < added.size(); i++) {
+            latitudes[offset + pending.size() + i] = added.get(i).getLatitude();
+            longitudes[offset + pending.size() + i] = added.get(i).getLongitude();
+        }
+        if (end != null) {
+            latitudes[n - 1] = end[0];
+            longitudes[n - 1] = end[1];
+        }
         
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                   Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                   Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        int[] tour = new int[0];
+        if (!pending.isEmpty() || !added.isEmpty()) {
+            DistanceMatrix distances = DistanceMatrix.fromCoordinates(latitudes, longitudes, false)
+                .withAnchors(start != null, end != null);
+            tour = distances.stopOrder(routeRepairPlanner.repair(distances, pending.size()));
+        }
         
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        // Pending stops follow every visited or skipped one; the rest keep their numbers
+        int nextSequence = stops.stream()
+            .filter(stop -> stop.status != RouteBin.CollectionStatus.PENDING)
+            .mapToInt(stop -> stop.sequenceOrder)
+            .max()
+            .orElse(0) + 1;
+        List<Object[]> inserts = new ArrayList<>();
+        List<double[]> insertedCoordinates = new ArrayList<>();
+        for (int index : tour) {
+            if (index < pending.size()) {
+                RouteStop stop = pending.get(index);
+                if (stop.sequenceOrder != nextSequence) {
+                    stop.sequenceOrder = nextSequence;
+                    stop.changed = true;
+                }
+            } else {
+                Bin bin = added.get(index - pending.size());
+                inserts.add(new Object[] {
+                    routeId, bin.getId(), nextSequence, RouteBin.CollectionStatus.PENDING.name(), null, now, now
+                });
+                insertedCoordinates.add(new double[] {bin.getLatitude(), bin.getLongitude()});
+            }
+            nextSequence++;
+        }
+        storeDistancesToNext(stops, inserts, insertedCoordinates);
+        
+        List<Object[]> updates = new ArrayList<>();
+        for (RouteStop stop : stops) {
+            if (stop.changed) {
+                updates.add(new Object[] {
+                    stop.status.name(), stop.sequenceOrder, stop.visitedDate, stop.distanceToNextKm, now, stop.id
+                });
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ROUTE_STOP_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROUTE_BIN_SQL, inserts);
+        }
+        
+        // Whole-route length in the new order, skipped stops excluded
+        List<double[]> path = new ArrayList<>();
+        if (route.getStartDepot() != null) {
+            path.add(coordinates(route.getStartDepot()));
+        }
+        stops.stream()
+            .filter(stop -> stop.status != RouteBin.CollectionStatus.PENDING
+                            && stop.status != RouteBin.CollectionStatus.SKIPPED)
+            .forEach(stop -> path.add(new double[] {stop.latitude, stop.longitude}));
+        for (int index : tour) {
+            path.add(new double[] {latitudes[offset + index], longitudes[offset + index]});
+        }
+        if (end != null) {
+            path.add(end);
+        }
+        double totalDistance = 0.0;
+        for (int i = 1; i < path.size(); i++) {
+            totalDistance += GeoUtils.haversineKm(path.get(i - 1)[0], path.get(i - 1)[1], path.get(i)[0], path.get(i)[1]);
+        }
+        totalDistance = Math.round(totalDistance * 100.0) / 100.0;
+        int stopCount = path.size() - (route.getStartDepot() != null ? 1 : 0) - (end != null ? 1 : 0);
+        route.setTotalDistanceKm(totalDistance);
+        route.setEstimatedDurationMinutes(RouteDurationEstimator.estimateMinutes(stopCount, totalDistance));
         
-        return EARTH_RADIUS_KM * c;
+        return routeRepository.save(route);
     }
-    
+
     /**
-     * Calculate total distance for the entire route
+     * Stop the collector is at: the one in progress, else the most recently completed
      */
-    private double calculateTotalDistance(List<Bin> bins, List<Long> binIds) {
-        double totalDistance = 0.0;
-        
-        for (int i = 0; i < binIds.size() - 1; i++) {
-            Bin currentBin = findBinById(bins, binIds.get(i));
-            Bin nextBin = findBinById(bins, binIds.get(i + 1));
-            
-            if (currentBin != null && nextBin != null) {
-                totalDistance += calculateDistance(currentBin, nextBin);
+    private static RouteStop currentPosition(List<RouteStop> stops) {
+        RouteStop current = null;
+        for (RouteStop stop : stops) {
+            if (stop.status == RouteBin.CollectionStatus.IN_PROGRESS) {
+                return stop;
+            }
+            if (stop.status == RouteBin.CollectionStatus.COMPLETED
+                && (current == null || stop.visitedDate != null
+                    && (current.visitedDate == null || !stop.visitedDate.before(current.visitedDate)))) {
+                current = stop;
             }
         }
-        
-        return Math.round(totalDistance * 100.0) / 100.0; // Round to 2 decimal places
+        return current;
     }
-    
+
+    private static RouteStop closeStop(Map<Long, RouteStop> openStops, Long binId, RouteBin.CollectionStatus status) {
+        RouteStop stop = openStops.remove(binId);
+        if (stop == null) {
+            throw new IllegalArgumentException("Bin " + binId + " is not pending on this route");
+        }
+        stop.status = status;
+        stop.changed = true;
+        return stop;
+    }
+
+    private static List<Long> distinct(Collection<Long> ids) {
+        return ids == null ? List.of() : new ArrayList<>(new LinkedHashSet<>(ids));
+    }
+
+    private static double[] coordinates(Depot depot) {
+        return new double[] {depot.getLatitude(), depot.getLongitude()};
+    }
+
     /**
-     * Calculate estimated duration based on number of bins and distance
+     * Load bins with one query and return them in the requested order
      */
-    private int calculateEstimatedDuration(int numBins, double totalDistance) {
-        // Base time: 10 minutes per bin for collection
-        int collectionTime = numBins * 10;
-        
-        // Travel time: average speed 30 km/h in urban areas
-        int travelTime = (int) Math.ceil((totalDistance / 30.0) * 60);
-        
-        // Add buffer time (15% of total)
-        int totalTime = collectionTime + travelTime;
-        int bufferTime = (int) Math.ceil(totalTime * 0.15);
+    private List<Bin> loadBinsInOrder(List<Long> binIds) {
+        Map<Long, Bin> binsById = new HashMap<>();
+        for (Bin bin : binRepository.findAllById(binIds)) {
+            binsById.put(bin.getId(), bin);
+        }
         
-        return totalTime + bufferTime;
+        List<Bin> ordered = new ArrayList<>(binIds.size());
+        for (Long binId : binIds) {
+            Bin bin = binsById.get(binId);
+            if (bin == null) {
+                throw new RuntimeException("Bin not found with id: " + binId);
+            }
+            ordered.add(bin);
+        }
+        return ordered;
     }
-    
+
     /**
-     * Helper method to find bin by ID in a list
+     * Write the route's stops with a single JDBC batch. RouteBin uses IDENTITY ids,
+     * so saveAll would issue one INSERT round trip per stop.
      */
-    private Bin findBinById(List<Bin> bins, Long id) {
-        return bins.stream()
-            .filter(bin -> bin.getId().equals(id))
-            .findFirst()
-            .orElse(null);
+    private void addBinsToRoute(Long routeId, List<Bin> orderedBins) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(orderedBins.size());
+        for (int i = 0; i < orderedBins.size(); i++) {
+            Bin bin = orderedBins.get(i);
+            Double distanceToNext = i + 1 < orderedBins.size()
+                ? distanceKm(bin.getLatitude(), bin.getLongitude(),
+                             orderedBins.get(i + 1).getLatitude(), orderedBins.get(i + 1).getLongitude())
+                : 0.0;
+            rows.add(new Object[] {
+                routeId, bin.getId(), i + 1, RouteBin.CollectionStatus.PENDING.name(), distanceToNext, now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ROUTE_BIN_SQL, rows);
     }
 
-    @Override
-    public Route assignRouteToCollector(List<Long> binIds, User collector, User authority) {
-        return optimizeRoute(binIds, collector, authority);
+    /**
+     * Recompute every stop's distance to the next one in the repaired sequence.
+     * Existing stops whose distance moves are marked changed; new stops get it
+     * in their insert row.
+     */
+    private static void storeDistancesToNext(List<RouteStop> stops, List<Object[]> inserts,
+                                             List<double[]> insertedCoordinates) {
+        record Point(int sequence, double latitude, double longitude, RouteStop stop, Object[] insert) {
+        }
+        List<Point> points = new ArrayList<>();
+        for (RouteStop stop : stops) {
+            points.add(new Point(stop.sequenceOrder, stop.latitude, stop.longitude, stop, null));
+        }
+        for (int i = 0; i < inserts.size(); i++) {
+            double[] coordinates = insertedCoordinates.get(i);
+            points.add(new Point((Integer) inserts.get(i)[2], coordinates[0], coordinates[1], null, inserts.get(i)));
+        }
+        points.sort(java.util.Comparator.comparingInt(Point::sequence));
+        
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            double distanceToNext = i + 1 < points.size()
+                ? GeoUtils.haversineKm(point.latitude(), point.longitude(),
+                                       points.get(i + 1).latitude(), points.get(i + 1).longitude())
+                : 0.0;
+            if (point.stop() == null) {
+                point.insert()[4] = distanceToNext;
+            } else if (point.stop().distanceToNextKm == null || point.stop().distanceToNextKm != distanceToNext) {
+                point.stop().distanceToNextKm = distanceToNext;
+                point.stop().changed = true;
+            }
+        }
     }
 
-    private void addBinsToRoute(Long routeId, List<Long> binIds) {
-        Route route = routeRepository.findById(routeId)
-            .orElseThrow(() -> new RuntimeException("Route not found with id: " + routeId));
-        
-        List<RouteBin> routeBins = new ArrayList<>();
-        
-        for (int i = 0; i < binIds.size(); i++) {
-            Long binId = binIds.get(i);
-            Bin bin = binRepository.findById(binId)
-                .orElseThrow(() -> new RuntimeException("Bin not found with id: " + binId));
-            
-            RouteBin routeBin = new RouteBin();
-            routeBin.setRoute(route);
-            routeBin.setBin(bin);
-            routeBin.setSequenceOrder(i + 1);
-            routeBin.setStatus(RouteBin.CollectionStatus.PENDING);
-            
-            routeBins.add(routeBin);
+    /**
+     * Haversine distance, or null when either end has no coordinates
+     */
+    private static Double distanceKm(Double lat1, Double lng1, Double lat2, Double lng2) {
+        if (lat1 == null || lng1 == null || lat2 == null || lng2 == null) {
+            return null;
+        }
+        return GeoUtils.haversineKm(lat1, lng1, lat2, lng2);
+    }
+
+    private void publishAssigned(Route route) {
+        if (route.getStatus() == Route.RouteStatus.ASSIGNED && route.getCollector() != null) {
+            eventPublisher.publishEvent(new RouteAssignedEvent(route.getId(), route.getCollector().getId(),
+                route.getRouteName(), route.getAssignedDate()));
         }
-        
-        routeBinRepository.saveAll(routeBins);
     }
-}
 
+    /**
+     * One route_bins row with its bin's coordinates, as read for a route repair
+     */
+    private static final class RouteStop {
+        private final long id;
+        private final long binId;
+        private final double latitude;
+        private final double longitude;
+        private int sequenceOrder;
+        private RouteBin.CollectionStatus status;
+        private Timestamp visitedDate;
+        private Double distanceToNextKm;
+        private boolean changed;
+
+        private RouteStop(long id, long binId, int sequenceOrder, RouteBin.CollectionStatus status,
+                          Timestamp visitedDate, Double distanceToNextKm, double latitude, double longitude) {
+            this.id = id;
+            this.binId = binId;
+            this.sequenceOrder = sequenceOrder;
+            this.status = status;
+            this.visitedDate = visitedDate;
+            this.distanceToNextKm = distanceToNextKm;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+
+        private boolean isOpen() {
+            return status == RouteBin.CollectionStatus.PENDING || status == RouteBin.CollectionStatus.IN_PROGRESS;
+        }
+    }
+}
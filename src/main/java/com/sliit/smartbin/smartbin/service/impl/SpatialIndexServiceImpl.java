@@ -0,0 +1,372 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.service.SpatialIndexService;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniform lat/lng grid implementation of SpatialIndexService.
+ *
+ * Each bin lives in exactly one cell of cellSizeDegrees x cellSizeDegrees.
+ * Radius queries visit only the cells overlapping the query's bounding box and
+ * then apply an exact Haversine filter; k-nearest queries search outward ring
+ * by ring until no unvisited cell can hold a closer bin.
+ *
+ * Create, update and delete through BinService keep the index in sync. Fill
+ * levels written directly with JDBC (telemetry, simulation) are picked up by
+ * the periodic rebuild, which reads plain rows rather than entities and
+ * replays changes committed while it was loading onto the new grid.
+ */
+@Service
+public class SpatialIndexServiceImpl implements SpatialIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpatialIndexServiceImpl.class);
+
+    private static final String SELECT_BINS_SQL =
+        "SELECT id, qr_code, location, latitude, longitude, bin_type, status, fill_level, last_emptied, alert_flag, " +
+        "created_at, updated_at FROM bins WHERE latitude IS NOT NULL AND longitude IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double cellSizeDegrees;
+    private final int lngCells;
+    private final Object rebuildLock = new Object();
+
+    private volatile Grid grid;
+
+    // Bins changed while a rebuild is loading, replayed onto its grid; a null value marks a removal
+    private Map<Long, Bin> changedDuringRebuild;
+
+    public SpatialIndexServiceImpl(JdbcTemplate jdbcTemplate,
+                                   @Value("${smartbin.spatial.cell-size-degrees:0.02}") double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0 || cellSizeDegrees > 10) {
+            throw new IllegalArgumentException("Cell size must be between 0 and 10 degrees");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.lngCells = (int) Math.ceil(360.0 / cellSizeDegrees);
+    }
+
+    @Override
+    public boolean isReady() {
+        return grid != null;
+    }
+
+    @Override
+    public List<Bin> findWithinRadius(double latitude, double longitude, double radiusKm) {
+        Grid current = requireGrid();
+        List<Candidate> matches = new ArrayList<>();
+        if (radiusKm < 0) {
+            return new ArrayList<>();
+        }
+
+        double latDelta = radiusKm / GeoUtils.KM_PER_DEGREE;
+        int minLatIdx = latIndex(Math.max(-90.0, latitude - latDelta));
+        int maxLatIdx = latIndex(Math.min(90.0, latitude + latDelta));
+
+        double maxAbsLat = Math.min(89.999, Math.abs(latitude) + latDelta);
+        double lngDelta = latDelta / Math.cos(Math.toRadians(maxAbsLat));
+        boolean allLngCells = lngDelta >= 180.0;
+        int minLngIdx = allLngCells ? 0 : lngIndex(longitude - lngDelta);
+        int lngSpan = allLngCells ? lngCells : spanCells(lngIndex(longitude - lngDelta), lngIndex(longitude + lngDelta));
+
+        long boxCells = (long) (maxLatIdx - minLatIdx + 1) * lngSpan;
+        if (boxCells > current.cells.size()) {
+            // Wide query over a sparse grid: cheaper to visit occupied cells only
+            for (Map<Long, Bin> cell : current.cells.values()) {
+                collectWithin(cell, latitude, longitude, radiusKm, matches);
+            }
+        } else {
+            for (int latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+                for (int step = 0; step < lngSpan; step++) {
+                    Map<Long, Bin> cell = current.cells.get(cellKey(latIdx, Math.floorMod(minLngIdx + step, lngCells)));
+                    if (cell != null) {
+                        collectWithin(cell, latitude, longitude, radiusKm, matches);
+                    }
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        return matches.stream().map(Candidate::bin).toList();
+    }
+
+    @Override
+    public List<Bin> findNearest(double latitude, double longitude, int k) {
+        Grid current = requireGrid();
+        if (k <= 0 || current.locations.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int centreLat = latIndex(latitude);
+        int centreLng = lngIndex(longitude);
+        int total = current.locations.size();
+        List<Candidate> found = new ArrayList<>();
+        int seen = 0;
+
+        for (int ring = 0; ; ring++) {
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            if (ringCells > current.cells.size() * 4L) {
+                // Rings have outgrown the occupied area: finish with a scan of what is left
+                found.clear();
+                for (Map<Long, Bin> cell : current.cells.values()) {
+                    collectWithin(cell, latitude, longitude, Double.MAX_VALUE, found);
+                }
+                break;
+            }
+
+            for (int dLat = -ring; dLat <= ring; dLat++) {
+                int latIdx = centreLat + dLat;
+                if (latIdx < 0 || latIdx > latIndex(90.0)) {
+                    continue;
+                }
+                boolean edgeRow = Math.abs(dLat) == ring;
+                for (int dLng = -ring; dLng <= ring; dLng += edgeRow ? 1 : 2 * ring) {
+                    Map<Long, Bin> cell = current.cells.get(cellKey(latIdx, Math.floorMod(centreLng + dLng, lngCells)));
+                    if (cell != null) {
+                        seen += cell.size();
+                        collectWithin(cell, latitude, longitude, Double.MAX_VALUE, found);
+                    }
+                    if (ring == 0) {
+                        break;
+                    }
+                }
+            }
+
+            if (seen >= total) {
+                break;
+            }
+            if (found.size() >= k) {
+                found.sort(Comparator.comparingDouble(Candidate::distanceKm));
+                if (found.get(k - 1).distanceKm() <= unvisitedLowerBoundKm(latitude, ring)) {
+                    break;
+                }
+            }
+        }
+
+        found.sort(Comparator.comparingDouble(Candidate::distanceKm));
+        return found.stream().limit(k).map(Candidate::bin).toList();
+    }
+
+    @Override
+    public void index(Bin bin) {
+        if (bin == null || bin.getId() == null || bin.getLatitude() == null || bin.getLongitude() == null) {
+            return;
+        }
+        Bin snapshot = snapshotOf(bin);
+        afterCommit(() -> put(snapshot));
+    }
+
+    @Override
+    public void remove(Long binId) {
+        if (binId == null) {
+            return;
+        }
+        afterCommit(() -> delete(binId));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${smartbin.spatial.refresh-ms:30000}",
+               fixedDelayString = "${smartbin.spatial.refresh-ms:30000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long started = System.currentTimeMillis();
+            synchronized (this) {
+                changedDuringRebuild = new LinkedHashMap<>();
+            }
+
+            Grid fresh = new Grid();
+            int replayed;
+            try {
+                for (Bin bin : jdbcTemplate.query(SELECT_BINS_SQL, SpatialIndexServiceImpl::mapBin)) {
+                    fresh.add(bin, cellKeyOf(bin));
+                }
+                synchronized (this) {
+                    replayed = changedDuringRebuild.size();
+                    changedDuringRebuild.forEach((binId, bin) -> {
+                        fresh.remove(binId);
+                        if (bin != null) {
+                            fresh.add(bin, cellKeyOf(bin));
+                        }
+                    });
+                    grid = fresh;
+                }
+            } finally {
+                synchronized (this) {
+                    changedDuringRebuild = null;
+                }
+            }
+            logger.debug("Spatial index rebuilt with {} bins in {} cells, {} replayed ({} ms)",
+                        fresh.locations.size(), fresh.cells.size(), replayed, System.currentTimeMillis() - started);
+        }
+    }
+
+    private synchronized void put(Bin bin) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(bin.getId(), bin);
+        }
+        if (grid == null) {
+            return;
+        }
+        grid.remove(bin.getId());
+        grid.add(bin, cellKeyOf(bin));
+    }
+
+    private synchronized void delete(Long binId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(binId, null);
+        }
+        if (grid != null) {
+            grid.remove(binId);
+        }
+    }
+
+    private Grid requireGrid() {
+        Grid current = grid;
+        if (current == null) {
+            throw new IllegalStateException("Spatial index has not been built yet");
+        }
+        return current;
+    }
+
+    private void collectWithin(Map<Long, Bin> cell, double latitude, double longitude,
+                               double radiusKm, List<Candidate> out) {
+        for (Bin bin : cell.values()) {
+            double distance = GeoUtils.haversineKm(latitude, longitude, bin.getLatitude(), bin.getLongitude());
+            if (distance <= radiusKm) {
+                out.add(new Candidate(bin, distance));
+            }
+        }
+    }
+
+    /**
+     * Lower bound on the distance from the query point to any cell outside rings 0..ring
+     */
+    private double unvisitedLowerBoundKm(double latitude, int ring) {
+        double gapDegrees = ring * cellSizeDegrees;
+        double maxAbsLat = Math.min(89.999, Math.abs(latitude) + gapDegrees + cellSizeDegrees);
+        return gapDegrees * GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat));
+    }
+
+    private int spanCells(int fromIdx, int toIdx) {
+        return Math.floorMod(toIdx - fromIdx, lngCells) + 1;
+    }
+
+    private int latIndex(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellSizeDegrees);
+    }
+
+    private int lngIndex(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / cellSizeDegrees), lngCells);
+    }
+
+    private long cellKeyOf(Bin bin) {
+        return cellKey(latIndex(bin.getLatitude()), lngIndex(bin.getLongitude()));
+    }
+
+    private static long cellKey(int latIdx, int lngIdx) {
+        return ((long) latIdx << 32) | (lngIdx & 0xffffffffL);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Detached copy so later changes to a managed entity never leak into the index
+     */
+    private static Bin snapshotOf(Bin bin) {
+        Bin copy = new Bin();
+        copy.setId(bin.getId());
+        copy.setQrCode(bin.getQrCode());
+        copy.setLocation(bin.getLocation());
+        copy.setLatitude(bin.getLatitude());
+        copy.setLongitude(bin.getLongitude());
+        copy.setBinType(bin.getBinType());
+        copy.setStatus(bin.getStatus());
+        copy.setFillLevel(bin.getFillLevel());
+        copy.setLastEmptied(bin.getLastEmptied());
+        copy.setAlertFlag(bin.getAlertFlag());
+        copy.setCreatedAt(bin.getCreatedAt());
+        copy.setUpdatedAt(bin.getUpdatedAt());
+        return copy;
+    }
+
+    private static Bin mapBin(ResultSet rs, int rowNum) throws SQLException {
+        Bin bin = new Bin();
+        bin.setId(rs.getLong("id"));
+        bin.setQrCode(rs.getString("qr_code"));
+        bin.setLocation(rs.getString("location"));
+        bin.setLatitude(rs.getDouble("latitude"));
+        bin.setLongitude(rs.getDouble("longitude"));
+        bin.setBinType(Bin.BinType.valueOf(rs.getString("bin_type")));
+        bin.setStatus(Bin.BinStatus.valueOf(rs.getString("status")));
+        bin.setFillLevel(rs.getInt("fill_level"));
+        bin.setLastEmptied(toLocalDateTime(rs.getTimestamp("last_emptied")));
+        bin.setAlertFlag(rs.getObject("alert_flag", Boolean.class));
+        bin.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        bin.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return bin;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record Candidate(Bin bin, double distanceKm) {
+    }
+
+    private static final class Grid {
+        private final Map<Long, Map<Long, Bin>> cells = new ConcurrentHashMap<>();
+        private final Map<Long, Long> locations = new ConcurrentHashMap<>();
+
+        private void add(Bin bin, long cellKey) {
+            cells.computeIfAbsent(cellKey, key -> new ConcurrentHashMap<>()).put(bin.getId(), bin);
+            locations.put(bin.getId(), cellKey);
+        }
+
+        private void remove(Long binId) {
+            Long cellKey = locations.remove(binId);
+            if (cellKey == null) {
+                return;
+            }
+            Map<Long, Bin> cell = cells.get(cellKey);
+            if (cell != null) {
+                cell.remove(binId);
+                if (cell.isEmpty()) {
+                    cells.remove(cellKey);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.sliit.smartbin.smartbin.service.impl;
+
+import com.sliit.smartbin.smartbin.dto.FillLevelIngestResultDTO;
+import com.sliit.smartbin.smartbin.dto.FillLevelReadingDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.service.RollupService;
+import com.sliit.smartbin.smartbin.service.TelemetryIngestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies sensor fill-level batches with a single JDBC batch update
+ * instead of a findById + save round trip per reading.
+ *
+ * Readings are resolved to bin ids with one projection query per key type,
+ * collapsed to the newest reading per bin, and written with a guard that
+ * refuses to overwrite a bin whose last applied reading was observed later.
+ * The guard uses last_reading_at rather than updated_at, which simulation
+ * ticks, UI edits and collections also bump.
+ */
+@Service
+@Transactional
+public class TelemetryIngestionServiceImpl implements TelemetryIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryIngestionServiceImpl.class);
+
+    private static final String UPDATE_FILL_LEVEL_SQL =
+        "UPDATE bins SET fill_level = ?, status = ?, last_reading_at = ?, updated_at = ? " +
+        "WHERE id = ? AND (last_reading_at IS NULL OR last_reading_at <= ?)";
+
+    // Tolerated sensor clock skew before a reading counts as "from the future"
+    private static final long MAX_CLOCK_SKEW_MINUTES = 5;
+
+    private final BinRepository binRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RollupService rollupService;
+    private final int maxBatchSize;
+
+    public TelemetryIngestionServiceImpl(BinRepository binRepository,
+                                         JdbcTemplate jdbcTemplate,
+                                         RollupService rollupService,
+                                         @Value("${smartbin.telemetry.max-batch-size:5000}") int maxBatchSize) {
+        this.binRepository = binRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rollupService = rollupService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public FillLevelIngestResultDTO ingestFillLevels(List<FillLevelReadingDTO> readings) {
+        FillLevelIngestResultDTO result = new FillLevelIngestResultDTO();
+        if (readings == null || readings.isEmpty()) {
+            return result;
+        }
+        if (readings.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch of " + readings.size()
+                + " readings exceeds the limit of " + maxBatchSize);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        FillLevelIngestResultDTO.ItemResult[] items = new FillLevelIngestResultDTO.ItemResult[readings.size()];
+        LocalDateTime[] observedAt = new LocalDateTime[readings.size()];
+
+        // 1. Field validation
+        List<Long> requestedIds = new ArrayList<>();
+        List<String> requestedQrCodes = new ArrayList<>();
+        for (int i = 0; i < readings.size(); i++) {
+            FillLevelReadingDTO reading = readings.get(i);
+            items[i] = new FillLevelIngestResultDTO.ItemResult(i,
+                reading != null ? reading.getBinId() : null,
+                reading != null ? reading.getQrCode() : null,
+                false, null);
+
+            String error = validate(reading, now);
+            if (error != null) {
+                items[i].setReason(error);
+                continue;
+            }
+            observedAt[i] = reading.getObservedAt() != null ? reading.getObservedAt() : now;
+            if (reading.getBinId() != null) {
+                requestedIds.add(reading.getBinId());
+            }
+            if (hasText(reading.getQrCode())) {
+                requestedQrCodes.add(reading.getQrCode());
+            }
+        }
+
+        // 2. Resolve bin identities with at most two projection queries
+        Map<Long, String> qrCodeById = new HashMap<>();
+        Map<String, Long> idByQrCode = new HashMap<>();
+        Map<Long, Bin.BinType> typeById = new HashMap<>();
+        if (!requestedIds.isEmpty()) {
+            for (BinRepository.BinKey key : binRepository.findKeysByIdIn(distinct(requestedIds))) {
+                qrCodeById.put(key.getId(), key.getQrCode());
+                idByQrCode.put(key.getQrCode(), key.getId());
+                typeById.put(key.getId(), key.getBinType());
+            }
+        }
+        if (!requestedQrCodes.isEmpty()) {
+            for (BinRepository.BinKey key : binRepository.findKeysByQrCodeIn(distinct(requestedQrCodes))) {
+                qrCodeById.put(key.getId(), key.getQrCode());
+                idByQrCode.put(key.getQrCode(), key.getId());
+                typeById.put(key.getId(), key.getBinType());
+            }
+        }
+
+        // 3. De-duplicate: keep the newest reading per bin (later submission wins ties)
+        Map<Long, Integer> winnerByBin = new LinkedHashMap<>();
+        for (int i = 0; i < readings.size(); i++) {
+            if (items[i].getReason() != null) {
+                continue;
+            }
+            FillLevelReadingDTO reading = readings.get(i);
+            Long binId = resolveBinId(reading, qrCodeById, idByQrCode, items[i]);
+            if (binId == null) {
+                continue;
+            }
+            items[i].setBinId(binId);
+            items[i].setQrCode(qrCodeById.get(binId));
+
+            Integer previous = winnerByBin.get(binId);
+            if (previous == null) {
+                winnerByBin.put(binId, i);
+            } else if (!observedAt[i].isBefore(observedAt[previous])) {
+                items[previous].setReason("Superseded by a newer reading for the same bin");
+                winnerByBin.put(binId, i);
+            } else {
+                items[i].setReason("Superseded by a newer reading for the same bin");
+            }
+        }
+
+        // 4. Apply all surviving readings as one JDBC batch
+        if (!winnerByBin.isEmpty()) {
+            List<Integer> order = new ArrayList<>(winnerByBin.values());
+            List<Object[]> batchArgs = new ArrayList<>(order.size());
+            for (int index : order) {
+                int fillLevel = readings.get(index).getFillLevel();
+                Timestamp observed = Timestamp.valueOf(observedAt[index]);
+                batchArgs.add(new Object[] {
+                    fillLevel,
+                    Bin.statusForFillLevel(fillLevel).name(),
+                    observed,
+                    Timestamp.valueOf(now),
+                    items[index].getBinId(),
+                    observed
+                });
+            }
+
+            int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_FILL_LEVEL_SQL, batchArgs);
+            for (int j = 0; j < order.size(); j++) {
+                FillLevelIngestResultDTO.ItemResult item = items[order.get(j)];
+                int count = j < updateCounts.length ? updateCounts[j] : 0;
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    item.setAccepted(true);
+                    rollupService.fillLevelObserved(typeById.get(item.getBinId()),
+                        readings.get(order.get(j)).getFillLevel(), observedAt[order.get(j)]);
+                } else {
+                    item.setReason("Bin has newer data than this reading");
+                }
+            }
+        }
+
+        for (FillLevelIngestResultDTO.ItemResult item : items) {
+            result.getResults().add(item);
+            if (item.isAccepted()) {
+                result.setAccepted(result.getAccepted() + 1);
+            } else {
+                result.setRejected(result.getRejected() + 1);
+            }
+        }
+        result.setReceived(readings.size());
+
+        logger.info("Telemetry batch applied: {} received, {} accepted, {} rejected",
+                   result.getReceived(), result.getAccepted(), result.getRejected());
+        return result;
+    }
+
+    private String validate(FillLevelReadingDTO reading, LocalDateTime now) {
+        if (reading == null) {
+            return "Reading is empty";
+        }
+        if (reading.getBinId() == null && !hasText(reading.getQrCode())) {
+            return "Either binId or qrCode is required";
+        }
+        if (reading.getFillLevel() == null) {
+            return "fillLevel is required";
+        }
+        if (reading.getFillLevel() < 0 || reading.getFillLevel() > 100) {
+            return "fillLevel must be between 0 and 100";
+        }
+        if (reading.getObservedAt() != null
+                && reading.getObservedAt().isAfter(now.plusMinutes(MAX_CLOCK_SKEW_MINUTES))) {
+            return "observedAt is in the future";
+        }
+        return null;
+    }
+
+    private Long resolveBinId(FillLevelReadingDTO reading,
+                              Map<Long, String> qrCodeById,
+                              Map<String, Long> idByQrCode,
+                              FillLevelIngestResultDTO.ItemResult item) {
+        Long byId = null;
+        if (reading.getBinId() != null) {
+            if (!qrCodeById.containsKey(reading.getBinId())) {
+                item.setReason("Bin not found with id: " + reading.getBinId());
+                return null;
+            }
+            byId = reading.getBinId();
+        }
+        if (hasText(reading.getQrCode())) {
+            Long byQrCode = idByQrCode.get(reading.getQrCode());
+            if (byQrCode == null) {
+                item.setReason("Bin not found with QR code: " + reading.getQrCode());
+                return null;
+            }
+            if (byId != null && !byId.equals(byQrCode)) {
+                item.setReason("binId and qrCode refer to different bins");
+                return null;
+            }
+            return byQrCode;
+        }
+        return byId;
+    }
+
+    private static <T> List<T> distinct(List<T> values) {
+        return values.stream().distinct().toList();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
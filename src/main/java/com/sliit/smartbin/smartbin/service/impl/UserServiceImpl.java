@@ -4,14 +4,17 @@ import com.sliit.smartbin.smartbin.dto.LoginDTO;
 import com.sliit.smartbin.smartbin.dto.UserDTO;
 import com.sliit.smartbin.smartbin.model.User;
 import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.CollectorRosterService;
 import com.sliit.smartbin.smartbin.service.UserService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Implementation of UserService following SOLID principles
@@ -27,10 +30,15 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CollectorRosterService collectorRosterService;
+    private final String unknownUserHash;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           CollectorRosterService collectorRosterService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.collectorRosterService = collectorRosterService;
+        this.unknownUserHash = passwordEncoder.encode(UUID.randomUUID().toString());
     }
 
     @Override
@@ -42,31 +50,30 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public List<User> findByRole(User.UserRole role) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() == role)
-                .toList();
+        return userRepository.findByRole(role);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getEmail().equals(email))
-                .findFirst();
+        return userRepository.findByEmail(email);
     }
 
     @Override
     public User saveUser(User user) {
+        collectorRosterService.invalidate();
         return userRepository.save(user);
     }
 
     @Override
     public User updateUser(User user) {
+        collectorRosterService.invalidate();
         return userRepository.save(user);
     }
 
     @Override
     public void deleteUser(Long id) {
+        collectorRosterService.invalidate();
         userRepository.deleteById(id);
     }
 
@@ -79,36 +86,45 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.findAll().stream()
-                .anyMatch(user -> user.getEmail().equals(email));
+        return userRepository.existsByEmail(email);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<User> findByRegion(String region) {
-        return userRepository.findAll().stream()
-                .filter(user -> region.equals(user.getRegion()))
-                .toList();
+        return userRepository.findByRegion(region);
     }
 
+    /**
+     * Not transactional: the lookup runs in the repository's own short read, so no
+     * pooled connection is held while the hash check queues and runs.
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<User> loginUser(LoginDTO loginDTO, User.UserRole role) {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getEmail().equals(loginDTO.getEmail()))
-                .filter(user -> user.getRole() == role)
-                .filter(user -> passwordEncoder.matches(loginDTO.getPassword(), user.getPassword()))
-                .findFirst();
+        if (loginDTO.getEmail() == null || loginDTO.getPassword() == null) {
+            return Optional.empty();
+        }
+        Optional<User> user = userRepository.findByEmailAndRole(loginDTO.getEmail(), role);
+        
+        // Unknown emails are checked against a dummy hash, so every attempt costs exactly one hash check
+        String storedHash = user.map(User::getPassword).orElse(unknownUserHash);
+        boolean matches = passwordEncoder.matches(loginDTO.getPassword(), storedHash);
+        return matches ? user : Optional.empty();
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean emailExists(String email) {
-        return userRepository.findAll().stream()
-                .anyMatch(user -> user.getEmail().equals(email));
+        return userRepository.existsByEmail(email);
     }
 
+    /**
+     * Not transactional, like loginUser: the password is hashed before the save
+     * opens its own transaction.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User registerUser(UserDTO userDTO) {
         User user = new User();
         user.setName(userDTO.getName());
@@ -121,6 +137,7 @@ public class UserServiceImpl implements UserService {
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
         
+        collectorRosterService.invalidate();
         return userRepository.save(user);
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.sliit.smartbin.smartbin.service.live;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a collector's live update feed
+ * @param id Stream event id, increasing in the order entries were buffered
+ * @param key Identity of what the entry is about, e.g. "route:12", so it is only buffered once
+ * @param type route, completion or alert
+ * @param title Short heading
+ * @param message Text shown to the collector
+ * @param timestamp When it happened, as shown to the collector; a completion carries the
+ *                  collection's completion time
+ * @param publishedAt When it entered the feed; the replay window is measured from this
+ */
+public record LiveUpdate(long id,
+                         @JsonIgnore String key,
+                         String type,
+                         String title,
+                         String message,
+                         LocalDateTime timestamp,
+                         @JsonIgnore LocalDateTime publishedAt) {
+
+    public LiveUpdate withId(long newId) {
+        return new LiveUpdate(newId, key, type, title, message, timestamp, publishedAt);
+    }
+}
@@ -0,0 +1,99 @@
+package com.sliit.smartbin.smartbin.service.live;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bounded replay buffer of one collector's live updates. Entries leave it when
+ * it is full or when they were published longer ago than the replay window, and
+ * the buffer remembers the newest id it has dropped, so a reconnecting stream
+ * can tell whether it missed anything that is no longer here.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+public class LiveUpdateBuffer {
+
+    private final int capacity;
+    private final Duration window;
+    private final Deque<LiveUpdate> entries = new ArrayDeque<>();
+    private long droppedUpTo;
+
+    public LiveUpdateBuffer(int capacity, Duration window) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Replay buffer must hold at least one update");
+        }
+        this.capacity = capacity;
+        this.window = window;
+    }
+
+    public void add(LiveUpdate update) {
+        entries.addLast(update);
+        while (entries.size() > capacity) {
+            drop();
+        }
+    }
+
+    public boolean contains(String key) {
+        return entries.stream().anyMatch(update -> update.key().equals(key));
+    }
+
+    /**
+     * Everything still inside the replay window, oldest first
+     */
+    public List<LiveUpdate> all(LocalDateTime now) {
+        expire(now);
+        return new ArrayList<>(entries);
+    }
+
+    /**
+     * Updates after lastEventId, oldest first, or empty if some of them have
+     * already been dropped or the id was not issued by this process
+     * @param latestIssuedId Highest id handed out so far, across all buffers
+     */
+    public Optional<List<LiveUpdate>> since(long lastEventId, long latestIssuedId, LocalDateTime now) {
+        expire(now);
+        if (lastEventId < droppedUpTo || lastEventId > latestIssuedId) {
+            return Optional.empty();
+        }
+        List<LiveUpdate> missed = new ArrayList<>();
+        for (LiveUpdate update : entries) {
+            if (update.id() > lastEventId) {
+                missed.add(update);
+            }
+        }
+        return Optional.of(missed);
+    }
+
+    /**
+     * Remove every entry without recording them as dropped; only for rebuilding
+     * a buffer no stream has read yet
+     */
+    public void clear() {
+        entries.clear();
+        droppedUpTo = 0;
+    }
+
+    // A full scan rather than popping the head: publish times are not guaranteed to follow
+    // buffer order, and the buffer holds at most a few dozen entries
+    private void expire(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(window);
+        Iterator<LiveUpdate> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            LiveUpdate update = iterator.next();
+            if (update.publishedAt().isBefore(cutoff)) {
+                iterator.remove();
+                droppedUpTo = Math.max(droppedUpTo, update.id());
+            }
+        }
+    }
+
+    private void drop() {
+        droppedUpTo = Math.max(droppedUpTo, entries.removeFirst().id());
+    }
+}
@@ -0,0 +1,198 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable pairwise Haversine distances for one set of stops.
+ *
+ * Coordinates are unboxed into primitive arrays once, with radians and
+ * cos(latitude) precomputed per stop, and the matrix is filled into a
+ * single flat row-major double[] so optimizers read it without further
+ * trigonometry, boxing or pointer chasing. Large sets are filled in parallel.
+ *
+ * A matrix built for a depot route has the start depot at index 0 and/or the
+ * end depot at the last index. Those anchors stay fixed: optimizers only
+ * reorder indexes firstMovable() .. lastMovable().
+ */
+public final class DistanceMatrix {
+
+    // Below this size a parallel fill costs more than it saves
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final int size;
+    private final double[] distances;
+    private final boolean fixedStart;
+    private final boolean fixedEnd;
+
+    private DistanceMatrix(int size, double[] distances, boolean fixedStart, boolean fixedEnd) {
+        this.size = size;
+        this.distances = distances;
+        this.fixedStart = fixedStart;
+        this.fixedEnd = fixedEnd;
+    }
+
+    /**
+     * Build the matrix for a route anchored at its depots: index 0 is the start
+     * depot (if any), then the bins in list order, then the end depot (if any).
+     * A closed tour repeats the start depot as the end anchor.
+     */
+    public static DistanceMatrix forRoute(RouteEnds ends, List<Bin> bins) {
+        int offset = ends.hasStart() ? 1 : 0;
+        int n = bins.size() + offset + (ends.hasEnd() ? 1 : 0);
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        if (ends.hasStart()) {
+            latitudes[0] = ends.start().getLatitude();
+            longitudes[0] = ends.start().getLongitude();
+        }
+        for (int i = 0; i < bins.size(); i++) {
+            Bin bin = bins.get(i);
+            if (bin.getLatitude() == null || bin.getLongitude() == null) {
+                throw new IllegalArgumentException("Bin " + bin.getId() + " has no coordinates");
+            }
+            latitudes[i + offset] = bin.getLatitude();
+            longitudes[i + offset] = bin.getLongitude();
+        }
+        if (ends.hasEnd()) {
+            Depot end = ends.end();
+            latitudes[n - 1] = end.getLatitude();
+            longitudes[n - 1] = end.getLongitude();
+        }
+        DistanceMatrix matrix = fromCoordinates(latitudes, longitudes);
+        return new DistanceMatrix(n, matrix.distances, ends.hasStart(), ends.hasEnd());
+    }
+
+    /**
+     * Build the matrix for bins, indexed like the list
+     */
+    public static DistanceMatrix forBins(List<Bin> bins) {
+        int n = bins.size();
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            Bin bin = bins.get(i);
+            if (bin.getLatitude() == null || bin.getLongitude() == null) {
+                throw new IllegalArgumentException("Bin " + bin.getId() + " has no coordinates");
+            }
+            latitudes[i] = bin.getLatitude();
+            longitudes[i] = bin.getLongitude();
+        }
+        return fromCoordinates(latitudes, longitudes);
+    }
+
+    /**
+     * Build the matrix from parallel arrays of coordinates in degrees
+     */
+    public static DistanceMatrix fromCoordinates(double[] latitudes, double[] longitudes) {
+        return fromCoordinates(latitudes, longitudes, latitudes.length >= PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Build the matrix, choosing explicitly whether rows are filled in parallel
+     */
+    public static DistanceMatrix fromCoordinates(double[] latitudes, double[] longitudes, boolean parallel) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Latitude and longitude arrays differ in length");
+        }
+        int n = latitudes.length;
+        double[] latRad = new double[n];
+        double[] lngRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(latitudes[i]);
+            lngRad[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+
+        double[] distances = new double[n * n];
+        IntStream rows = IntStream.range(0, n);
+        (parallel ? rows.parallel() : rows).forEach(i -> {
+            // Each row writes its upper triangle and the mirrored column, so rows never overlap
+            for (int j = i + 1; j < n; j++) {
+                double sinHalfDeltaLat = Math.sin((latRad[j] - latRad[i]) / 2);
+                double sinHalfDeltaLng = Math.sin((lngRad[j] - lngRad[i]) / 2);
+                double a = sinHalfDeltaLat * sinHalfDeltaLat
+                         + cosLat[i] * cosLat[j] * sinHalfDeltaLng * sinHalfDeltaLng;
+                double d = 2 * GeoUtils.EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1.0, a)));
+                distances[i * n + j] = d;
+                distances[j * n + i] = d;
+            }
+        });
+        return new DistanceMatrix(n, distances, false, false);
+    }
+
+    /**
+     * Same distances with other anchors, e.g. to pin a collector's current position as the start
+     */
+    public DistanceMatrix withAnchors(boolean fixedStart, boolean fixedEnd) {
+        return new DistanceMatrix(size, distances, fixedStart, fixedEnd);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean hasFixedStart() {
+        return fixedStart;
+    }
+
+    public boolean hasFixedEnd() {
+        return fixedEnd;
+    }
+
+    /**
+     * First tour position an optimizer may change
+     */
+    public int firstMovable() {
+        return fixedStart ? 1 : 0;
+    }
+
+    /**
+     * Last tour position an optimizer may change
+     */
+    public int lastMovable() {
+        return fixedEnd ? size - 2 : size - 1;
+    }
+
+    /**
+     * Number of reorderable stops, i.e. bins
+     */
+    public int movableCount() {
+        return lastMovable() - firstMovable() + 1;
+    }
+
+    /**
+     * Drop the depot anchors from a tour and map the rest back to bin list indexes
+     */
+    public int[] stopOrder(int[] tour) {
+        int offset = firstMovable();
+        int[] stops = new int[movableCount()];
+        for (int i = 0; i < stops.length; i++) {
+            stops[i] = tour[i + offset] - offset;
+        }
+        return stops;
+    }
+
+    /**
+     * Distance in kilometres between stops i and j
+     */
+    public double distance(int i, int j) {
+        return distances[i * size + j];
+    }
+
+    /**
+     * Length of the path visiting stops in tour order, including any depot legs
+     */
+    public double pathLength(int[] tour) {
+        double total = 0.0;
+        for (int i = 0; i + 1 < tour.length; i++) {
+            total += distances[tour[i] * size + tour[i + 1]];
+        }
+        return total;
+    }
+}
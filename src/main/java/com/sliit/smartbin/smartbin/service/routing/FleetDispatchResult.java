@@ -0,0 +1,11 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import com.sliit.smartbin.smartbin.model.Route;
+
+import java.util.List;
+
+/**
+ * Routes persisted by a fleet dispatch and the bins no collector could take
+ */
+public record FleetDispatchResult(List<Route> routes, List<Long> unassignedBinIds) {
+}
@@ -0,0 +1,22 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+
+import java.util.List;
+
+/**
+ * Output of FleetRoutePlanner: one ordered stop list per vehicle plus the
+ * bins that did not fit any vehicle's capacity or shift
+ */
+public record FleetPlan(List<VehicleRoute> routes, List<Bin> unassigned) {
+
+    /**
+     * @param vehicle Index into the vehicle list given to the planner
+     * @param stops Bins in visiting order
+     * @param distanceKm Driving distance including any depot legs
+     * @param estimatedMinutes Shift time per RouteDurationEstimator
+     * @param notes Optimizer summary for Route.notes
+     */
+    public record VehicleRoute(int vehicle, List<Bin> stops, double distanceKm, int estimatedMinutes, String notes) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Capacitated multi-vehicle planner (sweep heuristic + local search).
+ *
+ * 1. Bins are sorted by bearing around the start depot (or their centroid
+ *    when there is none), starting after the widest angular gap, and cut
+ *    into contiguous sectors sized in proportion to each vehicle's capacity
+ *    and capped by it.
+ * 2. Each sector is ordered by the RouteOptimizationPipeline between the
+ *    shared depot anchors; distances and shift time include the depot legs.
+ * 3. Routes that exceed the shift drop end stops until they fit.
+ * 4. Dropped and overflow bins are re-inserted wherever they add the least
+ *    distance without breaking that vehicle's capacity or shift; the rest
+ *    stay unassigned.
+ */
+@Component
+public class FleetRoutePlanner {
+
+    private final RouteOptimizationPipeline optimizationPipeline;
+
+    public FleetRoutePlanner(RouteOptimizationPipeline optimizationPipeline) {
+        this.optimizationPipeline = optimizationPipeline;
+    }
+
+    /**
+     * Split bins across identical vehicles
+     * @param vehicles Number of available vehicles (collectors)
+     * @param capacity Maximum bins per vehicle
+     * @param shiftMinutes Maximum estimated minutes per vehicle
+     * @see #plan(List, RouteEnds, List, RouteOptimizerType)
+     */
+    public FleetPlan plan(List<Bin> bins, RouteEnds ends, int vehicles, int capacity, int shiftMinutes,
+                          RouteOptimizerType optimizer) {
+        if (vehicles <= 0) {
+            throw new IllegalArgumentException("At least one collector is required");
+        }
+        return plan(bins, ends, Collections.nCopies(vehicles, new VehicleLimits(capacity, shiftMinutes)), optimizer);
+    }
+
+    /**
+     * Split bins across vehicles
+     * @param bins Bins to collect; all must have coordinates
+     * @param ends Depots every vehicle starts and finishes at
+     * @param vehicles Capacity and shift length of each available vehicle (collector)
+     * @param optimizer Local search used to order each route
+     * @return Routes for vehicles that received bins plus anything left over
+     */
+    public FleetPlan plan(List<Bin> bins, RouteEnds ends, List<VehicleLimits> vehicles, RouteOptimizerType optimizer) {
+        if (vehicles.isEmpty()) {
+            throw new IllegalArgumentException("At least one collector is required");
+        }
+        long totalCapacity = 0;
+        for (VehicleLimits limits : vehicles) {
+            if (limits.capacity() == null || limits.shiftMinutes() == null
+                    || limits.capacity() <= 0 || limits.shiftMinutes() <= 0) {
+                throw new IllegalArgumentException("Capacity and shift length must be positive");
+            }
+            totalCapacity += limits.capacity();
+        }
+
+        List<Bin> swept = sweepOrder(bins, ends.start());
+        List<List<Bin>> routes = new ArrayList<>();
+        List<String> notes = new ArrayList<>();
+        List<Bin> leftover = new ArrayList<>();
+
+        int next = 0;
+        long capacityLeft = totalCapacity;
+        for (int vehicle = 0; vehicle < vehicles.size(); vehicle++) {
+            VehicleLimits limits = vehicles.get(vehicle);
+            int remaining = swept.size() - next;
+            // This vehicle's share of the remaining bins, by capacity; equal capacities split evenly
+            int size = (int) Math.min(limits.capacity(), Math.ceilDiv((long) remaining * limits.capacity(), capacityLeft));
+            capacityLeft -= limits.capacity();
+            List<Bin> sector = new ArrayList<>(swept.subList(next, next + size));
+            next += size;
+
+            List<Bin> ordered = new ArrayList<>();
+            String note = "";
+            if (!sector.isEmpty()) {
+                DistanceMatrix distances = DistanceMatrix.forRoute(ends, sector);
+                OptimizedTour tour = optimizationPipeline.optimize(distances, optimizer);
+                for (int index : distances.stopOrder(tour.order())) {
+                    ordered.add(sector.get(index));
+                }
+                note = tour.describe();
+                trimToShift(ordered, ends, limits.shiftMinutes(), leftover);
+            }
+            routes.add(ordered);
+            notes.add(note);
+        }
+        leftover.addAll(swept.subList(next, swept.size()));
+
+        List<Bin> unassigned = new ArrayList<>();
+        for (Bin bin : leftover) {
+            if (!insertCheapest(bin, routes, vehicles, ends)) {
+                unassigned.add(bin);
+            }
+        }
+
+        List<FleetPlan.VehicleRoute> planned = new ArrayList<>();
+        for (int vehicle = 0; vehicle < routes.size(); vehicle++) {
+            List<Bin> stops = routes.get(vehicle);
+            if (!stops.isEmpty()) {
+                double distance = routeLength(stops, ends);
+                planned.add(new FleetPlan.VehicleRoute(vehicle, stops, distance,
+                    RouteDurationEstimator.estimateMinutes(stops.size(), distance), notes.get(vehicle)));
+            }
+        }
+        return new FleetPlan(planned, unassigned);
+    }
+
+    /**
+     * Bins by bearing around the depot or centroid, starting just after the widest empty wedge
+     */
+    private static List<Bin> sweepOrder(List<Bin> bins, Depot depot) {
+        if (bins.size() < 2) {
+            return new ArrayList<>(bins);
+        }
+        double centreLat = depot != null ? depot.getLatitude()
+            : bins.stream().mapToDouble(Bin::getLatitude).average().orElse(0);
+        double centreLng = depot != null ? depot.getLongitude()
+            : bins.stream().mapToDouble(Bin::getLongitude).average().orElse(0);
+        double lngScale = Math.cos(Math.toRadians(centreLat));
+
+        List<Bin> sorted = new ArrayList<>(bins);
+        sorted.sort(Comparator.comparingDouble((Bin bin) -> bearing(bin, centreLat, centreLng, lngScale))
+            .thenComparing(Bin::getId));
+
+        int start = 0;
+        double widestGap = -1;
+        for (int i = 0; i < sorted.size(); i++) {
+            Bin previous = sorted.get((i + sorted.size() - 1) % sorted.size());
+            Bin current = sorted.get(i);
+            double gap = bearing(current, centreLat, centreLng, lngScale) - bearing(previous, centreLat, centreLng, lngScale);
+            if (gap <= 0) {
+                gap += 2 * Math.PI;
+            }
+            if (gap > widestGap) {
+                widestGap = gap;
+                start = i;
+            }
+        }
+
+        List<Bin> rotated = new ArrayList<>(sorted.subList(start, sorted.size()));
+        rotated.addAll(sorted.subList(0, start));
+        return rotated;
+    }
+
+    private static double bearing(Bin bin, double centreLat, double centreLng, double lngScale) {
+        return Math.atan2(bin.getLatitude() - centreLat, (bin.getLongitude() - centreLng) * lngScale);
+    }
+
+    /**
+     * Drop whichever end stop saves more distance until the route fits the shift
+     */
+    private static void trimToShift(List<Bin> route, RouteEnds ends, int shiftMinutes, List<Bin> dropped) {
+        double distance = routeLength(route, ends);
+        while (!route.isEmpty() && RouteDurationEstimator.estimateMinutes(route.size(), distance) > shiftMinutes) {
+            int last = route.size() - 1;
+            double firstSaving = removalSaving(route, ends, 0);
+            double lastSaving = removalSaving(route, ends, last);
+            if (firstSaving >= lastSaving) {
+                dropped.add(route.remove(0));
+                distance -= firstSaving;
+            } else {
+                dropped.add(route.remove(last));
+                distance -= lastSaving;
+            }
+        }
+    }
+
+    /**
+     * Distance saved by removing route[index], with the depots as outer neighbours
+     */
+    private static double removalSaving(List<Bin> route, RouteEnds ends, int index) {
+        double[] before = pointBefore(route, ends, index);
+        double[] after = pointAt(route, ends, index + 1);
+        double[] stop = point(route.get(index));
+        return km(before, stop) + km(stop, after) - km(before, after);
+    }
+
+    /**
+     * Insert the bin where it adds the least distance among routes with room for it
+     */
+    private static boolean insertCheapest(Bin bin, List<List<Bin>> routes, List<VehicleLimits> vehicles,
+                                          RouteEnds ends) {
+        int bestRoute = -1;
+        int bestPosition = -1;
+        double bestAdded = Double.MAX_VALUE;
+        double[] stop = point(bin);
+
+        for (int r = 0; r < routes.size(); r++) {
+            List<Bin> route = routes.get(r);
+            VehicleLimits limits = vehicles.get(r);
+            if (route.size() >= limits.capacity()) {
+                continue;
+            }
+            double length = routeLength(route, ends);
+            for (int position = 0; position <= route.size(); position++) {
+                double[] before = pointBefore(route, ends, position);
+                double[] after = pointAt(route, ends, position);
+                double added = km(before, stop) + km(stop, after) - km(before, after);
+                if (added < bestAdded
+                        && RouteDurationEstimator.estimateMinutes(route.size() + 1, length + added) <= limits.shiftMinutes()) {
+                    bestAdded = added;
+                    bestRoute = r;
+                    bestPosition = position;
+                }
+            }
+        }
+
+        if (bestRoute < 0) {
+            return false;
+        }
+        routes.get(bestRoute).add(bestPosition, bin);
+        return true;
+    }
+
+    /**
+     * Driving distance from the start depot through every stop to the end depot
+     */
+    private static double routeLength(List<Bin> route, RouteEnds ends) {
+        double total = 0.0;
+        for (int position = 0; position <= route.size(); position++) {
+            total += km(pointBefore(route, ends, position), pointAt(route, ends, position));
+        }
+        return total;
+    }
+
+    /**
+     * Location visited just before route[position]: the previous stop or the start depot
+     */
+    private static double[] pointBefore(List<Bin> route, RouteEnds ends, int position) {
+        return position > 0 ? point(route.get(position - 1)) : point(ends.start());
+    }
+
+    /**
+     * Location at route[position], or the end depot past the last stop
+     */
+    private static double[] pointAt(List<Bin> route, RouteEnds ends, int position) {
+        return position < route.size() ? point(route.get(position)) : point(ends.end());
+    }
+
+    private static double[] point(Bin bin) {
+        return new double[] {bin.getLatitude(), bin.getLongitude()};
+    }
+
+    private static double[] point(Depot depot) {
+        return depot == null ? null : new double[] {depot.getLatitude(), depot.getLongitude()};
+    }
+
+    private static double km(double[] from, double[] to) {
+        if (from == null || to == null) {
+            return 0.0;
+        }
+        return GeoUtils.haversineKm(from[0], from[1], to[0], to[1]);
+    }
+}
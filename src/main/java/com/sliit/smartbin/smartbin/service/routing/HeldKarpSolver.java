@@ -0,0 +1,119 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import java.util.Arrays;
+
+/**
+ * Exact shortest open path by Held-Karp bitmask dynamic programming.
+ *
+ * Like the local-search stages, the path may start and end at any stop
+ * unless the matrix fixes a depot at index 0 and/or at the last index.
+ * cost[mask * n + j] holds the shortest path visiting exactly the stops in
+ * mask and ending at stop j. Both tables are flat primitive arrays:
+ * O(2^n * n) memory and O(2^n * n^2) time, a few milliseconds and ~9 MB at
+ * 16 stops, growing fourfold in time and twofold in memory per extra stop.
+ */
+public final class HeldKarpSolver {
+
+    /**
+     * Largest route accepted; 18 stops already needs ~45 MB of tables
+     */
+    public static final int MAX_STOPS = 18;
+
+    // Masks processed between budget checks
+    private static final int BUDGET_CHECK_INTERVAL = 1 << 10;
+
+    private HeldKarpSolver() {
+    }
+
+    /**
+     * Find the optimal visit order
+     * @param distances Distances between at most MAX_STOPS stops
+     * @param budget Checked periodically; an exhausted budget abandons the search
+     * @return Optimal order, or null if the budget ran out first
+     */
+    public static int[] solve(DistanceMatrix distances, SearchBudget budget) {
+        int n = distances.size();
+        if (n > MAX_STOPS) {
+            throw new IllegalArgumentException("Held-Karp supports at most " + MAX_STOPS + " stops, got " + n);
+        }
+        if (n <= 2) {
+            int[] order = new int[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+
+        int full = (1 << n) - 1;
+        double[] cost = new double[(full + 1) * n];
+        byte[] parent = new byte[(full + 1) * n];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+
+        // Unboxed copy so the inner loop is plain array arithmetic
+        double[] d = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                d[i * n + j] = distances.distance(i, j);
+            }
+        }
+
+        int firstStarts = distances.hasFixedStart() ? 1 : n;
+        for (int j = 0; j < firstStarts; j++) {
+            cost[(1 << j) * n + j] = 0.0;
+            parent[(1 << j) * n + j] = -1;
+        }
+        // A fixed end may only be entered as the final step
+        int endBit = distances.hasFixedEnd() ? 1 << (n - 1) : 0;
+
+        for (int mask = 1; mask <= full; mask++) {
+            if ((mask & (BUDGET_CHECK_INTERVAL - 1)) == 0 && budget.exhausted()) {
+                return null;
+            }
+            int base = mask * n;
+            int free = full & ~mask;
+            if (free == 0) {
+                continue;
+            }
+            if (free != endBit) {
+                free &= ~endBit;
+            }
+            for (int j = 0; j < n; j++) {
+                double current = cost[base + j];
+                if (current == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int row = j * n;
+                int remaining = free;
+                while (remaining != 0) {
+                    int k = Integer.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    int next = (mask | (1 << k)) * n + k;
+                    double candidate = current + d[row + k];
+                    if (candidate < cost[next]) {
+                        cost[next] = candidate;
+                        parent[next] = (byte) j;
+                    }
+                }
+            }
+        }
+
+        int last = n - 1;
+        if (!distances.hasFixedEnd()) {
+            for (int j = 0; j < n - 1; j++) {
+                if (cost[full * n + j] < cost[full * n + last]) {
+                    last = j;
+                }
+            }
+        }
+
+        int[] order = new int[n];
+        int mask = full;
+        for (int position = n - 1; position >= 0; position--) {
+            order[position] = last;
+            int previous = parent[mask * n + last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,216 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs independent restarts of seed + local search in parallel and keeps the
+ * shortest route. Restart 0 uses the plain nearest-neighbour seed, so the
+ * result is never worse than a single run; the others use a randomized
+ * nearest neighbour that picks among the few closest unvisited stops.
+ *
+ * Restart i draws from SplittableRandom(seed + i), so with a fixed seed the
+ * set of routes depends only on how many restarts finish within the budget,
+ * and ties are broken by restart index rather than by thread timing.
+ *
+ * The restarts run on the caller's executor, and the calling thread takes
+ * restarts itself instead of blocking on queued ones, so a fixed pool whose
+ * threads are all inside a search still finishes.
+ */
+public final class MultiStartSearch {
+
+    // Candidates considered at each randomized step
+    private static final int CANDIDATE_LIST_SIZE = 3;
+
+    private final int restarts;
+    private final Long seed;
+
+    /**
+     * @param restarts Restarts per search, at least 1
+     * @param seed Base seed; null draws a fresh one per search
+     */
+    public MultiStartSearch(int restarts, Long seed) {
+        if (restarts < 1) {
+            throw new IllegalArgumentException("Multi-start needs at least one restart");
+        }
+        this.restarts = restarts;
+        this.seed = seed;
+    }
+
+    public int getRestarts() {
+        return restarts;
+    }
+
+    /**
+     * Search until every restart has run or the budget is exhausted.
+     * Restart 0 always runs, so there is always a route to return.
+     * @param executor Runs restarts alongside the calling thread
+     */
+    public Result search(DistanceMatrix distances, List<TourImprover> stages,
+                         SearchBudget budget, OptimizationListener listener, Executor executor) {
+        long baseSeed = seed != null ? seed : new SplittableRandom().nextLong();
+        AtomicInteger nextRestart = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(restarts);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Candidate[] candidates = new Candidate[restarts];
+        Progress progress = new Progress(listener);
+
+        Runnable worker = () -> {
+            int restart;
+            while ((restart = nextRestart.getAndIncrement()) < restarts) {
+                try {
+                    if (restart > 0 && budget.exhausted()) {
+                        continue;
+                    }
+                    int[] tour = restart == 0
+                        ? RouteOptimizationPipeline.nearestNeighbour(distances)
+                        : randomizedNearestNeighbour(distances, new SplittableRandom(baseSeed + restart));
+                    RouteOptimizationPipeline.localSearch(tour, distances, stages, budget);
+                    Candidate candidate = new Candidate(tour, distances.pathLength(tour));
+                    candidates[restart] = candidate;
+                    progress.report((double) finished.incrementAndGet() / restarts, candidate.lengthKm());
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        // Helpers that only start once the restarts are all taken find nothing left and return
+        for (int i = 1; i < restarts; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        worker.run();
+        awaitUninterruptibly(done);
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error != null) {
+            throw (Error) error;
+        }
+
+        Candidate best = null;
+        List<Candidate> completed = new ArrayList<>(restarts);
+        for (Candidate candidate : candidates) {
+            if (candidate == null) {
+                continue;
+            }
+            completed.add(candidate);
+            // Candidates are scanned in restart order, so a strict comparison keeps the lowest index on ties
+            if (best == null || candidate.lengthKm() < best.lengthKm()) {
+                best = candidate;
+            }
+        }
+
+        double[] lengths = new double[completed.size()];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = completed.get(i).lengthKm();
+        }
+        return new Result(best.tour(), MultiStartStats.of(lengths));
+    }
+
+    // Restarts still running are bounded by the search budget, so waiting them out is short
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Nearest neighbour that picks uniformly among the closest unvisited stops at each step.
+     * An unanchored route also starts from a random stop.
+     */
+    static int[] randomizedNearestNeighbour(DistanceMatrix distances, SplittableRandom random) {
+        int n = distances.size();
+        int[] tour = new int[n];
+        if (n == 0) {
+            return tour;
+        }
+        boolean[] visited = new boolean[n];
+        tour[0] = distances.hasFixedStart() ? 0 : random.nextInt(distances.hasFixedEnd() ? n - 1 : n);
+        visited[tour[0]] = true;
+        if (distances.hasFixedEnd()) {
+            visited[n - 1] = true;
+            tour[n - 1] = n - 1;
+        }
+        int lastRandom = distances.hasFixedEnd() ? n - 2 : n - 1;
+        int[] nearest = new int[CANDIDATE_LIST_SIZE];
+        double[] nearestDistance = new double[CANDIDATE_LIST_SIZE];
+        for (int step = 1; step <= lastRandom; step++) {
+            int current = tour[step - 1];
+            int found = 0;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (visited[candidate]) {
+                    continue;
+                }
+                double distance = distances.distance(current, candidate);
+                // Insertion into the short sorted candidate list
+                int slot = found < CANDIDATE_LIST_SIZE ? found++ : CANDIDATE_LIST_SIZE;
+                while (slot > 0 && nearestDistance[slot - 1] > distance) {
+                    if (slot < CANDIDATE_LIST_SIZE) {
+                        nearest[slot] = nearest[slot - 1];
+                        nearestDistance[slot] = nearestDistance[slot - 1];
+                    }
+                    slot--;
+                }
+                if (slot < CANDIDATE_LIST_SIZE) {
+                    nearest[slot] = candidate;
+                    nearestDistance[slot] = distance;
+                }
+            }
+            int next = nearest[random.nextInt(found)];
+            visited[next] = true;
+            tour[step] = next;
+        }
+        return tour;
+    }
+
+    /**
+     * Best route of a search and the spread over all restarts
+     */
+    public record Result(int[] order, MultiStartStats stats) {
+    }
+
+    private record Candidate(int[] tour, double lengthKm) {
+    }
+
+    /**
+     * Serializes listener calls from the worker threads and only reports improvements
+     */
+    private static final class Progress {
+        private final OptimizationListener listener;
+        private double bestKm = Double.MAX_VALUE;
+
+        private Progress(OptimizationListener listener) {
+            this.listener = listener;
+        }
+
+        private synchronized void report(double fraction, double lengthKm) {
+            bestKm = Math.min(bestKm, lengthKm);
+            listener.onProgress(fraction, bestKm);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * Spread of the restarts of a multi-start search
+ * @param restarts Restarts that finished before the budget ran out
+ * @param bestKm Shortest route among them (the one returned)
+ * @param worstKm Longest route among them
+ * @param meanKm Mean route length
+ * @param stdDevKm Population standard deviation of the route lengths
+ */
+public record MultiStartStats(int restarts,
+                              double bestKm,
+                              double worstKm,
+                              double meanKm,
+                              double stdDevKm) {
+
+    static MultiStartStats of(double[] lengths) {
+        double best = Double.MAX_VALUE;
+        double worst = 0.0;
+        double sum = 0.0;
+        for (double length : lengths) {
+            best = Math.min(best, length);
+            worst = Math.max(worst, length);
+            sum += length;
+        }
+        double mean = sum / lengths.length;
+        double squares = 0.0;
+        for (double length : lengths) {
+            squares += (length - mean) * (length - mean);
+        }
+        return new MultiStartStats(lengths.length, best, worst, mean, Math.sqrt(squares / lengths.length));
+    }
+}
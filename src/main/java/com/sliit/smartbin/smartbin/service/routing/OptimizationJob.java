@@ -0,0 +1,162 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import java.time.LocalDateTime;
+
+/**
+ * State of one asynchronous route optimization, shared between the worker
+ * that runs it and the HTTP requests that poll or cancel it
+ */
+public class OptimizationJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id;
+    private final RouteOptimizerType optimizer;
+    private final int binCount;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile double progress;
+    private volatile Double initialDistanceKm;
+    private volatile Double bestDistanceKm;
+    private volatile Long routeId;
+    private volatile Integer estimatedDurationMinutes;
+    private volatile MultiStartStats multiStart;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    // Set once persistence starts; from then on the job can no longer be cancelled
+    private boolean committing;
+    private volatile boolean cancelRequested;
+
+    public OptimizationJob(String id, RouteOptimizerType optimizer, int binCount) {
+        this.id = id;
+        this.optimizer = optimizer;
+        this.binCount = binCount;
+    }
+
+    /**
+     * Ask the job to stop. Refused once it has finished or started writing its route.
+     * @return true if the request was accepted
+     */
+    public synchronized boolean cancel() {
+        if (status.isFinished() || committing) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    /**
+     * Claim the right to persist results
+     * @return false if cancellation won the race and nothing may be written
+     */
+    public synchronized boolean beginCommit() {
+        if (cancelRequested) {
+            return false;
+        }
+        committing = true;
+        return true;
+    }
+
+    public void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    public void updateProgress(double fraction, double distanceKm) {
+        if (initialDistanceKm == null) {
+            initialDistanceKm = distanceKm;
+        }
+        progress = Math.max(progress, Math.min(1.0, fraction));
+        bestDistanceKm = distanceKm;
+    }
+
+    public void markCompleted(Long routeId, Integer estimatedDurationMinutes, OptimizedTour tour) {
+        this.routeId = routeId;
+        this.estimatedDurationMinutes = estimatedDurationMinutes;
+        this.bestDistanceKm = tour.finalDistanceKm();
+        this.multiStart = tour.multiStart();
+        this.progress = 1.0;
+        finish(Status.COMPLETED);
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    public void markCancelled() {
+        finish(Status.CANCELLED);
+    }
+
+    private void finish(Status finalStatus) {
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public RouteOptimizerType getOptimizer() {
+        return optimizer;
+    }
+
+    public int getBinCount() {
+        return binCount;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    public Double getInitialDistanceKm() {
+        return initialDistanceKm;
+    }
+
+    public Double getBestDistanceKm() {
+        return bestDistanceKm;
+    }
+
+    public Long getRouteId() {
+        return routeId;
+    }
+
+    public Integer getEstimatedDurationMinutes() {
+        return estimatedDurationMinutes;
+    }
+
+    public MultiStartStats getMultiStart() {
+        return multiStart;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * Receives progress from RouteOptimizationPipeline and can ask it to stop early
+ */
+public interface OptimizationListener {
+
+    OptimizationListener NONE = (fraction, bestDistanceKm) -> { };
+
+    /**
+     * Called after the seed and after every improvement pass
+     * @param fraction Estimated completion between 0 and 1
+     * @param bestDistanceKm Length of the best route found so far
+     */
+    void onProgress(double fraction, double bestDistanceKm);
+
+    /**
+     * Polled during the search; returning true stops it at the next check
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
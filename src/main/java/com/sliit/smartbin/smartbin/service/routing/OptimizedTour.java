@@ -0,0 +1,51 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * Result of a route optimization run
+ * @param order Visit order as indexes into the input
+ * @param optimizer Optimizer that produced the order
+ * @param initialDistanceKm Length of the nearest-neighbour seed
+ * @param finalDistanceKm Length after the improvement stages
+ * @param elapsedMillis Wall-clock time spent
+ * @param budgetExhausted Whether the time budget stopped the search early
+ * @param exact Whether the order is provably optimal (Held-Karp) rather than heuristic
+ * @param multiStart Spread over the restarts of a multi-start search, otherwise null
+ */
+public record OptimizedTour(int[] order,
+                            RouteOptimizerType optimizer,
+                            double initialDistanceKm,
+                            double finalDistanceKm,
+                            long elapsedMillis,
+                            boolean budgetExhausted,
+                            boolean exact,
+                            MultiStartStats multiStart) {
+
+    /**
+     * Single-run result
+     */
+    public OptimizedTour(int[] order, RouteOptimizerType optimizer, double initialDistanceKm,
+                         double finalDistanceKm, long elapsedMillis, boolean budgetExhausted, boolean exact) {
+        this(order, optimizer, initialDistanceKm, finalDistanceKm, elapsedMillis, budgetExhausted, exact, null);
+    }
+
+    /**
+     * Heuristic result
+     */
+    public OptimizedTour(int[] order, RouteOptimizerType optimizer, double initialDistanceKm,
+                         double finalDistanceKm, long elapsedMillis, boolean budgetExhausted) {
+        this(order, optimizer, initialDistanceKm, finalDistanceKm, elapsedMillis, budgetExhausted, false);
+    }
+
+    /**
+     * Summary for Route.notes
+     */
+    public String describe() {
+        double saved = initialDistanceKm > 0 ? (initialDistanceKm - finalDistanceKm) / initialDistanceKm * 100.0 : 0.0;
+        String restarts = multiStart == null ? "" : String.format(
+            ", best of %d restarts (%.2f-%.2f km, sd %.2f km)",
+            multiStart.restarts(), multiStart.bestKm(), multiStart.worstKm(), multiStart.stdDevKm());
+        return String.format("Route optimized using %s: %.2f km -> %.2f km (%.1f%% shorter) in %d ms%s%s",
+            exact ? "Held-Karp (exact)" : optimizer.getDisplayName(), initialDistanceKm, finalDistanceKm, saved, elapsedMillis,
+            restarts, budgetExhausted ? ", time budget reached" : "");
+    }
+}
@@ -0,0 +1,111 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * Or-opt: move a run of up to three consecutive stops, optionally reversed,
+ * to the position where it adds the least distance. Catches stragglers that
+ * 2-opt cannot fix without disturbing the rest of the route.
+ */
+public class OrOptImprover implements TourImprover {
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    @Override
+    public String getName() {
+        return "Or-opt";
+    }
+
+    @Override
+    public boolean improve(int[] tour, DistanceMatrix distances, SearchBudget budget) {
+        int first = distances.firstMovable();
+        int last = distances.lastMovable();
+        boolean changed = false;
+        boolean improved = true;
+
+        while (improved) {
+            improved = false;
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH && length < distances.movableCount(); length++) {
+                for (int i = first; i + length - 1 <= last; i++) {
+                    if (budget.exhausted()) {
+                        return changed;
+                    }
+                    if (tryMove(tour, distances, i, length)) {
+                        improved = true;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Relocate tour[start .. start + length - 1] to its best position, if that helps
+     */
+    private static boolean tryMove(int[] tour, DistanceMatrix distances, int start, int length) {
+        int n = tour.length;
+        int end = start + length - 1;
+        int first = tour[start];
+        int last = tour[end];
+        int prev = start > 0 ? tour[start - 1] : -1;
+        int next = end < n - 1 ? tour[end + 1] : -1;
+
+        double removalGain = d(distances, prev, first) + d(distances, last, next) - d(distances, prev, next);
+        if (removalGain <= EPSILON) {
+            return false;
+        }
+
+        double bestDelta = -EPSILON;
+        int bestPosition = -1;
+        boolean bestReversed = false;
+
+        // Position p means "insert before tour[p]" in the original array; skip the segment's own slots.
+        // Positions stay between the depot anchors, if any.
+        for (int p = distances.firstMovable(); p <= distances.lastMovable() + 1; p++) {
+            if (p >= start && p <= end + 1) {
+                continue;
+            }
+            int a = p > 0 ? tour[p - 1] : -1;
+            int b = p < n ? tour[p] : -1;
+            double base = d(distances, a, b);
+            double forward = d(distances, a, first) + d(distances, last, b) - base - removalGain;
+            double reversed = d(distances, a, last) + d(distances, first, b) - base - removalGain;
+            if (forward < bestDelta) {
+                bestDelta = forward;
+                bestPosition = p;
+                bestReversed = false;
+            }
+            if (reversed < bestDelta) {
+                bestDelta = reversed;
+                bestPosition = p;
+                bestReversed = true;
+            }
+        }
+
+        if (bestPosition < 0) {
+            return false;
+        }
+        move(tour, start, length, bestPosition, bestReversed);
+        return true;
+    }
+
+    private static void move(int[] tour, int start, int length, int position, boolean reversed) {
+        int[] segment = new int[length];
+        for (int k = 0; k < length; k++) {
+            segment[k] = tour[reversed ? start + length - 1 - k : start + k];
+        }
+        if (position < start) {
+            // Shift tour[position .. start - 1] right to make room
+            System.arraycopy(tour, position, tour, position + length, start - position);
+            System.arraycopy(segment, 0, tour, position, length);
+        } else {
+            // Shift tour[start + length .. position - 1] left into the gap
+            System.arraycopy(tour, start + length, tour, start, position - start - length);
+            System.arraycopy(segment, 0, tour, position - length, length);
+        }
+    }
+
+    private static double d(DistanceMatrix distances, int from, int to) {
+        return from < 0 || to < 0 ? 0.0 : distances.distance(from, to);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * Shift-time estimate shared by single-route optimization and fleet planning
+ */
+public final class RouteDurationEstimator {
+
+    // Base time: 10 minutes per bin for collection
+    private static final int MINUTES_PER_BIN = 10;
+
+    // Travel time: average speed 30 km/h in urban areas
+    private static final double AVERAGE_SPEED_KMH = 30.0;
+
+    // Add buffer time (15% of total)
+    private static final double BUFFER_RATIO = 0.15;
+
+    private RouteDurationEstimator() {
+    }
+
+    /**
+     * Estimated minutes to service a route
+     * @param numBins Number of stops
+     * @param totalDistanceKm Driving distance between the stops
+     */
+    public static int estimateMinutes(int numBins, double totalDistanceKm) {
+        int collectionTime = numBins * MINUTES_PER_BIN;
+        int travelTime = (int) Math.ceil((totalDistanceKm / AVERAGE_SPEED_KMH) * 60);
+
+        int totalTime = collectionTime + travelTime;
+        int bufferTime = (int) Math.ceil(totalTime * BUFFER_RATIO);
+
+        return totalTime + bufferTime;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import com.sliit.smartbin.smartbin.model.Depot;
+
+/**
+ * Fixed anchors of a route. Optimizers never move them: the start depot is
+ * always visited first and the end depot last.
+ * @param start Depot the truck leaves from, or null
+ * @param end Depot the truck finishes at, or null for an open route
+ */
+public record RouteEnds(Depot start, Depot end) {
+
+    public static final RouteEnds NONE = new RouteEnds(null, null);
+
+    public boolean hasStart() {
+        return start != null;
+    }
+
+    public boolean hasEnd() {
+        return end != null;
+    }
+
+    /**
+     * Summary for Route.notes, e.g. "Colombo Yard -> 12 bins -> Karadiyana Landfill"
+     */
+    public String describe(int stops) {
+        return (hasStart() ? start.getName() + " -> " : "") + stops + " bins"
+            + (hasEnd() ? " -> " + end.getName() : "");
+    }
+}
@@ -0,0 +1,162 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Nearest-neighbour seed followed by the optimizer's improvement stages,
+ * all bounded by a wall-clock budget so large routes still return promptly.
+ * Routes of at most exactMaxBins stops are instead solved exactly with
+ * Held-Karp, which at that size is both optimal and faster than local search.
+ * MULTI_START spreads the budget over parallel restarts on the executor the
+ * caller passes in, so it stays inside the caller's thread bounds.
+ */
+@Component
+public class RouteOptimizationPipeline {
+
+    private final long timeBudgetMillis;
+    private final int exactMaxBins;
+    private final MultiStartSearch multiStartSearch;
+
+    public RouteOptimizationPipeline(long timeBudgetMillis, int exactMaxBins) {
+        this(timeBudgetMillis, exactMaxBins, 16, null);
+    }
+
+    /**
+     * @param restarts Restarts per MULTI_START search
+     * @param seed Fixed base seed for reproducible MULTI_START results; null for a fresh one per run
+     */
+    @Autowired
+    public RouteOptimizationPipeline(@Value("${smartbin.routing.time-budget-ms:2000}") long timeBudgetMillis,
+                                     @Value("${smartbin.routing.exact-max-bins:16}") int exactMaxBins,
+                                     @Value("${smartbin.routing.multi-start.restarts:16}") int restarts,
+                                     @Value("${smartbin.routing.multi-start.seed:#{null}}") Long seed) {
+        if (timeBudgetMillis <= 0) {
+            throw new IllegalArgumentException("Routing time budget must be positive");
+        }
+        if (exactMaxBins > HeldKarpSolver.MAX_STOPS) {
+            throw new IllegalArgumentException("Exact routing supports at most " + HeldKarpSolver.MAX_STOPS + " bins");
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.exactMaxBins = exactMaxBins;
+        this.multiStartSearch = new MultiStartSearch(restarts, seed);
+    }
+
+    /**
+     * Order stops, keeping any depot anchors of the matrix fixed
+     * @param distances Distances between the stops
+     * @param optimizer Improvement stages to run after the seed
+     * @return Visit order plus before/after distances
+     */
+    public OptimizedTour optimize(DistanceMatrix distances, RouteOptimizerType optimizer) {
+        return optimize(distances, optimizer, OptimizationListener.NONE);
+    }
+
+    /**
+     * As optimize(distances, optimizer), reporting progress and honouring cancellation.
+     * A cancelled run returns the best route found so far.
+     */
+    public OptimizedTour optimize(DistanceMatrix distances, RouteOptimizerType optimizer, OptimizationListener listener) {
+        // Without a pool of its own the caller runs the MULTI_START restarts one after another
+        return optimize(distances, optimizer, listener, Runnable::run);
+    }
+
+    /**
+     * As optimize(distances, optimizer, listener), running MULTI_START restarts on the given executor
+     * as well as the calling thread
+     */
+    public OptimizedTour optimize(DistanceMatrix distances, RouteOptimizerType optimizer, OptimizationListener listener,
+                                  Executor executor) {
+        SearchBudget budget = SearchBudget.startingNow(timeBudgetMillis, listener::isCancelled);
+
+        int[] tour = nearestNeighbour(distances);
+        double initial = distances.pathLength(tour);
+        listener.onProgress(optimizer.getStages().isEmpty() ? 1.0 : 0.0, initial);
+
+        // NEAREST_NEIGHBOR stays greedy so it remains usable as a baseline
+        if (!optimizer.getStages().isEmpty() && distances.movableCount() <= exactMaxBins
+                && distances.size() <= HeldKarpSolver.MAX_STOPS) {
+            int[] optimal = HeldKarpSolver.solve(distances, budget);
+            if (optimal != null) {
+                double length = distances.pathLength(optimal);
+                listener.onProgress(1.0, length);
+                return new OptimizedTour(optimal, optimizer, initial, length, budget.elapsedMillis(), false, true);
+            }
+        }
+
+        if (optimizer.isMultiStart()) {
+            MultiStartSearch.Result result = multiStartSearch.search(distances, optimizer.getStages(), budget, listener,
+                                                                    executor);
+            return new OptimizedTour(result.order(), optimizer, initial, result.stats().bestKm(),
+                                     budget.elapsedMillis(), budget.isTimeUp(), false, result.stats());
+        }
+
+        boolean improved = !optimizer.getStages().isEmpty();
+        while (improved && !budget.exhausted()) {
+            improved = runStages(tour, distances, optimizer.getStages(), budget);
+            listener.onProgress(improved ? budget.fractionUsed() : 1.0, distances.pathLength(tour));
+        }
+
+        return new OptimizedTour(tour, optimizer, initial, distances.pathLength(tour),
+                                 budget.elapsedMillis(), budget.isTimeUp());
+    }
+
+    /**
+     * Run the stages in turn until none improves the tour or the budget is exhausted
+     */
+    static void localSearch(int[] tour, DistanceMatrix distances, List<TourImprover> stages, SearchBudget budget) {
+        boolean improved = !stages.isEmpty();
+        while (improved && !budget.exhausted()) {
+            improved = runStages(tour, distances, stages, budget);
+        }
+    }
+
+    private static boolean runStages(int[] tour, DistanceMatrix distances, List<TourImprover> stages,
+                                     SearchBudget budget) {
+        boolean improved = false;
+        for (TourImprover stage : stages) {
+            improved |= stage.improve(tour, distances, budget);
+        }
+        return improved;
+    }
+
+    /**
+     * Greedy seed: start at index 0 and repeatedly visit the closest unvisited stop,
+     * keeping a fixed end depot for last
+     */
+    static int[] nearestNeighbour(DistanceMatrix distances) {
+        int n = distances.size();
+        int[] tour = new int[n];
+        if (n == 0) {
+            return tour;
+        }
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+        if (distances.hasFixedEnd()) {
+            visited[n - 1] = true;
+            tour[n - 1] = n - 1;
+        }
+        int lastGreedy = distances.hasFixedEnd() ? n - 2 : n - 1;
+        for (int step = 1; step <= lastGreedy; step++) {
+            int current = tour[step - 1];
+            int nearest = -1;
+            double nearestDistance = Double.MAX_VALUE;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate]) {
+                    double distance = distances.distance(current, candidate);
+                    if (distance < nearestDistance) {
+                        nearest = candidate;
+                        nearestDistance = distance;
+                    }
+                }
+            }
+            visited[nearest] = true;
+            tour[step] = nearest;
+        }
+        return tour;
+    }
+}
@@ -0,0 +1,64 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Route optimizers selectable per request. Every optimizer starts from a
+ * nearest-neighbour seed and then runs its improvement stages in turn
+ * until none of them finds a shorter route or the time budget runs out.
+ * MULTI_START repeats that from many randomized seeds in parallel.
+ */
+public enum RouteOptimizerType {
+
+    NEAREST_NEIGHBOR(List.of(), false),
+    TWO_OPT(List.of(new TwoOptImprover()), false),
+    OR_OPT(List.of(new OrOptImprover()), false),
+    LOCAL_SEARCH(List.of(new TwoOptImprover(), new OrOptImprover()), false),
+    MULTI_START(List.of(new TwoOptImprover(), new OrOptImprover()), true);
+
+    public static final RouteOptimizerType DEFAULT = LOCAL_SEARCH;
+
+    private final List<TourImprover> stages;
+    private final boolean multiStart;
+
+    RouteOptimizerType(List<TourImprover> stages, boolean multiStart) {
+        this.stages = stages;
+        this.multiStart = multiStart;
+    }
+
+    public List<TourImprover> getStages() {
+        return stages;
+    }
+
+    public boolean isMultiStart() {
+        return multiStart;
+    }
+
+    /**
+     * Name for route notes, e.g. "Nearest Neighbor + 2-opt + Or-opt"
+     */
+    public String getDisplayName() {
+        StringBuilder name = new StringBuilder(multiStart ? "Multi-start Nearest Neighbor" : "Nearest Neighbor");
+        for (TourImprover stage : stages) {
+            name.append(" + ").append(stage.getName());
+        }
+        return name.toString();
+    }
+
+    /**
+     * Parse a request value such as "two-opt" or "LOCAL_SEARCH"; blank means DEFAULT
+     */
+    public static RouteOptimizerType fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        String normalized = value.trim().toUpperCase().replace('-', '_').replace(' ', '_');
+        return Arrays.stream(values())
+            .filter(type -> type.name().equals(normalized))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown optimizer '" + value + "'. Expected one of: " +
+                Arrays.stream(values()).map(Enum::name).collect(Collectors.joining(", "))));
+    }
+}
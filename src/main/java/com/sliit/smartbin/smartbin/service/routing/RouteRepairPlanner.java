@@ -0,0 +1,85 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-sequences the rest of a live route without solving it again.
+ *
+ * New stops are inserted where they add the least distance to the current
+ * order, then 2-opt and Or-opt run from that order under a short budget to
+ * smooth the seams. Visited stops are not part of the matrix, so only the
+ * pending part of the route can move.
+ */
+@Component
+public class RouteRepairPlanner {
+
+    private final long budgetMillis;
+
+    public RouteRepairPlanner(@Value("${smartbin.routing.repair-budget-ms:50}") long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Route repair budget must be positive");
+        }
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Order pending and new stops between the route's anchors
+     * @param distances Stops laid out as [current position] + pending stops in their
+     *                  current order + new stops + [end depot], with matching anchors
+     * @param pendingCount Number of pending stops already on the route
+     * @return Visit order over every index of the matrix, anchors in place
+     */
+    public int[] repair(DistanceMatrix distances, int pendingCount) {
+        int n = distances.size();
+        int first = distances.firstMovable();
+        if (pendingCount < 0 || first + pendingCount > distances.lastMovable() + 1) {
+            throw new IllegalArgumentException("Pending stop count does not fit the matrix");
+        }
+
+        int[] tour = new int[n];
+        int length = 0;
+        if (distances.hasFixedStart()) {
+            tour[length++] = 0;
+        }
+        for (int i = 0; i < pendingCount; i++) {
+            tour[length++] = first + i;
+        }
+        if (distances.hasFixedEnd()) {
+            tour[length++] = n - 1;
+        }
+
+        for (int stop = first + pendingCount; stop <= distances.lastMovable(); stop++) {
+            int position = cheapestPosition(tour, length, stop, distances);
+            System.arraycopy(tour, position, tour, position + 1, length - position);
+            tour[position] = stop;
+            length++;
+        }
+
+        RouteOptimizationPipeline.localSearch(tour, distances, RouteOptimizerType.LOCAL_SEARCH.getStages(),
+                                              SearchBudget.startingNow(budgetMillis));
+        return tour;
+    }
+
+    /**
+     * Position before which stop adds the least distance, never outside the anchors
+     */
+    private static int cheapestPosition(int[] tour, int length, int stop, DistanceMatrix distances) {
+        int from = distances.hasFixedStart() ? 1 : 0;
+        int to = distances.hasFixedEnd() ? length - 1 : length;
+        int best = to;
+        double bestCost = Double.MAX_VALUE;
+        for (int position = from; position <= to; position++) {
+            boolean hasPrevious = position > 0;
+            boolean hasNext = position < length;
+            double cost = (hasPrevious ? distances.distance(tour[position - 1], stop) : 0.0)
+                        + (hasNext ? distances.distance(stop, tour[position]) : 0.0)
+                        - (hasPrevious && hasNext ? distances.distance(tour[position - 1], tour[position]) : 0.0);
+            if (cost < bestCost) {
+                best = position;
+                bestCost = cost;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Stop condition shared by every search stage: a wall-clock deadline plus an
+ * optional cancellation check, so long-running jobs can be abandoned promptly.
+ */
+public final class SearchBudget {
+
+    private final long startedNanos;
+    private final long deadlineNanos;
+    private final BooleanSupplier cancelled;
+
+    private SearchBudget(long startedNanos, long budgetNanos, BooleanSupplier cancelled) {
+        this.startedNanos = startedNanos;
+        this.deadlineNanos = startedNanos + budgetNanos;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Budget starting now
+     * @param budgetMillis Wall-clock allowance
+     * @param cancelled Polled by the search; true stops it at the next check
+     */
+    public static SearchBudget startingNow(long budgetMillis, BooleanSupplier cancelled) {
+        return new SearchBudget(System.nanoTime(), budgetMillis * 1_000_000L, cancelled);
+    }
+
+    public static SearchBudget startingNow(long budgetMillis) {
+        return startingNow(budgetMillis, () -> false);
+    }
+
+    /**
+     * Whether the search must stop now, because time ran out or it was cancelled
+     */
+    public boolean exhausted() {
+        return System.nanoTime() > deadlineNanos || cancelled.getAsBoolean();
+    }
+
+    public boolean isCancelled() {
+        return cancelled.getAsBoolean();
+    }
+
+    public boolean isTimeUp() {
+        return System.nanoTime() > deadlineNanos;
+    }
+
+    public long elapsedMillis() {
+        return (System.nanoTime() - startedNanos) / 1_000_000L;
+    }
+
+    /**
+     * Share of the time allowance used so far, between 0 and 1
+     */
+    public double fractionUsed() {
+        double total = deadlineNanos - startedNanos;
+        return total <= 0 ? 1.0 : Math.min(1.0, (System.nanoTime() - startedNanos) / total);
+    }
+}
@@ -0,0 +1,24 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * A local-search stage that shortens an open collection path in place.
+ *
+ * Tours are arrays of indexes into the DistanceMatrix; the path starts at
+ * tour[0] and ends at tour[n - 1] without returning.
+ */
+public interface TourImprover {
+
+    /**
+     * Human readable stage name used in route notes
+     */
+    String getName();
+
+    /**
+     * Apply improving moves until no move helps or the budget is exhausted
+     * @param tour Visit order, modified in place
+     * @param distances Distances between the stops
+     * @param budget Checked between moves; the stage returns as soon as it is exhausted
+     * @return true if the tour changed
+     */
+    boolean improve(int[] tour, DistanceMatrix distances, SearchBudget budget);
+}
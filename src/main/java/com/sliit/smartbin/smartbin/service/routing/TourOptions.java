@@ -0,0 +1,18 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * Depot choices for a route request, resolved to concrete depots by DepotService
+ * @param startDepotId Depot to leave from; null picks the yard nearest the bins
+ * @param tourType Where the route ends
+ * @param endDepotId Disposal site for TO_DISPOSAL; null picks the one nearest the bins
+ */
+public record TourOptions(Long startDepotId, TourType tourType, Long endDepotId) {
+
+    public static final TourOptions DEFAULT = new TourOptions(null, TourType.DEFAULT, null);
+
+    public TourOptions {
+        if (tourType == null) {
+            tourType = TourType.DEFAULT;
+        }
+    }
+}
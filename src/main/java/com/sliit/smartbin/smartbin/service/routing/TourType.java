@@ -0,0 +1,34 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Where a route begins and ends relative to depots
+ */
+public enum TourType {
+
+    /** Depot -> bins -> same depot */
+    CLOSED,
+    /** Depot -> bins -> transfer station or disposal site */
+    TO_DISPOSAL,
+    /** Depot -> bins, ending at the last bin; without a depot, a free path through the bins */
+    OPEN;
+
+    public static final TourType DEFAULT = CLOSED;
+
+    /**
+     * Parse a request value such as "to-disposal" or "CLOSED"; blank means DEFAULT
+     */
+    public static TourType fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        String normalized = value.trim().toUpperCase().replace('-', '_').replace(' ', '_');
+        return Arrays.stream(values())
+            .filter(type -> type.name().equals(normalized))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown tour type '" + value + "'. Expected one of: " +
+                Arrays.stream(values()).map(Enum::name).collect(Collectors.joining(", "))));
+    }
+}
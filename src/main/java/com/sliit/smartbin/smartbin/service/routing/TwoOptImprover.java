@@ -0,0 +1,63 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * 2-opt: reverse a sub-path whenever reconnecting its ends shortens the route.
+ * Removes the crossing legs a greedy nearest-neighbour pass tends to leave behind.
+ */
+public class TwoOptImprover implements TourImprover {
+
+    private static final double EPSILON = 1e-9;
+
+    @Override
+    public String getName() {
+        return "2-opt";
+    }
+
+    @Override
+    public boolean improve(int[] tour, DistanceMatrix distances, SearchBudget budget) {
+        int n = tour.length;
+        int first = distances.firstMovable();
+        int last = distances.lastMovable();
+        boolean changed = false;
+        boolean improved = true;
+
+        while (improved) {
+            improved = false;
+            for (int i = first; i < last; i++) {
+                if (budget.exhausted()) {
+                    return changed;
+                }
+                for (int j = i + 1; j <= last; j++) {
+                    if (i == 0 && j == n - 1) {
+                        continue;
+                    }
+                    // Open path: missing neighbours at either end contribute nothing
+                    double before = 0;
+                    double after = 0;
+                    if (i > 0) {
+                        before += distances.distance(tour[i - 1], tour[i]);
+                        after += distances.distance(tour[i - 1], tour[j]);
+                    }
+                    if (j < n - 1) {
+                        before += distances.distance(tour[j], tour[j + 1]);
+                        after += distances.distance(tour[i], tour[j + 1]);
+                    }
+                    if (after < before - EPSILON) {
+                        reverse(tour, i, j);
+                        improved = true;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static void reverse(int[] tour, int from, int to) {
+        while (from < to) {
+            int tmp = tour[from];
+            tour[from++] = tour[to];
+            tour[to--] = tmp;
+        }
+    }
+}
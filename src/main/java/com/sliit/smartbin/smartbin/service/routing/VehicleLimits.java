@@ -0,0 +1,18 @@
+package com.sliit.smartbin.smartbin.service.routing;
+
+/**
+ * How much one vehicle (collector) can take on a fleet dispatch. As a
+ * per-collector override either value may be null to keep the fleet default.
+ * @param capacity Maximum bins on the route
+ * @param shiftMinutes Maximum estimated minutes per RouteDurationEstimator
+ */
+public record VehicleLimits(Integer capacity, Integer shiftMinutes) {
+
+    /**
+     * These limits with any missing value taken from the defaults
+     */
+    public VehicleLimits orElse(VehicleLimits defaults) {
+        return new VehicleLimits(capacity != null ? capacity : defaults.capacity(),
+                                 shiftMinutes != null ? shiftMinutes : defaults.shiftMinutes());
+    }
+}
@@ -0,0 +1,64 @@
+package com.sliit.smartbin.smartbin.service.synthetic;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and seed of a generated dataset
+ * @param seed Seed for every random choice; the same seed gives the same data
+ * @param prefix Prefix for unique keys (emails, QR codes, request ids, route names),
+ *               so several datasets can share one database
+ * @param bins Number of bins
+ * @param collectors Number of collectors
+ * @param residents Number of residents
+ * @param bulkRequests Number of bulk requests
+ * @param collections Number of collection records
+ * @param routes Number of routes
+ * @param binsPerRoute Stops on each route
+ * @param batchSize Rows per JDBC batch
+ * @param referenceTime "Now" for generated timestamps; fix it to make timestamps reproducible too
+ */
+public record SyntheticCityConfig(long seed,
+                                  String prefix,
+                                  int bins,
+                                  int collectors,
+                                  int residents,
+                                  int bulkRequests,
+                                  int collections,
+                                  int routes,
+                                  int binsPerRoute,
+                                  int batchSize,
+                                  LocalDateTime referenceTime) {
+
+    public SyntheticCityConfig {
+        if (prefix == null || prefix.isBlank()) {
+            prefix = "syn" + Long.toHexString(seed);
+        }
+        if (bins < 1 || collectors < 1 || residents < 1) {
+            throw new IllegalArgumentException("At least one bin, collector and resident is required");
+        }
+        if (bulkRequests < 0 || collections < 0 || routes < 0) {
+            throw new IllegalArgumentException("Record counts must not be negative");
+        }
+        if (binsPerRoute < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Route size and batch size must be positive");
+        }
+        if (referenceTime == null) {
+            referenceTime = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * A city of the given number of bins, with the other counts scaled to match
+     */
+    public static SyntheticCityConfig ofSize(long seed, int bins) {
+        return new SyntheticCityConfig(seed, null, bins,
+            Math.max(1, bins / 250),
+            Math.max(1, bins * 2),
+            bins / 5,
+            bins * 3,
+            bins / 20,
+            25,
+            1000,
+            null);
+    }
+}
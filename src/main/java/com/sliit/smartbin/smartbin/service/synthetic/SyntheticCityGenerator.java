@@ -0,0 +1,471 @@
+package com.sliit.smartbin.smartbin.service.synthetic;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.BulkCategory;
+import com.sliit.smartbin.smartbin.model.BulkRequestStatus;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.PaymentStatus;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.RouteBin;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.service.routing.RouteDurationEstimator;
+import com.sliit.smartbin.smartbin.util.GeoHash;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates a realistic, seeded dataset at any scale: bins, collectors,
+ * residents, bulk requests, collections and routes.
+ *
+ * Locations are clustered around real Sri Lankan city centres, each split into
+ * neighbourhoods, so spatial queries and routing see the density they would in
+ * production. Every table is written with JDBC batches; the only reads are one
+ * id lookup per table to wire up foreign keys.
+ *
+ * Usable directly from benchmarks and tests (it only needs a JdbcTemplate) or
+ * at startup through the "synthetic" profile.
+ */
+public class SyntheticCityGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticCityGenerator.class);
+
+    /**
+     * Generated collections and routes lie within this many days before the reference time
+     */
+    public static final int HISTORY_DAYS = 90;
+
+    private static final String SHARED_PASSWORD = "password123";
+    private static final int NEIGHBOURHOODS_PER_CITY = 8;
+
+    static final List<City> CITIES = List.of(
+        new City("Colombo", 6.9271, 79.8612, 0.45, 0.05),
+        new City("Kandy", 7.2906, 80.6337, 0.15, 0.03),
+        new City("Galle", 6.0535, 80.2210, 0.10, 0.025),
+        new City("Negombo", 7.2083, 79.8358, 0.10, 0.025),
+        new City("Kurunegala", 7.4863, 80.3647, 0.10, 0.03),
+        new City("Jaffna", 9.6615, 80.0255, 0.10, 0.03)
+    );
+
+    private static final String INSERT_USER_SQL =
+        "INSERT INTO users (name, email, password, phone, role, address, region, recycling_points, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BIN_SQL =
+        "INSERT INTO bins (qr_code, location, latitude, longitude, bin_type, status, fill_level, last_emptied, " +
+        "alert_flag, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BULK_REQUEST_SQL =
+        "INSERT INTO bulk_requests (request_id, user_id, category, description, street_address, city, zip_code, " +
+        "latitude, longitude, geohash, base_price, processing_fee, tax_amount, total_amount, status, payment_status, " +
+        "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COLLECTION_SQL =
+        "INSERT INTO collections (bin_id, collector_id, collection_type, status, waste_type, waste_level, " +
+        "collection_date, completion_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ROUTE_SQL =
+        "INSERT INTO routes (route_name, collector_id, authority_id, status, assigned_date, started_date, completed_date, " +
+        "estimated_duration, actual_duration, total_distance, notes, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ROUTE_BIN_SQL =
+        "INSERT INTO route_bins (route_id, bin_id, sequence_order, status, visited_date, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticCityGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Whether a dataset with this config's prefix has already been written
+     */
+    public boolean exists(SyntheticCityConfig config) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM bins WHERE qr_code LIKE ?", Integer.class, config.prefix() + "-%");
+        return count != null && count > 0;
+    }
+
+    /**
+     * Write a dataset. Rows are committed batch by batch unless the caller holds a transaction.
+     */
+    public SyntheticCitySummary generate(SyntheticCityConfig config) {
+        long startedAt = System.currentTimeMillis();
+        Random random = new Random(config.seed());
+        Fingerprint fingerprint = new Fingerprint();
+        Timestamp now = Timestamp.valueOf(config.referenceTime());
+        String prefix = config.prefix();
+        String passwordHash = new BCryptPasswordEncoder().encode(SHARED_PASSWORD);
+
+        double[][] neighbourhoods = neighbourhoods(random);
+
+        // Users: authorities, then collectors and residents each tied to a home city
+        int authorities = Math.max(1, config.collectors() / 20);
+        int[] collectorCity = new int[config.collectors()];
+        int[] residentCity = new int[config.residents()];
+        double[][] residentHome = new double[config.residents()][];
+        Batch users = new Batch(INSERT_USER_SQL, config.batchSize());
+        for (int i = 0; i < authorities; i++) {
+            users.add(userRow(prefix, "authority", i, passwordHash, User.UserRole.AUTHORITY, "Colombo", now));
+        }
+        for (int i = 0; i < config.collectors(); i++) {
+            collectorCity[i] = pickCity(random);
+            fingerprint.add(collectorCity[i]);
+            users.add(userRow(prefix, "collector", i, passwordHash, User.UserRole.COLLECTOR,
+                              CITIES.get(collectorCity[i]).name(), now));
+        }
+        for (int i = 0; i < config.residents(); i++) {
+            residentCity[i] = pickCity(random);
+            residentHome[i] = point(random, residentCity[i], neighbourhoods);
+            fingerprint.add(residentHome[i][0]).add(residentHome[i][1]);
+            users.add(userRow(prefix, "resident", i, passwordHash, User.UserRole.RESIDENT,
+                              CITIES.get(residentCity[i]).name(), now));
+        }
+        users.flush();
+        long[] authorityIds = idsByKey("users", "email", prefix + ".authority.", authorities);
+        long[] collectorIds = idsByKey("users", "email", prefix + ".collector.", config.collectors());
+        long[] residentIds = idsByKey("users", "email", prefix + ".resident.", config.residents());
+        List<List<Integer>> collectorsByCity = groupByCity(collectorCity);
+
+        // Bins
+        int[] binCity = new int[config.bins()];
+        double[][] binPoint = new double[config.bins()][];
+        Bin.BinType[] binType = new Bin.BinType[config.bins()];
+        Bin.BinType[] binTypes = Bin.BinType.values();
+        Batch bins = new Batch(INSERT_BIN_SQL, config.batchSize());
+        for (int i = 0; i < config.bins(); i++) {
+            binCity[i] = pickCity(random);
+            binPoint[i] = point(random, binCity[i], neighbourhoods);
+            // Mostly general waste, some recycling, few bulk bins
+            int typeRoll = random.nextInt(10);
+            binType[i] = binTypes[typeRoll < 7 ? 0 : typeRoll < 9 ? 1 : 2];
+            int fillLevel = random.nextInt(101);
+            LocalDateTime lastEmptied = config.referenceTime().minusMinutes(random.nextInt(72 * 60));
+            Bin.BinStatus status = fillLevel >= 90
+                ? (lastEmptied.isBefore(config.referenceTime().minusHours(48)) ? Bin.BinStatus.OVERDUE : Bin.BinStatus.FULL)
+                : fillLevel >= 60 ? Bin.BinStatus.PARTIAL : Bin.BinStatus.EMPTY;
+            fingerprint.add(binPoint[i][0]).add(binPoint[i][1]).add(fillLevel).add(binType[i].ordinal());
+            bins.add(new Object[] {
+                key(prefix, "bin", i), CITIES.get(binCity[i]).name() + " bin " + i,
+                binPoint[i][0], binPoint[i][1], binType[i].name(), status.name(), fillLevel,
+                Timestamp.valueOf(lastEmptied), status == Bin.BinStatus.OVERDUE || fillLevel >= 95, now, now
+            });
+        }
+        bins.flush();
+        long[] binIds = idsByKey("bins", "qr_code", prefix + "-bin-", config.bins());
+        List<List<Integer>> binsByCity = groupByCity(binCity);
+
+        // Bulk requests near the requesting resident's home
+        BulkCategory[] categories = BulkCategory.values();
+        BulkRequestStatus[] requestStatuses = BulkRequestStatus.values();
+        Batch requests = new Batch(INSERT_BULK_REQUEST_SQL, config.batchSize());
+        for (int i = 0; i < config.bulkRequests(); i++) {
+            int resident = random.nextInt(config.residents());
+            double lat = residentHome[resident][0] + random.nextGaussian() * 0.0005;
+            double lng = residentHome[resident][1] + random.nextGaussian() * 0.0005;
+            BulkCategory category = categories[random.nextInt(categories.length)];
+            BulkRequestStatus status = requestStatuses[random.nextInt(requestStatuses.length)];
+            double base = category.getBasePrice();
+            double tax = Math.round((base + 500.0) * 0.05 * 100.0) / 100.0;
+            fingerprint.add(resident).add(lat).add(lng).add(category.ordinal()).add(status.ordinal());
+            Timestamp created = Timestamp.valueOf(config.referenceTime().minusMinutes(random.nextInt(60 * 24 * 60)));
+            requests.add(new Object[] {
+                key(prefix, "br", i), residentIds[resident], category.name(), "Synthetic " + category.getDisplayName(),
+                (1 + random.nextInt(500)) + " Main Street", CITIES.get(residentCity[resident]).name(), "00100",
+                lat, lng, GeoHash.encode(lat, lng, GeoHash.STORED_PRECISION),
+                base, 500.0, tax, base + 500.0 + tax, status.name(),
+                (isPaid(status) ? PaymentStatus.COMPLETED : PaymentStatus.PENDING).name(),
+                created, created
+            });
+        }
+        requests.flush();
+
+        // Collection history by collectors working in the bin's city
+        Batch collections = new Batch(INSERT_COLLECTION_SQL, config.batchSize());
+        for (int i = 0; i < config.collections(); i++) {
+            int bin = random.nextInt(config.bins());
+            int collector = pickFrom(random, collectorsByCity.get(binCity[bin]), config.collectors());
+            Collection.CollectionStatus status = random.nextInt(20) == 0
+                ? Collection.CollectionStatus.FAILED : Collection.CollectionStatus.COMPLETED;
+            int wasteLevel = 40 + random.nextInt(61);
+            LocalDateTime collected = config.referenceTime().minusMinutes(random.nextInt(HISTORY_DAYS * 24 * 60));
+            fingerprint.add(bin).add(collector).add(status.ordinal()).add(wasteLevel);
+            Timestamp collectedAt = Timestamp.valueOf(collected);
+            collections.add(new Object[] {
+                binIds[bin], collectorIds[collector], collectionType(binType[bin]).name(), status.name(),
+                binType[bin] == Bin.BinType.RECYCLING ? "Recyclable" : "General", wasteLevel,
+                collectedAt, status == Collection.CollectionStatus.COMPLETED ? Timestamp.valueOf(collected.plusMinutes(5)) : null,
+                collectedAt, collectedAt
+            });
+        }
+        collections.flush();
+
+        // Routes over bins of one city, mostly completed in the past
+        List<int[]> routeStops = new ArrayList<>(config.routes());
+        Route.RouteStatus[] routeStatus = new Route.RouteStatus[config.routes()];
+        LocalDateTime[] routeAssigned = new LocalDateTime[config.routes()];
+        Batch routes = new Batch(INSERT_ROUTE_SQL, config.batchSize());
+        for (int i = 0; i < config.routes(); i++) {
+            int city = pickCity(random);
+            List<Integer> cityBins = binsByCity.get(city).isEmpty() ? allIndexes(config.bins()) : binsByCity.get(city);
+            int[] stops = sample(random, cityBins, Math.min(config.binsPerRoute(), cityBins.size()));
+            // Cheap west-to-east sweep so the stored distance is plausible
+            int[] ordered = Arrays.stream(stops).boxed()
+                .sorted(Comparator.comparingDouble(stop -> binPoint[stop][1]))
+                .mapToInt(Integer::intValue).toArray();
+            routeStops.add(ordered);
+            int collector = pickFrom(random, collectorsByCity.get(city), config.collectors());
+            int roll = random.nextInt(10);
+            routeStatus[i] = roll < 7 ? Route.RouteStatus.COMPLETED : roll < 8 ? Route.RouteStatus.IN_PROGRESS
+                           : Route.RouteStatus.ASSIGNED;
+            routeAssigned[i] = routeStatus[i] == Route.RouteStatus.COMPLETED
+                ? config.referenceTime().minusMinutes(24 * 60 + random.nextInt(60 * 24 * 60))
+                : config.referenceTime().minusMinutes(random.nextInt(4 * 60));
+
+            double distance = 0.0;
+            for (int s = 1; s < ordered.length; s++) {
+                distance += GeoUtils.haversineKm(binPoint[ordered[s - 1]][0], binPoint[ordered[s - 1]][1],
+                                                 binPoint[ordered[s]][0], binPoint[ordered[s]][1]);
+            }
+            distance = Math.round(distance * 100.0) / 100.0;
+            int estimated = RouteDurationEstimator.estimateMinutes(ordered.length, distance);
+            boolean started = routeStatus[i] != Route.RouteStatus.ASSIGNED;
+            boolean completed = routeStatus[i] == Route.RouteStatus.COMPLETED;
+            int actual = completed ? Math.max(1, (int) Math.round(estimated * (0.8 + random.nextDouble() * 0.5))) : 0;
+            fingerprint.add(collector).add(routeStatus[i].ordinal()).add(distance);
+            for (int stop : ordered) {
+                fingerprint.add(stop);
+            }
+            routes.add(new Object[] {
+                key(prefix, "route", i), collectorIds[collector], authorityIds[random.nextInt(authorities)],
+                routeStatus[i].name(), Timestamp.valueOf(routeAssigned[i]),
+                started ? Timestamp.valueOf(routeAssigned[i].plusMinutes(15)) : null,
+                completed ? Timestamp.valueOf(routeAssigned[i].plusMinutes(15 + actual)) : null,
+                estimated, completed ? actual : null, distance, "Synthetic route", now, now
+            });
+        }
+        routes.flush();
+        long[] routeIds = idsByKey("routes", "route_name", prefix + "-route-", config.routes());
+
+        Batch routeBins = new Batch(INSERT_ROUTE_BIN_SQL, config.batchSize());
+        int routeBinCount = 0;
+        for (int i = 0; i < config.routes(); i++) {
+            int[] stops = routeStops.get(i);
+            // An in-progress route has collected roughly its first half
+            int visited = switch (routeStatus[i]) {
+                case COMPLETED -> stops.length;
+                case IN_PROGRESS -> stops.length / 2;
+                default -> 0;
+            };
+            for (int s = 0; s < stops.length; s++) {
+                boolean done = s < visited;
+                routeBins.add(new Object[] {
+                    routeIds[i], binIds[stops[s]], s + 1,
+                    (done ? RouteBin.CollectionStatus.COMPLETED : RouteBin.CollectionStatus.PENDING).name(),
+                    done ? Timestamp.valueOf(routeAssigned[i].plusMinutes(20L + 6L * s)) : null, now, now
+                });
+                routeBinCount++;
+            }
+        }
+        routeBins.flush();
+
+        SyntheticCitySummary summary = new SyntheticCitySummary(config.prefix(), authorities + config.collectors() + config.residents(),
+            config.bins(), config.bulkRequests(), config.collections(), config.routes(), routeBinCount,
+            fingerprint.value(), System.currentTimeMillis() - startedAt);
+        logger.info("Generated synthetic city '{}': {} users, {} bins, {} bulk requests, {} collections, {} routes in {} ms",
+                    summary.prefix(), summary.users(), summary.bins(), summary.bulkRequests(), summary.collections(),
+                    summary.routes(), summary.elapsedMillis());
+        return summary;
+    }
+
+    private static Object[] userRow(String prefix, String kind, int index, String passwordHash,
+                                    User.UserRole role, String city, Timestamp now) {
+        return new Object[] {
+            "Synthetic " + kind + " " + index, prefix + "." + kind + "." + index + "@synthetic.smartbin",
+            passwordHash, String.format("+94 7%08d", index % 100_000_000), role.name(),
+            index + " " + city + " Road, " + city, city, 0.0, now, now
+        };
+    }
+
+    private static String key(String prefix, String kind, int index) {
+        return prefix + "-" + kind + "-" + index;
+    }
+
+    /**
+     * Ids of the rows whose key column is keyPrefix + index, indexed by that index
+     */
+    private long[] idsByKey(String table, String column, String keyPrefix, int count) {
+        long[] ids = new long[count];
+        jdbcTemplate.query("SELECT id, " + column + " FROM " + table + " WHERE " + column + " LIKE ?", rs -> {
+            String key = rs.getString(2);
+            int end = key.indexOf('@');
+            ids[Integer.parseInt(key.substring(keyPrefix.length(), end < 0 ? key.length() : end))] = rs.getLong(1);
+        }, keyPrefix + "%");
+        return ids;
+    }
+
+    /**
+     * Neighbourhood centres per city, spread around the city centre
+     */
+    private static double[][] neighbourhoods(Random random) {
+        double[][] centres = new double[CITIES.size() * NEIGHBOURHOODS_PER_CITY][];
+        for (int city = 0; city < CITIES.size(); city++) {
+            City c = CITIES.get(city);
+            for (int n = 0; n < NEIGHBOURHOODS_PER_CITY; n++) {
+                centres[city * NEIGHBOURHOODS_PER_CITY + n] = new double[] {
+                    c.latitude() + random.nextGaussian() * c.spreadDegrees(),
+                    c.longitude() + random.nextGaussian() * c.spreadDegrees()
+                };
+            }
+        }
+        return centres;
+    }
+
+    private static double[] point(Random random, int city, double[][] neighbourhoods) {
+        double[] centre = neighbourhoods[city * NEIGHBOURHOODS_PER_CITY + random.nextInt(NEIGHBOURHOODS_PER_CITY)];
+        double spread = CITIES.get(city).spreadDegrees() / 4;
+        return new double[] {
+            centre[0] + random.nextGaussian() * spread,
+            centre[1] + random.nextGaussian() * spread
+        };
+    }
+
+    private static int pickCity(Random random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < CITIES.size() - 1; i++) {
+            roll -= CITIES.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return CITIES.size() - 1;
+    }
+
+    /**
+     * Random member of the group, or of everything when the group is empty
+     */
+    private static int pickFrom(Random random, List<Integer> group, int total) {
+        return group.isEmpty() ? random.nextInt(total) : group.get(random.nextInt(group.size()));
+    }
+
+    private static List<List<Integer>> groupByCity(int[] cityOf) {
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int i = 0; i < CITIES.size(); i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int i = 0; i < cityOf.length; i++) {
+            groups.get(cityOf[i]).add(i);
+        }
+        return groups;
+    }
+
+    private static List<Integer> allIndexes(int count) {
+        List<Integer> all = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            all.add(i);
+        }
+        return all;
+    }
+
+    /**
+     * k distinct members of the pool (partial Fisher-Yates over a copy of the indexes)
+     */
+    private static int[] sample(Random random, List<Integer> pool, int k) {
+        int[] positions = new int[pool.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        int[] chosen = new int[k];
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(positions.length - i);
+            int tmp = positions[i];
+            positions[i] = positions[j];
+            positions[j] = tmp;
+            chosen[i] = pool.get(positions[i]);
+        }
+        return chosen;
+    }
+
+    /**
+     * Statuses from PAYMENT_COMPLETED up to COMPLETED have been paid for
+     */
+    private static boolean isPaid(BulkRequestStatus status) {
+        return status.ordinal() >= BulkRequestStatus.PAYMENT_COMPLETED.ordinal()
+            && status.ordinal() <= BulkRequestStatus.COMPLETED.ordinal();
+    }
+
+    private static Collection.CollectionType collectionType(Bin.BinType binType) {
+        return switch (binType) {
+            case RECYCLING -> Collection.CollectionType.RECYCLING;
+            case BULK -> Collection.CollectionType.BULK;
+            default -> Collection.CollectionType.STANDARD;
+        };
+    }
+
+    /**
+     * City centre, share of the generated entities, and neighbourhood spread in degrees
+     */
+    record City(String name, double latitude, double longitude, double weight, double spreadDegrees) {
+    }
+
+    /**
+     * Buffers rows and writes them as JDBC batches of a fixed size
+     */
+    private final class Batch {
+        private final String sql;
+        private final int size;
+        private final List<Object[]> rows;
+
+        private Batch(String sql, int size) {
+            this.sql = sql;
+            this.size = size;
+            this.rows = new ArrayList<>(size);
+        }
+
+        private void add(Object[] row) {
+            rows.add(row);
+            if (rows.size() >= size) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    /**
+     * Order-sensitive hash of the generated values, independent of prefix, ids and timestamps
+     */
+    private static final class Fingerprint {
+        private long hash = 1125899906842597L;
+
+        private Fingerprint add(long value) {
+            hash = 31 * hash + value;
+            return this;
+        }
+
+        private Fingerprint add(double value) {
+            return add(Double.doubleToLongBits(value));
+        }
+
+        private long value() {
+            return hash;
+        }
+    }
+}
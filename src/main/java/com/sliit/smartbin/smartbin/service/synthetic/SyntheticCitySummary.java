@@ -0,0 +1,16 @@
+package com.sliit.smartbin.smartbin.service.synthetic;
+
+/**
+ * What a SyntheticCityGenerator run wrote
+ * @param fingerprint Hash of the generated values; equal for equal seeds and sizes
+ */
+public record SyntheticCitySummary(String prefix,
+                                   int users,
+                                   int bins,
+                                   int bulkRequests,
+                                   int collections,
+                                   int routes,
+                                   int routeBins,
+                                   long fingerprint,
+                                   long elapsedMillis) {
+}
@@ -0,0 +1,174 @@
+package com.sliit.smartbin.smartbin.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Minimal geohash encoder plus the cell arithmetic needed for
+ * prefix-range prefilter queries.
+ *
+ * Stored hashes all have STORED_PRECISION characters, and the base32
+ * alphabet sorts the same in ASCII and in the usual database collations,
+ * so every hash sharing a prefix falls inside one BETWEEN range.
+ */
+public final class GeoHash {
+
+    public static final int STORED_PRECISION = 9;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoHash() {
+    }
+
+    /**
+     * Encode a coordinate as a geohash of the given length
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double cellWidthDegrees(int precision) {
+        int lngBits = (5 * precision + 1) / 2;
+        return 360.0 / Math.pow(2, lngBits);
+    }
+
+    public static double cellHeightDegrees(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180.0 / Math.pow(2, latBits);
+    }
+
+    /**
+     * Radius around a point that the 3x3 block of cells centred on it is
+     * guaranteed to cover. Precision 0 means "no prefilter" and covers everything.
+     */
+    public static double coveredRadiusKm(double latitude, int precision) {
+        if (precision <= 0) {
+            return Double.MAX_VALUE;
+        }
+        double height = cellHeightDegrees(precision);
+        double maxAbsLat = Math.min(90.0, Math.abs(latitude) + 2 * height);
+        double heightKm = height * GeoUtils.KM_PER_DEGREE;
+        double widthKm = cellWidthDegrees(precision) * GeoUtils.KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat));
+        return Math.min(heightKm, widthKm);
+    }
+
+    /**
+     * Longest precision whose 3x3 block still covers the radius, or 0 if none does
+     */
+    public static int precisionForRadius(double latitude, double radiusKm) {
+        for (int precision = STORED_PRECISION; precision >= 1; precision--) {
+            if (coveredRadiusKm(latitude, precision) >= radiusKm) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The cell containing the point and its eight neighbours
+     */
+    public static List<String> coveringCells(double latitude, double longitude, int precision) {
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = Math.max(-90.0, Math.min(89.999999, latitude + dLat * height));
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                double lng = longitude + dLng * width;
+                if (lng >= 180.0) {
+                    lng -= 360.0;
+                } else if (lng < -180.0) {
+                    lng += 360.0;
+                }
+                cells.add(encode(lat, lng, precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * Smallest stored hash with the given prefix
+     */
+    public static String rangeStart(String prefix) {
+        return prefix + "0".repeat(Math.max(0, STORED_PRECISION - prefix.length()));
+    }
+
+    /**
+     * Largest stored hash with the given prefix
+     */
+    public static String rangeEnd(String prefix) {
+        return prefix + "z".repeat(Math.max(0, STORED_PRECISION - prefix.length()));
+    }
+
+    /**
+     * Collapse cell prefixes into sorted, non-overlapping [start, end] ranges of stored
+     * hashes. Neighbouring cells are often consecutive in geohash order, so a 3x3 block
+     * usually needs far fewer than nine ranges.
+     */
+    public static List<String[]> mergedRanges(Collection<String> prefixes) {
+        List<String> sorted = prefixes.stream().distinct().sorted().toList();
+        List<String[]> ranges = new ArrayList<>();
+        String runStart = null;
+        String runEnd = null;
+        for (String prefix : sorted) {
+            if (runEnd != null && isSuccessor(runEnd, prefix)) {
+                runEnd = prefix;
+                continue;
+            }
+            if (runStart != null) {
+                ranges.add(new String[] {rangeStart(runStart), rangeEnd(runEnd)});
+            }
+            runStart = prefix;
+            runEnd = prefix;
+        }
+        if (runStart != null) {
+            ranges.add(new String[] {rangeStart(runStart), rangeEnd(runEnd)});
+        }
+        return ranges;
+    }
+
+    private static boolean isSuccessor(String previous, String next) {
+        int last = previous.length() - 1;
+        if (next.length() != previous.length() || !next.regionMatches(0, previous, 0, last)) {
+            return false;
+        }
+        return BASE32.indexOf(next.charAt(last)) == BASE32.indexOf(previous.charAt(last)) + 1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sliit.smartbin.smartbin.util;
+
+/**
+ * Shared great-circle helpers for code that works on raw coordinates
+ * rather than LocationDTO value objects.
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // Length of one degree of latitude (and of longitude at the equator)
+    public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * Haversine distance between two points given in degrees
+     * @return Distance in kilometres
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double sinHalfDeltaLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinHalfDeltaLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+
+        double a = sinHalfDeltaLat * sinHalfDeltaLat +
+                   Math.cos(lat1Rad) * Math.cos(lat2Rad) * sinHalfDeltaLng * sinHalfDeltaLng;
+
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
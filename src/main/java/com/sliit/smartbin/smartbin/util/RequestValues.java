@@ -0,0 +1,28 @@
+package com.sliit.smartbin.smartbin.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversions for values read from untyped JSON request bodies (Map&lt;String, Object&gt;)
+ */
+public final class RequestValues {
+
+    private RequestValues() {
+    }
+
+    /**
+     * Read a JSON array of ids, given as numbers or numeric strings
+     * @throws IllegalArgumentException if the value is not an array or an item is not a number
+     */
+    public static List<Long> toLongList(Object value) {
+        if (!(value instanceof List<?> items)) {
+            throw new IllegalArgumentException("Expected a list of ids");
+        }
+        List<Long> ids = new ArrayList<>(items.size());
+        for (Object item : items) {
+            ids.add(item instanceof Number ? ((Number) item).longValue() : Long.valueOf(String.valueOf(item)));
+        }
+        return ids;
+    }
+}
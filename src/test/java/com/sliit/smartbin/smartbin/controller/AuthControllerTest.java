@@ -16,6 +16,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -208,6 +209,22 @@ class AuthControllerTest {
         verify(redirectAttributes).addFlashAttribute(eq("error"), anyString());
     }
 
+    @Test
+    @DisplayName("Should ask the resident to retry when password checks are saturated")
+    void residentLogin_whenHashingBusy_shouldRedirectToLogin() {
+        // Given
+        when(userService.loginUser(any(LoginDTO.class), eq(User.UserRole.RESIDENT)))
+                .thenThrow(new RejectedExecutionException("busy"));
+
+        // When
+        String viewName = authController.residentLogin(testLoginDTO, session, redirectAttributes);
+
+        // Then
+        assertEquals("redirect:/resident/login", viewName);
+        verify(session, never()).setAttribute(anyString(), any());
+        verify(redirectAttributes).addFlashAttribute(eq("error"), contains("try again"));
+    }
+
     // ========== COLLECTOR LOGIN TESTS ==========
 
     @Test
@@ -3,6 +3,8 @@ package com.sliit.smartbin.smartbin.controller;
 import com.sliit.smartbin.smartbin.dto.BulkRequestDTO;
 import com.sliit.smartbin.smartbin.model.*;
 import com.sliit.smartbin.smartbin.service.*;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationJob;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,12 +13,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.ui.Model;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -50,6 +56,12 @@ class AuthorityControllerTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private CollectorRosterService collectorRosterService;
+
+    @Mock
+    private RouteOptimizationJobService routeOptimizationJobService;
+
     @Mock
     private Model model;
 
@@ -175,4 +187,31 @@ class AuthorityControllerTest {
         assertEquals("redirect:/authority/bulk-requests", viewName);
         verify(redirectAttributes).addFlashAttribute(eq("errorMessage"), anyString());
     }
+
+    // ========== ROUTE OPTIMIZATION TESTS ==========
+
+    @Test
+    @DisplayName("Legacy optimize-route endpoint should start a background job instead of solving inline")
+    void optimizeRoute_shouldHandOffToJobService() {
+        // Given
+        User collector = new User();
+        collector.setId(2L);
+        collector.setRole(User.UserRole.COLLECTOR);
+        Map<String, Object> request = new HashMap<>();
+        request.put("collectorId", 2);
+        request.put("binIds", List.of(1, 3));
+        when(session.getAttribute("user")).thenReturn(testAuthority);
+        when(userService.findById(2L)).thenReturn(Optional.of(collector));
+        when(routeOptimizationJobService.submit(eq(List.of(1L, 3L)), eq(collector), eq(testAuthority),
+                                                eq(RouteOptimizerType.DEFAULT), any()))
+                .thenReturn(new OptimizationJob("job-1", RouteOptimizerType.DEFAULT, 2));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = authorityController.optimizeRoute(request, session);
+
+        // Then
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("job-1", response.getBody().get("jobId"));
+        verifyNoInteractions(routeService);
+    }
 }
@@ -4,7 +4,9 @@ import com.sliit.smartbin.smartbin.model.*;
 import com.sliit.smartbin.smartbin.repository.RouteBinRepository;
 import com.sliit.smartbin.smartbin.service.BinService;
 import com.sliit.smartbin.smartbin.service.CollectionService;
+import com.sliit.smartbin.smartbin.service.LiveUpdateService;
 import com.sliit.smartbin.smartbin.service.RouteService;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdate;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,11 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +53,9 @@ class CollectorControllerTest {
     @Mock
     private RouteBinRepository routeBinRepository;
 
+    @Mock
+    private LiveUpdateService liveUpdateService;
+
     @Mock
     private Model model;
 
@@ -270,6 +283,50 @@ class CollectorControllerTest {
         verify(redirectAttributes).addFlashAttribute(eq("success"), anyString());
     }
 
+    @Test
+    @DisplayName("Should answer an unchanged route-status poll with 304 without building the statuses")
+    void getRouteStatus_withMatchingETag_shouldReturnNotModified() {
+        // Given
+        when(session.getAttribute("user")).thenReturn(testCollector);
+        when(routeService.getRouteStatusVersion(1L)).thenReturn("1:3:2025-03-01T10:15");
+        when(routeService.getRouteStatuses(1L)).thenReturn(List.of(Map.of("id", 1L)));
+        ResponseEntity<List<Map<String, Object>>> first = collectorController.getRouteStatus(session,
+            new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse()));
+        MockHttpServletRequest poll = new MockHttpServletRequest();
+        poll.addHeader("If-None-Match", first.getHeaders().getETag());
+
+        // When
+        ResponseEntity<List<Map<String, Object>>> second = collectorController.getRouteStatus(session,
+            new ServletWebRequest(poll, new MockHttpServletResponse()));
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+        verify(routeService, times(1)).getRouteStatuses(1L);
+    }
+
+    @Test
+    @DisplayName("Should serve notifications from the live update buffer without querying bins")
+    void getNotifications_shouldServeRouteAndAlertUpdates() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        LiveUpdate alert = new LiveUpdate(3, "alert:1", "alert", "Overdue Bin Alert", "Bin QR123 is overdue", now, now);
+        LiveUpdate completion = new LiveUpdate(2, "completion:1", "completion", "Collection Completed",
+            "Successfully collected from bin QR123", now, now);
+        LiveUpdate route = new LiveUpdate(1, "route:1", "route", "New Route Assigned", "Route 1", now, now);
+        when(session.getAttribute("user")).thenReturn(testCollector);
+        when(liveUpdateService.getRecentUpdates(1L)).thenReturn(List.of(alert, completion, route));
+
+        // When
+        ResponseEntity<List<LiveUpdate>> response = collectorController.getNotifications(session);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(alert, route), response.getBody());
+        verifyNoInteractions(binService, routeService);
+    }
+
     // ========== AUTHORIZATION TESTS ==========
 
     @Test
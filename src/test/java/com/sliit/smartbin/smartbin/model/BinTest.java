@@ -580,7 +580,7 @@ class BinTest {
         Bin newBin = new Bin(
                 1L, "QR123", "Test Location", 6.9271, 79.8612,
                 Bin.BinType.STANDARD, Bin.BinStatus.EMPTY, 0,
-                lastEmptied, false, now, now
+                lastEmptied, false, now, now, now
         );
 
         // Then
@@ -596,6 +596,7 @@ class BinTest {
         assertFalse(newBin.getAlertFlag());
         assertEquals(now, newBin.getCreatedAt());
         assertEquals(now, newBin.getUpdatedAt());
+        assertEquals(now, newBin.getLastReadingAt());
     }
 
     // ========== SPECIAL CHARACTERS AND FORMATTING TESTS ==========
@@ -0,0 +1,86 @@
+package com.sliit.smartbin.smartbin.repository;
+
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.util.GeoHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the geohash backfill queries of BulkRequestRepositoryImpl
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@DisplayName("BulkRequestRepositoryImpl geohash backfill")
+class BulkRequestRepositoryImplTest {
+
+    private static final Timestamp LEGACY_UPDATED_AT = Timestamp.valueOf(LocalDateTime.of(2024, 1, 15, 9, 30));
+
+    @Autowired
+    private BulkRequestRepository bulkRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Resident");
+        user.setEmail("resident@smartbin.com");
+        user.setPassword("x");
+        user.setPhone("+94 770000000");
+        user.setRole(User.UserRole.RESIDENT);
+        userId = userRepository.save(user).getId();
+        userRepository.flush();
+    }
+
+    private Long insertLegacy(String requestId, Double latitude, Double longitude) {
+        jdbcTemplate.update(
+            "INSERT INTO bulk_requests (request_id, user_id, category, description, street_address, city, zip_code, " +
+            "latitude, longitude, base_price, processing_fee, tax_amount, total_amount, status, payment_status, " +
+            "created_at, updated_at) VALUES (?, ?, 'FURNITURE', 'legacy', 'street', 'Colombo', '00100', ?, ?, " +
+            "3500.0, 500.0, 200.0, 4200.0, 'PENDING', 'PENDING', ?, ?)",
+            requestId, userId, latitude, longitude, LEGACY_UPDATED_AT, LEGACY_UPDATED_AT);
+        return jdbcTemplate.queryForObject("SELECT id FROM bulk_requests WHERE request_id = ?", Long.class, requestId);
+    }
+
+    @Test
+    @DisplayName("Should page through requests missing a geohash and set only that column")
+    void backfill_shouldSetGeohashWithoutTouchingUpdatedAt() {
+        // Given
+        Long first = insertLegacy("LEGACY-1", 6.9271, 79.8612);
+        Long second = insertLegacy("LEGACY-2", 7.2906, 80.6337);
+        Long third = insertLegacy("LEGACY-3", 6.0535, 80.2210);
+        insertLegacy("NO-COORDS", null, null);
+
+        // When
+        List<BulkRequestRepositoryCustom.GeoCandidate> page = bulkRequestRepository.findCandidatesMissingGeohash(2);
+        Map<Long, String> geohashById = new LinkedHashMap<>();
+        page.forEach(c -> geohashById.put(c.id(), GeoHash.encode(c.latitude(), c.longitude(), GeoHash.STORED_PRECISION)));
+        bulkRequestRepository.updateGeohashes(geohashById);
+
+        // Then
+        assertEquals(List.of(first, second), page.stream().map(BulkRequestRepositoryCustom.GeoCandidate::id).toList());
+        assertEquals(GeoHash.encode(6.9271, 79.8612, GeoHash.STORED_PRECISION),
+            jdbcTemplate.queryForObject("SELECT geohash FROM bulk_requests WHERE id = ?", String.class, first));
+        assertEquals(LEGACY_UPDATED_AT,
+            jdbcTemplate.queryForObject("SELECT updated_at FROM bulk_requests WHERE id = ?", Timestamp.class, first));
+        assertEquals(List.of(third), bulkRequestRepository.findCandidatesMissingGeohash(2).stream()
+            .map(BulkRequestRepositoryCustom.GeoCandidate::id).toList());
+    }
+}
@@ -0,0 +1,226 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.event.RouteCompletedEvent;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.RollupGranularity;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRollupRepository;
+import com.sliit.smartbin.smartbin.service.analytics.BucketRing;
+import com.sliit.smartbin.smartbin.service.impl.AnalyticsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AnalyticsServiceImpl and its BucketRing counters
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsServiceImpl Unit Tests")
+class AnalyticsServiceImplTest {
+
+    @Mock
+    private CollectionRepository collectionRepository;
+
+    @Mock
+    private RouteRollupRepository routeRollupRepository;
+
+    @Mock
+    private BinRepository binRepository;
+
+    @Mock
+    private CollectorRosterService collectorRosterService;
+
+    private AnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new AnalyticsServiceImpl(collectionRepository, routeRollupRepository,
+                                                    binRepository, collectorRosterService);
+        lenient().when(collectorRosterService.getCollectors()).thenReturn(List.of(
+            new CollectorSummaryDTO(1L, "Kamal Silva", "kamal@smartbin.com", null, "Colombo"),
+            new CollectorSummaryDTO(2L, "Nimal", "nimal@smartbin.com", null, null)));
+        lenient().when(binRepository.summarizeByStatus()).thenReturn(List.of(
+            statusSummary(Bin.BinStatus.EMPTY, 1), statusSummary(Bin.BinStatus.FULL, 3)));
+    }
+
+    private static BinRepository.BinStatusSummary statusSummary(Bin.BinStatus status, long count) {
+        return new BinRepository.BinStatusSummary() {
+            public Bin.BinStatus getStatus() { return status; }
+            public Long getBinCount() { return count; }
+            public Long getAlertedCount() { return 0L; }
+            public Long getFillLevelSum() { return 0L; }
+        };
+    }
+
+    private static CollectionStatusChangedEvent completed(Long collectorId, LocalDateTime at) {
+        return new CollectionStatusChangedEvent(10L, collectorId, Collection.CollectionStatus.IN_PROGRESS,
+                                                Collection.CollectionStatus.COMPLETED, at, at, "QR-1");
+    }
+
+    @Test
+    @DisplayName("Should count completed collections per hour and per collector")
+    @SuppressWarnings("unchecked")
+    void onCollectionStatusChanged_shouldCountCompletions() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        analyticsService.onCollectionStatusChanged(completed(1L, now));
+        analyticsService.onCollectionStatusChanged(completed(1L, now));
+        analyticsService.onCollectionStatusChanged(completed(2L, now.minusHours(2)));
+        analyticsService.onCollectionStatusChanged(new CollectionStatusChangedEvent(11L, 2L,
+            Collection.CollectionStatus.ASSIGNED, Collection.CollectionStatus.IN_PROGRESS, now, null, "QR-1"));
+
+        // When
+        Map<String, Object> analytics = analyticsService.getAnalytics();
+
+        // Then
+        List<Integer> trends = (List<Integer>) analytics.get("collectionTrends");
+        assertEquals(7, trends.size());
+        assertEquals(2, trends.get(6));
+        assertEquals(1, trends.get(4));
+        Map<String, Object> performance = (Map<String, Object>) analytics.get("collectorPerformance");
+        assertEquals(List.of("Kamal S.", "Nimal"), performance.get("labels"));
+        assertEquals(List.of(2, now.minusHours(2).toLocalDate().equals(now.toLocalDate()) ? 1 : 0),
+                     performance.get("data"));
+        assertEquals(List.of(25, 0, 75, 0), analytics.get("binStatus"));
+    }
+
+    @Test
+    @DisplayName("Should take a completion back when a collection leaves COMPLETED")
+    @SuppressWarnings("unchecked")
+    void onCollectionStatusChanged_leavingCompleted_shouldDecrement() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        analyticsService.onCollectionStatusChanged(completed(1L, now));
+        analyticsService.onCollectionStatusChanged(new CollectionStatusChangedEvent(10L, 1L,
+            Collection.CollectionStatus.COMPLETED, null, now, now, "QR-1"));
+
+        // When
+        Map<String, Object> analytics = analyticsService.getAnalytics();
+
+        // Then
+        assertEquals(0, ((List<Integer>) analytics.get("collectionTrends")).get(6));
+    }
+
+    @Test
+    @DisplayName("Should count a collection by when it was completed, not when it was assigned")
+    @SuppressWarnings("unchecked")
+    void onCollectionStatusChanged_assignedYesterday_shouldCountToday() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        analyticsService.onCollectionStatusChanged(new CollectionStatusChangedEvent(12L, 1L,
+            Collection.CollectionStatus.IN_PROGRESS, Collection.CollectionStatus.COMPLETED,
+            now.minusDays(1), now, "QR-1"));
+
+        // When
+        Map<String, Object> analytics = analyticsService.getAnalytics();
+
+        // Then
+        assertEquals(1, ((List<Integer>) analytics.get("collectionTrends")).get(6));
+        assertEquals(List.of(1, 0), ((Map<String, Object>) analytics.get("collectorPerformance")).get("data"));
+    }
+
+    @Test
+    @DisplayName("Should report estimated over actual route minutes per day, capped at 100")
+    @SuppressWarnings("unchecked")
+    void onRouteCompleted_shouldTrackDailyEfficiency() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        analyticsService.onRouteCompleted(new RouteCompletedEvent(1L, 1L, 40, 50, now));
+        analyticsService.onRouteCompleted(new RouteCompletedEvent(2L, 1L, 40, 50, now));
+        analyticsService.onRouteCompleted(new RouteCompletedEvent(3L, 1L, 90, 60, now.minusDays(1)));
+        analyticsService.onRouteCompleted(new RouteCompletedEvent(4L, 1L, 90, null, now.minusDays(2)));
+
+        // When
+        List<Integer> efficiency = (List<Integer>) analyticsService.getAnalytics().get("routeEfficiency");
+
+        // Then
+        assertEquals(List.of(0, 0, 0, 0, 0, 100, 80), efficiency);
+    }
+
+    @Test
+    @DisplayName("Should seed completions by completion time and route minutes from rollups")
+    @SuppressWarnings("unchecked")
+    void seed_shouldLoadCompletionsAndRollups() {
+        // Given
+        LocalDateTime currentHour = RollupGranularity.HOUR.bucketStart(LocalDateTime.now());
+        LocalDateTime today = RollupGranularity.DAY.bucketStart(LocalDateTime.now());
+        List<CollectionRepository.CompletionTime> completions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            completions.add(completion(1L, currentHour));
+        }
+        for (int i = 0; i < 3; i++) {
+            completions.add(completion(3L, currentHour.minusHours(1)));
+        }
+        completions.add(completion(2L, currentHour));
+        completions.add(completion(2L, today.minusMinutes(1)));
+        when(collectionRepository.findCompletionsBetween(currentHour.minusHours(23), currentHour.plusHours(1)))
+            .thenReturn(completions);
+        when(routeRollupRepository.sumByBucket(eq(RollupGranularity.DAY), any(), any()))
+            .thenReturn(List.of(routeTotals(today, 30L, 60L)));
+
+        // When
+        analyticsService.seed();
+        analyticsService.onCollectionStatusChanged(completed(2L, LocalDateTime.now()));
+        Map<String, Object> analytics = analyticsService.getAnalytics();
+
+        // Then
+        List<Integer> trends = (List<Integer>) analytics.get("collectionTrends");
+        assertEquals(7, trends.get(6));
+        assertEquals(currentHour.equals(today) ? 4 : 3, trends.get(5));
+        assertEquals(List.of(5, 2), ((Map<String, Object>) analytics.get("collectorPerformance")).get("data"));
+        assertEquals(50, ((List<Integer>) analytics.get("routeEfficiency")).get(6));
+    }
+
+    @Test
+    @DisplayName("BucketRing should drop buckets that have wrapped out of the ring")
+    void bucketRing_shouldForgetOldBuckets() {
+        // Given
+        BucketRing ring = new BucketRing(RollupGranularity.DAY, 3);
+        LocalDateTime day = LocalDateTime.of(2025, 3, 1, 12, 0);
+        ring.add(day, 4);
+        ring.add(day.plusDays(1), 2);
+        ring.add(day.plusDays(3), 7);
+
+        // When: a late event for the overwritten day
+        ring.add(day, 1);
+
+        // Then
+        assertArrayEquals(new long[] {2, 0, 7}, ring.last(3, day.plusDays(3)));
+        assertEquals(0, ring.get(day));
+        assertThrows(IllegalArgumentException.class, () -> ring.last(4, day));
+    }
+
+    private static CollectionRepository.CompletionTime completion(Long collectorId, LocalDateTime at) {
+        return new CollectionRepository.CompletionTime() {
+            public Long getCollectorId() { return collectorId; }
+            public LocalDateTime getCompletionDate() { return at; }
+        };
+    }
+
+    private static RouteRollupRepository.RouteBucketTotals routeTotals(LocalDateTime day, Long estimated, Long actual) {
+        return new RouteRollupRepository.RouteBucketTotals() {
+            public LocalDateTime getBucketStart() { return day; }
+            public Long getRouteCount() { return 1L; }
+            public Long getTimedRouteCount() { return 1L; }
+            public Long getEstimatedMinutesSum() { return estimated; }
+            public Long getActualMinutesSum() { return actual; }
+        };
+    }
+}
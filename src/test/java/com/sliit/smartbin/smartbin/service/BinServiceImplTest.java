@@ -46,6 +46,12 @@ class BinServiceImplTest {
     @Mock
     private BinRepository binRepository;
 
+    @Mock
+    private SpatialIndexService spatialIndexService;
+
+    @Mock
+    private RollupService rollupService;
+
     @InjectMocks
     private BinServiceImpl binService;
 
@@ -581,6 +587,31 @@ class BinServiceImplTest {
         );
     }
 
+    @Test
+    @DisplayName("Should widen the area query until enough bins are found while the index is warming")
+    void findNearestBins_beforeIndexReady_shouldWidenBoundedQuery() {
+        // Given
+        Bin far = new Bin();
+        far.setId(2L);
+        far.setLatitude(6.9271);
+        far.setLongitude(79.8812);
+        Bin noCoordinates = new Bin();
+        noCoordinates.setId(3L);
+        when(spatialIndexService.isReady()).thenReturn(false);
+        when(binRepository.findBinsInArea(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(Arrays.asList(testBin, noCoordinates))
+                .thenReturn(Arrays.asList(testBin, noCoordinates))
+                .thenReturn(Arrays.asList(far, testBin, noCoordinates));
+
+        // When
+        List<Bin> result = binService.findNearestBins(6.9271, 79.8612, 2);
+
+        // Then
+        assertEquals(Arrays.asList(testBin, far), result);
+        verify(binRepository, times(3)).findBinsInArea(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(binRepository, never()).findAll();
+    }
+
     // ========== DELETE OPERATION TESTS ==========
 
     @Test
@@ -3,6 +3,7 @@ package com.sliit.smartbin.smartbin.service;
 import com.sliit.smartbin.smartbin.dto.BulkRequestDTO;
 import com.sliit.smartbin.smartbin.model.*;
 import com.sliit.smartbin.smartbin.repository.BulkRequestRepository;
+import com.sliit.smartbin.smartbin.repository.BulkRequestRepositoryCustom;
 import com.sliit.smartbin.smartbin.repository.UserRepository;
 import com.sliit.smartbin.smartbin.service.impl.BulkRequestServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -718,5 +722,71 @@ class BulkRequestServiceImplTest {
         verify(notificationService, never()).notifyCollectorBulkAssignment(any(User.class), any(BulkRequest.class));
         verify(notificationService).sendPickupScheduleNotification(eq(testUser), any(BulkRequest.class));
     }
-}
 
+    // ========== GEO QUERIES ==========
+
+    private BulkRequest requestAt(Long id, double latitude, double longitude) {
+        BulkRequest request = new BulkRequest();
+        request.setId(id);
+        request.setUser(testUser);
+        request.setCategory(BulkCategory.FURNITURE);
+        request.setStatus(BulkRequestStatus.PAYMENT_COMPLETED);
+        request.setLatitude(latitude);
+        request.setLongitude(longitude);
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubGeoLookup(List<BulkRequest> requests) {
+        when(bulkRequestRepository.findCandidatesInGeohashCells(anyList(), any())).thenReturn(
+            requests.stream()
+                .map(r -> new BulkRequestRepositoryCustom.GeoCandidate(r.getId(), r.getLatitude(), r.getLongitude()))
+                .toList());
+        when(bulkRequestRepository.findAllWithUserByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return requests.stream().filter(r -> ids.contains(r.getId())).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Should refine geohash candidates to the exact radius, nearest first")
+    void getRequestsNearLocation_shouldFilterAndSortByDistance() {
+        // Given: ~0.5 km, ~1.1 km and ~3.3 km from the centre
+        stubGeoLookup(List.of(
+            requestAt(1L, 6.9371, 79.8612),
+            requestAt(2L, 6.9316, 79.8612),
+            requestAt(3L, 6.9571, 79.8612)));
+
+        // When
+        List<BulkRequestDTO> result = bulkRequestService.getRequestsNearLocation(6.9271, 79.8612, 2.0);
+
+        // Then
+        assertEquals(List.of(2L, 1L), result.stream().map(BulkRequestDTO::getId).toList());
+        assertEquals(0.5, result.get(0).getDistanceKm(), 0.01);
+        verify(bulkRequestRepository).findAllWithUserByIdIn(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should load only the k nearest open pickups")
+    void getNearestPendingPickups_shouldLoadOnlyTopK() {
+        // Given
+        stubGeoLookup(List.of(
+            requestAt(1L, 6.9281, 79.8612),
+            requestAt(2L, 6.9291, 79.8612),
+            requestAt(3L, 6.9301, 79.8612)));
+
+        // When
+        List<BulkRequestDTO> result = bulkRequestService.getNearestPendingPickups(6.9271, 79.8612, 2);
+
+        // Then
+        assertEquals(List.of(1L, 2L), result.stream().map(BulkRequestDTO::getId).toList());
+        verify(bulkRequestRepository).findAllWithUserByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should return nothing for a non-positive limit")
+    void getNearestPendingPickups_withZeroLimit_shouldReturnEmpty() {
+        assertTrue(bulkRequestService.getNearestPendingPickups(6.9271, 79.8612, 0).isEmpty());
+        verifyNoInteractions(bulkRequestRepository);
+    }
+}
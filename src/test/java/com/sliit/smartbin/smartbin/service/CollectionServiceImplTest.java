@@ -0,0 +1,105 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.impl.CollectionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CollectionServiceImpl's rollup and event bookkeeping
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollectionServiceImpl Unit Tests")
+class CollectionServiceImplTest {
+
+    @Mock
+    private CollectionRepository collectionRepository;
+
+    @Mock
+    private BinRepository binRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RollupService rollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CollectionServiceImpl collectionService;
+
+    private Bin bin;
+    private User collector;
+
+    @BeforeEach
+    void setUp() {
+        collectionService = new CollectionServiceImpl(collectionRepository, binRepository, userRepository,
+                                                      rollupService, eventPublisher);
+
+        bin = new Bin();
+        bin.setId(5L);
+        bin.setQrCode("QR-5");
+        bin.setBinType(Bin.BinType.STANDARD);
+        bin.setStatus(Bin.BinStatus.FULL);
+        bin.setFillLevel(95);
+
+        collector = new User();
+        collector.setId(7L);
+        collector.setRole(User.UserRole.COLLECTOR);
+    }
+
+    @Test
+    @DisplayName("Should count an assigned collection before it is completed")
+    void assignThenComplete_shouldCountBothTransitions() {
+        // Given
+        when(binRepository.findById(5L)).thenReturn(Optional.of(bin));
+        when(collectionRepository.save(any(Collection.class))).thenAnswer(invocation -> {
+            Collection collection = invocation.getArgument(0);
+            collection.setId(11L);
+            return collection;
+        });
+
+        // When
+        Collection assigned = collectionService.assignCollectionToCollector(5L, collector,
+            Collection.CollectionType.STANDARD);
+        when(collectionRepository.findById(11L)).thenReturn(Optional.of(assigned));
+        collectionService.completeCollection(11L, "Done");
+
+        // Then
+        InOrder inOrder = inOrder(rollupService);
+        inOrder.verify(rollupService).collectionChanged(assigned, null);
+        inOrder.verify(rollupService).collectionChanged(assigned, Collection.CollectionStatus.ASSIGNED);
+
+        ArgumentCaptor<CollectionStatusChangedEvent> events = ArgumentCaptor.forClass(CollectionStatusChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        List<CollectionStatusChangedEvent> published = events.getAllValues();
+        assertNull(published.get(0).previousStatus());
+        assertEquals(Collection.CollectionStatus.ASSIGNED, published.get(0).status());
+        assertEquals(Collection.CollectionStatus.ASSIGNED, published.get(1).previousStatus());
+        assertEquals(Collection.CollectionStatus.COMPLETED, published.get(1).status());
+        assertEquals("QR-5", published.get(1).binQrCode());
+        assertNull(published.get(0).completionDate());
+        assertEquals(assigned.getCompletionDate(), published.get(1).completionDate());
+    }
+}
@@ -0,0 +1,90 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.impl.CollectorRosterServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CollectorRosterServiceImpl caching
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollectorRosterServiceImpl Unit Tests")
+class CollectorRosterServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private static UserRepository.UserSummary summary(Long id, String name, String region) {
+        return new UserRepository.UserSummary() {
+            public Long getId() { return id; }
+            public String getName() { return name; }
+            public String getEmail() { return name.toLowerCase() + "@smartbin.com"; }
+            public String getPhone() { return "+94 770000000"; }
+            public String getRegion() { return region; }
+        };
+    }
+
+    @Test
+    @DisplayName("Should load the roster once and serve it from the cache")
+    void getCollectors_shouldCacheRoster() {
+        // Given
+        when(userRepository.findSummariesByRole(User.UserRole.COLLECTOR))
+            .thenReturn(List.of(summary(1L, "Kamal", "Colombo")));
+        CollectorRosterService rosterService = new CollectorRosterServiceImpl(userRepository, 60_000);
+
+        // When
+        List<CollectorSummaryDTO> first = rosterService.getCollectors();
+        List<CollectorSummaryDTO> second = rosterService.getCollectors();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(new CollectorSummaryDTO(1L, "Kamal", "kamal@smartbin.com", "+94 770000000", "Colombo"),
+                     first.get(0));
+        verify(userRepository, times(1)).findSummariesByRole(User.UserRole.COLLECTOR);
+    }
+
+    @Test
+    @DisplayName("Should reload the roster after an invalidation")
+    void invalidate_shouldReloadOnNextRead() {
+        // Given
+        when(userRepository.findSummariesByRole(User.UserRole.COLLECTOR))
+            .thenReturn(List.of(summary(1L, "Kamal", null)))
+            .thenReturn(List.of(summary(1L, "Kamal", "Kandy")));
+        CollectorRosterService rosterService = new CollectorRosterServiceImpl(userRepository, 60_000);
+        rosterService.getCollectors();
+
+        // When
+        rosterService.invalidate();
+        List<CollectorSummaryDTO> collectors = rosterService.getCollectors();
+
+        // Then
+        assertEquals("Kandy", collectors.get(0).getRegion());
+        verify(userRepository, times(2)).findSummariesByRole(User.UserRole.COLLECTOR);
+    }
+
+    @Test
+    @DisplayName("Should reload the roster once it has expired")
+    void getCollectors_afterTtl_shouldReload() {
+        // Given: a zero TTL expires every roster immediately
+        when(userRepository.findSummariesByRole(User.UserRole.COLLECTOR)).thenReturn(List.of());
+        CollectorRosterService rosterService = new CollectorRosterServiceImpl(userRepository, 0);
+
+        // When
+        rosterService.getCollectors();
+        rosterService.getCollectors();
+
+        // Then
+        verify(userRepository, times(2)).findSummariesByRole(User.UserRole.COLLECTOR);
+    }
+}
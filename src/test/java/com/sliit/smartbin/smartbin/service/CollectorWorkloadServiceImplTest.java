@@ -0,0 +1,178 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.RouteBin;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteBinRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRepository;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.impl.CollectorRosterServiceImpl;
+import com.sliit.smartbin.smartbin.service.impl.CollectorWorkloadServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the grouped collector workload queries against a small known dataset.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "smartbin.collectors.workload-ttl-ms=0"
+})
+@Import({CollectorWorkloadServiceImpl.class, CollectorRosterServiceImpl.class})
+@DisplayName("CollectorWorkloadServiceImpl aggregations")
+class CollectorWorkloadServiceImplTest {
+
+    @Autowired
+    private CollectorWorkloadService collectorWorkloadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private RouteBinRepository routeBinRepository;
+
+    @Autowired
+    private CollectionRepository collectionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User busy;
+    private User authority;
+    private Bin bin;
+
+    @BeforeEach
+    void setUp() {
+        busy = userRepository.save(user("Amal Busy", "busy@smartbin.com", User.UserRole.COLLECTOR, "Colombo"));
+        userRepository.save(user("Zara Idle", "idle@smartbin.com", User.UserRole.COLLECTOR, null));
+        authority = userRepository.save(user("Authority", "authority@smartbin.com", User.UserRole.AUTHORITY, null));
+
+        bin = new Bin();
+        bin.setQrCode("QR-1");
+        bin.setLocation("QR-1");
+        bin.setLatitude(6.9);
+        bin.setLongitude(79.86);
+        bin.setBinType(Bin.BinType.STANDARD);
+        bin.setStatus(Bin.BinStatus.FULL);
+        bin.setFillLevel(90);
+        bin = binRepository.save(bin);
+    }
+
+    private static User user(String name, String email, User.UserRole role, String region) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("x");
+        user.setPhone("+94 770000000");
+        user.setRole(role);
+        user.setRegion(region);
+        return user;
+    }
+
+    private Route route(String name, Route.RouteStatus status, LocalDateTime completedDate, int bins) {
+        Route route = new Route();
+        route.setRouteName(name);
+        route.setCollector(busy);
+        route.setAuthority(authority);
+        route.setStatus(status);
+        route.setAssignedDate(LocalDateTime.now().minusDays(1));
+        route.setStartedDate(status == Route.RouteStatus.IN_PROGRESS ? LocalDateTime.now().minusHours(1) : null);
+        route.setCompletedDate(completedDate);
+        route.setTotalDistanceKm(4.5);
+        route.setEstimatedDurationMinutes(30);
+        route = routeRepository.save(route);
+        for (int i = 0; i < bins; i++) {
+            RouteBin routeBin = new RouteBin();
+            routeBin.setRoute(route);
+            routeBin.setBin(bin);
+            routeBin.setSequenceOrder(i + 1);
+            routeBin.setStatus(RouteBin.CollectionStatus.PENDING);
+            routeBinRepository.save(routeBin);
+        }
+        return route;
+    }
+
+    private void collection(LocalDateTime date) {
+        Collection collection = new Collection();
+        collection.setBin(bin);
+        collection.setCollector(busy);
+        collection.setCollectionType(Collection.CollectionType.STANDARD);
+        collection.setStatus(Collection.CollectionStatus.COMPLETED);
+        collection.setCollectionDate(date);
+        collectionRepository.save(collection);
+    }
+
+    @Test
+    @DisplayName("Should total route counts, open routes and today's collections per collector")
+    @SuppressWarnings("unchecked")
+    void getCollectorWorkloads_shouldAggregatePerCollector() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Route assigned = route("North loop", Route.RouteStatus.ASSIGNED, null, 3);
+        route("South loop", Route.RouteStatus.IN_PROGRESS, null, 2);
+        route("Done today", Route.RouteStatus.COMPLETED, now, 1);
+        route("Done last week", Route.RouteStatus.COMPLETED, now.minusDays(7), 0);
+        collection(now);
+        collection(now.minusDays(2));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Map<String, Object>> workloads = collectorWorkloadService.getCollectorWorkloads();
+
+        // Then
+        assertEquals(2, workloads.size());
+        Map<String, Object> busyWorkload = workloads.get(0);
+        assertEquals(busy.getId(), busyWorkload.get("id"));
+        assertEquals("Colombo", busyWorkload.get("region"));
+        assertEquals(1, busyWorkload.get("activeRoutes"));
+        assertEquals(1, busyWorkload.get("assignedRoutes"));
+        assertEquals(1, busyWorkload.get("inProgressRoutes"));
+        assertEquals(1, busyWorkload.get("todayCompletedRoutes"));
+        assertEquals(1L, busyWorkload.get("todayCollections"));
+        assertEquals(50L, busyWorkload.get("completionRate"));
+        assertEquals(2.5, busyWorkload.get("performanceRating"));
+        assertEquals("on-route", busyWorkload.get("status"));
+        assertEquals("On route: South loop", busyWorkload.get("currentActivity"));
+
+        List<Map<String, Object>> routes = (List<Map<String, Object>>) busyWorkload.get("routes");
+        assertEquals(2, routes.size());
+        assertEquals(assigned.getId(), routes.get(0).get("id"));
+        assertEquals("ASSIGNED", routes.get(0).get("status"));
+        assertEquals(3, routes.get(0).get("binCount"));
+        assertNotNull(routes.get(0).get("assignedDate"));
+        assertEquals("IN_PROGRESS", routes.get(1).get("status"));
+        assertEquals(2, routes.get(1).get("binCount"));
+        assertNotNull(routes.get(1).get("startedDate"));
+
+        Map<String, Object> idleWorkload = workloads.get(1);
+        assertEquals("No region assigned", idleWorkload.get("region"));
+        assertEquals(0, idleWorkload.get("assignedRoutes"));
+        assertEquals(0L, idleWorkload.get("todayCollections"));
+        assertEquals(0L, idleWorkload.get("completionRate"));
+        assertEquals("available", idleWorkload.get("status"));
+        assertEquals("Available for assignment", idleWorkload.get("currentActivity"));
+        assertEquals(List.of(), idleWorkload.get("routes"));
+    }
+}
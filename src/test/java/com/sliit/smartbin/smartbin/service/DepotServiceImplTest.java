@@ -0,0 +1,157 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.DepotDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.repository.DepotRepository;
+import com.sliit.smartbin.smartbin.service.impl.DepotServiceImpl;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import com.sliit.smartbin.smartbin.service.routing.TourType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DepotServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DepotServiceImpl Unit Tests")
+class DepotServiceImplTest {
+
+    private static final EnumSet<Depot.DepotType> YARDS = EnumSet.of(Depot.DepotType.YARD);
+    private static final EnumSet<Depot.DepotType> DISPOSAL =
+        EnumSet.of(Depot.DepotType.TRANSFER_STATION, Depot.DepotType.DISPOSAL_SITE);
+
+    @Mock
+    private DepotRepository depotRepository;
+
+    @InjectMocks
+    private DepotServiceImpl depotService;
+
+    private Depot northYard;
+    private Depot southYard;
+    private Depot landfill;
+    private List<Bin> bins;
+
+    @BeforeEach
+    void setUp() {
+        northYard = depot(1L, "North Yard", Depot.DepotType.YARD, 7.10, 79.90);
+        southYard = depot(2L, "South Yard", Depot.DepotType.YARD, 6.85, 79.88);
+        landfill = depot(3L, "Landfill", Depot.DepotType.DISPOSAL_SITE, 6.81, 79.90);
+
+        Bin bin = new Bin();
+        bin.setId(10L);
+        bin.setLatitude(6.87);
+        bin.setLongitude(79.87);
+        bins = List.of(bin);
+    }
+
+    private static Depot depot(Long id, String name, Depot.DepotType type, double lat, double lng) {
+        Depot depot = new Depot();
+        depot.setId(id);
+        depot.setName(name);
+        depot.setType(type);
+        depot.setLatitude(lat);
+        depot.setLongitude(lng);
+        depot.setActive(true);
+        return depot;
+    }
+
+    @Test
+    @DisplayName("Closed tour should start and end at the yard nearest the bins")
+    void resolveEnds_closed_shouldUseNearestYardBothWays() {
+        // Given
+        when(depotRepository.findByTypeInAndActiveTrue(YARDS)).thenReturn(List.of(northYard, southYard));
+
+        // When
+        RouteEnds ends = depotService.resolveEnds(TourOptions.DEFAULT, bins);
+
+        // Then
+        assertSame(southYard, ends.start());
+        assertSame(southYard, ends.end());
+    }
+
+    @Test
+    @DisplayName("Disposal tour should end at the nearest site that accepts waste")
+    void resolveEnds_toDisposal_shouldEndAtDisposalSite() {
+        // Given
+        when(depotRepository.findById(1L)).thenReturn(Optional.of(northYard));
+        when(depotRepository.findByTypeInAndActiveTrue(DISPOSAL)).thenReturn(List.of(landfill));
+
+        // When
+        RouteEnds ends = depotService.resolveEnds(new TourOptions(1L, TourType.TO_DISPOSAL, null), bins);
+
+        // Then
+        assertSame(northYard, ends.start());
+        assertSame(landfill, ends.end());
+    }
+
+    @Test
+    @DisplayName("Open tour should have no end depot, and no yards means no start depot")
+    void resolveEnds_openOrWithoutYards_shouldLeaveEndsEmpty() {
+        when(depotRepository.findByTypeInAndActiveTrue(YARDS)).thenReturn(List.of());
+
+        assertEquals(RouteEnds.NONE, depotService.resolveEnds(new TourOptions(null, TourType.OPEN, null), bins));
+        assertEquals(RouteEnds.NONE, depotService.resolveEnds(TourOptions.DEFAULT, bins));
+    }
+
+    @Test
+    @DisplayName("Should reject unsuitable depot choices")
+    void resolveEnds_withInvalidChoices_shouldThrow() {
+        // End depot on a closed tour
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.resolveEnds(new TourOptions(null, TourType.CLOSED, 3L), bins));
+
+        // A yard cannot take the waste
+        when(depotRepository.findById(2L)).thenReturn(Optional.of(southYard));
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.resolveEnds(new TourOptions(2L, TourType.TO_DISPOSAL, 2L), bins));
+
+        // Inactive and unknown depots
+        northYard.setActive(false);
+        when(depotRepository.findById(1L)).thenReturn(Optional.of(northYard));
+        when(depotRepository.findById(99L)).thenReturn(Optional.empty());
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.resolveEnds(new TourOptions(1L, TourType.CLOSED, null), bins));
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.resolveEnds(new TourOptions(99L, TourType.CLOSED, null), bins));
+
+        // No disposal site configured
+        when(depotRepository.findByTypeInAndActiveTrue(DISPOSAL)).thenReturn(List.of());
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.resolveEnds(new TourOptions(2L, TourType.TO_DISPOSAL, null), bins));
+    }
+
+    @Test
+    @DisplayName("Should create an active depot and validate required fields")
+    void createDepot_shouldValidateAndSave() {
+        // Given
+        when(depotRepository.save(any(Depot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        DepotDTO dto = new DepotDTO(null, "Yard", Depot.DepotType.YARD, "Colombo", 6.95, 79.86, null);
+
+        // When
+        Depot saved = depotService.createDepot(dto);
+
+        // Then
+        assertEquals("Yard", saved.getName());
+        assertTrue(saved.getActive());
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.createDepot(new DepotDTO(null, "Yard", null, null, 6.95, 79.86, null)));
+        assertThrows(IllegalArgumentException.class,
+            () -> depotService.createDepot(new DepotDTO(null, "Yard", Depot.DepotType.YARD, null, null, 79.86, null)));
+        verify(depotRepository, times(1)).save(any(Depot.class));
+    }
+}
@@ -0,0 +1,127 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DistanceMatrix
+ */
+@DisplayName("DistanceMatrix Unit Tests")
+class DistanceMatrixTest {
+
+    private static double[][] randomCoordinates(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] coordinates = new double[2][n];
+        for (int i = 0; i < n; i++) {
+            coordinates[0][i] = 6.0 + random.nextDouble() * 3.0;
+            coordinates[1][i] = 79.7 + random.nextDouble() * 2.0;
+        }
+        return coordinates;
+    }
+
+    @Test
+    @DisplayName("Should match GeoUtils.haversineKm for every pair")
+    void distance_shouldMatchHaversine() {
+        double[][] c = randomCoordinates(60, 1);
+        DistanceMatrix matrix = DistanceMatrix.fromCoordinates(c[0], c[1]);
+
+        for (int i = 0; i < 60; i++) {
+            assertEquals(0.0, matrix.distance(i, i));
+            for (int j = 0; j < 60; j++) {
+                assertEquals(GeoUtils.haversineKm(c[0][i], c[1][i], c[0][j], c[1][j]), matrix.distance(i, j), 1e-9);
+                assertEquals(matrix.distance(i, j), matrix.distance(j, i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel fill should produce the same matrix as a sequential fill")
+    void fromCoordinates_parallel_shouldMatchSequential() {
+        double[][] c = randomCoordinates(700, 2);
+        DistanceMatrix sequential = DistanceMatrix.fromCoordinates(c[0], c[1], false);
+        DistanceMatrix parallel = DistanceMatrix.fromCoordinates(c[0], c[1], true);
+
+        for (int i = 0; i < 700; i++) {
+            for (int j = 0; j < 700; j++) {
+                assertEquals(sequential.distance(i, j), parallel.distance(i, j));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should build from bins and sum open paths")
+    void forBins_shouldIndexLikeTheList() {
+        Bin a = bin(1L, 6.9271, 79.8612);
+        Bin b = bin(2L, 6.9350, 79.8500);
+        Bin c = bin(3L, 6.9147, 79.9729);
+
+        DistanceMatrix matrix = DistanceMatrix.forBins(List.of(a, b, c));
+
+        assertEquals(3, matrix.size());
+        assertEquals(GeoUtils.haversineKm(6.9271, 79.8612, 6.9350, 79.8500), matrix.distance(0, 1), 1e-9);
+        assertEquals(matrix.distance(2, 0) + matrix.distance(0, 1), matrix.pathLength(new int[] {2, 0, 1}), 1e-12);
+        assertEquals(0.0, matrix.pathLength(new int[] {1}));
+    }
+
+    @Test
+    @DisplayName("Should reject bins without coordinates")
+    void forBins_withMissingCoordinates_shouldThrow() {
+        Bin missing = bin(9L, 6.9, 79.9);
+        missing.setLongitude(null);
+
+        assertThrows(IllegalArgumentException.class, () -> DistanceMatrix.forBins(List.of(missing)));
+    }
+
+    private static Bin bin(Long id, double lat, double lng) {
+        Bin bin = new Bin();
+        bin.setId(id);
+        bin.setLatitude(lat);
+        bin.setLongitude(lng);
+        return bin;
+    }
+
+    @Test
+    @DisplayName("Route matrix should place depot anchors around the bins and map tours back to bins")
+    void forRoute_shouldAnchorDepots() {
+        Depot yard = new Depot();
+        yard.setName("Yard");
+        yard.setLatitude(6.95);
+        yard.setLongitude(79.86);
+        Depot landfill = new Depot();
+        landfill.setName("Landfill");
+        landfill.setLatitude(6.81);
+        landfill.setLongitude(79.90);
+        Bin a = new Bin();
+        a.setId(1L);
+        a.setLatitude(6.90);
+        a.setLongitude(79.85);
+        Bin b = new Bin();
+        b.setId(2L);
+        b.setLatitude(6.92);
+        b.setLongitude(79.88);
+
+        DistanceMatrix matrix = DistanceMatrix.forRoute(new RouteEnds(yard, landfill), List.of(a, b));
+
+        assertEquals(4, matrix.size());
+        assertEquals(1, matrix.firstMovable());
+        assertEquals(2, matrix.lastMovable());
+        assertEquals(2, matrix.movableCount());
+        assertEquals(GeoUtils.haversineKm(6.95, 79.86, 6.92, 79.88), matrix.distance(0, 2), 1e-9);
+        assertEquals(GeoUtils.haversineKm(6.90, 79.85, 6.81, 79.90), matrix.distance(1, 3), 1e-9);
+        assertArrayEquals(new int[] {1, 0}, matrix.stopOrder(new int[] {0, 2, 1, 3}));
+
+        DistanceMatrix open = DistanceMatrix.forRoute(RouteEnds.NONE, List.of(a, b));
+        assertFalse(open.hasFixedStart() || open.hasFixedEnd());
+        assertArrayEquals(new int[] {1, 0}, open.stopOrder(new int[] {1, 0}));
+    }
+}
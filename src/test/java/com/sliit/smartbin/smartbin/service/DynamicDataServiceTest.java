@@ -0,0 +1,109 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the chunked DynamicDataService tick
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DynamicDataService Unit Tests")
+class DynamicDataServiceTest {
+
+    @Mock
+    private BinRepository binRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RollupService rollupService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DynamicDataService dynamicDataService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dynamicDataService = new DynamicDataService(binRepository, jdbcTemplate, rollupService, meterRegistry, 2);
+    }
+
+    /**
+     * Stub the chunk query by running the real row mapper over fake rows with the given ids
+     */
+    @SuppressWarnings("unchecked")
+    private void stubChunks(long[]... chunks) throws Exception {
+        final int[] call = {0};
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            if (call[0] >= chunks.length) {
+                return List.of();
+            }
+            List<Object> rows = new ArrayList<>();
+            for (long id : chunks[call[0]]) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("id")).thenReturn(id);
+                when(rs.getInt("fill_level")).thenReturn(50);
+                when(rs.getTimestamp("last_emptied")).thenReturn(Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+                rows.add(mapper.mapRow(rs, 0));
+            }
+            call[0]++;
+            return rows;
+        });
+    }
+
+    @Test
+    @DisplayName("Should write each chunk as one batch and never load entities")
+    void updateBinData_shouldBatchPerChunk() throws Exception {
+        // Given
+        when(binRepository.count()).thenReturn(3L);
+        stubChunks(new long[] {1, 2}, new long[] {3});
+
+        // When
+        dynamicDataService.updateBinData();
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(binRepository, never()).findAll();
+        verify(binRepository, never()).save(any());
+        assertEquals(3.0, meterRegistry.get("smartbin.bins.simulation.rows.updated").counter().count());
+        assertEquals(1, meterRegistry.get("smartbin.bins.simulation.tick").timer().count());
+        assertEquals(3.0, meterRegistry.get("smartbin.bins.simulation.rows.last.tick").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should continue paging after the last id of a full chunk")
+    void updateBinData_shouldUseKeysetPaging() throws Exception {
+        // Given
+        when(binRepository.count()).thenReturn(4L);
+        stubChunks(new long[] {10, 20}, new long[] {30, 40});
+
+        // When
+        dynamicDataService.updateBinData();
+
+        // Then
+        verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), eq(0L), eq(2));
+        verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), eq(20L), eq(2));
+        verify(jdbcTemplate).query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), eq(40L), eq(2));
+    }
+}
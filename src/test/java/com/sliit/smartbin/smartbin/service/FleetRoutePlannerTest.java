@@ -0,0 +1,163 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.service.routing.FleetPlan;
+import com.sliit.smartbin.smartbin.service.routing.FleetRoutePlanner;
+import com.sliit.smartbin.smartbin.service.routing.RouteDurationEstimator;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.VehicleLimits;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the sweep-based fleet planner
+ */
+@DisplayName("FleetRoutePlanner Unit Tests")
+class FleetRoutePlannerTest {
+
+    private final FleetRoutePlanner planner = new FleetRoutePlanner(new RouteOptimizationPipeline(500, 12));
+
+    private static List<Bin> randomBins(int n, long seed) {
+        Random random = new Random(seed);
+        List<Bin> bins = new ArrayList<>();
+        for (long id = 1; id <= n; id++) {
+            Bin bin = new Bin();
+            bin.setId(id);
+            bin.setLatitude(6.85 + random.nextDouble() * 0.15);
+            bin.setLongitude(79.85 + random.nextDouble() * 0.15);
+            bins.add(bin);
+        }
+        return bins;
+    }
+
+    private static Set<Long> assignedIds(FleetPlan plan) {
+        Set<Long> ids = new HashSet<>();
+        for (FleetPlan.VehicleRoute route : plan.routes()) {
+            for (Bin bin : route.stops()) {
+                assertTrue(ids.add(bin.getId()), "bin " + bin.getId() + " assigned twice");
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Should cover every bin once with balanced routes when capacity allows")
+    void plan_withEnoughCapacity_shouldAssignEveryBinOnce() {
+        List<Bin> bins = randomBins(90, 1);
+
+        FleetPlan plan = planner.plan(bins, RouteEnds.NONE, 4, 40, 600, RouteOptimizerType.LOCAL_SEARCH);
+
+        assertTrue(plan.unassigned().isEmpty());
+        assertEquals(90, assignedIds(plan).size());
+        assertEquals(4, plan.routes().size());
+        for (FleetPlan.VehicleRoute route : plan.routes()) {
+            assertTrue(route.stops().size() >= 20 && route.stops().size() <= 25, "unbalanced: " + route.stops().size());
+            assertTrue(route.estimatedMinutes() <= 600);
+        }
+    }
+
+    @Test
+    @DisplayName("Should never exceed capacity and report overflow as unassigned")
+    void plan_withTooManyBins_shouldLeaveOverflowUnassigned() {
+        List<Bin> bins = randomBins(50, 2);
+
+        FleetPlan plan = planner.plan(bins, RouteEnds.NONE, 3, 10, 10_000, RouteOptimizerType.LOCAL_SEARCH);
+
+        plan.routes().forEach(route -> assertTrue(route.stops().size() <= 10));
+        assertEquals(30, assignedIds(plan).size());
+        assertEquals(20, plan.unassigned().size());
+    }
+
+    @Test
+    @DisplayName("Should keep every route within the shift length")
+    void plan_withShortShift_shouldTrimRoutes() {
+        List<Bin> bins = randomBins(60, 3);
+        int shift = 120;
+
+        FleetPlan plan = planner.plan(bins, RouteEnds.NONE, 3, 60, shift, RouteOptimizerType.LOCAL_SEARCH);
+
+        for (FleetPlan.VehicleRoute route : plan.routes()) {
+            assertTrue(route.estimatedMinutes() <= shift);
+            assertEquals(RouteDurationEstimator.estimateMinutes(route.stops().size(), route.distanceKm()),
+                         route.estimatedMinutes());
+        }
+        assertEquals(60, assignedIds(plan).size() + plan.unassigned().size());
+        assertFalse(plan.unassigned().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Depot legs should count towards route distance and shift time")
+    void plan_withDepot_shouldIncludeDepotLegs() {
+        Depot yard = new Depot();
+        yard.setName("Yard");
+        yard.setLatitude(6.80);
+        yard.setLongitude(79.80);
+        List<Bin> bins = randomBins(40, 6);
+
+        FleetPlan plan = planner.plan(bins, new RouteEnds(yard, yard), 2, 40, 10_000, RouteOptimizerType.LOCAL_SEARCH);
+
+        assertEquals(40, assignedIds(plan).size());
+        for (FleetPlan.VehicleRoute route : plan.routes()) {
+            List<Bin> stops = route.stops();
+            double expected = GeoUtils.haversineKm(6.80, 79.80, stops.get(0).getLatitude(), stops.get(0).getLongitude())
+                + GeoUtils.haversineKm(stops.get(stops.size() - 1).getLatitude(), stops.get(stops.size() - 1).getLongitude(), 6.80, 79.80);
+            for (int i = 0; i + 1 < stops.size(); i++) {
+                expected += GeoUtils.haversineKm(stops.get(i).getLatitude(), stops.get(i).getLongitude(),
+                                                 stops.get(i + 1).getLatitude(), stops.get(i + 1).getLongitude());
+            }
+            assertEquals(expected, route.distanceKm(), 1e-9);
+            assertEquals(RouteDurationEstimator.estimateMinutes(stops.size(), expected), route.estimatedMinutes());
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip vehicles when there are fewer bins than vehicles")
+    void plan_withFewBins_shouldOnlyUseNeededVehicles() {
+        FleetPlan plan = planner.plan(randomBins(2, 4), RouteEnds.NONE, 5, 10, 480, RouteOptimizerType.NEAREST_NEIGHBOR);
+
+        assertEquals(2, assignedIds(plan).size());
+        assertTrue(plan.routes().size() <= 2);
+    }
+
+    @Test
+    @DisplayName("Should hold each vehicle to its own capacity and shift length")
+    void plan_withPerVehicleLimits_shouldRespectEachVehicle() {
+        List<Bin> bins = randomBins(60, 7);
+        List<VehicleLimits> vehicles = List.of(new VehicleLimits(5, 10_000), new VehicleLimits(40, 150),
+                                               new VehicleLimits(30, 10_000));
+
+        FleetPlan plan = planner.plan(bins, RouteEnds.NONE, vehicles, RouteOptimizerType.LOCAL_SEARCH);
+
+        for (FleetPlan.VehicleRoute route : plan.routes()) {
+            VehicleLimits limits = vehicles.get(route.vehicle());
+            assertTrue(route.stops().size() <= limits.capacity(), "vehicle " + route.vehicle() + " over capacity");
+            assertTrue(route.estimatedMinutes() <= limits.shiftMinutes(), "vehicle " + route.vehicle() + " over shift");
+        }
+        assertEquals(60, assignedIds(plan).size() + plan.unassigned().size());
+        assertEquals(new VehicleLimits(20, 300), new VehicleLimits(20, null).orElse(new VehicleLimits(40, 300)));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid fleet parameters")
+    void plan_withInvalidParameters_shouldThrow() {
+        List<Bin> bins = randomBins(5, 5);
+
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(bins, RouteEnds.NONE, 0, 10, 480, RouteOptimizerType.DEFAULT));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(bins, RouteEnds.NONE, 2, 0, 480, RouteOptimizerType.DEFAULT));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(bins, RouteEnds.NONE, 2, 10, 0, RouteOptimizerType.DEFAULT));
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(bins, RouteEnds.NONE,
+            List.of(new VehicleLimits(10, 480), new VehicleLimits(null, 480)), RouteOptimizerType.DEFAULT));
+    }
+}
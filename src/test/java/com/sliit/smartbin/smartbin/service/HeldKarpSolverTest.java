@@ -0,0 +1,162 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.HeldKarpSolver;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.SearchBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the exact Held-Karp solver, checked against exhaustive search
+ */
+@DisplayName("HeldKarpSolver Unit Tests")
+class HeldKarpSolverTest {
+
+    private static DistanceMatrix randomInstance(int n, long seed) {
+        Random random = new Random(seed);
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 6.85 + random.nextDouble() * 0.2;
+            lng[i] = 79.85 + random.nextDouble() * 0.2;
+        }
+        return DistanceMatrix.fromCoordinates(lat, lng);
+    }
+
+    private static DistanceMatrix randomDepotRoute(int bins, long seed, boolean closed) {
+        Random random = new Random(seed);
+        List<Bin> stops = new ArrayList<>();
+        for (long id = 1; id <= bins; id++) {
+            Bin bin = new Bin();
+            bin.setId(id);
+            bin.setLatitude(6.85 + random.nextDouble() * 0.2);
+            bin.setLongitude(79.85 + random.nextDouble() * 0.2);
+            stops.add(bin);
+        }
+        Depot yard = depot(6.80 + random.nextDouble() * 0.3, 79.80 + random.nextDouble() * 0.3);
+        Depot end = closed ? yard : depot(6.80 + random.nextDouble() * 0.3, 79.80 + random.nextDouble() * 0.3);
+        return DistanceMatrix.forRoute(new RouteEnds(yard, end), stops);
+    }
+
+    private static Depot depot(double lat, double lng) {
+        Depot depot = new Depot();
+        depot.setLatitude(lat);
+        depot.setLongitude(lng);
+        return depot;
+    }
+
+    /**
+     * Shortest path over every permutation of the stops between the matrix's anchors
+     */
+    private static double bruteForce(DistanceMatrix distances) {
+        int n = distances.size();
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        double[] best = {Double.MAX_VALUE};
+        permute(order, distances.firstMovable(), distances.lastMovable(), distances, best);
+        return best[0];
+    }
+
+    private static void permute(int[] order, int k, int last, DistanceMatrix distances, double[] best) {
+        if (k > last) {
+            best[0] = Math.min(best[0], distances.pathLength(order));
+            return;
+        }
+        for (int i = k; i <= last; i++) {
+            int tmp = order[k]; order[k] = order[i]; order[i] = tmp;
+            permute(order, k + 1, last, distances, best);
+            tmp = order[k]; order[k] = order[i]; order[i] = tmp;
+        }
+    }
+
+    private static void assertValidOrder(int[] order, int n) {
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, sorted[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match brute force on random instances of 1 to 9 stops")
+    void solve_shouldMatchBruteForce() {
+        for (int n = 1; n <= 9; n++) {
+            for (long seed = 1; seed <= 15; seed++) {
+                DistanceMatrix distances = randomInstance(n, seed * 31 + n);
+
+                int[] order = HeldKarpSolver.solve(distances, SearchBudget.startingNow(10_000));
+
+                assertValidOrder(order, n);
+                assertEquals(bruteForce(distances), distances.pathLength(order), 1e-9, "n=" + n + " seed=" + seed);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep depot anchors fixed and match brute force over the bins between them")
+    void solve_withDepots_shouldMatchBruteForce() {
+        for (int bins = 0; bins <= 7; bins++) {
+            for (long seed = 1; seed <= 10; seed++) {
+                for (boolean closed : new boolean[] {true, false}) {
+                    DistanceMatrix distances = randomDepotRoute(bins, seed * 17 + bins, closed);
+                    int n = distances.size();
+
+                    int[] order = HeldKarpSolver.solve(distances, SearchBudget.startingNow(10_000));
+
+                    assertValidOrder(order, n);
+                    assertEquals(0, order[0]);
+                    assertEquals(n - 1, order[n - 1]);
+                    assertEquals(bruteForce(distances), distances.pathLength(order), 1e-9,
+                                 "bins=" + bins + " seed=" + seed + " closed=" + closed);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle clustered stops with near-equal distances")
+    void solve_withDuplicateLocations_shouldStillBeOptimal() {
+        double[] lat = {6.90, 6.90, 6.95, 6.95, 6.90, 7.00, 6.95};
+        double[] lng = {79.90, 79.90, 79.95, 79.95, 79.92, 79.90, 79.90};
+        DistanceMatrix distances = DistanceMatrix.fromCoordinates(lat, lng);
+
+        int[] order = HeldKarpSolver.solve(distances, SearchBudget.startingNow(10_000));
+
+        assertValidOrder(order, lat.length);
+        assertEquals(bruteForce(distances), distances.pathLength(order), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should solve 16 stops quickly")
+    void solve_withSixteenStops_shouldFinishWellWithinBudget() {
+        DistanceMatrix distances = randomInstance(16, 5);
+
+        int[] order = HeldKarpSolver.solve(distances, SearchBudget.startingNow(5_000));
+
+        assertNotNull(order);
+        assertValidOrder(order, 16);
+    }
+
+    @Test
+    @DisplayName("Should give up when cancelled and reject oversized routes")
+    void solve_whenCancelledOrTooLarge() {
+        DistanceMatrix distances = randomInstance(14, 9);
+        assertNull(HeldKarpSolver.solve(distances, SearchBudget.startingNow(10_000, () -> true)));
+
+        DistanceMatrix tooLarge = randomInstance(HeldKarpSolver.MAX_STOPS + 1, 9);
+        assertThrows(IllegalArgumentException.class,
+                     () -> HeldKarpSolver.solve(tooLarge, SearchBudget.startingNow(10_000)));
+    }
+}
@@ -0,0 +1,187 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.CollectorSummaryDTO;
+import com.sliit.smartbin.smartbin.event.BinAlertEvent;
+import com.sliit.smartbin.smartbin.event.CollectionStatusChangedEvent;
+import com.sliit.smartbin.smartbin.event.RouteAssignedEvent;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRepository;
+import com.sliit.smartbin.smartbin.service.impl.LiveUpdateServiceImpl;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdate;
+import com.sliit.smartbin.smartbin.service.live.LiveUpdateBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LiveUpdateServiceImpl and its replay buffer
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveUpdateServiceImpl Unit Tests")
+class LiveUpdateServiceImplTest {
+
+    @Mock
+    private RouteRepository routeRepository;
+
+    @Mock
+    private CollectionRepository collectionRepository;
+
+    @Mock
+    private CollectorRosterService collectorRosterService;
+
+    private LiveUpdateServiceImpl liveUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        liveUpdateService = new LiveUpdateServiceImpl(routeRepository, collectionRepository, collectorRosterService,
+                                                      3, 24, 60000, 2);
+    }
+
+    private static RouteRepository.RouteAssignment assignment(Long id, String name, LocalDateTime at) {
+        return new RouteRepository.RouteAssignment() {
+            public Long getId() { return id; }
+            public String getRouteName() { return name; }
+            public LocalDateTime getAssignedDate() { return at; }
+        };
+    }
+
+    private static CollectionRepository.CompletedCollection completed(Long id, String qrCode, LocalDateTime at) {
+        return new CollectionRepository.CompletedCollection() {
+            public Long getId() { return id; }
+            public String getBinQrCode() { return qrCode; }
+            public LocalDateTime getCompletionDate() { return at; }
+        };
+    }
+
+    @Test
+    @DisplayName("Should seed a collector's feed from the last day once, newest first")
+    void getRecentUpdates_shouldSeedOnce() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(routeRepository.findAssignmentsSince(eq(1L), any()))
+            .thenReturn(List.of(assignment(10L, "North loop", now.minusHours(3))));
+        when(collectionRepository.findCompletedSince(eq(1L), any()))
+            .thenReturn(List.of(completed(20L, "QR-7", now.minusHours(1))));
+
+        // When
+        List<LiveUpdate> first = liveUpdateService.getRecentUpdates(1L);
+        List<LiveUpdate> second = liveUpdateService.getRecentUpdates(1L);
+
+        // Then
+        assertEquals(List.of("completion", "route"), first.stream().map(LiveUpdate::type).toList());
+        assertEquals("Successfully collected from bin QR-7", first.get(0).message());
+        assertEquals("Route North loop has been assigned to you", first.get(1).message());
+        assertTrue(first.get(0).id() > first.get(1).id());
+        assertEquals(first, second);
+        verify(routeRepository, times(1)).findAssignmentsSince(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("Should buffer events without queries and skip ones already buffered")
+    void events_shouldBeBufferedOnce() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        liveUpdateService.getRecentUpdates(1L);
+        clearInvocations(routeRepository);
+        clearInvocations(collectionRepository);
+
+        // When
+        liveUpdateService.onRouteAssigned(new RouteAssignedEvent(10L, 1L, "North loop", now));
+        liveUpdateService.onRouteAssigned(new RouteAssignedEvent(10L, 1L, "North loop", now));
+        liveUpdateService.onCollectionStatusChanged(new CollectionStatusChangedEvent(20L, 1L,
+            Collection.CollectionStatus.ASSIGNED, Collection.CollectionStatus.IN_PROGRESS, now, null, "QR-7"));
+        liveUpdateService.onCollectionStatusChanged(new CollectionStatusChangedEvent(20L, 1L,
+            Collection.CollectionStatus.IN_PROGRESS, Collection.CollectionStatus.COMPLETED, now, now, "QR-7"));
+
+        // Then
+        List<LiveUpdate> updates = liveUpdateService.getRecentUpdates(1L);
+        assertEquals(List.of("completion", "route"), updates.stream().map(LiveUpdate::type).toList());
+        verifyNoInteractions(routeRepository, collectionRepository);
+    }
+
+    @Test
+    @DisplayName("Should send bin alerts to collectors whose region is in the bin location")
+    void onBinAlert_shouldMatchRegion() {
+        // Given
+        when(collectorRosterService.getCollectors()).thenReturn(List.of(
+            new CollectorSummaryDTO(1L, "Kamal", "kamal@smartbin.com", null, "Colombo"),
+            new CollectorSummaryDTO(2L, "Nimal", "nimal@smartbin.com", null, "Kandy"),
+            new CollectorSummaryDTO(3L, "Sunil", "sunil@smartbin.com", null, null)));
+
+        // When
+        liveUpdateService.onBinAlert(new BinAlertEvent(5L, "QR-5", "Main St, Colombo 03", 92, false,
+                                                       LocalDateTime.now()));
+
+        // Then
+        List<LiveUpdate> colombo = liveUpdateService.getRecentUpdates(1L);
+        assertEquals(1, colombo.size());
+        assertEquals("Bin Alert", colombo.get(0).title());
+        assertEquals("Bin QR-5 is 92% full", colombo.get(0).message());
+        assertTrue(liveUpdateService.getRecentUpdates(2L).isEmpty());
+        assertTrue(liveUpdateService.getRecentUpdates(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should open streams for fresh and resuming clients")
+    void subscribe_shouldReturnEmitter() {
+        // Given
+        liveUpdateService.onRouteAssigned(new RouteAssignedEvent(10L, 1L, "North loop", LocalDateTime.now()));
+
+        // When / Then
+        assertNotNull(liveUpdateService.subscribe(1L, null));
+        assertNotNull(liveUpdateService.subscribe(1L, 1L));
+        assertNotNull(liveUpdateService.subscribe(1L, 999L));
+        assertDoesNotThrow(() -> liveUpdateService.heartbeat());
+    }
+
+    @Test
+    @DisplayName("LiveUpdateBuffer should replay what a stream missed, or ask for a reset once it was dropped")
+    void liveUpdateBuffer_shouldReplayOrReset() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        LiveUpdateBuffer buffer = new LiveUpdateBuffer(2, Duration.ofHours(24));
+        buffer.add(new LiveUpdate(1, "route:1", "route", "t", "m", now, now));
+        buffer.add(new LiveUpdate(2, "route:2", "route", "t", "m", now, now));
+        buffer.add(new LiveUpdate(3, "route:3", "route", "t", "m", now, now));
+
+        // When / Then
+        assertEquals(List.of(), buffer.since(3, 3, now).orElseThrow());
+        assertEquals(List.of(3L), buffer.since(2, 3, now).orElseThrow().stream().map(LiveUpdate::id).toList());
+        assertEquals(List.of(2L, 3L), buffer.since(1, 3, now).orElseThrow().stream().map(LiveUpdate::id).toList());
+        assertTrue(buffer.since(0, 3, now).isEmpty());
+        assertTrue(buffer.since(7, 3, now).isEmpty());
+        assertTrue(buffer.since(1, 3, now.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("LiveUpdateBuffer should expire by publish time, whatever the displayed timestamps")
+    void liveUpdateBuffer_shouldExpireByPublishTime() {
+        // Given - a completion scheduled in the future ahead of one scheduled long ago
+        LocalDateTime now = LocalDateTime.now();
+        LiveUpdateBuffer buffer = new LiveUpdateBuffer(10, Duration.ofHours(24));
+        buffer.add(new LiveUpdate(1, "completion:1", "completion", "t", "m", now.plusDays(3), now.minusHours(30)));
+        buffer.add(new LiveUpdate(2, "completion:2", "completion", "t", "m", now.minusDays(5), now.minusHours(1)));
+        buffer.add(new LiveUpdate(3, "route:3", "route", "t", "m", now.plusDays(3), now.minusHours(2)));
+        buffer.add(new LiveUpdate(4, "route:4", "route", "t", "m", now, now.minusHours(25)));
+
+        // When
+        List<Long> remaining = buffer.all(now).stream().map(LiveUpdate::id).toList();
+
+        // Then
+        assertEquals(List.of(2L, 3L), remaining);
+        assertTrue(buffer.since(3, 4, now).isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.MultiStartStats;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationListener;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parallel multi-start mode of RouteOptimizationPipeline
+ */
+@DisplayName("MultiStartSearch Unit Tests")
+class MultiStartSearchTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private OptimizedTour multiStart(RouteOptimizationPipeline pipeline, DistanceMatrix distances) {
+        return pipeline.optimize(distances, RouteOptimizerType.MULTI_START, OptimizationListener.NONE, executor);
+    }
+
+    private static DistanceMatrix randomInstance(int n, long seed) {
+        Random random = new Random(seed);
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 6.85 + random.nextDouble() * 0.15;
+            lng[i] = 79.85 + random.nextDouble() * 0.15;
+        }
+        return DistanceMatrix.fromCoordinates(lat, lng);
+    }
+
+    @Test
+    @DisplayName("A fixed seed should reproduce the same route and spread")
+    void optimize_withFixedSeed_shouldBeReproducible() {
+        DistanceMatrix distances = randomInstance(80, 11);
+
+        OptimizedTour first = multiStart(new RouteOptimizationPipeline(30_000, 0, 8, 42L), distances);
+        OptimizedTour second = new RouteOptimizationPipeline(30_000, 0, 8, 42L)
+            .optimize(distances, RouteOptimizerType.MULTI_START);
+
+        assertFalse(first.budgetExhausted());
+        assertArrayEquals(first.order(), second.order());
+        assertEquals(first.multiStart(), second.multiStart());
+    }
+
+    @Test
+    @DisplayName("Should never be worse than a single local search and report every restart")
+    void optimize_shouldReportRestartsAndBeatSingleRun() {
+        RouteOptimizationPipeline single = new RouteOptimizationPipeline(30_000, 0, 1, 7L);
+        RouteOptimizationPipeline multi = new RouteOptimizationPipeline(30_000, 0, 6, 7L);
+        for (long seed = 1; seed <= 3; seed++) {
+            DistanceMatrix distances = randomInstance(100, seed);
+
+            OptimizedTour local = single.optimize(distances, RouteOptimizerType.LOCAL_SEARCH);
+            OptimizedTour result = multiStart(multi, distances);
+
+            MultiStartStats stats = result.multiStart();
+            assertEquals(6, stats.restarts());
+            assertEquals(distances.pathLength(result.order()), result.finalDistanceKm(), 1e-9);
+            assertEquals(stats.bestKm(), result.finalDistanceKm(), 1e-9);
+            assertTrue(stats.bestKm() <= stats.meanKm() && stats.meanKm() <= stats.worstKm());
+            assertTrue(result.finalDistanceKm() <= local.finalDistanceKm() + 1e-9, "seed " + seed);
+            assertTrue(result.describe().contains("best of 6 restarts"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the first restart's route when the budget runs out")
+    void optimize_withTinyBudget_shouldStillReturnRoute() {
+        DistanceMatrix distances = randomInstance(1500, 3);
+
+        OptimizedTour result = multiStart(new RouteOptimizationPipeline(1, 0, 16, 1L), distances);
+
+        assertTrue(result.budgetExhausted());
+        assertTrue(result.multiStart().restarts() >= 1);
+        assertEquals(1500, result.order().length);
+    }
+
+    @Test
+    @DisplayName("Should only attach restart statistics to multi-start runs")
+    void optimize_singleRun_shouldHaveNoStatistics() {
+        DistanceMatrix distances = randomInstance(40, 5);
+
+        assertNull(new RouteOptimizationPipeline(2000, 0, 4, 1L)
+            .optimize(distances, RouteOptimizerType.LOCAL_SEARCH).multiStart());
+        assertThrows(IllegalArgumentException.class, () -> new RouteOptimizationPipeline(2000, 0, 0, null));
+    }
+
+    @Test
+    @DisplayName("Should finish when every thread of the pool is already running a search")
+    void optimize_onSaturatedPool_shouldNotDeadlock() throws Exception {
+        RouteOptimizationPipeline pipeline = new RouteOptimizationPipeline(30_000, 0, 6, 3L);
+        DistanceMatrix distances = randomInstance(60, 9);
+
+        Future<OptimizedTour> first = executor.submit(() -> multiStart(pipeline, distances));
+        Future<OptimizedTour> second = executor.submit(() -> multiStart(pipeline, distances));
+
+        assertEquals(6, first.get(30, TimeUnit.SECONDS).multiStart().restarts());
+        assertArrayEquals(first.get().order(), second.get(30, TimeUnit.SECONDS).order());
+    }
+}
@@ -1,5 +1,6 @@
 package com.sliit.smartbin.smartbin.service;
 
+import com.sliit.smartbin.smartbin.event.BinAlertEvent;
 import com.sliit.smartbin.smartbin.model.Bin;
 import com.sliit.smartbin.smartbin.model.BulkRequest;
 import com.sliit.smartbin.smartbin.model.User;
@@ -11,10 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 
 /**
  * Comprehensive unit tests for NotificationServiceImpl
@@ -32,6 +37,9 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("NotificationServiceImpl Unit Tests")
 class NotificationServiceImplTest {
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -68,6 +76,20 @@ class NotificationServiceImplTest {
         assertDoesNotThrow(() -> notificationService.sendBinAlertNotification(testBin));
     }
 
+    @Test
+    @DisplayName("Should publish a bin alert event for live update streams")
+    void sendBinAlertNotification_shouldPublishEvent() {
+        // When
+        notificationService.sendBinAlertNotification(testBin);
+
+        // Then
+        ArgumentCaptor<BinAlertEvent> event = ArgumentCaptor.forClass(BinAlertEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals("QR123", event.getValue().qrCode());
+        assertEquals(85, event.getValue().fillLevel());
+        assertFalse(event.getValue().overdue());
+    }
+
     @Test
     @DisplayName("Should notify user about bulk request successfully")
     void notifyUserBulkRequest_withValidInputs_shouldSucceed() {
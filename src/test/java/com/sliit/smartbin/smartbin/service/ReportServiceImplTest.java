@@ -0,0 +1,272 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.ReportDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.CollectionRepository;
+import com.sliit.smartbin.smartbin.repository.RouteRepository;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.impl.ReportServiceImpl;
+import com.sliit.smartbin.smartbin.service.impl.RollupServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the database-side report aggregations against a small known dataset.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ReportServiceImpl.class, RollupServiceImpl.class})
+@DisplayName("ReportServiceImpl aggregations")
+class ReportServiceImplTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollectionRepository collectionRepository;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User collector;
+    private User authority;
+
+    @BeforeEach
+    void setUp() {
+        collector = userRepository.save(user("collector@smartbin.com", User.UserRole.COLLECTOR));
+        authority = userRepository.save(user("authority@smartbin.com", User.UserRole.AUTHORITY));
+        userRepository.save(user("resident1@smartbin.com", User.UserRole.RESIDENT));
+        userRepository.save(user("resident2@smartbin.com", User.UserRole.RESIDENT));
+
+        bin("QR-1", Bin.BinStatus.EMPTY, 0, false);
+        bin("QR-2", Bin.BinStatus.PARTIAL, 50, false);
+        bin("QR-3", Bin.BinStatus.FULL, 90, true);
+        bin("QR-4", Bin.BinStatus.FULL, 95, true);
+        bin("QR-5", Bin.BinStatus.OVERDUE, 100, null);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static User user(String email, User.UserRole role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("x");
+        user.setPhone("+94 770000000");
+        user.setRole(role);
+        return user;
+    }
+
+    private Bin bin(String qrCode, Bin.BinStatus status, int fillLevel, Boolean alert) {
+        Bin bin = new Bin();
+        bin.setQrCode(qrCode);
+        bin.setLocation(qrCode);
+        bin.setLatitude(6.9);
+        bin.setLongitude(79.86);
+        bin.setBinType(Bin.BinType.STANDARD);
+        bin.setStatus(status);
+        bin.setFillLevel(fillLevel);
+        bin.setAlertFlag(alert);
+        return binRepository.save(bin);
+    }
+
+    @Test
+    @DisplayName("Bin status report should count statuses and average fill in the database")
+    void generateBinStatusReport_shouldAggregate() {
+        // When
+        Map<String, Object> report = reportService.generateBinStatusReport(new ReportDTO());
+
+        // Then
+        assertEquals("Bin Status Report", report.get("reportType"));
+        assertEquals(5, report.get("totalBins"));
+        assertEquals(1L, report.get("emptyBins"));
+        assertEquals(1L, report.get("partialBins"));
+        assertEquals(2L, report.get("fullBins"));
+        assertEquals(1L, report.get("overdueBins"));
+        assertEquals(2L, report.get("alertedBins"));
+        assertEquals(67L, report.get("averageFillLevel"));
+        assertNotNull(report.get("generatedAt"));
+    }
+
+    @Test
+    @DisplayName("Bin status report should be all zeros without bins")
+    void generateBinStatusReport_shouldHandleEmptyTable() {
+        // Given
+        binRepository.deleteAllInBatch();
+
+        // When
+        Map<String, Object> report = reportService.generateBinStatusReport(new ReportDTO());
+
+        // Then
+        assertEquals(0, report.get("totalBins"));
+        assertEquals(0L, report.get("fullBins"));
+        assertEquals(0L, report.get("averageFillLevel"));
+    }
+
+    @Test
+    @DisplayName("System overview should count users by role and find the latest collection")
+    void generateSystemOverviewReport_shouldAggregate() {
+        // Given
+        Bin bin = binRepository.findByQrCode("QR-3").orElseThrow();
+        Collection collection = new Collection();
+        collection.setBin(bin);
+        collection.setCollector(collector);
+        collection.setCollectionType(Collection.CollectionType.STANDARD);
+        collection.setStatus(Collection.CollectionStatus.COMPLETED);
+        collection.setCollectionDate(LocalDateTime.now().minusHours(3));
+        collectionRepository.save(collection);
+        entityManager.flush();
+
+        // When
+        Map<String, Object> report = reportService.generateSystemOverviewReport();
+
+        // Then
+        assertEquals(5L, report.get("totalBins"));
+        assertEquals(1L, report.get("totalCollections"));
+        assertEquals(4L, report.get("totalUsers"));
+        assertEquals(1L, report.get("activeCollectors"));
+        assertEquals(1L, report.get("activeAuthorities"));
+        assertEquals(2L, report.get("activeResidents"));
+        assertEquals(67L, report.get("averageFillLevel"));
+        assertEquals("0h ago", report.get("lastCollectionTime"));
+    }
+
+    @Test
+    @DisplayName("Collection report should only count collections inside the date range")
+    void generateCollectionReport_shouldRespectDateRange() {
+        // Given
+        Bin bin = binRepository.findByQrCode("QR-1").orElseThrow();
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 8, 0);
+        collection(bin, Collection.CollectionType.STANDARD, Collection.CollectionStatus.COMPLETED, base.plusDays(1));
+        collection(bin, Collection.CollectionType.STANDARD, Collection.CollectionStatus.FAILED, base.plusDays(2));
+        collection(bin, Collection.CollectionType.RECYCLING, Collection.CollectionStatus.COMPLETED, base.plusDays(3));
+        collection(bin, Collection.CollectionType.BULK, Collection.CollectionStatus.COMPLETED, base.minusDays(40));
+        collection(bin, Collection.CollectionType.BULK, Collection.CollectionStatus.COMPLETED, base.plusDays(60));
+        entityManager.flush();
+        rollupService.reconcile(base.minusDays(60), base.plusDays(90));
+
+        ReportDTO dto = new ReportDTO();
+        dto.setStartDate(base);
+        dto.setEndDate(base.plusDays(30));
+
+        // When
+        Map<String, Object> report = reportService.generateCollectionReport(dto);
+
+        // Then
+        assertEquals(3L, report.get("totalCollections"));
+        assertEquals(2L, report.get("completedCollections"));
+        assertEquals(2L, report.get("standardCollections"));
+        assertEquals(1L, report.get("recyclingCollections"));
+        assertEquals(0L, report.get("bulkCollections"));
+        assertEquals(2.0 / 3 * 100, (double) report.get("completionRate"), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Collection report should reject a start date after the end date")
+    void generateCollectionReport_shouldRejectInvertedRange() {
+        ReportDTO dto = new ReportDTO();
+        dto.setStartDate(LocalDateTime.of(2025, 3, 2, 0, 0));
+        dto.setEndDate(LocalDateTime.of(2025, 3, 1, 0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> reportService.generateCollectionReport(dto));
+    }
+
+    @Test
+    @DisplayName("Performance and efficiency reports should total each collector's work")
+    @SuppressWarnings("unchecked")
+    void collectorReports_shouldAggregatePerCollector() {
+        // Given: one busy collector and one with no work at all
+        userRepository.save(user("idle@smartbin.com", User.UserRole.COLLECTOR));
+        Bin bin = binRepository.findByQrCode("QR-2").orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        collection(bin, Collection.CollectionType.STANDARD, Collection.CollectionStatus.COMPLETED, now);
+        collection(bin, Collection.CollectionType.STANDARD, Collection.CollectionStatus.COMPLETED, now);
+        collection(bin, Collection.CollectionType.RECYCLING, Collection.CollectionStatus.FAILED, now);
+        route(Route.RouteStatus.COMPLETED, 60, 50);
+        route(Route.RouteStatus.COMPLETED, 40, 50);
+        route(Route.RouteStatus.ASSIGNED, 30, null);
+        entityManager.flush();
+
+        // When
+        Map<String, Object> performance = (Map<String, Object>) reportService
+            .generatePerformanceReport(new ReportDTO()).get("collectorPerformance");
+        Map<String, Object> efficiency = (Map<String, Object>) reportService
+            .generateCollectorEfficiencyReport(new ReportDTO()).get("efficiencyData");
+
+        // Then
+        Map<String, Object> busy = (Map<String, Object>) performance.get("collector@smartbin.com");
+        assertEquals(3, busy.get("totalCollections"));
+        assertEquals(2L, busy.get("completedCollections"));
+        assertEquals(2.0 / 3 * 100, (double) busy.get("completionRate"), 1e-9);
+        assertEquals(3, busy.get("totalRoutes"));
+        assertEquals(2L, busy.get("completedRoutes"));
+
+        Map<String, Object> idle = (Map<String, Object>) performance.get("idle@smartbin.com");
+        assertEquals(0, idle.get("totalCollections"));
+        assertEquals(0L, idle.get("completedRoutes"));
+
+        Map<String, Object> busyEfficiency = (Map<String, Object>) efficiency.get("collector@smartbin.com");
+        assertEquals(3, busyEfficiency.get("totalRoutes"));
+        assertEquals(50.0, (double) busyEfficiency.get("avgRouteDuration"), 1e-9);
+        assertEquals(130.0 / 3, (double) busyEfficiency.get("avgEstimatedDuration"), 1e-9);
+        assertEquals(0.0, (double) ((Map<String, Object>) efficiency.get("idle@smartbin.com")).get("efficiencyScore"));
+    }
+
+    private void route(Route.RouteStatus status, int estimatedMinutes, Integer actualMinutes) {
+        Route route = new Route();
+        route.setRouteName("Route " + status);
+        route.setCollector(collector);
+        route.setAuthority(authority);
+        route.setStatus(status);
+        route.setEstimatedDurationMinutes(estimatedMinutes);
+        route.setActualDurationMinutes(actualMinutes);
+        routeRepository.save(route);
+    }
+
+    private void collection(Bin bin, Collection.CollectionType type, Collection.CollectionStatus status,
+                            LocalDateTime date) {
+        Collection collection = new Collection();
+        collection.setBin(bin);
+        collection.setCollector(collector);
+        collection.setCollectionType(type);
+        collection.setStatus(status);
+        collection.setCollectionDate(date);
+        collectionRepository.save(collection);
+    }
+
+    @Test
+    @DisplayName("System overview should report when nothing has been collected")
+    void generateSystemOverviewReport_shouldHandleNoCollections() {
+        // When
+        Map<String, Object> report = reportService.generateSystemOverviewReport();
+
+        // Then
+        assertEquals("No collections", report.get("lastCollectionTime"));
+    }
+}
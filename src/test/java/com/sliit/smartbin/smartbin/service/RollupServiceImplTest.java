@@ -0,0 +1,203 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Collection;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.service.impl.RollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RollupServiceImpl's write-behind path.
+ * No transaction is active, so events are applied as soon as they are recorded.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RollupServiceImpl Unit Tests")
+class RollupServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RollupServiceImpl rollupService;
+
+    private final LocalDateTime at = LocalDateTime.of(2025, 3, 1, 10, 15);
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new RollupServiceImpl(jdbcTemplate, transactionManager, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Object[]>> argsCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private Collection collection(Collection.CollectionStatus status) {
+        User collector = new User();
+        collector.setId(7L);
+        collector.setRegion("Colombo");
+        Bin bin = new Bin();
+        bin.setBinType(Bin.BinType.STANDARD);
+        Collection collection = new Collection();
+        collection.setCollector(collector);
+        collection.setBin(bin);
+        collection.setCollectionType(Collection.CollectionType.STANDARD);
+        collection.setStatus(status);
+        collection.setCollectionDate(at);
+        collection.setWasteLevel(80);
+        return collection;
+    }
+
+    @Test
+    @DisplayName("Should merge samples in the same bucket into one row update per granularity")
+    void fillLevelObserved_shouldMergeSamplesPerBucket() {
+        // Given
+        rollupService.fillLevelObserved(Bin.BinType.STANDARD, 40, at);
+        rollupService.fillLevelObserved(Bin.BinType.STANDARD, 95, at.plusMinutes(20));
+        rollupService.fillLevelObserved(Bin.BinType.STANDARD, 60, at.plusMinutes(40));
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE bin_fill_rollups"), anyList())).thenReturn(new int[] {1, 1});
+
+        // When
+        rollupService.flush();
+
+        // Then: one hour bucket and one day bucket, each carrying all three samples
+        ArgumentCaptor<List<Object[]>> captor = argsCaptor();
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE bin_fill_rollups"), captor.capture());
+        assertEquals(2, captor.getValue().size());
+        for (Object[] row : captor.getValue()) {
+            assertEquals(3L, row[0]);
+            assertEquals(195L, row[1]);
+            assertEquals(95, row[2]);
+            assertEquals(1L, row[3]);
+        }
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should insert only the buckets that had no row to update")
+    void flush_shouldInsertMissingBuckets() {
+        // Given
+        rollupService.fillLevelObserved(Bin.BinType.RECYCLING, 50, at);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE bin_fill_rollups"), anyList())).thenReturn(new int[] {0, 1});
+
+        // When
+        rollupService.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = argsCaptor();
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO bin_fill_rollups"), captor.capture());
+        assertEquals(1, captor.getValue().size());
+        Object[] row = captor.getValue().get(0);
+        assertEquals("RECYCLING", row[2]);
+        assertEquals(1L, row[3]);
+        assertEquals(50L, row[4]);
+    }
+
+    @Test
+    @DisplayName("Should move a collection from its old status bucket to the new one")
+    void collectionChanged_shouldDecrementPreviousStatus() {
+        // Given
+        rollupService.collectionChanged(collection(Collection.CollectionStatus.COMPLETED),
+                                        Collection.CollectionStatus.IN_PROGRESS);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE collection_rollups"), anyList()))
+            .thenReturn(new int[] {1, 1, 1, 1});
+
+        // When
+        rollupService.flush();
+
+        // Then: -1 for IN_PROGRESS and +1 for COMPLETED, hourly and daily
+        ArgumentCaptor<List<Object[]>> captor = argsCaptor();
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE collection_rollups"), captor.capture());
+        assertEquals(4, captor.getValue().size());
+        for (Object[] row : captor.getValue()) {
+            String status = (String) row[8];
+            assertEquals("COMPLETED".equals(status) ? 1L : -1L, row[0]);
+            assertEquals("COMPLETED".equals(status) ? 80L : -80L, row[1]);
+            assertEquals("Colombo", row[5]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a save that leaves the status unchanged")
+    void collectionChanged_withSameStatus_shouldRecordNothing() {
+        // When
+        rollupService.collectionChanged(collection(Collection.CollectionStatus.ASSIGNED),
+                                        Collection.CollectionStatus.ASSIGNED);
+        rollupService.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should keep increments pending when the database is unavailable")
+    void flush_withDatabaseError_shouldRetryOnNextFlush() {
+        // Given
+        rollupService.fillLevelObserved(Bin.BinType.STANDARD, 30, at);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE bin_fill_rollups"), anyList()))
+            .thenThrow(new DataAccessResourceFailureException("down"))
+            .thenReturn(new int[] {1, 1});
+
+        // When
+        rollupService.flush();
+        rollupService.flush();
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE bin_fill_rollups"), anyList());
+        rollupService.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Reconcile should drop deltas its snapshot already counts and keep later ones")
+    void reconcile_shouldNotCountCommitsTwice() {
+        // Given: one commit lands between the reconcile's flush and its snapshot, another during the snapshot
+        rollupService.collectionChanged(collection(Collection.CollectionStatus.ASSIGNED), null);
+        AtomicBoolean firstFlush = new AtomicBoolean(true);
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE collection_rollups"), anyList())).thenAnswer(invocation -> {
+            if (firstFlush.getAndSet(false)) {
+                rollupService.collectionChanged(collection(Collection.CollectionStatus.IN_PROGRESS),
+                                                Collection.CollectionStatus.ASSIGNED);
+            }
+            return new int[] {1, 1, 1, 1};
+        });
+        doAnswer(invocation -> {
+            rollupService.collectionChanged(collection(Collection.CollectionStatus.COMPLETED), null);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT c.collection_date"), any(RowCallbackHandler.class), any(), any());
+
+        // When
+        rollupService.reconcile(at.minusDays(1), at);
+        rollupService.flush();
+
+        // Then: the flush after the rebuild carries only the commit the snapshot could not see
+        ArgumentCaptor<List<Object[]>> captor = argsCaptor();
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE collection_rollups"), captor.capture());
+        List<Object[]> afterRebuild = captor.getAllValues().get(1);
+        assertEquals(2, afterRebuild.size());
+        for (Object[] row : afterRebuild) {
+            assertEquals("COMPLETED", row[8]);
+            assertEquals(1L, row[0]);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.service.impl.RouteOptimizationJobServiceImpl;
+import com.sliit.smartbin.smartbin.service.routing.OptimizationJob;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import com.sliit.smartbin.smartbin.service.routing.TourOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RouteOptimizationJobServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RouteOptimizationJobServiceImpl Unit Tests")
+class RouteOptimizationJobServiceImplTest {
+
+    @Mock
+    private BinRepository binRepository;
+
+    @Mock
+    private RouteService routeService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private DepotService depotService;
+
+    @Mock
+    private RouteOptimizationPipeline blockingPipeline;
+
+    private RouteOptimizationJobServiceImpl jobService;
+    private User collector;
+    private User authority;
+    private List<Bin> bins;
+    private List<Long> binIds;
+
+    @BeforeEach
+    void setUp() {
+        collector = new User();
+        collector.setId(2L);
+        authority = new User();
+        authority.setId(1L);
+
+        Random random = new Random(3);
+        bins = new ArrayList<>();
+        binIds = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            Bin bin = new Bin();
+            bin.setId(id);
+            bin.setLatitude(6.9 + random.nextDouble() * 0.1);
+            bin.setLongitude(79.85 + random.nextDouble() * 0.1);
+            bins.add(bin);
+            binIds.add(id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jobService != null) {
+            jobService.shutdown();
+        }
+    }
+
+    private static void awaitFinished(OptimizationJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.getStatus().isFinished()) {
+            assertTrue(System.currentTimeMillis() < deadline, "job did not finish, status " + job.getStatus());
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Completed job should save the optimized route once and notify the collector")
+    void submit_shouldOptimizePersistAndNotify() throws InterruptedException {
+        // Given
+        jobService = new RouteOptimizationJobServiceImpl(binRepository, routeService, notificationService, depotService,
+                                                         new RouteOptimizationPipeline(500, 12), 1, 4, 60);
+        Route saved = new Route();
+        saved.setId(7L);
+        when(binRepository.findAllById(binIds)).thenReturn(bins);
+        when(depotService.resolveEnds(TourOptions.DEFAULT, bins)).thenReturn(RouteEnds.NONE);
+        when(routeService.saveOptimizedRoute(anyList(), eq(RouteEnds.NONE), any(OptimizedTour.class), eq(collector), eq(authority)))
+            .thenReturn(saved);
+
+        // When
+        OptimizationJob job = jobService.submit(binIds, collector, authority, RouteOptimizerType.LOCAL_SEARCH, TourOptions.DEFAULT);
+        awaitFinished(job);
+
+        // Then
+        assertEquals(OptimizationJob.Status.COMPLETED, job.getStatus());
+        assertEquals(7L, job.getRouteId());
+        assertEquals(1.0, job.getProgress());
+        assertTrue(job.getBestDistanceKm() <= job.getInitialDistanceKm());
+        assertSame(job, jobService.findJob(job.getId()).orElseThrow());
+        verify(routeService).saveOptimizedRoute(argThat(ordered -> ordered.size() == 30), eq(RouteEnds.NONE),
+                                                any(OptimizedTour.class), eq(collector), eq(authority));
+        verify(notificationService).sendRouteNotification(collector, saved);
+        assertFalse(jobService.cancel(job.getId()));
+    }
+
+    @Test
+    @DisplayName("Cancelled job should stop without writing a route")
+    void cancel_whileRunning_shouldNotPersist() throws InterruptedException {
+        // Given
+        jobService = new RouteOptimizationJobServiceImpl(binRepository, routeService, notificationService, depotService,
+                                                         blockingPipeline, 1, 4, 60);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(binRepository.findAllById(binIds)).thenReturn(bins);
+        when(depotService.resolveEnds(TourOptions.DEFAULT, bins)).thenReturn(RouteEnds.NONE);
+        when(blockingPipeline.optimize(any(), any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            int[] order = new int[bins.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            return new OptimizedTour(order, RouteOptimizerType.LOCAL_SEARCH, 10.0, 8.0, 5, false);
+        });
+
+        // When
+        OptimizationJob job = jobService.submit(binIds, collector, authority, RouteOptimizerType.LOCAL_SEARCH, TourOptions.DEFAULT);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(OptimizationJob.Status.RUNNING, job.getStatus());
+        assertTrue(jobService.cancel(job.getId()));
+        release.countDown();
+        awaitFinished(job);
+
+        // Then
+        assertEquals(OptimizationJob.Status.CANCELLED, job.getStatus());
+        verify(routeService, never()).saveOptimizedRoute(anyList(), any(), any(), any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("Should reject submissions beyond the pending limit")
+    void submit_whenFull_shouldReject() throws InterruptedException {
+        // Given
+        jobService = new RouteOptimizationJobServiceImpl(binRepository, routeService, notificationService, depotService,
+                                                         blockingPipeline, 1, 1, 60);
+        CountDownLatch release = new CountDownLatch(1);
+        when(binRepository.findAllById(binIds)).thenReturn(bins);
+        when(depotService.resolveEnds(TourOptions.DEFAULT, bins)).thenReturn(RouteEnds.NONE);
+        when(blockingPipeline.optimize(any(), any(), any(), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            throw new IllegalStateException("solver failed");
+        });
+
+        // When
+        OptimizationJob first = jobService.submit(binIds, collector, authority, RouteOptimizerType.TWO_OPT, TourOptions.DEFAULT);
+
+        // Then
+        assertThrows(RejectedExecutionException.class,
+                     () -> jobService.submit(binIds, collector, authority, RouteOptimizerType.TWO_OPT, TourOptions.DEFAULT));
+
+        release.countDown();
+        awaitFinished(first);
+        assertEquals(OptimizationJob.Status.FAILED, first.getStatus());
+        assertEquals("solver failed", first.getError());
+    }
+
+    @Test
+    @DisplayName("Unknown job ids should not be found or cancelled")
+    void findAndCancel_unknownJob() {
+        jobService = new RouteOptimizationJobServiceImpl(binRepository, routeService, notificationService, depotService,
+                                                         blockingPipeline, 1, 1, 60);
+
+        assertTrue(jobService.findJob("missing").isEmpty());
+        assertFalse(jobService.cancel("missing"));
+    }
+}
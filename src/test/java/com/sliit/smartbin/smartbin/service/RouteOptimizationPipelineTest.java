@@ -0,0 +1,223 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Depot;
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.OptimizedTour;
+import com.sliit.smartbin.smartbin.service.routing.RouteEnds;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizerType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the nearest-neighbour + local search route pipeline
+ */
+@DisplayName("RouteOptimizationPipeline Unit Tests")
+class RouteOptimizationPipelineTest {
+
+    private final RouteOptimizationPipeline pipeline = new RouteOptimizationPipeline(2000, 12);
+
+    private static DistanceMatrix randomInstance(int n, long seed) {
+        Random random = new Random(seed);
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        for (int i = 0; i < n; i++) {
+            lat[i] = 6.85 + random.nextDouble() * 0.15;
+            lng[i] = 79.85 + random.nextDouble() * 0.15;
+        }
+        return DistanceMatrix.fromCoordinates(lat, lng);
+    }
+
+    private static void assertPermutation(int[] tour, int n) {
+        int[] sorted = tour.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, sorted[i]);
+        }
+    }
+
+    /**
+     * Shortest open path by exhaustive search (small n only)
+     */
+    private static double bruteForce(DistanceMatrix distances) {
+        int n = distances.size();
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        double[] best = {Double.MAX_VALUE};
+        permute(order, 0, distances, best);
+        return best[0];
+    }
+
+    private static void permute(int[] order, int k, DistanceMatrix distances, double[] best) {
+        if (k == order.length) {
+            best[0] = Math.min(best[0], distances.pathLength(order));
+            return;
+        }
+        for (int i = k; i < order.length; i++) {
+            int tmp = order[k]; order[k] = order[i]; order[i] = tmp;
+            permute(order, k + 1, distances, best);
+            tmp = order[k]; order[k] = order[i]; order[i] = tmp;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RouteOptimizerType.class)
+    @DisplayName("Every optimizer should return a permutation no longer than the seed")
+    void optimize_shouldNeverBeWorseThanSeed(RouteOptimizerType optimizer) {
+        DistanceMatrix distances = randomInstance(120, 1);
+
+        OptimizedTour result = pipeline.optimize(distances, optimizer);
+
+        assertPermutation(result.order(), 120);
+        assertEquals(distances.pathLength(result.order()), result.finalDistanceKm(), 1e-9);
+        assertTrue(result.finalDistanceKm() <= result.initialDistanceKm() + 1e-9);
+        assertEquals(optimizer, result.optimizer());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RouteOptimizerType.class)
+    @DisplayName("Every optimizer should keep the start and end depots fixed")
+    void optimize_withDepots_shouldKeepAnchors(RouteOptimizerType optimizer) {
+        Random random = new Random(4);
+        List<Bin> bins = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            Bin bin = new Bin();
+            bin.setId(id);
+            bin.setLatitude(6.85 + random.nextDouble() * 0.15);
+            bin.setLongitude(79.85 + random.nextDouble() * 0.15);
+            bins.add(bin);
+        }
+        Depot yard = new Depot();
+        yard.setLatitude(6.95);
+        yard.setLongitude(79.80);
+        Depot landfill = new Depot();
+        landfill.setLatitude(6.80);
+        landfill.setLongitude(79.95);
+
+        for (RouteEnds ends : List.of(new RouteEnds(yard, yard), new RouteEnds(yard, landfill), new RouteEnds(yard, null))) {
+            for (int size : new int[] {8, 60}) {
+                DistanceMatrix distances = DistanceMatrix.forRoute(ends, bins.subList(0, size));
+
+                OptimizedTour result = pipeline.optimize(distances, optimizer);
+
+                int n = distances.size();
+                assertPermutation(result.order(), n);
+                assertEquals(0, result.order()[0]);
+                if (ends.hasEnd()) {
+                    assertEquals(n - 1, result.order()[n - 1]);
+                }
+                assertEquals(distances.pathLength(result.order()), result.finalDistanceKm(), 1e-9);
+                assertTrue(result.finalDistanceKm() <= result.initialDistanceKm() + 1e-9);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Local search should clearly beat the greedy seed on larger routes")
+    void optimize_localSearch_shouldShortenGreedyRoutes() {
+        double totalSeed = 0;
+        double totalFinal = 0;
+        for (long seed = 1; seed <= 5; seed++) {
+            OptimizedTour result = pipeline.optimize(randomInstance(200, seed), RouteOptimizerType.LOCAL_SEARCH);
+            totalSeed += result.initialDistanceKm();
+            totalFinal += result.finalDistanceKm();
+        }
+        assertTrue(totalFinal < totalSeed * 0.92, "expected at least 8% shorter, got " + totalFinal / totalSeed);
+    }
+
+    @Test
+    @DisplayName("Local search should find the optimum on small routes")
+    void optimize_localSearch_shouldBeNearOptimalOnSmallRoutes() {
+        RouteOptimizationPipeline heuristicOnly = new RouteOptimizationPipeline(2000, 0);
+        for (long seed = 1; seed <= 10; seed++) {
+            DistanceMatrix distances = randomInstance(8, seed);
+
+            OptimizedTour result = heuristicOnly.optimize(distances, RouteOptimizerType.LOCAL_SEARCH);
+
+            assertFalse(result.exact());
+            assertEquals(bruteForce(distances), result.finalDistanceKm(), bruteForce(distances) * 0.05, "seed " + seed);
+        }
+    }
+
+    @Test
+    @DisplayName("Should solve routes up to the exact threshold optimally and fall back above it")
+    void optimize_shouldPickExactSolverBySize() {
+        RouteOptimizationPipeline heuristicOnly = new RouteOptimizationPipeline(2000, 0);
+        for (long seed = 1; seed <= 5; seed++) {
+            DistanceMatrix small = randomInstance(9, seed);
+
+            OptimizedTour result = pipeline.optimize(small, RouteOptimizerType.TWO_OPT);
+
+            assertTrue(result.exact());
+            assertEquals(bruteForce(small), result.finalDistanceKm(), 1e-9, "seed " + seed);
+            assertTrue(result.finalDistanceKm()
+                       <= heuristicOnly.optimize(small, RouteOptimizerType.LOCAL_SEARCH).finalDistanceKm() + 1e-9);
+            assertTrue(result.describe().startsWith("Route optimized using Held-Karp (exact)"));
+        }
+
+        assertTrue(pipeline.optimize(randomInstance(12, 1), RouteOptimizerType.LOCAL_SEARCH).exact());
+        assertFalse(pipeline.optimize(randomInstance(13, 1), RouteOptimizerType.LOCAL_SEARCH).exact());
+        assertFalse(pipeline.optimize(randomInstance(9, 1), RouteOptimizerType.NEAREST_NEIGHBOR).exact());
+    }
+
+    @Test
+    @DisplayName("Should reject an exact threshold beyond the solver limit")
+    void constructor_withHugeExactThreshold_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new RouteOptimizationPipeline(2000, 19));
+    }
+
+    @Test
+    @DisplayName("Should stop at the time budget and still return a valid route")
+    void optimize_withTinyBudget_shouldStopEarly() {
+        RouteOptimizationPipeline hurried = new RouteOptimizationPipeline(1, 12);
+        DistanceMatrix distances = randomInstance(1500, 3);
+
+        OptimizedTour result = hurried.optimize(distances, RouteOptimizerType.LOCAL_SEARCH);
+
+        assertTrue(result.budgetExhausted());
+        assertPermutation(result.order(), 1500);
+    }
+
+    @Test
+    @DisplayName("Should handle single-bin and two-bin routes")
+    void optimize_withTinyRoutes_shouldReturnTrivialOrder() {
+        DistanceMatrix single = DistanceMatrix.fromCoordinates(new double[] {6.9}, new double[] {79.9});
+        assertArrayEquals(new int[] {0}, pipeline.optimize(single, RouteOptimizerType.LOCAL_SEARCH).order());
+
+        DistanceMatrix pair = DistanceMatrix.fromCoordinates(new double[] {6.9, 7.0}, new double[] {79.9, 79.9});
+        OptimizedTour result = pipeline.optimize(pair, RouteOptimizerType.LOCAL_SEARCH);
+        assertEquals(pair.distance(0, 1), result.finalDistanceKm());
+        assertPermutation(result.order(), 2);
+    }
+
+    @Test
+    @DisplayName("Notes should name the optimizer and both distances")
+    void describe_shouldSummariseRun() {
+        OptimizedTour tour = new OptimizedTour(new int[] {0, 1}, RouteOptimizerType.LOCAL_SEARCH, 12.0, 10.2, 15, false);
+
+        assertEquals("Route optimized using Nearest Neighbor + 2-opt + Or-opt: 12.00 km -> 10.20 km (15.0% shorter) in 15 ms",
+                     tour.describe());
+    }
+
+    @Test
+    @DisplayName("Should parse optimizer names from requests")
+    void fromString_shouldAcceptRequestSpellings() {
+        assertEquals(RouteOptimizerType.DEFAULT, RouteOptimizerType.fromString(null));
+        assertEquals(RouteOptimizerType.DEFAULT, RouteOptimizerType.fromString(" "));
+        assertEquals(RouteOptimizerType.TWO_OPT, RouteOptimizerType.fromString("two-opt"));
+        assertEquals(RouteOptimizerType.NEAREST_NEIGHBOR, RouteOptimizerType.fromString("nearest_neighbor"));
+        assertThrows(IllegalArgumentException.class, () -> RouteOptimizerType.fromString("simulated-annealing"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.service.routing.DistanceMatrix;
+import com.sliit.smartbin.smartbin.service.routing.RouteRepairPlanner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for incremental re-sequencing of live routes
+ */
+@DisplayName("RouteRepairPlanner Unit Tests")
+class RouteRepairPlannerTest {
+
+    private final RouteRepairPlanner planner = new RouteRepairPlanner(50);
+
+    private static void assertPermutation(int[] tour, int n) {
+        int[] sorted = tour.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, sorted[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Should insert a new stop at its cheapest position on a straight route")
+    void repair_shouldInsertAtCheapestPosition() {
+        // Given: position 0, pending stops 1..3 along a line, new stop 4 between 2 and 3, end depot 5
+        double[] lat = {6.90, 6.91, 6.92, 6.94, 6.93, 6.95};
+        double[] lng = {79.90, 79.90, 79.90, 79.90, 79.90, 79.90};
+        DistanceMatrix distances = DistanceMatrix.fromCoordinates(lat, lng).withAnchors(true, true);
+
+        // When
+        int[] tour = planner.repair(distances, 3);
+
+        // Then
+        assertArrayEquals(new int[] {0, 1, 2, 4, 3, 5}, tour);
+    }
+
+    @Test
+    @DisplayName("Should keep anchors fixed and never lengthen the route beyond cheapest insertion")
+    void repair_shouldKeepAnchorsAndImprove() {
+        Random random = new Random(9);
+        for (boolean fixedEnd : new boolean[] {true, false}) {
+            int pending = 150;
+            int added = 5;
+            int n = 1 + pending + added + (fixedEnd ? 1 : 0);
+            double[] lat = new double[n];
+            double[] lng = new double[n];
+            for (int i = 0; i < n; i++) {
+                lat[i] = 6.85 + random.nextDouble() * 0.15;
+                lng[i] = 79.85 + random.nextDouble() * 0.15;
+            }
+            DistanceMatrix distances = DistanceMatrix.fromCoordinates(lat, lng).withAnchors(true, fixedEnd);
+
+            int[] tour = planner.repair(distances, pending);
+
+            assertPermutation(tour, n);
+            assertEquals(0, tour[0]);
+            if (fixedEnd) {
+                assertEquals(n - 1, tour[n - 1]);
+            }
+            // Appending the new stops after the old order is one valid (and usually poor) repair
+            int[] appended = new int[n];
+            for (int i = 0; i < n; i++) {
+                appended[i] = i;
+            }
+            assertTrue(distances.pathLength(tour) <= distances.pathLength(appended) + 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle routes with nothing left but new stops")
+    void repair_withOnlyNewStops_shouldReturnThem() {
+        DistanceMatrix distances = DistanceMatrix.fromCoordinates(new double[] {6.9, 6.95}, new double[] {79.9, 79.9})
+            .withAnchors(true, false);
+
+        assertArrayEquals(new int[] {0, 1}, planner.repair(distances, 0));
+        assertThrows(IllegalArgumentException.class, () -> planner.repair(distances, 2));
+    }
+}
@@ -0,0 +1,385 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.RouteDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.model.Route;
+import com.sliit.smartbin.smartbin.model.RouteBin;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.repository.RouteBinRepository;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.service.impl.DepotServiceImpl;
+import com.sliit.smartbin.smartbin.service.impl.RollupServiceImpl;
+import com.sliit.smartbin.smartbin.service.impl.RouteServiceImpl;
+import com.sliit.smartbin.smartbin.service.routing.FleetRoutePlanner;
+import com.sliit.smartbin.smartbin.service.routing.RouteOptimizationPipeline;
+import com.sliit.smartbin.smartbin.service.routing.RouteRepairPlanner;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of JDBC statements RouteServiceImpl issues when persisting a route,
+ * so per-bin lookups or per-row inserts cannot creep back in
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({RouteServiceImpl.class, DepotServiceImpl.class, RouteOptimizationPipeline.class, FleetRoutePlanner.class,
+         RouteRepairPlanner.class, RollupServiceImpl.class, RouteServiceImplQueryCountTest.StatementCountingConfig.class})
+@DisplayName("RouteServiceImpl statement budget")
+class RouteServiceImplQueryCountTest {
+
+    private static final int ROUTE_SIZE = 300;
+
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    @Autowired
+    private RouteService routeService;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RouteBinRepository routeBinRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User collector;
+    private User authority;
+    private List<Long> binIds;
+
+    @BeforeEach
+    void setUp() {
+        collector = userRepository.save(user("collector@smartbin.com", User.UserRole.COLLECTOR));
+        authority = userRepository.save(user("authority@smartbin.com", User.UserRole.AUTHORITY));
+
+        Random random = new Random(42);
+        List<Bin> bins = new ArrayList<>();
+        for (int i = 0; i < ROUTE_SIZE; i++) {
+            Bin bin = new Bin();
+            bin.setQrCode("QR-COUNT-" + i);
+            bin.setLocation("Location " + i);
+            bin.setLatitude(6.85 + random.nextDouble() * 0.15);
+            bin.setLongitude(79.85 + random.nextDouble() * 0.15);
+            bin.setBinType(Bin.BinType.STANDARD);
+            bin.setStatus(Bin.BinStatus.FULL);
+            bin.setFillLevel(95);
+            bins.add(bin);
+        }
+        binIds = binRepository.saveAll(bins).stream().map(Bin::getId).toList();
+
+        entityManager.flush();
+        entityManager.clear();
+        STATEMENTS.set(0);
+    }
+
+    private static User user(String email, User.UserRole role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email);
+        user.setPassword("x");
+        user.setPhone("+94 770000000");
+        user.setRole(role);
+        return user;
+    }
+
+    @Test
+    @DisplayName("optimizeRoute should persist a 300-bin route in four statements")
+    void optimizeRoute_shouldUseConstantStatements() {
+        // When
+        Route route = routeService.optimizeRoute(binIds, collector, authority);
+        entityManager.flush();
+
+        // Then: bin SELECT, nearest-yard SELECT, route INSERT, one route_bins batch
+        assertEquals(4, STATEMENTS.get());
+        assertRouteBins(route.getId());
+    }
+
+    @Test
+    @DisplayName("createRoute should persist a 300-bin route in five statements")
+    void createRoute_shouldUseConstantStatements() {
+        // Given
+        RouteDTO dto = new RouteDTO();
+        dto.setRouteName("Manual route");
+        dto.setCollectorId(collector.getId());
+        dto.setAuthorityId(authority.getId());
+        dto.setBinIds(binIds);
+
+        // When
+        Route route = routeService.createRoute(dto);
+        entityManager.flush();
+
+        // Then: two user SELECTs, route INSERT, bin SELECT, one route_bins batch
+        assertEquals(5, STATEMENTS.get());
+        assertRouteBins(route.getId());
+    }
+
+    @Test
+    @DisplayName("createRoute should keep the caller's bin order")
+    void createRoute_shouldKeepRequestedOrder() {
+        // Given
+        List<Long> reversed = new ArrayList<>(binIds.subList(0, 5));
+        java.util.Collections.reverse(reversed);
+        RouteDTO dto = new RouteDTO();
+        dto.setRouteName("Ordered route");
+        dto.setCollectorId(collector.getId());
+        dto.setAuthorityId(authority.getId());
+        dto.setBinIds(reversed);
+
+        // When
+        Route route = routeService.createRoute(dto);
+
+        // Then
+        List<Long> stored = routeBinRepository.findByRouteIdOrderBySequence(route.getId()).stream()
+            .map(rb -> rb.getBin().getId())
+            .toList();
+        assertEquals(reversed, stored);
+    }
+
+    @Test
+    @DisplayName("repairRoute should re-sequence pending stops in a constant number of statements")
+    void repairRoute_shouldUseConstantStatements() {
+        // Given: a route over all but the last two bins, two stops already collected
+        RouteDTO dto = new RouteDTO();
+        dto.setRouteName("Live route");
+        dto.setCollectorId(collector.getId());
+        dto.setAuthorityId(authority.getId());
+        dto.setBinIds(binIds.subList(0, ROUTE_SIZE - 2));
+        Long routeId = routeService.createRoute(dto).getId();
+        routeService.repairRoute(routeId, List.of(), List.of(), List.of(binIds.get(0), binIds.get(1)));
+        entityManager.flush();
+        entityManager.clear();
+        Map<Long, Integer> sequenceBefore = sequenceByBin(routeId);
+        STATEMENTS.set(0);
+
+        // When: two newly full bins, one skip, one more collection
+        Route route = routeService.repairRoute(routeId, binIds.subList(ROUTE_SIZE - 2, ROUTE_SIZE),
+                                               List.of(binIds.get(5)), List.of(binIds.get(2)));
+        entityManager.flush();
+
+        // Then: route SELECT, stops SELECT, added bin SELECT, one UPDATE batch, one INSERT batch, route UPDATE
+        assertEquals(6, STATEMENTS.get());
+        assertTrue(route.getTotalDistanceKm() > 0);
+
+        entityManager.clear();
+        List<RouteBin> stored = routeBinRepository.findByRouteIdOrderBySequence(routeId);
+        assertEquals(ROUTE_SIZE, stored.size());
+        Map<Long, RouteBin> byBin = new HashMap<>();
+        stored.forEach(rb -> byBin.put(rb.getBin().getId(), rb));
+        for (int i : new int[] {0, 1, 2}) {
+            assertEquals(RouteBin.CollectionStatus.COMPLETED, byBin.get(binIds.get(i)).getStatus());
+        }
+        assertEquals(RouteBin.CollectionStatus.SKIPPED, byBin.get(binIds.get(5)).getStatus());
+
+        // Visited and skipped stops keep their numbers; pending ones, old and new, follow them contiguously
+        int lastClosed = 0;
+        for (int i : new int[] {0, 1, 2, 5}) {
+            assertEquals(sequenceBefore.get(binIds.get(i)), byBin.get(binIds.get(i)).getSequenceOrder());
+            lastClosed = Math.max(lastClosed, byBin.get(binIds.get(i)).getSequenceOrder());
+        }
+        List<RouteBin> pending = stored.stream().filter(rb -> rb.getStatus() == RouteBin.CollectionStatus.PENDING).toList();
+        assertEquals(ROUTE_SIZE - 4, pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            assertEquals(lastClosed + 1 + i, pending.get(i).getSequenceOrder());
+        }
+        assertTrue(byBin.containsKey(binIds.get(ROUTE_SIZE - 1)));
+    }
+
+    @Test
+    @DisplayName("repairRoute should reject bins that are not pending on the route")
+    void repairRoute_withUnknownStop_shouldThrow() {
+        // Given
+        RouteDTO dto = new RouteDTO();
+        dto.setRouteName("Live route");
+        dto.setCollectorId(collector.getId());
+        dto.setAuthorityId(authority.getId());
+        dto.setBinIds(binIds.subList(0, 10));
+        Long routeId = routeService.createRoute(dto).getId();
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+            () -> routeService.repairRoute(routeId, List.of(), List.of(binIds.get(20)), List.of()));
+    }
+
+    @Test
+    @DisplayName("getRouteStatuses should read every route and stop in one statement")
+    void getRouteStatuses_shouldUseOneStatement() {
+        // Given: two routes, one of them repaired after a collection
+        for (int r = 0; r < 2; r++) {
+            RouteDTO dto = new RouteDTO();
+            dto.setRouteName("Status route " + r);
+            dto.setCollectorId(collector.getId());
+            dto.setAuthorityId(authority.getId());
+            dto.setBinIds(binIds.subList(r * 50, r * 50 + 50));
+            Long routeId = routeService.createRoute(dto).getId();
+            if (r == 1) {
+                routeService.repairRoute(routeId, List.of(binIds.get(200)), List.of(), List.of(binIds.get(50)));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        STATEMENTS.set(0);
+
+        // When
+        List<Map<String, Object>> statuses = routeService.getRouteStatuses(collector.getId());
+
+        // Then
+        assertEquals(1, STATEMENTS.get());
+        assertEquals(2, statuses.size());
+        assertEquals(List.of(50, 51), statuses.stream().map(s -> s.get("totalBins")).toList());
+        for (Map<String, Object> status : statuses) {
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> stops = (List<Map<String, Object>>) status.get("routeBins");
+            for (int i = 0; i < stops.size(); i++) {
+                assertEquals(i + 1, stops.get(i).get("sequenceOrder"));
+            }
+            assertEquals(0.0, stops.get(stops.size() - 1).get("distanceToNext"));
+        }
+        assertTrue(routeBinRepository.findAll().stream().allMatch(rb -> rb.getDistanceToNextKm() != null));
+    }
+
+    @Test
+    @DisplayName("getRouteStatuses should compute distances for stops stored without one")
+    void getRouteStatuses_withoutStoredDistance_shouldFallBack() {
+        // Given
+        RouteDTO dto = new RouteDTO();
+        dto.setRouteName("Legacy route");
+        dto.setCollectorId(collector.getId());
+        dto.setAuthorityId(authority.getId());
+        dto.setBinIds(binIds.subList(0, 3));
+        Long routeId = routeService.createRoute(dto).getId();
+        entityManager.flush();
+        Map<Integer, Double> stored = new HashMap<>();
+        for (RouteBin rb : routeBinRepository.findByRouteIdOrderBySequence(routeId)) {
+            stored.put(rb.getSequenceOrder(), Math.round(rb.getDistanceToNextKm() * 10.0) / 10.0);
+            rb.setDistanceToNextKm(null);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> stops =
+            (List<Map<String, Object>>) routeService.getRouteStatuses(collector.getId()).get(0).get("routeBins");
+
+        // Then
+        for (Map<String, Object> stop : stops) {
+            assertEquals(stored.get((Integer) stop.get("sequenceOrder")), stop.get("distanceToNext"));
+        }
+    }
+
+    @Test
+    @DisplayName("getRouteStatusVersion should take one statement and change only when a stop does")
+    void getRouteStatusVersion_shouldTrackStopChanges() {
+        // Given
+        RouteDTO dto = new RouteDTO();
+        dto.setRouteName("Versioned route");
+        dto.setCollectorId(collector.getId());
+        dto.setAuthorityId(authority.getId());
+        dto.setBinIds(binIds.subList(0, 10));
+        Long routeId = routeService.createRoute(dto).getId();
+        entityManager.flush();
+        entityManager.clear();
+        STATEMENTS.set(0);
+
+        // When
+        String first = routeService.getRouteStatusVersion(collector.getId());
+        String unchanged = routeService.getRouteStatusVersion(collector.getId());
+
+        // Then
+        assertEquals(2, STATEMENTS.get());
+        assertEquals(first, unchanged);
+
+        // When: the collector skips a stop
+        routeService.repairRoute(routeId, List.of(), List.of(binIds.get(3)), List.of());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertNotEquals(first, routeService.getRouteStatusVersion(collector.getId()));
+    }
+
+    private Map<Long, Integer> sequenceByBin(Long routeId) {
+        Map<Long, Integer> sequences = new HashMap<>();
+        routeBinRepository.findByRouteIdOrderBySequence(routeId)
+            .forEach(rb -> sequences.put(rb.getBin().getId(), rb.getSequenceOrder()));
+        return sequences;
+    }
+
+    private void assertRouteBins(Long routeId) {
+        List<RouteBin> stored = routeBinRepository.findByRouteIdOrderBySequence(routeId);
+        assertEquals(ROUTE_SIZE, stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            assertEquals(i + 1, stored.get(i).getSequenceOrder());
+            assertEquals(RouteBin.CollectionStatus.PENDING, stored.get(i).getStatus());
+            assertNotNull(stored.get(i).getCreatedAt());
+        }
+    }
+
+    /**
+     * Wraps the DataSource so every statement execution (a batch counts once) bumps STATEMENTS
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+        @Bean
+        static BeanPostProcessor statementCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T wrap(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection connection) {
+                    return wrap(connection, Connection.class);
+                }
+                if (result instanceof Statement statement) {
+                    return wrap(statement, (Class<Statement>) method.getReturnType());
+                }
+                if (target instanceof Statement && EXECUTE_METHODS.contains(method.getName())) {
+                    STATEMENTS.incrementAndGet();
+                }
+                return result;
+            });
+        }
+    }
+}
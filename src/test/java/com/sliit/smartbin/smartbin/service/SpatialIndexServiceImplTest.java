@@ -0,0 +1,164 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.service.impl.SpatialIndexServiceImpl;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SpatialIndexServiceImpl, checked against brute-force Haversine scans
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpatialIndexServiceImpl Unit Tests")
+class SpatialIndexServiceImplTest {
+
+    private static final double CENTRE_LAT = 6.9271;
+    private static final double CENTRE_LNG = 79.8612;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SpatialIndexServiceImpl spatialIndex;
+    private List<Bin> bins;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        bins = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            bins.add(bin(id, CENTRE_LAT + (random.nextDouble() - 0.5) * 0.6,
+                             CENTRE_LNG + (random.nextDouble() - 0.5) * 0.6));
+        }
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Bin>>any())).thenReturn(bins);
+        spatialIndex = new SpatialIndexServiceImpl(jdbcTemplate, 0.02);
+        spatialIndex.rebuild();
+    }
+
+    private static Bin bin(Long id, double lat, double lng) {
+        Bin bin = new Bin();
+        bin.setId(id);
+        bin.setQrCode("QR" + id);
+        bin.setLatitude(lat);
+        bin.setLongitude(lng);
+        bin.setFillLevel(0);
+        bin.setStatus(Bin.BinStatus.EMPTY);
+        return bin;
+    }
+
+    private List<Long> bruteForceOrder(double lat, double lng) {
+        return bins.stream()
+            .sorted(Comparator.comparingDouble(b -> GeoUtils.haversineKm(lat, lng, b.getLatitude(), b.getLongitude())))
+            .map(Bin::getId)
+            .toList();
+    }
+
+    @Test
+    @DisplayName("Should not be ready before the first build")
+    void isReady_beforeBuild_shouldBeFalse() {
+        assertFalse(new SpatialIndexServiceImpl(jdbcTemplate, 0.02).isReady());
+        assertTrue(spatialIndex.isReady());
+    }
+
+    @Test
+    @DisplayName("Radius query should match a brute-force Haversine scan exactly")
+    void findWithinRadius_shouldMatchBruteForce() {
+        for (double radius : new double[] {0.5, 2.0, 5.0, 15.0, 100.0}) {
+            List<Long> expected = bins.stream()
+                .filter(b -> GeoUtils.haversineKm(CENTRE_LAT, CENTRE_LNG, b.getLatitude(), b.getLongitude()) <= radius)
+                .sorted(Comparator.comparingDouble(b -> GeoUtils.haversineKm(CENTRE_LAT, CENTRE_LNG, b.getLatitude(), b.getLongitude())))
+                .map(Bin::getId)
+                .toList();
+
+            List<Long> actual = spatialIndex.findWithinRadius(CENTRE_LAT, CENTRE_LNG, radius).stream()
+                .map(Bin::getId)
+                .toList();
+
+            assertEquals(expected, actual, "radius " + radius);
+        }
+    }
+
+    @Test
+    @DisplayName("k-nearest query should match a brute-force ordering")
+    void findNearest_shouldMatchBruteForce() {
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            double lat = CENTRE_LAT + (random.nextDouble() - 0.5);
+            double lng = CENTRE_LNG + (random.nextDouble() - 0.5);
+            int k = 1 + random.nextInt(25);
+
+            List<Long> expected = bruteForceOrder(lat, lng).subList(0, k);
+            List<Long> actual = spatialIndex.findNearest(lat, lng, k).stream().map(Bin::getId).toList();
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("k larger than the index should return every bin")
+    void findNearest_withLargeK_shouldReturnAll() {
+        assertEquals(500, spatialIndex.findNearest(CENTRE_LAT, CENTRE_LNG, 1000).size());
+    }
+
+    @Test
+    @DisplayName("Index and remove should update query results")
+    void indexAndRemove_shouldKeepIndexInSync() {
+        // Given
+        Bin added = bin(9999L, CENTRE_LAT, CENTRE_LNG);
+
+        // When
+        spatialIndex.index(added);
+
+        // Then
+        assertEquals(9999L, spatialIndex.findNearest(CENTRE_LAT, CENTRE_LNG, 1).get(0).getId());
+
+        // When: move it far away
+        spatialIndex.index(bin(9999L, 7.2906, 80.6337));
+
+        // Then
+        assertNotEquals(9999L, spatialIndex.findNearest(CENTRE_LAT, CENTRE_LNG, 1).get(0).getId());
+        assertEquals(9999L, spatialIndex.findNearest(7.2906, 80.6337, 1).get(0).getId());
+
+        // When
+        spatialIndex.remove(9999L);
+
+        // Then
+        assertTrue(spatialIndex.findWithinRadius(7.2906, 80.6337, 1.0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Changes committed while a rebuild is loading should survive the swap")
+    void rebuild_shouldReplayChangesMadeDuringLoad() {
+        // Given: the load returns the old rows while a bin is added and another removed
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Bin>>any())).thenAnswer(invocation -> {
+            spatialIndex.index(bin(9999L, CENTRE_LAT, CENTRE_LNG));
+            spatialIndex.remove(1L);
+            return bins;
+        });
+
+        // When
+        spatialIndex.rebuild();
+
+        // Then
+        assertEquals(9999L, spatialIndex.findNearest(CENTRE_LAT, CENTRE_LNG, 1).get(0).getId());
+        assertTrue(spatialIndex.findNearest(CENTRE_LAT, CENTRE_LNG, 1000).stream().noneMatch(b -> b.getId() == 1L));
+        assertEquals(500, spatialIndex.findNearest(CENTRE_LAT, CENTRE_LNG, 1000).size());
+    }
+}
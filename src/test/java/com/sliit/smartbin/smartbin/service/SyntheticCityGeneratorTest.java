@@ -0,0 +1,117 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.service.synthetic.SyntheticCityConfig;
+import com.sliit.smartbin.smartbin.service.synthetic.SyntheticCityGenerator;
+import com.sliit.smartbin.smartbin.service.synthetic.SyntheticCitySummary;
+import com.sliit.smartbin.smartbin.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the generator against the embedded H2 database.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@DisplayName("SyntheticCityGenerator")
+class SyntheticCityGeneratorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SyntheticCityGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SyntheticCityGenerator(jdbcTemplate);
+    }
+
+    private static SyntheticCityConfig config(long seed, String prefix) {
+        // Small batches so several flushes happen per table
+        return new SyntheticCityConfig(seed, prefix, 400, 4, 300, 60, 500, 10, 12, 64, NOW);
+    }
+
+    @Test
+    @DisplayName("Should write the configured number of rows with valid foreign keys")
+    void generateWritesConfiguredCounts() {
+        SyntheticCitySummary summary = generator.generate(config(7, "syntest"));
+
+        assertEquals(1 + 4 + 300, summary.users());
+        assertEquals(400, count("SELECT COUNT(*) FROM bins WHERE qr_code LIKE 'syntest-%'"));
+        assertEquals(305, count("SELECT COUNT(*) FROM users WHERE email LIKE 'syntest.%'"));
+        assertEquals(60, count("SELECT COUNT(*) FROM bulk_requests WHERE request_id LIKE 'syntest-%'"));
+        assertEquals(10, count("SELECT COUNT(*) FROM routes WHERE route_name LIKE 'syntest-%'"));
+        assertEquals(120, summary.routeBins());
+        assertEquals(120, count("SELECT COUNT(*) FROM route_bins rb JOIN routes r ON r.id = rb.route_id " +
+                                "WHERE r.route_name LIKE 'syntest-%'"));
+        assertEquals(500, count("SELECT COUNT(*) FROM collections c JOIN bins b ON b.id = c.bin_id " +
+                                "JOIN users u ON u.id = c.collector_id " +
+                                "WHERE b.qr_code LIKE 'syntest-%' AND u.role = 'COLLECTOR'"));
+        // No route visits the same bin twice
+        assertEquals(0, count("SELECT COUNT(*) FROM (SELECT route_id, bin_id FROM route_bins " +
+                              "GROUP BY route_id, bin_id HAVING COUNT(*) > 1) dup"));
+        assertTrue(generator.exists(config(7, "syntest")));
+        assertFalse(generator.exists(config(7, "other")));
+    }
+
+    @Test
+    @DisplayName("Same seed should give the same data, a different seed different data")
+    void generateIsReproducible() {
+        SyntheticCitySummary first = generator.generate(config(11, "syna"));
+        SyntheticCitySummary second = generator.generate(config(11, "synb"));
+        SyntheticCitySummary other = generator.generate(config(12, "sync"));
+
+        assertEquals(first.fingerprint(), second.fingerprint());
+        assertNotEquals(first.fingerprint(), other.fingerprint());
+        assertEquals(binCoordinates("syna"), binCoordinates("synb"));
+        assertNotEquals(binCoordinates("syna"), binCoordinates("sync"));
+    }
+
+    @Test
+    @DisplayName("Bins should cluster around the city centres")
+    void binsAreClusteredAroundCities() {
+        generator.generate(config(3, "syngeo"));
+
+        List<double[]> bins = jdbcTemplate.query(
+            "SELECT latitude, longitude FROM bins WHERE qr_code LIKE 'syngeo-%'",
+            (rs, i) -> new double[] {rs.getDouble(1), rs.getDouble(2)});
+        long nearCity = bins.stream().filter(bin -> nearestCityKm(bin) < 25.0).count();
+        long nearColombo = bins.stream()
+            .filter(bin -> GeoUtils.haversineKm(bin[0], bin[1], 6.9271, 79.8612) < 25.0).count();
+
+        assertTrue(nearCity >= bins.size() * 0.95, "Most bins should be within 25 km of a city centre");
+        // Colombo carries the largest weight
+        assertTrue(nearColombo > bins.size() * 0.3, "Colombo should hold the biggest cluster");
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private List<String> binCoordinates(String prefix) {
+        return jdbcTemplate.queryForList(
+            "SELECT CONCAT(latitude, ',', longitude, ',', fill_level, ',', bin_type) FROM bins " +
+            "WHERE qr_code LIKE ? ORDER BY id", String.class, prefix + "-%");
+    }
+
+    private static double nearestCityKm(double[] point) {
+        double[][] centres = {
+            {6.9271, 79.8612}, {7.2906, 80.6337}, {6.0535, 80.2210},
+            {7.2083, 79.8358}, {7.4863, 80.3647}, {9.6615, 80.0255}
+        };
+        double best = Double.MAX_VALUE;
+        for (double[] centre : centres) {
+            best = Math.min(best, GeoUtils.haversineKm(point[0], point[1], centre[0], centre[1]));
+        }
+        return best;
+    }
+}
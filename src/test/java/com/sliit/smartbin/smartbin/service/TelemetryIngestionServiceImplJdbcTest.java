@@ -0,0 +1,99 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.FillLevelIngestResultDTO;
+import com.sliit.smartbin.smartbin.dto.FillLevelReadingDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.service.impl.RollupServiceImpl;
+import com.sliit.smartbin.smartbin.service.impl.TelemetryIngestionServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the stale-reading guard of TelemetryIngestionServiceImpl against a real database
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({TelemetryIngestionServiceImpl.class, RollupServiceImpl.class})
+@DisplayName("TelemetryIngestionServiceImpl stale-reading guard")
+class TelemetryIngestionServiceImplJdbcTest {
+
+    @Autowired
+    private TelemetryIngestionService telemetryService;
+
+    @Autowired
+    private BinRepository binRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long binId;
+
+    @BeforeEach
+    void setUp() {
+        Bin bin = new Bin();
+        bin.setQrCode("QR-TELEMETRY");
+        bin.setLocation("Main St, Colombo 03");
+        bin.setLatitude(6.9);
+        bin.setLongitude(79.86);
+        bin.setBinType(Bin.BinType.STANDARD);
+        bin.setStatus(Bin.BinStatus.EMPTY);
+        bin.setFillLevel(20);
+        binId = binRepository.save(bin).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should apply a late reading when only a non-telemetry update happened since it was observed")
+    void ingestFillLevels_afterNonTelemetryUpdate_shouldApply() {
+        // Given: the sensor observes, then an edit bumps updated_at before the reading arrives
+        LocalDateTime observedAt = LocalDateTime.now().minusMinutes(2).truncatedTo(ChronoUnit.SECONDS);
+        Bin bin = binRepository.findById(binId).orElseThrow();
+        bin.setAlertFlag(true);
+        binRepository.save(bin);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        FillLevelIngestResultDTO result = telemetryService.ingestFillLevels(
+            List.of(new FillLevelReadingDTO(binId, null, 95, observedAt)));
+        entityManager.clear();
+
+        // Then
+        assertEquals(1, result.getAccepted());
+        Bin stored = binRepository.findById(binId).orElseThrow();
+        assertEquals(95, stored.getFillLevel());
+        assertEquals(Bin.BinStatus.FULL, stored.getStatus());
+        assertEquals(observedAt, stored.getLastReadingAt());
+        assertTrue(stored.getUpdatedAt().isAfter(observedAt));
+    }
+
+    @Test
+    @DisplayName("Should reject a reading observed before the last applied one")
+    void ingestFillLevels_olderThanLastReading_shouldReject() {
+        // Given
+        LocalDateTime observedAt = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+        telemetryService.ingestFillLevels(List.of(new FillLevelReadingDTO(binId, null, 60, observedAt)));
+
+        // When
+        FillLevelIngestResultDTO result = telemetryService.ingestFillLevels(
+            List.of(new FillLevelReadingDTO(binId, null, 10, observedAt.minusMinutes(5))));
+        entityManager.clear();
+
+        // Then
+        assertEquals(0, result.getAccepted());
+        assertEquals("Bin has newer data than this reading", result.getResults().get(0).getReason());
+        assertEquals(60, binRepository.findById(binId).orElseThrow().getFillLevel());
+    }
+}
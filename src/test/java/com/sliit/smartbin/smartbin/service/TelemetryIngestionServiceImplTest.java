@@ -0,0 +1,173 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.FillLevelIngestResultDTO;
+import com.sliit.smartbin.smartbin.dto.FillLevelReadingDTO;
+import com.sliit.smartbin.smartbin.model.Bin;
+import com.sliit.smartbin.smartbin.repository.BinRepository;
+import com.sliit.smartbin.smartbin.service.impl.TelemetryIngestionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TelemetryIngestionServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelemetryIngestionServiceImpl Unit Tests")
+class TelemetryIngestionServiceImplTest {
+
+    @Mock
+    private BinRepository binRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private RollupService rollupService;
+
+    private TelemetryIngestionServiceImpl telemetryService;
+
+    @BeforeEach
+    void setUp() {
+        telemetryService = new TelemetryIngestionServiceImpl(binRepository, jdbcTemplate, rollupService, 10);
+    }
+
+    private static BinRepository.BinKey key(Long id, String qrCode) {
+        return new BinRepository.BinKey() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getQrCode() {
+                return qrCode;
+            }
+
+            @Override
+            public Bin.BinType getBinType() {
+                return Bin.BinType.STANDARD;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should apply valid readings in a single batch update")
+    void ingestFillLevels_withValidReadings_shouldUseSingleBatch() {
+        // Given
+        List<FillLevelReadingDTO> readings = List.of(
+            new FillLevelReadingDTO(1L, null, 95, null),
+            new FillLevelReadingDTO(null, "QR002", 40, null)
+        );
+        when(binRepository.findKeysByIdIn(anyList())).thenReturn(List.of(key(1L, "QR001")));
+        when(binRepository.findKeysByQrCodeIn(anyList())).thenReturn(List.of(key(2L, "QR002")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 1});
+
+        // When
+        FillLevelIngestResultDTO result = telemetryService.ingestFillLevels(readings);
+
+        // Then
+        assertEquals(2, result.getReceived());
+        assertEquals(2, result.getAccepted());
+        assertEquals(0, result.getRejected());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batchCaptor.capture());
+        List<Object[]> batch = batchCaptor.getValue();
+        assertEquals(2, batch.size());
+        assertEquals("FULL", batch.get(0)[1]);
+        assertEquals("EMPTY", batch.get(1)[1]);
+        verify(binRepository, never()).findById(any());
+        verify(binRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest reading per bin")
+    void ingestFillLevels_withDuplicateBin_shouldKeepNewest() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<FillLevelReadingDTO> readings = List.of(
+            new FillLevelReadingDTO(1L, null, 70, now.minusMinutes(1)),
+            new FillLevelReadingDTO(1L, null, 60, now.minusMinutes(5))
+        );
+        when(binRepository.findKeysByIdIn(anyList())).thenReturn(List.of(key(1L, "QR001")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+
+        // When
+        FillLevelIngestResultDTO result = telemetryService.ingestFillLevels(readings);
+
+        // Then
+        assertEquals(1, result.getAccepted());
+        assertTrue(result.getResults().get(0).isAccepted());
+        assertFalse(result.getResults().get(1).isAccepted());
+        assertTrue(result.getResults().get(1).getReason().contains("Superseded"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid and unknown readings without failing the batch")
+    void ingestFillLevels_withInvalidReadings_shouldRejectIndividually() {
+        // Given
+        List<FillLevelReadingDTO> readings = List.of(
+            new FillLevelReadingDTO(1L, null, 150, null),
+            new FillLevelReadingDTO(null, null, 50, null),
+            new FillLevelReadingDTO(99L, null, 50, null),
+            new FillLevelReadingDTO(2L, null, 55, null)
+        );
+        when(binRepository.findKeysByIdIn(anyList())).thenReturn(List.of(key(2L, "QR002")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+
+        // When
+        FillLevelIngestResultDTO result = telemetryService.ingestFillLevels(readings);
+
+        // Then
+        assertEquals(4, result.getReceived());
+        assertEquals(1, result.getAccepted());
+        assertEquals(3, result.getRejected());
+        assertEquals("fillLevel must be between 0 and 100", result.getResults().get(0).getReason());
+        assertEquals("Either binId or qrCode is required", result.getResults().get(1).getReason());
+        assertEquals("Bin not found with id: 99", result.getResults().get(2).getReason());
+        assertTrue(result.getResults().get(3).isAccepted());
+    }
+
+    @Test
+    @DisplayName("Should reject readings older than the bin's last applied reading")
+    void ingestFillLevels_withStaleReading_shouldReject() {
+        // Given
+        List<FillLevelReadingDTO> readings = List.of(new FillLevelReadingDTO(1L, null, 30, LocalDateTime.now().minusHours(1)));
+        when(binRepository.findKeysByIdIn(anyList())).thenReturn(List.of(key(1L, "QR001")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {0});
+
+        // When
+        FillLevelIngestResultDTO result = telemetryService.ingestFillLevels(readings);
+
+        // Then
+        assertEquals(0, result.getAccepted());
+        assertEquals("Bin has newer data than this reading", result.getResults().get(0).getReason());
+    }
+
+    @Test
+    @DisplayName("Should refuse batches above the configured size")
+    void ingestFillLevels_withOversizedBatch_shouldThrow() {
+        // Given
+        List<FillLevelReadingDTO> readings = new ArrayList<>(Collections.nCopies(11, new FillLevelReadingDTO(1L, null, 10, null)));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> telemetryService.ingestFillLevels(readings));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
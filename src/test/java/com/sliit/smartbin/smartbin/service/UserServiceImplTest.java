@@ -0,0 +1,153 @@
+package com.sliit.smartbin.smartbin.service;
+
+import com.sliit.smartbin.smartbin.dto.LoginDTO;
+import com.sliit.smartbin.smartbin.model.User;
+import com.sliit.smartbin.smartbin.repository.UserRepository;
+import com.sliit.smartbin.smartbin.security.BoundedPasswordEncoder;
+import com.sliit.smartbin.smartbin.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserServiceImpl lookups and login
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserServiceImpl Unit Tests")
+class UserServiceImplTest {
+
+    private static final String DUMMY_HASH = "dummy-hash";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private CollectorRosterService collectorRosterService;
+
+    private UserServiceImpl userService;
+    private User collector;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(anyString())).thenReturn(DUMMY_HASH);
+        userService = new UserServiceImpl(userRepository, passwordEncoder, collectorRosterService);
+
+        collector = new User();
+        collector.setId(1L);
+        collector.setEmail("collector@smartbin.com");
+        collector.setPassword("stored-hash");
+        collector.setRole(User.UserRole.COLLECTOR);
+    }
+
+    private static LoginDTO login(String email, String password) {
+        LoginDTO loginDTO = new LoginDTO();
+        loginDTO.setEmail(email);
+        loginDTO.setPassword(password);
+        return loginDTO;
+    }
+
+    @Test
+    @DisplayName("Should log in through the email and role lookup with one hash check")
+    void loginUser_withValidCredentials_shouldReturnUser() {
+        // Given
+        when(userRepository.findByEmailAndRole("collector@smartbin.com", User.UserRole.COLLECTOR))
+            .thenReturn(Optional.of(collector));
+        when(passwordEncoder.matches("secret", "stored-hash")).thenReturn(true);
+
+        // When
+        Optional<User> result = userService.loginUser(login("collector@smartbin.com", "secret"),
+                                                      User.UserRole.COLLECTOR);
+
+        // Then
+        assertEquals(Optional.of(collector), result);
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject a wrong password")
+    void loginUser_withWrongPassword_shouldReturnEmpty() {
+        // Given
+        when(userRepository.findByEmailAndRole("collector@smartbin.com", User.UserRole.COLLECTOR))
+            .thenReturn(Optional.of(collector));
+        when(passwordEncoder.matches("wrong", "stored-hash")).thenReturn(false);
+
+        // When / Then
+        assertTrue(userService.loginUser(login("collector@smartbin.com", "wrong"), User.UserRole.COLLECTOR).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should still run one hash check for an unknown email")
+    void loginUser_withUnknownEmail_shouldCheckDummyHash() {
+        // Given
+        when(userRepository.findByEmailAndRole("nobody@smartbin.com", User.UserRole.RESIDENT))
+            .thenReturn(Optional.empty());
+        when(passwordEncoder.matches("secret", DUMMY_HASH)).thenReturn(true);
+
+        // When
+        Optional<User> result = userService.loginUser(login("nobody@smartbin.com", "secret"), User.UserRole.RESIDENT);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(passwordEncoder, times(1)).matches("secret", DUMMY_HASH);
+    }
+
+    @Test
+    @DisplayName("Should use indexed queries for email and role lookups")
+    void lookups_shouldUseRepositoryQueries() {
+        // Given
+        when(userRepository.existsByEmail("collector@smartbin.com")).thenReturn(true);
+        when(userRepository.findByRole(User.UserRole.COLLECTOR)).thenReturn(List.of(collector));
+
+        // When / Then
+        assertTrue(userService.emailExists("collector@smartbin.com"));
+        assertEquals(List.of(collector), userService.findByRole(User.UserRole.COLLECTOR));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("BoundedPasswordEncoder should turn callers away once the pending limit is reached")
+    void boundedPasswordEncoder_whenSaturated_shouldReject() throws Exception {
+        // Given: a delegate that blocks until released
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 1, 1)) {
+            Future<Boolean> first = caller.submit(() -> encoder.matches("a", "b"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When / Then
+            assertThrows(RejectedExecutionException.class, () -> encoder.matches("c", "d"));
+            release.countDown();
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+}